@@ -0,0 +1,91 @@
+package com.example.board.dto;
+
+import com.example.board.domain.Article;
+import com.example.board.domain.ArticleComment;
+import com.example.board.domain.Hashtag;
+import com.example.board.domain.UserAccount;
+import com.example.board.dto.response.ArticleWithCommentsResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게시글 상세 화면의 엔티티 -> DTO -> 응답 변환 벤치마크. 게시글 엔티티는 DB 없이 메모리에서 만든다.
+ * ./gradlew jmh -PjmhInclude=DtoMappingBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DtoMappingBenchmark {
+
+    @Param({"10", "100"})
+    public int commentCount;
+
+    @Param({"5"})
+    public int hashtagCount;
+
+    private Article article;
+    private ArticleWithCommentsDto articleWithCommentsDto;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        LocalDateTime now = LocalDateTime.now();
+        UserAccount userAccount = UserAccount.of("bench", "pw", "bench@mail.com", "bench", null);
+        article = Article.of(userAccount, "benchmark title", "benchmark content ".repeat(50));
+        setAuditingFields(article, 1L, now);
+
+        for (long i = 1; i <= hashtagCount; i++) {
+            Hashtag hashtag = Hashtag.of("hashtag" + i);
+            ReflectionTestUtils.setField(hashtag, "id", i);
+            article.addHashtag(hashtag);
+        }
+        for (long i = 1; i <= commentCount; i++) {
+            ArticleComment articleComment = ArticleComment.of(article, userAccount, "comment " + i);
+            setAuditingFields(articleComment, i, now.minusMinutes(i));
+            article.getArticleComments().add(articleComment);
+        }
+
+        articleWithCommentsDto = ArticleWithCommentsDto.from(article);
+    }
+
+    @Benchmark
+    public ArticleDto articleDto() {
+        return ArticleDto.from(article);
+    }
+
+    @Benchmark
+    public ArticleWithCommentsDto articleWithCommentsDto() {
+        return ArticleWithCommentsDto.from(article);
+    }
+
+    @Benchmark
+    public ArticleWithCommentsResponse articleWithCommentsResponse() {
+        return ArticleWithCommentsResponse.from(articleWithCommentsDto);
+    }
+
+
+    // id가 없으면 엔티티의 hashCode가 모두 같아져 댓글 Set이 실제와 다르게 동작하므로, 영속화된 엔티티처럼 id와 생성 정보를 채운다.
+    private void setAuditingFields(Object entity, long id, LocalDateTime createdAt) {
+        ReflectionTestUtils.setField(entity, "id", id);
+        ReflectionTestUtils.setField(entity, "createdAt", createdAt);
+        ReflectionTestUtils.setField(entity, "createdBy", "bench");
+        ReflectionTestUtils.setField(entity, "modifiedAt", createdAt);
+        ReflectionTestUtils.setField(entity, "modifiedBy", "bench");
+    }
+}
@@ -0,0 +1,169 @@
+package com.example.board.service;
+
+import com.example.board.BoardApplication;
+import com.example.board.domain.Article;
+import com.example.board.domain.Hashtag;
+import com.example.board.domain.UserAccount;
+import com.example.board.domain.constant.SearchType;
+import com.example.board.dto.ArticleDto;
+import com.example.board.dto.security.BoardPrincipal;
+import com.example.board.repository.ArticleRepository;
+import com.example.board.repository.HashtagRepository;
+import com.example.board.repository.UserAccountRepository;
+import com.example.board.service.search.HashtagPostingsIndex;
+import com.example.board.service.search.UserAccountSearchIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게시판 목록 화면의 검색 벤치마크. H2 메모리 DB에 작성자, 해시태그가 달린 게시글을 넣어두고 검색 종류별로 {@link ArticleService#searchArticles}의 첫 페이지 조회 시간을 잰다.
+ * 쿼리와 엔티티 -> DTO 변환까지 포함한 시간이다.
+ * ./gradlew jmh -PjmhInclude=ArticleServiceBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ArticleServiceBenchmark {
+
+    private static final int USER_COUNT = 100;
+    private static final int HASHTAGS_PER_ARTICLE = 3;
+    private static final String[] WORDS = {
+            "spring", "boot", "java", "jpa", "querydsl", "thymeleaf", "security", "lucene",
+            "postgres", "index", "search", "board", "article", "comment", "hashtag", "cache"
+    };
+
+    @Param({"10000", "50000"})
+    public int articleCount;
+
+    @Param({"NONE", "TITLE", "NICKNAME", "HASHTAG"})  // NONE: 검색어 없이 최신 글 목록
+    public String searchType;
+
+    private ConfigurableApplicationContext context;
+    private ArticleService articleService;
+    private SearchType type;
+    private String searchKeyword;
+    private final Pageable pageable = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "createdAt"));
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(BoardApplication.class)
+                .run(
+                        "--server.port=0",
+                        "--spring.datasource.url=jdbc:h2:mem:article-service-bench;DB_CLOSE_DELAY=-1",
+                        "--spring.datasource.username=sa",
+                        "--spring.datasource.password=",
+                        "--spring.sql.init.mode=never",
+                        "--spring.jpa.show-sql=false",
+                        "--board.search-cache.enabled=false",  // 같은 검색을 반복하므로 캐시를 켜두면 검색 대신 캐시 조회 시간을 재게 된다.
+                        "--logging.level.com.example=INFO",
+                        "--logging.level.org.springframework.web.servlet=INFO",
+                        "--logging.level.org.hibernate.type.descriptor.sql.BasicBinder=INFO"
+                );
+
+        seedAsBenchmarkUser(context.getBean(TransactionTemplate.class));
+        context.getBean(HashtagPostingsIndex.class).initialize();  // 리포지토리로 직접 넣은 게시글을 해시태그 검색 색인에 반영한다.
+        articleService = context.getBean(ArticleService.class);
+
+        type = "NONE".equals(searchType) ? null : SearchType.valueOf(searchType);
+        searchKeyword = type == null ? "" : switch (type) {
+            case TITLE, CONTENT -> "spring";
+            case ID, NICKNAME -> "nick1";  // nick1, nick10 ~ nick19
+            case HASHTAG -> "java";
+        };
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Page<ArticleDto> searchArticles() {
+        return articleService.searchArticles(type, searchKeyword, pageable);
+    }
+
+
+    // 생성자/수정자(createdBy, modifiedBy)는 로그인 사용자로 채워지므로, 시딩하는 동안만 벤치마크 사용자로 로그인해 둔다.
+    private void seedAsBenchmarkUser(TransactionTemplate transactionTemplate) {
+        BoardPrincipal principal = BoardPrincipal.of("bench", "pw", "bench@mail.com", "bench", null);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, principal.getPassword(), principal.getAuthorities()));
+        try {
+            seed(transactionTemplate);
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    private void seed(TransactionTemplate transactionTemplate) {
+        Random random = new Random(42);
+        ArticleRepository articleRepository = context.getBean(ArticleRepository.class);
+        HashtagRepository hashtagRepository = context.getBean(HashtagRepository.class);
+        UserAccountRepository userAccountRepository = context.getBean(UserAccountRepository.class);
+        UserAccountSearchIndex userAccountSearchIndex = context.getBean(UserAccountSearchIndex.class);
+
+        List<UserAccount> userAccounts = new ArrayList<>(USER_COUNT);
+        for (int i = 0; i < USER_COUNT; i++) {
+            userAccounts.add(UserAccount.of("user" + i, "pw", "user" + i + "@mail.com", "nick" + i, null));
+        }
+        List<UserAccount> savedUserAccounts = transactionTemplate.execute(status -> userAccountRepository.saveAll(userAccounts));
+        savedUserAccounts.forEach(userAccountSearchIndex::index);
+        transactionTemplate.executeWithoutResult(status ->
+                hashtagRepository.saveAll(Arrays.stream(WORDS).map(Hashtag::of).toList()));
+
+        for (int saved = 0; saved < articleCount; saved += 1000) {
+            int chunkStart = saved;
+            transactionTemplate.executeWithoutResult(status -> {
+                List<Hashtag> hashtags = hashtagRepository.findAll();
+                List<Article> articles = new ArrayList<>(1000);
+                for (int i = 0; i < 1000 && chunkStart + i < articleCount; i++) {
+                    UserAccount userAccount = savedUserAccounts.get(random.nextInt(USER_COUNT));
+                    Article article = Article.of(userAccount, sentence(random, 5), sentence(random, 60));
+                    for (int h = 0; h < HASHTAGS_PER_ARTICLE; h++) {
+                        article.addHashtag(hashtags.get(random.nextInt(hashtags.size())));
+                    }
+                    articles.add(article);
+                }
+                articleRepository.saveAll(articles);
+            });
+        }
+    }
+
+    private String sentence(Random random, int wordCount) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < wordCount; i++) {
+            sb.append(WORDS[random.nextInt(WORDS.length)]).append(' ');
+        }
+
+        return sb.toString().trim();
+    }
+}
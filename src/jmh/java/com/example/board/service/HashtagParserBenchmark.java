@@ -0,0 +1,78 @@
+package com.example.board.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.LinkedHashSet;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 본문 해시태그 파싱 벤치마크. 10,000자 본문에서 한 번만 훑는 {@link HashtagParser}와 정규식(#[\w가-힣]+) 파싱의 처리 시간을 비교한다.
+ * 할당량까지 보려면 -prof gc 옵션을 함께 준다.
+ * ./gradlew jmh -PjmhInclude=HashtagParserBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class HashtagParserBenchmark {
+
+    private static final Pattern HASHTAG_PATTERN = Pattern.compile("#[\\w가-힣]+");
+    private static final String[] WORDS = {
+            "spring", "boot", "java", "jpa", "querydsl", "thymeleaf", "게시판", "해시태그",
+            "Fusce", "posuere", "felis", "sed", "lacus.", "Morbi", "sem", "mauris,"
+    };
+
+    @Param({"10000"})
+    public int contentLength;
+
+    @Param({"0.01", "0.1"})  // 본문의 단어 중 해시태그인 단어의 비율
+    public double hashtagRatio;
+
+    private String content;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        StringBuilder builder = new StringBuilder(contentLength + 16);
+        while (builder.length() < contentLength) {
+            if (random.nextDouble() < hashtagRatio) {
+                builder.append('#');
+            }
+            builder.append(WORDS[random.nextInt(WORDS.length)]).append(random.nextInt(10) == 0 ? '\n' : ' ');
+        }
+        content = builder.substring(0, contentLength);
+    }
+
+    @Benchmark
+    public Set<String> scanner() {
+        return HashtagParser.parse(content);
+    }
+
+    @Benchmark
+    public Set<String> regex() {
+        Set<String> hashtagNames = new LinkedHashSet<>();
+        Matcher matcher = HASHTAG_PATTERN.matcher(content);
+        while (matcher.find()) {
+            hashtagNames.add(matcher.group().substring(1));
+        }
+
+        return hashtagNames;
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.board.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 페이지네이션 바 계산 벤치마크. 목록 화면을 그릴 때마다 실행하므로 박싱과 리스트 할당을 포함한 시간을 잰다.
+ * ./gradlew jmh -PjmhInclude=PaginationServiceBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PaginationServiceBenchmark {
+
+    private static final int PAGE_SIZE = 10;
+
+    @Param({"0", "5000"})
+    public int currentPageNumber;
+
+    private final PaginationService paginationService = new PaginationService();
+    private final OptionalLong estimatedTotalElements = OptionalLong.of(100_000);
+    private Slice<Object> slice;
+
+    @Setup
+    public void setUp() {
+        slice = new SliceImpl<>(List.of(), PageRequest.of(currentPageNumber, PAGE_SIZE), true);
+    }
+
+    @Benchmark
+    public List<Integer> totalPages() {
+        return paginationService.getPaginationBarNumbers(currentPageNumber, 10_000);
+    }
+
+    @Benchmark
+    public List<Integer> estimatedSlice() {
+        return paginationService.getPaginationBarNumbers(slice, estimatedTotalElements);
+    }
+}
@@ -0,0 +1,139 @@
+package com.example.board.service.search;
+
+import com.example.board.BoardApplication;
+import com.example.board.domain.Article;
+import com.example.board.domain.UserAccount;
+import com.example.board.domain.constant.SearchType;
+import com.example.board.dto.security.BoardPrincipal;
+import com.example.board.repository.ArticleRepository;
+import com.example.board.repository.UserAccountRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 제목/본문 검색 엔진 비교 벤치마크. 같은 H2 DB에 게시글을 넣어두고 like 검색과 Lucene 검색의 첫 페이지 조회 시간을 잰다.
+ * PostgreSQL 전문 검색 엔진은 PostgreSQL이 있어야 하므로 {@link PostgresArticleSearchBenchmark}에서 따로 잰다.
+ * ./gradlew jmh -PjmhInclude=ArticleSearchBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ArticleSearchBenchmark {
+
+    private static final String[] WORDS = {
+            "spring", "boot", "java", "jpa", "querydsl", "thymeleaf", "security", "lucene",
+            "postgres", "index", "search", "board", "article", "comment", "hashtag", "cache"
+    };
+
+    @Param({"10000", "50000"})
+    public int articleCount;
+
+    @Param({"lucene", "spring boot"})
+    public String searchKeyword;
+
+    private ConfigurableApplicationContext context;
+    private ArticleSearchEngine likeSearchEngine;
+    private ArticleSearchEngine luceneSearchEngine;
+    private final Pageable pageable = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "createdAt"));
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        // properties()로 준 값은 기본값이라 application.yml에 밀리므로, 명령행 인자로 넘겨서 설정 파일의 DB 접속 정보보다 우선하게 한다.
+        context = new SpringApplicationBuilder(BoardApplication.class)
+                .run(
+                        "--server.port=0",
+                        "--spring.datasource.url=jdbc:h2:mem:bench;DB_CLOSE_DELAY=-1",
+                        "--spring.datasource.username=sa",
+                        "--spring.datasource.password=",
+                        "--spring.sql.init.mode=never",
+                        "--spring.jpa.show-sql=false",
+                        "--logging.level.com.example=INFO",
+                        "--logging.level.org.springframework.web.servlet=INFO",
+                        "--logging.level.org.hibernate.type.descriptor.sql.BasicBinder=INFO",
+                        "--board.search.engine=lucene",
+                        "--board.search.lucene.index-path=" + Files.createTempDirectory("article-search-bench")
+                );
+
+        ArticleRepository articleRepository = context.getBean(ArticleRepository.class);
+        BoardPrincipal principal = BoardPrincipal.of("bench", "pw", "bench@mail.com", "bench", null);  // 생성자/수정자 감사 필드를 채울 로그인 사용자
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, principal.getPassword(), principal.getAuthorities()));
+        try {
+            seed(articleRepository, context.getBean(UserAccountRepository.class), context.getBean(TransactionTemplate.class));
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+
+        likeSearchEngine = new LikeArticleSearchEngine(articleRepository);
+        luceneSearchEngine = context.getBean(LuceneArticleSearchEngine.class);
+        ((LuceneArticleSearchEngine) luceneSearchEngine).reindex();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Page<Article> like() {
+        return likeSearchEngine.search(SearchType.CONTENT, searchKeyword, pageable);
+    }
+
+    @Benchmark
+    public Page<Article> lucene() {
+        return luceneSearchEngine.search(SearchType.CONTENT, searchKeyword, pageable);
+    }
+
+
+    private void seed(ArticleRepository articleRepository, UserAccountRepository userAccountRepository, TransactionTemplate transactionTemplate) {
+        Random random = new Random(42);
+        UserAccount userAccount = transactionTemplate.execute(status ->
+                userAccountRepository.save(UserAccount.of("bench", "pw", "bench@mail.com", "bench", null)));
+
+        for (int saved = 0; saved < articleCount; saved += 1000) {
+            List<Article> articles = new ArrayList<>(1000);
+            for (int i = 0; i < 1000 && saved + i < articleCount; i++) {
+                articles.add(Article.of(userAccount, sentence(random, 5), sentence(random, 60)));
+            }
+            transactionTemplate.executeWithoutResult(status -> articleRepository.saveAll(articles));
+        }
+    }
+
+    private String sentence(Random random, int wordCount) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < wordCount; i++) {
+            sb.append(WORDS[random.nextInt(WORDS.length)]).append(' ');
+        }
+
+        return sb.toString().trim();
+    }
+}
@@ -0,0 +1,146 @@
+package com.example.board.service.search;
+
+import com.example.board.BoardApplication;
+import com.example.board.domain.Article;
+import com.example.board.domain.UserAccount;
+import com.example.board.domain.constant.SearchType;
+import com.example.board.dto.security.BoardPrincipal;
+import com.example.board.repository.ArticleRepository;
+import com.example.board.repository.UserAccountRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PostgreSQL 전문 검색 엔진 벤치마크. 같은 PostgreSQL DB에 게시글을 넣어두고 like 검색과 tsvector(GIN 인덱스) 검색의 첫 페이지 조회 시간을 잰다.
+ * 접속 정보는 application.yml의 spring.datasource를 쓰고, 환경 변수 BENCH_POSTGRES_URL, BENCH_POSTGRES_USERNAME, BENCH_POSTGRES_PASSWORD로 바꿀 수 있다.
+ * 애플리케이션과 같이 ddl-auto=create로 테이블을 새로 만드므로 비워도 되는 DB에서 실행한다.
+ * BENCH_POSTGRES_URL=jdbc:postgresql://localhost:5432/board ./gradlew jmh -PjmhInclude=PostgresArticleSearchBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PostgresArticleSearchBenchmark {
+
+    private static final String[] WORDS = {
+            "spring", "boot", "java", "jpa", "querydsl", "thymeleaf", "security", "lucene",
+            "postgres", "index", "search", "board", "article", "comment", "hashtag", "cache"
+    };
+
+    @Param({"10000", "50000"})
+    public int articleCount;
+
+    @Param({"lucene", "spring boot"})
+    public String searchKeyword;
+
+    private ConfigurableApplicationContext context;
+    private ArticleSearchEngine likeSearchEngine;
+    private ArticleSearchEngine postgresSearchEngine;
+    private final Pageable pageable = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "createdAt"));
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // ArticleSearchBenchmark와 같이 명령행 인자로 넘겨야 application.yml의 값보다 우선한다.
+        List<String> args = new ArrayList<>(List.of(
+                "--server.port=0",
+                "--spring.sql.init.mode=never",
+                "--spring.jpa.show-sql=false",
+                "--logging.level.com.example=INFO",
+                "--logging.level.org.springframework.web.servlet=INFO",
+                "--logging.level.org.hibernate.type.descriptor.sql.BasicBinder=INFO",
+                "--board.search.engine=postgres"
+        ));
+        addArgumentFromEnv(args, "spring.datasource.url", "BENCH_POSTGRES_URL");
+        addArgumentFromEnv(args, "spring.datasource.username", "BENCH_POSTGRES_USERNAME");
+        addArgumentFromEnv(args, "spring.datasource.password", "BENCH_POSTGRES_PASSWORD");
+        context = new SpringApplicationBuilder(BoardApplication.class).run(args.toArray(String[]::new));
+
+        ArticleRepository articleRepository = context.getBean(ArticleRepository.class);
+        BoardPrincipal principal = BoardPrincipal.of("bench", "pw", "bench@mail.com", "bench", null);  // 생성자/수정자 감사 필드를 채울 로그인 사용자
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, principal.getPassword(), principal.getAuthorities()));
+        try {
+            seed(articleRepository, context.getBean(UserAccountRepository.class), context.getBean(TransactionTemplate.class));
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+        context.getBean(JdbcTemplate.class).execute("analyze article");  // 넣은 게시글로 통계를 갱신해야 플래너가 GIN 인덱스를 고른다.
+
+        likeSearchEngine = new LikeArticleSearchEngine(articleRepository);
+        postgresSearchEngine = context.getBean(PostgresArticleSearchEngine.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Page<Article> like() {
+        return likeSearchEngine.search(SearchType.CONTENT, searchKeyword, pageable);
+    }
+
+    @Benchmark
+    public Page<Article> postgres() {
+        return postgresSearchEngine.search(SearchType.CONTENT, searchKeyword, pageable);
+    }
+
+
+    private void addArgumentFromEnv(List<String> args, String property, String env) {
+        String value = System.getenv(env);
+        if (value != null) {
+            args.add("--" + property + "=" + value);
+        }
+    }
+
+    private void seed(ArticleRepository articleRepository, UserAccountRepository userAccountRepository, TransactionTemplate transactionTemplate) {
+        Random random = new Random(42);
+        UserAccount userAccount = transactionTemplate.execute(status ->
+                userAccountRepository.save(UserAccount.of("bench", "pw", "bench@mail.com", "bench", null)));
+
+        for (int saved = 0; saved < articleCount; saved += 1000) {
+            List<Article> articles = new ArrayList<>(1000);
+            for (int i = 0; i < 1000 && saved + i < articleCount; i++) {
+                articles.add(Article.of(userAccount, sentence(random, 5), sentence(random, 60)));
+            }
+            transactionTemplate.executeWithoutResult(status -> articleRepository.saveAll(articles));
+        }
+    }
+
+    private String sentence(Random random, int wordCount) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < wordCount; i++) {
+            sb.append(WORDS[random.nextInt(WORDS.length)]).append(' ');
+        }
+
+        return sb.toString().trim();
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.board.util;
+
+import com.example.board.dto.request.ArticleRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 테스트에서 폼 요청 본문을 만드는 {@link FormDataEncoder} 벤치마크. 컨트롤러 테스트가 요청마다 부르므로 본문 길이별 인코딩 시간을 잰다.
+ * ./gradlew jmh -PjmhInclude=FormDataEncoderBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FormDataEncoderBenchmark {
+
+    @Param({"100", "10000"})
+    public int contentLength;
+
+    private final FormDataEncoder formDataEncoder = new FormDataEncoder(Jackson2ObjectMapperBuilder.json().build());
+    private ArticleRequest articleRequest;
+
+    @Setup
+    public void setUp() {
+        String content = "본문 content #hashtag & more ".repeat(contentLength / 25 + 1).substring(0, contentLength);
+        articleRequest = ArticleRequest.of("new article title", content);
+    }
+
+    @Benchmark
+    public String encode() {
+        return formDataEncoder.encode(articleRequest);
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.board.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 메모리에 들고 있는 전체 게시글 수 설정
+ *
+ * @param reconcileInterval DB의 count(*)로 다시 맞추는 주기. 서비스를 거치지 않은 변경(Data REST API 등)은 최대 이 시간만큼 늦게 반영된다.
+ */
+@ConstructorBinding
+@ConfigurationProperties("board.article-count")
+public record ArticleCountProperties(@DefaultValue("1m") Duration reconcileInterval) {}
@@ -0,0 +1,14 @@
+package com.example.board.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 게시글 내보내기(export) 설정
+ *
+ * @param fetchSize DB 커서에서 한 번에 가져오는 게시글 수. 이만큼 쓸 때마다 해시태그와 댓글을 한 번에 조회하고 영속성 컨텍스트를 비운다.
+ */
+@ConstructorBinding
+@ConfigurationProperties("board.export")
+public record ArticleExportProperties(@DefaultValue("1000") int fetchSize) {}
@@ -0,0 +1,18 @@
+package com.example.board.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 게시글 일괄 가져오기(import) 설정
+ *
+ * @param batchSize     한 트랜잭션으로 저장하는 입력 줄 수. 체크포인트도 이 단위로 남으므로, 중단된 뒤 다시 가져올 때는 최대 이만큼의 줄을 다시 처리한다.
+ * @param userCacheSize 작성자 ID가 DB에 있는지를 기억해두는 최대 개수
+ */
+@ConstructorBinding
+@ConfigurationProperties("board.import")
+public record ArticleImportProperties(
+        @DefaultValue("1000") int batchSize,
+        @DefaultValue("10000") long userCacheSize
+) {}
@@ -0,0 +1,20 @@
+package com.example.board.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 같은 읽기 요청(같은 게시글, 같은 검색) 합치기 설정
+ *
+ * @param enabled 사용 여부. 끄면 요청마다 따로 조회한다.
+ * @param maxWait 먼저 시작한 조회의 결과를 기다리는 최대 시간. 넘기면 기다리지 않고 직접 조회한다.
+ */
+@ConstructorBinding
+@ConfigurationProperties("board.coalescing")
+public record CoalescingProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("500ms") Duration maxWait
+) {}
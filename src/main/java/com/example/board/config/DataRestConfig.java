@@ -1,8 +1,11 @@
 package com.example.board.config;
 
+import com.example.board.controller.DataRestQueryGuardFilter;
 import com.example.board.domain.UserAccount;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.rest.core.config.RepositoryRestConfiguration;
 import org.springframework.data.rest.webmvc.config.RepositoryRestConfigurer;
 
 @Configuration
@@ -14,4 +17,15 @@ public class DataRestConfig {
                 config.exposeIdsFor(UserAccount.class)
         );
     }
+
+    @Bean
+    public FilterRegistrationBean<DataRestQueryGuardFilter> dataRestQueryGuardFilter(
+            RepositoryRestConfiguration repositoryRestConfiguration,
+            DataRestGuardProperties dataRestGuardProperties
+    ) {
+        FilterRegistrationBean<DataRestQueryGuardFilter> registration = new FilterRegistrationBean<>(new DataRestQueryGuardFilter(repositoryRestConfiguration, dataRestGuardProperties));
+        registration.addUrlPatterns(repositoryRestConfiguration.getBasePath().getPath() + "/*");
+
+        return registration;
+    }
 }
@@ -0,0 +1,21 @@
+package com.example.board.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Data REST API(/api) 조회 요청의 비용 제한. 넘는 요청은 DB에 쿼리를 보내기 전에 400으로 거절한다.
+ * 페이지 크기 제한은 spring.data.rest.max-page-size로 설정한다.
+ *
+ * @param maxOffset        page * size의 최대값. offset이 크면 DB가 앞쪽 row를 모두 읽고 버리므로, 더 뒤의 데이터는 키셋 페이지네이션(search/after)으로 조회해야 한다.
+ * @param maxPredicates    컬렉션 조회에 한 번에 걸 수 있는 검색 조건(Querydsl predicate) 수
+ * @param minKeywordLength 검색 조건 값의 최소 길이. 대부분 like '%${}%'로 검색하므로 짧은 값은 거의 모든 row에 맞아서 전체를 훑게 된다.
+ */
+@ConstructorBinding
+@ConfigurationProperties("board.data-rest")
+public record DataRestGuardProperties(
+        @DefaultValue("10000") long maxOffset,
+        @DefaultValue("3") int maxPredicates,
+        @DefaultValue("2") int minKeywordLength
+) {}
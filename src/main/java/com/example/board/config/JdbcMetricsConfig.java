@@ -0,0 +1,64 @@
+package com.example.board.config;
+
+import com.example.board.controller.JdbcQueryCountFilter;
+import com.example.board.controller.QueryBudgetInterceptor;
+import com.example.board.service.JdbcQueryRecorder;
+import io.micrometer.core.instrument.MeterRegistry;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.web.servlet.handler.MappedInterceptor;
+
+import javax.sql.DataSource;
+
+/**
+ * JDBC 계측 설정. 애플리케이션이 쓰는 DataSource를 datasource-proxy로 감싸서 모든 쿼리 실행을 {@link JdbcQueryRecorder}에 알린다.
+ * 저장소 메서드별 시간(spring.data.repository.invocations)과 커넥션 풀 대기 시간(hikaricp.connections.acquire)은 스프링 부트가 기본으로 남긴다.
+ * 컨트롤러 핸들러별 쿼리 예산({@link com.example.board.controller.QueryBudget})도 같은 기록으로 검사한다.
+ */
+@Configuration
+public class JdbcMetricsConfig {
+
+    private static final String DATA_SOURCE_BEAN_NAME = "dataSource";
+
+    // 복제본을 쓰면 DataSource 빈이 여럿이므로, 애플리케이션이 실제로 쓰는 빈('dataSource')만 감싸서 쿼리가 두 번 세어지지 않게 한다.
+    @Bean
+    public static BeanPostProcessor jdbcMetricsDataSourcePostProcessor(ObjectProvider<JdbcQueryRecorder> jdbcQueryRecorder) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && DATA_SOURCE_BEAN_NAME.equals(beanName)) {
+                    return ProxyDataSourceBuilder.create(dataSource)
+                            .name(beanName)
+                            .listener(jdbcQueryRecorder.getObject())
+                            .build();
+                }
+
+                return bean;
+            }
+        };
+    }
+
+    // 시큐리티 필터에서 실행하는 쿼리(로그인 사용자 조회 등)도 요청에 포함되도록 가장 앞에 등록한다.
+    @Bean
+    public FilterRegistrationBean<JdbcQueryCountFilter> jdbcQueryCountFilter(JdbcQueryRecorder jdbcQueryRecorder, MeterRegistry meterRegistry) {
+        FilterRegistrationBean<JdbcQueryCountFilter> registration = new FilterRegistrationBean<>(new JdbcQueryCountFilter(jdbcQueryRecorder, meterRegistry));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+
+        return registration;
+    }
+
+    // WebMvcConfigurer로 등록하면 @WebMvcTest마다 이 설정이 함께 올라오므로, 모든 핸들러 매핑(Data REST 포함)이 찾아 쓰는 MappedInterceptor 빈으로 등록한다.
+    @Bean
+    public MappedInterceptor queryBudgetInterceptor(
+            JdbcQueryRecorder jdbcQueryRecorder,
+            QueryBudgetProperties queryBudgetProperties,
+            MeterRegistry meterRegistry
+    ) {
+        return new MappedInterceptor(null, new QueryBudgetInterceptor(jdbcQueryRecorder, queryBudgetProperties, meterRegistry));
+    }
+}
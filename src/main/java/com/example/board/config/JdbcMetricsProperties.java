@@ -0,0 +1,20 @@
+package com.example.board.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * JDBC 계측 설정
+ *
+ * @param slowQueryThreshold 이보다 오래 걸린 쿼리는 바인딩 파라미터와 함께 경고 로그를 남기고, /actuator/jdbc에서 볼 수 있게 보관한다.
+ * @param slowQueryHistorySize 보관할 최근 느린 쿼리 수
+ */
+@ConstructorBinding
+@ConfigurationProperties("board.jdbc-metrics")
+public record JdbcMetricsProperties(
+        @DefaultValue("300ms") Duration slowQueryThreshold,
+        @DefaultValue("100") int slowQueryHistorySize
+) {}
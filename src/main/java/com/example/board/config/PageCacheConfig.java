@@ -0,0 +1,24 @@
+package com.example.board.config;
+
+import com.example.board.controller.RenderedPageCacheFilter;
+import com.example.board.service.RenderedPageCache;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+@Configuration
+public class PageCacheConfig {
+
+    // 시큐리티 필터 체인(order -100) 뒤에서 동작해야 로그인 여부를 알 수 있으므로 가장 마지막 순서로 등록한다.
+    @ConditionalOnProperty(name = "board.page-cache.enabled", havingValue = "true", matchIfMissing = true)
+    @Bean
+    public FilterRegistrationBean<RenderedPageCacheFilter> renderedPageCacheFilter(RenderedPageCache renderedPageCache) {
+        FilterRegistrationBean<RenderedPageCacheFilter> registration = new FilterRegistrationBean<>(new RenderedPageCacheFilter(renderedPageCache));
+        registration.addUrlPatterns("/articles", "/articles/*");
+        registration.setOrder(Ordered.LOWEST_PRECEDENCE);
+
+        return registration;
+    }
+}
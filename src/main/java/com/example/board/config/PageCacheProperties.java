@@ -0,0 +1,23 @@
+package com.example.board.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * 비로그인 사용자에게 보여주는 게시글 목록/상세 화면(렌더링 결과) 캐시 설정
+ *
+ * @param enabled 캐시 사용 여부
+ * @param maximumSize 캐시에 담아둘 렌더링 결과의 최대 크기 합계. 넘치면 오래 쓰이지 않은 화면부터 버린다.
+ * @param timeToLive 저장 후 이 시간이 지나면 만료된다. 서비스를 거치지 않은 변경(Data REST API 등)도 이 시간 안에는 반영된다.
+ */
+@ConstructorBinding
+@ConfigurationProperties("board.page-cache")
+public record PageCacheProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("10MB") DataSize maximumSize,
+        @DefaultValue("1m") Duration timeToLive
+) {}
@@ -0,0 +1,21 @@
+package com.example.board.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 게시글 목록 페이지네이션 설정
+ *
+ * @param countMode 전체 게시글 수를 구하는 방식. 'board.pagination.count-mode'로 설정한다.
+ */
+@ConstructorBinding
+@ConfigurationProperties("board.pagination")
+public record PaginationProperties(@DefaultValue("estimated") CountMode countMode) {
+
+    public enum CountMode {
+        EXACT,  // count 쿼리로 정확한 전체 개수를 구한다. 게시글이 많으면 목록 페이지마다 전체를 세는 비용이 크다.
+        SLICE,  // count 쿼리 없이 한 건을 더 조회해서 다음 페이지 존재 여부만 판단한다.
+        ESTIMATED  // SLICE에 더해 DB 통계(Postgres 플래너 통계)로 추정한 전체 개수를 페이지네이션 바에 사용한다. 기본값. 통계가 없는 DB(H2 등)에서는 SLICE와 같다.
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.board.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 컨트롤러 핸들러별 쿼리 예산 설정
+ *
+ * @param mode 예산을 넘었을 때의 동작
+ * @param defaultBudget {@code @QueryBudget}을 붙이지 않은 핸들러의 예산
+ */
+@ConstructorBinding
+@ConfigurationProperties("board.query-budget")
+public record QueryBudgetProperties(
+        @DefaultValue("log") Mode mode,
+        @DefaultValue("20") int defaultBudget
+) {
+
+    public enum Mode {
+        OFF,  // 검사하지 않는다.
+        LOG,  // 요청이 끝난 뒤 예산을 넘은 핸들러와 쿼리 수를 경고 로그로 남긴다. 기본값
+        FAIL  // 예산을 넘는 쿼리를 실행하려는 순간 예외를 던져 요청을 실패시킨다. 스택 트레이스로 N+1을 일으킨 코드를 바로 찾을 수 있다.
+    }
+}
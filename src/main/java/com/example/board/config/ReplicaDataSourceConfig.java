@@ -0,0 +1,57 @@
+package com.example.board.config;
+
+import com.example.board.service.ReadYourWritesTracker;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 복제본(board.datasource.replicas)이 설정되어 있으면 스프링 부트가 만드는 DataSource 대신 {@link ReplicaRoutingDataSource}를 쓴다.
+ * 주 DB는 'spring.datasource'의 접속 정보로 만든다.
+ */
+@ConditionalOnProperty(prefix = "board.datasource", name = "replicas[0].url")
+@Configuration
+public class ReplicaDataSourceConfig {
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(
+            DataSourceProperties dataSourceProperties,
+            ReplicaDataSourceProperties replicaDataSourceProperties,
+            ReadYourWritesTracker readYourWritesTracker
+    ) {
+        HikariDataSource primary = dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        primary.setPoolName(ReplicaRoutingDataSource.PRIMARY);
+
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        for (ReplicaDataSourceProperties.Replica replica : replicaDataSourceProperties.replicas()) {
+            HikariDataSource replicaDataSource = DataSourceBuilder.create()
+                    .type(HikariDataSource.class)
+                    .url(replica.url())
+                    .username(replica.username() != null ? replica.username() : dataSourceProperties.determineUsername())
+                    .password(replica.password() != null ? replica.password() : dataSourceProperties.determinePassword())
+                    .build();
+            replicaDataSource.setPoolName("replica-" + replica.name());
+            replicaDataSource.setReadOnly(true);
+            // 죽은 복제본에서 커넥션을 기다리다 요청이 늦어지지 않게 한다. 시간 안에 못 얻으면 주 DB로 보낸다.
+            replicaDataSource.setConnectionTimeout(Math.max(250, replicaDataSourceProperties.healthCheckInterval().toMillis()));
+            replicas.put(replica.name(), replicaDataSource);
+        }
+
+        return new ReplicaRoutingDataSource(primary, replicas, replicaDataSourceProperties, readYourWritesTracker);
+    }
+
+    @Primary
+    @Bean
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.board.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 읽기 전용 복제본(replica) 설정. 복제본이 하나도 없으면 'spring.datasource' 하나만 사용한다.
+ *
+ * @param replicas 읽기 전용 트랜잭션을 보낼 복제본 목록
+ * @param maxLag 복제 지연이 이보다 크면 그 복제본으로 보내지 않는다. 모든 복제본이 빠지면 주(primary) DB로 보낸다.
+ * @param healthCheckInterval 복제본 상태(연결 가능 여부, 복제 지연)를 확인하는 주기
+ * @param readYourWritesWindow 글이나 댓글을 쓴 사용자의 읽기를 이 시간 동안 주 DB로 보낸다. 방금 쓴 내용이 복제 지연 때문에 안 보이는 일을 막으므로 maxLag보다 길어야 한다.
+ * @param lagQuery 복제본에서 복제 지연(초)을 조회하는 쿼리. 기본값은 PostgreSQL 스트리밍 복제용이다.
+ */
+@ConstructorBinding
+@ConfigurationProperties("board.datasource")
+public record ReplicaDataSourceProperties(
+        @DefaultValue List<Replica> replicas,
+        @DefaultValue("5s") Duration maxLag,
+        @DefaultValue("5s") Duration healthCheckInterval,
+        @DefaultValue("10s") Duration readYourWritesWindow,
+        @DefaultValue(POSTGRES_LAG_QUERY) String lagQuery
+) {
+
+    // 받은 WAL을 모두 재생했으면 새 변경이 없는 것이므로 마지막 재생 시각과 상관 없이 지연이 0이다.
+    public static final String POSTGRES_LAG_QUERY = "select case when pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() then 0"
+            + " else coalesce(extract(epoch from now() - pg_last_xact_replay_timestamp()), 0) end";
+
+    /**
+     * @param name 복제본 이름. 로그와 메트릭(board.datasource.replica.*)의 태그로 쓴다.
+     * @param url JDBC URL
+     * @param username 비어 있으면 'spring.datasource.username'을 쓴다.
+     * @param password 비어 있으면 'spring.datasource.password'를 쓴다.
+     */
+    public record Replica(String name, String url, String username, String password) {}
+}
@@ -0,0 +1,221 @@
+package com.example.board.config;
+
+import com.example.board.service.ReadYourWritesTracker;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 읽기 전용 트랜잭션은 복제본으로, 나머지는 주(primary) DB로 보내는 DataSource.
+ * 트랜잭션의 읽기 전용 여부는 커넥션을 실제로 얻을 때 알 수 있으므로 {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}로 감싸서 써야 한다.
+ *
+ * 복제본은 'board.datasource.health-check-interval'마다 연결해서 복제 지연을 확인하고, 연결이 안 되거나 지연이 'board.datasource.max-lag'보다 크면
+ * 다음 확인 때까지 빼 둔다. 쓸 수 있는 복제본이 여럿이면 돌아가며 보내고, 하나도 없거나 복제본 연결에 실패하면 주 DB로 보낸다.
+ * 최근에 글을 쓴 로그인 사용자의 읽기도 주 DB로 보낸다. ({@link ReadYourWritesTracker})
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements SchedulingConfigurer, MeterBinder, Closeable {
+
+    public static final String PRIMARY = "primary";
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final ReplicaDataSourceProperties replicaDataSourceProperties;
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+
+    /**
+     * @param replicas 복제본 이름 -> DataSource
+     */
+    public ReplicaRoutingDataSource(
+            DataSource primary,
+            Map<String, DataSource> replicas,
+            ReplicaDataSourceProperties replicaDataSourceProperties,
+            ReadYourWritesTracker readYourWritesTracker
+    ) {
+        this.primary = primary;
+        this.replicas = replicas.entrySet().stream()
+                .map(replica -> new Replica(replica.getKey(), replica.getValue()))
+                .toList();
+        this.replicaDataSourceProperties = replicaDataSourceProperties;
+        this.readYourWritesTracker = readYourWritesTracker;
+
+        Map<Object, Object> targetDataSources = new HashMap<>(replicas);
+        targetDataSources.put(PRIMARY, primary);
+        setTargetDataSources(targetDataSources);
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        super.afterPropertiesSet();
+        checkReplicas();  // 확인 전까지는 복제본으로 보내지 않으므로 시작하자마자 한 번 확인한다.
+        log.info("복제본 라우팅 시작 - 사용 가능한 복제본 {}/{}개 {}", getAvailableReplicas().size(), replicas.size(), getAvailableReplicas());
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        Replica replica = selectReplica();
+        if (replica == null) {
+            return primary.getConnection();
+        }
+
+        try {
+            return replica.dataSource.getConnection();
+        } catch (SQLException e) {
+            replica.markUnreachable(e);
+            return primary.getConnection();
+        }
+    }
+
+    /**
+     * 모든 복제본에 연결해서 복제 지연을 확인하고, 쓸 수 있는지 다시 정한다.
+     */
+    public void checkReplicas() {
+        replicas.forEach(this::check);
+    }
+
+    /**
+     * @return 지금 읽기 전용 트랜잭션을 보낼 수 있는 복제본 이름
+     */
+    public List<String> getAvailableReplicas() {
+        return replicas.stream()
+                .filter(this::isAvailable)
+                .map(replica -> replica.name)
+                .toList();
+    }
+
+    /**
+     * @return 읽기 전용 트랜잭션을 보낼 수 있는 복제본 중에 마지막 상태 확인 때 복제 지연이 있던 복제본이 있는지 여부.
+     * 있으면 복제본에서 읽은 결과에 최근 변경이 빠져 있을 수 있다.
+     */
+    public boolean hasLaggingReplica() {
+        return replicas.stream()
+                .map(replica -> replica.lag)
+                .anyMatch(lag -> lag != null && !lag.isZero() && lag.compareTo(replicaDataSourceProperties.maxLag()) <= 0);
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar taskRegistrar) {
+        taskRegistrar.addFixedDelayTask(this::checkReplicas, replicaDataSourceProperties.healthCheckInterval().toMillis());
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        // 스프링 부트는 DataSource 빈의 커넥션 풀에만 hikaricp.* 메트릭을 붙이므로, 빈이 아닌 복제본 풀(과 주 DB 풀)은 여기서 붙인다.
+        for (Object dataSource : getResolvedDataSources().values()) {
+            if (dataSource instanceof HikariDataSource hikari && hikari.getMetricRegistry() == null && hikari.getMetricsTrackerFactory() == null) {
+                hikari.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry));
+            }
+        }
+        for (Replica replica : replicas) {
+            Gauge.builder("board.datasource.replica.lag", replica, r -> r.lag == null ? Double.NaN : r.lag.toMillis() / 1000.0)
+                    .description("마지막 상태 확인 때의 복제 지연. 연결할 수 없었으면 NaN")
+                    .tag("replica", replica.name)
+                    .baseUnit("seconds")
+                    .register(registry);
+            Gauge.builder("board.datasource.replica.available", replica, r -> isAvailable(r) ? 1 : 0)
+                    .description("읽기 전용 트랜잭션을 보낼 수 있는지 여부")
+                    .tag("replica", replica.name)
+                    .register(registry);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        for (Object dataSource : getResolvedDataSources().values()) {
+            if (dataSource instanceof Closeable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        Replica replica = selectReplica();
+        return replica == null ? PRIMARY : replica.name;
+    }
+
+
+    private Replica selectReplica() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly() || readYourWritesTracker.hasCurrentUserRecentlyWritten()) {
+            return null;
+        }
+
+        List<Replica> availableReplicas = replicas.stream().filter(this::isAvailable).toList();
+        if (availableReplicas.isEmpty()) {
+            return null;
+        }
+
+        return availableReplicas.get(Math.floorMod(nextReplica.getAndIncrement(), availableReplicas.size()));
+    }
+
+    private boolean isAvailable(Replica replica) {
+        Duration lag = replica.lag;
+        return lag != null && lag.compareTo(replicaDataSourceProperties.maxLag()) <= 0;
+    }
+
+    private void check(Replica replica) {
+        boolean wasAvailable = isAvailable(replica);
+        try (Connection connection = replica.dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.setQueryTimeout((int) Math.max(1, replicaDataSourceProperties.healthCheckInterval().toSeconds()));
+            try (ResultSet resultSet = statement.executeQuery(replicaDataSourceProperties.lagQuery())) {
+                resultSet.next();
+                replica.lag = Duration.ofMillis(Math.round(resultSet.getDouble(1) * 1000));
+            }
+        } catch (SQLException e) {
+            replica.markUnreachable(e);
+            return;
+        }
+
+        if (wasAvailable != isAvailable(replica)) {
+            if (wasAvailable) {
+                log.warn("복제본 제외 - {}, 복제 지연 {}ms", replica.name, replica.lag.toMillis());
+            } else {
+                log.info("복제본 사용 - {}, 복제 지연 {}ms", replica.name, replica.lag.toMillis());
+            }
+        }
+    }
+
+
+    private static class Replica {
+
+        private final String name;
+        private final DataSource dataSource;
+        private volatile Duration lag;  // null이면 연결할 수 없는 상태(또는 아직 확인 전)
+
+        private Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+
+        private void markUnreachable(SQLException e) {
+            if (lag != null) {
+                log.warn("복제본 제외. 연결할 수 없습니다 - {}, {}", name, e.getLocalizedMessage());
+            }
+            lag = null;
+        }
+    }
+}
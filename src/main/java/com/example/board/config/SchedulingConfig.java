@@ -0,0 +1,9 @@
+package com.example.board.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@EnableScheduling  // SchedulingConfigurer를 구현한 빈의 주기 작업 실행 (ArticleCounter 등)
+@Configuration
+public class SchedulingConfig {
+}
@@ -0,0 +1,22 @@
+package com.example.board.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 게시글 검색 결과(게시글 id 목록과 전체 게시글 수) 캐시 설정
+ *
+ * @param enabled 캐시 사용 여부
+ * @param maximumSize 캐시에 담아둘 검색 결과(검색 조건 + 페이지)의 최대 개수. 넘치면 덜 쓰인 결과부터 버린다.
+ * @param timeToLive 저장 후 이 시간이 지나면 만료된다. 서비스를 거치지 않은 변경(Data REST API 등)도 이 시간 안에는 반영된다.
+ */
+@ConstructorBinding
+@ConfigurationProperties("board.search-cache")
+public record SearchCacheProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("10000") long maximumSize,
+        @DefaultValue("5m") Duration timeToLive
+) {}
@@ -0,0 +1,30 @@
+package com.example.board.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 게시글 제목/본문 검색 엔진 설정
+ *
+ * @param engine 사용할 검색 엔진. like(기본값), postgres, lucene 중 하나
+ * @param lucene lucene 검색 엔진 설정
+ */
+@ConstructorBinding
+@ConfigurationProperties("board.search")
+public record SearchProperties(
+        @DefaultValue("like") Engine engine,
+        @DefaultValue Lucene lucene
+) {
+
+    public enum Engine {
+        LIKE,  // like '%${}%' 검색. 인덱스를 타지 못하고 순위도 매기지 않는다.
+        POSTGRES,  // PostgreSQL tsvector + GIN 인덱스 전문 검색
+        LUCENE  // 애플리케이션에 내장된 Lucene 역색인. H2 등 개발 환경용
+    }
+
+    /**
+     * @param indexPath Lucene 역색인을 저장할 로컬 디렉토리
+     */
+    public record Lucene(@DefaultValue("build/search-index") String indexPath) {}
+}
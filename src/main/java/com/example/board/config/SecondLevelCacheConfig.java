@@ -0,0 +1,56 @@
+package com.example.board.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.annotation.PreDestroy;
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+import java.net.URI;
+import java.util.OptionalLong;
+
+/**
+ * 하이버네이트 2차 캐시 설정. JCache(JSR-107) 구현체로 애플리케이션 메모리 안에서 동작하는 Caffeine을 사용한다.
+ * 영역별 크기와 만료 시간은 'board.second-level-cache.regions'로 설정하고, 적중/실패 횟수는 actuator의 hibernate.second.level.cache.* 메트릭으로 확인한다.
+ */
+@EnableConfigurationProperties(SecondLevelCacheProperties.class)  // 슬라이스 테스트에서 이 설정만 import해도 동작하도록 직접 등록
+@Configuration
+public class SecondLevelCacheConfig {
+
+    private final CacheManager cacheManager;
+
+    public SecondLevelCacheConfig(SecondLevelCacheProperties secondLevelCacheProperties) {
+        CachingProvider cachingProvider = Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+        // 테스트처럼 한 JVM에 애플리케이션 컨텍스트가 여러 개 뜰 수 있으므로 컨텍스트마다 캐시 매니저를 따로 만든다.
+        this.cacheManager = cachingProvider.getCacheManager(
+                URI.create("board-second-level-cache-" + System.identityHashCode(this)),
+                getClass().getClassLoader()
+        );
+        secondLevelCacheProperties.regions().forEach((name, region) -> cacheManager.createCache(name, toConfiguration(region)));
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer() {
+        return hibernateProperties -> hibernateProperties.put(ConfigSettings.CACHE_MANAGER, cacheManager);
+    }
+
+    @PreDestroy
+    public void close() {
+        cacheManager.close();
+    }
+
+    private CaffeineConfiguration<Object, Object> toConfiguration(SecondLevelCacheProperties.Region region) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(OptionalLong.of(region.maximumSize()));
+        configuration.setExpireAfterWrite(OptionalLong.of(region.timeToLive().toNanos()));
+        configuration.setStatisticsEnabled(true);
+
+        return configuration;
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.board.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * 하이버네이트 2차 캐시 영역(region) 설정
+ *
+ * @param regions 영역 이름별 설정. 영역 이름은 엔티티의 {@code @Cache(region = ...)}와 같아야 한다.
+ */
+@ConstructorBinding
+@ConfigurationProperties("board.second-level-cache")
+public record SecondLevelCacheProperties(@DefaultValue Map<String, Region> regions) {
+
+    /**
+     * @param maximumSize 영역에 담아둘 최대 엔트리 수. 넘치면 오래 쓰이지 않은 것부터 버린다.
+     * @param timeToLive 저장 후 이 시간이 지나면 만료된다. DB를 직접 수정한 경우에도 이 시간 안에는 반영된다.
+     */
+    public record Region(
+            @DefaultValue("10000") long maximumSize,
+            @DefaultValue("10m") Duration timeToLive
+    ) {}
+}
@@ -6,8 +6,10 @@ import com.example.board.repository.UserAccountRepository;
 import org.springframework.boot.autoconfigure.security.servlet.PathRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
 import org.springframework.http.HttpMethod;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.factory.PasswordEncoderFactories;
@@ -18,6 +20,20 @@ import org.springframework.web.bind.annotation.PutMapping;
 @Configuration
 public class SecurityConfig {
 
+    // 게시글 일괄 가져오기/내보내기 API와 Prometheus 수집 엔드포인트는 화면 없이 curl, Prometheus 서버 등이 호출하므로 폼 로그인 대신 HTTP Basic 인증을 쓰고, 세션 쿠키를 쓰지 않으니 CSRF 방어도 끈다.
+    // 화면용 필터 체인보다 먼저 검사하도록 순서를 앞에 둔다.
+    @Order(1)
+    @Bean
+    public SecurityFilterChain importApiSecurityFilterChain(HttpSecurity http) throws Exception {
+        return http
+                .requestMatchers(matchers -> matchers.antMatchers("/imports/**", "/exports/**", "/actuator/prometheus"))
+                .authorizeHttpRequests(auth -> auth.anyRequest().authenticated())
+                .httpBasic().and()
+                .csrf().disable()
+                .sessionManagement().sessionCreationPolicy(SessionCreationPolicy.STATELESS).and()
+                .build();
+    }
+
     // 과거에는 WebSecurityCustomizer에 따로 정적 리소스를 web.ignore() 설정해주었지만, 해당 방법은 시큐리티의 필터 체인에 등록되지 않아서 시큐리티의 다른 보안 설정들이 적용되지 않는 문제가 있어 권장하지 않게됨(csrf 방어가 적용되지 않는다던가) - 실제로 애플리케이션 실행 시 추천하지 않는다고 warn 로그를 발생시킨다.
     // 그래서 현재는 SecurityFilterChain에 정적 리소스를 permitAll()로 등록해주는 방식을 추천한다.
     @Bean
@@ -29,7 +45,8 @@ public class SecurityConfig {
                                 HttpMethod.GET,
                                 "/",
                                 "/articles",
-                                "/articles/search-hashtag"
+                                "/articles/search-hashtag",
+                                "/hashtags/suggest"
                         ).permitAll()
                         .anyRequest().authenticated()
                 )
@@ -1,33 +1,54 @@
 package com.example.board.controller;
 
+import com.example.board.config.PaginationProperties;
+import com.example.board.domain.constant.CursorDirection;
 import com.example.board.domain.constant.FormStatus;
 import com.example.board.domain.constant.SearchType;
+import com.example.board.dto.ArticleCommentDto;
+import com.example.board.dto.ArticleWithCommentsDto;
+import com.example.board.dto.CursorPage;
+import com.example.board.dto.CursorPaginationBar;
+import com.example.board.dto.InvalidCursorException;
 import com.example.board.dto.request.ArticleRequest;
 import com.example.board.dto.security.BoardPrincipal;
 import com.example.board.dto.response.ArticleResponse;
 import com.example.board.dto.response.ArticleWithCommentsResponse;
+import com.example.board.service.ArticleCommentService;
 import com.example.board.service.ArticleService;
 import com.example.board.service.PaginationService;
+import com.example.board.service.search.UserAccountSearchIndex;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.ModelMap;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
 
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
 import java.util.List;
+import java.util.OptionalLong;
 
 @RequiredArgsConstructor
 @RequestMapping("/articles")
 @Controller
 public class ArticleController {
 
+    private static final int COMMENT_PAGE_SIZE = 20;
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;  // Spring Data REST의 max-page-size와 같은 값
+
     private final ArticleService articleService;
+    private final ArticleCommentService articleCommentService;
     private final PaginationService paginationService;
+    private final PaginationProperties paginationProperties;
 
+    @QueryBudget(5)
     @GetMapping
     public String articles(
             @RequestParam(required = false) SearchType searchType,
@@ -35,7 +56,12 @@ public class ArticleController {
             @PageableDefault(size = 10, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
             ModelMap map
     ) {
-        Page<ArticleResponse> articles = articleService.searchArticles(searchType, searchValue, pageable)
+        validateSearchValue(searchType, searchValue);
+        if (paginationProperties.countMode() != PaginationProperties.CountMode.EXACT) {
+            return articlesWithoutCount(searchType, searchValue, pageable, map);
+        }
+
+        Page<ArticleResponse> articles = articleService.searchArticleSummaries(searchType, searchValue, pageable)
                 .map(ArticleResponse::from);
         List<Integer> barNumbers = paginationService.getPaginationBarNumbers(
                 pageable.getPageNumber(),
@@ -45,21 +71,75 @@ public class ArticleController {
         map.addAttribute("articles", articles);
         map.addAttribute("paginationBarNumbers", barNumbers);
         map.addAttribute("searchTypes", SearchType.values());
+        map.addAttribute("searchTypeHashtag", SearchType.HASHTAG);
+
+        return "articles/index";
+    }
+
+    // count 쿼리 없이 Slice로 조회하고, 설정에 따라 DB 통계로 추정한 게시글 수를 페이지네이션 바에 사용한다.
+    private String articlesWithoutCount(SearchType searchType, String searchValue, Pageable pageable, ModelMap map) {
+        Slice<ArticleResponse> articles = articleService.searchArticleSlice(searchType, searchValue, pageable)
+                .map(ArticleResponse::from);
+        OptionalLong estimatedTotalElements = paginationProperties.countMode() == PaginationProperties.CountMode.ESTIMATED
+                ? articleService.estimateArticleCount(searchType, searchValue)
+                : OptionalLong.empty();
+        List<Integer> barNumbers = paginationService.getPaginationBarNumbers(articles, estimatedTotalElements);
+
+        map.addAttribute("articles", articles);
+        map.addAttribute("paginationBarNumbers", barNumbers);
+        map.addAttribute("searchTypes", SearchType.values());
+        map.addAttribute("searchTypeHashtag", SearchType.HASHTAG);
+
+        return "articles/index";
+    }
+
+    // cursor 파라미터가 있으면(빈 값 포함) offset 페이징 대신 (createdAt, id) 커서 기반 페이징으로 조회한다. 정렬은 최신순으로 고정.
+    @QueryBudget(5)
+    @GetMapping(params = "cursor")
+    public String articlesByCursor(
+            @RequestParam(required = false) SearchType searchType,
+            @RequestParam(required = false) String searchValue,
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "NEXT") CursorDirection direction,
+            @RequestParam(defaultValue = "10") int size,
+            ModelMap map
+    ) {
+        validateSearchValue(searchType, searchValue);
+        CursorPage<ArticleResponse> articles = articleService.searchArticlesByCursor(searchType, searchValue, cursor, direction, cursorPageSize(size))
+                .map(ArticleResponse::from);
+        CursorPaginationBar cursorPaginationBar = paginationService.getCursorPaginationBar(cursor, articles);
+
+        map.addAttribute("articles", articles);
+        map.addAttribute("cursorPaginationBar", cursorPaginationBar);
+        map.addAttribute("searchTypes", SearchType.values());
+        map.addAttribute("searchTypeHashtag", SearchType.HASHTAG);
 
         return "articles/index";
     }
 
+    // 댓글은 게시글과 따로 한 페이지(COMMENT_PAGE_SIZE개)만 조회하고, 나머지는 commentCursor로 이어서 본다.
+    @QueryBudget(5)
     @GetMapping("/{articleId}")
-    public String article(@PathVariable Long articleId, ModelMap map) {
-        ArticleWithCommentsResponse article = ArticleWithCommentsResponse.from(articleService.getArticleWithComments(articleId));
+    public String article(
+            @PathVariable Long articleId,
+            @RequestParam(required = false) String commentCursor,
+            ModelMap map
+    ) {
+        CursorPage<ArticleCommentDto> articleComments = articleCommentService.searchArticleComments(articleId, commentCursor, COMMENT_PAGE_SIZE);
+        ArticleWithCommentsResponse article = ArticleWithCommentsResponse.from(
+                ArticleWithCommentsDto.from(articleService.getArticle(articleId), articleComments.content())
+        );
 
         map.addAttribute("article", article);
         map.addAttribute("articleComments", article.articleCommentsResponses());
+        map.addAttribute("nextCommentCursor", articleComments.nextCursor());
         map.addAttribute("totalCount", articleService.getArticleCount());
+        map.addAttribute("searchTypeHashtag", SearchType.HASHTAG);
 
         return "articles/detail";
     }
 
+    @QueryBudget(5)
     @GetMapping("search-hashtag")
     public String searchArticleHashtag(
             @RequestParam(required = false) String searchValue,
@@ -82,6 +162,29 @@ public class ArticleController {
         return "articles/search-hashtag";
     }
 
+    // cursor 파라미터가 있으면 해시태그의 게시글을 (createdAt, id) 커서로 이어서 조회한다. 게시글 수를 세지 않는다.
+    @QueryBudget(5)
+    @GetMapping(value = "search-hashtag", params = "cursor")
+    public String searchArticleHashtagByCursor(
+            @RequestParam(required = false) String searchValue,
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "NEXT") CursorDirection direction,
+            @RequestParam(defaultValue = "10") int size,
+            ModelMap map
+    ) {
+        CursorPage<ArticleResponse> articles = articleService.searchArticlesViaHashtagByCursor(searchValue, cursor, direction, cursorPageSize(size))
+                .map(ArticleResponse::from);
+        CursorPaginationBar cursorPaginationBar = paginationService.getCursorPaginationBar(cursor, articles);
+        List<String> hashtags = articleService.getHashtags();
+
+        map.addAttribute("articles", articles);
+        map.addAttribute("hashtags", hashtags);
+        map.addAttribute("cursorPaginationBar", cursorPaginationBar);
+        map.addAttribute("searchType", SearchType.HASHTAG);
+
+        return "articles/search-hashtag";
+    }
+
     @GetMapping("/form")
     public String form(ModelMap map) {
         map.addAttribute("formStatus", FormStatus.CREATE);
@@ -129,4 +232,27 @@ public class ArticleController {
 
         return "redirect:/articles";
     }
+
+    // 형식이 잘못된 커서는 서버 오류(500)가 아니라 잘못된 요청(400)으로 응답한다.
+    @ExceptionHandler(InvalidCursorException.class)
+    public void handleInvalidCursor(InvalidCursorException e, HttpServletResponse response) throws IOException {
+        response.sendError(HttpStatus.BAD_REQUEST.value(), e.getMessage());
+    }
+
+
+    // 작성자(ID, 닉네임) 검색어가 사용자 검색 색인의 최소 길이보다 짧으면 모든 사용자를 훑게 되므로 잘못된 요청(400)으로 응답한다. 검색어가 없으면 전체 목록이다.
+    private static void validateSearchValue(SearchType searchType, String searchValue) {
+        if (searchType != SearchType.ID && searchType != SearchType.NICKNAME || searchValue == null || searchValue.isBlank()) {
+            return;
+        }
+        if (searchValue.strip().length() < UserAccountSearchIndex.MIN_KEYWORD_LENGTH) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "작성자 검색어는 " + UserAccountSearchIndex.MIN_KEYWORD_LENGTH + "자 이상이어야 합니다 - searchValue: " + searchValue);
+        }
+    }
+
+    // 한 번에 조회하는 게시글 수를 1 ~ MAX_CURSOR_PAGE_SIZE로 제한한다.
+    private static int cursorPageSize(int size) {
+        return Math.min(Math.max(size, 1), MAX_CURSOR_PAGE_SIZE);
+    }
 }
@@ -0,0 +1,42 @@
+package com.example.board.controller;
+
+import com.example.board.domain.constant.ExportFormat;
+import com.example.board.service.ArticleExportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 게시글 내보내기 API. 결과를 메모리에 모으지 않고 응답 스트림에 바로 쓴다.
+ * curl -u sol:password -o articles.jsonl "http://localhost:8080/exports/articles?format=JSONL"
+ */
+@RequiredArgsConstructor
+@RequestMapping("/exports/articles")
+@RestController
+public class ArticleExportController {
+
+    private final ArticleExportService articleExportService;
+
+    @GetMapping
+    public void exportArticles(
+            @RequestParam(defaultValue = "JSONL") ExportFormat format,
+            HttpServletResponse response
+    ) throws IOException {
+        response.setContentType(format.getContentType());
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename("articles." + format.getFileExtension())
+                .build()
+                .toString());
+
+        articleExportService.exportArticles(format, response.getOutputStream());
+    }
+}
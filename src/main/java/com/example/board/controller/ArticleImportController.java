@@ -0,0 +1,41 @@
+package com.example.board.controller;
+
+import com.example.board.dto.response.ArticleImportResponse;
+import com.example.board.service.ArticleImportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * 게시글 일괄 가져오기 API. 요청 본문(JSON Lines)을 메모리에 모두 올리지 않고 스트림 그대로 서비스에 넘긴다.
+ * curl -u sol:password -X POST --data-binary @articles.jsonl http://localhost:8080/imports/articles/migration-1
+ */
+@RequiredArgsConstructor
+@RequestMapping("/imports/articles")
+@RestController
+public class ArticleImportController {
+
+    private final ArticleImportService articleImportService;
+
+    @PostMapping("/{jobId}")
+    public ResponseEntity<ArticleImportResponse> importArticles(@PathVariable String jobId, InputStream body) throws IOException {
+        try {
+            return ResponseEntity.ok(ArticleImportResponse.from(articleImportService.importArticles(jobId, body)));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();  // 같은 작업이 이미 실행 중
+        }
+    }
+
+    @GetMapping("/{jobId}")
+    public ResponseEntity<ArticleImportResponse> getImportProgress(@PathVariable String jobId) {
+        return ResponseEntity.of(articleImportService.getCheckpoint(jobId).map(ArticleImportResponse::from));
+    }
+}
@@ -0,0 +1,120 @@
+package com.example.board.controller;
+
+import com.example.board.config.DataRestGuardProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.rest.core.config.RepositoryRestConfiguration;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Data REST API(/api) 조회 요청 중 DB에 부담이 큰 요청을 쿼리 전에 거절하는 필터. 기준은 {@link DataRestGuardProperties}를 따른다.
+ * <ul>
+ *     <li>page * size가 max-offset을 넘는 요청 (페이지 크기는 spring.data.rest.max-page-size로 잘린 값 기준)</li>
+ *     <li>컬렉션 조회(/api/{리소스})에 검색 조건이 max-predicates보다 많거나, 값이 min-keyword-length보다 짧은 요청</li>
+ * </ul>
+ */
+@RequiredArgsConstructor
+public class DataRestQueryGuardFilter extends OncePerRequestFilter {
+
+    private final RepositoryRestConfiguration repositoryRestConfiguration;
+    private final DataRestGuardProperties dataRestGuardProperties;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !HttpMethod.GET.matches(request.getMethod());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        String rejectReason = getRejectReason(request);
+        if (rejectReason != null) {
+            // sendError는 기본 에러 응답에서 메시지가 빠지므로 사유를 본문에 직접 쓴다.
+            response.setStatus(HttpStatus.BAD_REQUEST.value());
+            response.setContentType(MediaType.TEXT_PLAIN_VALUE);
+            response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+            response.getWriter().write(rejectReason);
+            return;
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+
+    private String getRejectReason(HttpServletRequest request) {
+        long offset = (long) getPage(request) * getPageSize(request);
+        if (offset > dataRestGuardProperties.maxOffset()) {
+            return "offset(page * size)은 " + dataRestGuardProperties.maxOffset() + "을 넘을 수 없습니다. 뒤쪽 데이터는 search/after로 조회하세요.";
+        }
+        if (!isCollectionResource(request)) {
+            return null;  // 단건과 search 리소스는 조건이 메서드로 정해져 있다.
+        }
+
+        Set<String> reservedParams = Set.of(
+                repositoryRestConfiguration.getPageParamName(),
+                repositoryRestConfiguration.getLimitParamName(),
+                repositoryRestConfiguration.getSortParamName(),
+                "projection"
+        );
+        int predicates = 0;
+        for (Map.Entry<String, String[]> param : request.getParameterMap().entrySet()) {
+            if (reservedParams.contains(param.getKey())) {
+                continue;
+            }
+            for (String value : param.getValue()) {
+                predicates++;
+                if (value.strip().length() < dataRestGuardProperties.minKeywordLength()) {
+                    return "검색 조건 '" + param.getKey() + "'의 값은 " + dataRestGuardProperties.minKeywordLength() + "자 이상이어야 합니다.";
+                }
+            }
+        }
+        if (predicates > dataRestGuardProperties.maxPredicates()) {
+            return "검색 조건은 " + dataRestGuardProperties.maxPredicates() + "개까지 사용할 수 있습니다.";
+        }
+
+        return null;
+    }
+
+    // /api/{리소스} 형태. /api/{리소스}/{id}, /api/{리소스}/search/... 는 제외
+    private boolean isCollectionResource(HttpServletRequest request) {
+        String basePath = repositoryRestConfiguration.getBasePath().getPath();
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        if (!path.startsWith(basePath + "/")) {
+            return false;
+        }
+
+        String resourcePath = path.substring(basePath.length() + 1);
+        return !resourcePath.isEmpty() && resourcePath.indexOf('/') < 0;
+    }
+
+    private int getPage(HttpServletRequest request) {
+        return Math.max(parseInt(request.getParameter(repositoryRestConfiguration.getPageParamName()), 0), 0);
+    }
+
+    private int getPageSize(HttpServletRequest request) {
+        int size = parseInt(request.getParameter(repositoryRestConfiguration.getLimitParamName()), repositoryRestConfiguration.getDefaultPageSize());
+        return size <= 0 ? repositoryRestConfiguration.getDefaultPageSize() : Math.min(size, repositoryRestConfiguration.getMaxPageSize());
+    }
+
+    private int parseInt(String value, int defaultValue) {
+        if (value == null) {
+            return defaultValue;
+        }
+
+        try {
+            return Integer.parseInt(value.strip());
+        } catch (NumberFormatException e) {
+            return defaultValue;  // 잘못된 값은 Data REST도 기본값으로 처리한다.
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.board.controller;
+
+import com.example.board.service.HashtagService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * 해시태그 자동완성 API. 검색창에 글자를 입력할 때마다 호출되므로 DB를 조회하지 않고 메모리의 트라이에서 답한다.
+ * curl 'http://localhost:8080/hashtags/suggest?prefix=sp'
+ */
+@RequiredArgsConstructor
+@RequestMapping("/hashtags")
+@RestController
+public class HashtagController {
+
+    private final HashtagService hashtagService;
+
+    @QueryBudget(0)
+    @GetMapping("/suggest")
+    public List<String> suggest(
+            @RequestParam String prefix,
+            @RequestParam(defaultValue = "10") int limit
+    ) {
+        return hashtagService.suggestHashtagNames(prefix, limit);
+    }
+}
@@ -0,0 +1,108 @@
+package com.example.board.controller;
+
+import com.example.board.dto.response.JdbcMetricsResponse;
+import com.example.board.dto.response.JdbcMetricsResponse.ConnectionPool;
+import com.example.board.dto.response.JdbcMetricsResponse.RepositoryMethod;
+import com.example.board.dto.response.JdbcMetricsResponse.RequestQueries;
+import com.example.board.service.JdbcQueryRecorder;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * JDBC 사용 현황을 한눈에 보는 actuator 엔드포인트(/actuator/jdbc). 이미 남기고 있는 메트릭을 모아서 정렬해 보여줄 뿐이라 따로 값을 쌓지 않는다.
+ * 시간에 따른 추이는 같은 메트릭을 /actuator/prometheus로 수집해서 본다.
+ */
+@RequiredArgsConstructor
+@Component
+@Endpoint(id = "jdbc")
+public class JdbcMetricsEndpoint {
+
+    private final MeterRegistry meterRegistry;
+    private final JdbcQueryRecorder jdbcQueryRecorder;
+
+    @ReadOperation
+    public JdbcMetricsResponse jdbcMetrics() {
+        return JdbcMetricsResponse.of(
+                getRepositoryMethods(),
+                getRequests(),
+                getConnectionPools(),
+                jdbcQueryRecorder.getSlowQueries()
+        );
+    }
+
+
+    // 같은 메서드라도 결과(state, exception 태그)마다 타이머가 따로 있으므로 메서드별로 합친다.
+    private List<RepositoryMethod> getRepositoryMethods() {
+        Map<List<String>, List<Timer>> timersByMethod = meterRegistry.find("spring.data.repository.invocations").timers().stream()
+                .collect(Collectors.groupingBy(timer -> List.of(timer.getId().getTag("repository"), timer.getId().getTag("method"))));
+
+        return timersByMethod.entrySet().stream()
+                .map(entry -> {
+                    Collection<Timer> timers = entry.getValue();
+                    long count = timers.stream().mapToLong(Timer::count).sum();
+                    double totalMillis = timers.stream().mapToDouble(timer -> timer.totalTime(TimeUnit.MILLISECONDS)).sum();
+                    double maxMillis = timers.stream().mapToDouble(timer -> timer.max(TimeUnit.MILLISECONDS)).max().orElse(0);
+                    return new RepositoryMethod(entry.getKey().get(0), entry.getKey().get(1), count, totalMillis, count == 0 ? 0 : totalMillis / count, maxMillis);
+                })
+                .sorted(Comparator.comparingDouble(RepositoryMethod::totalMillis).reversed())
+                .toList();
+    }
+
+    private List<RequestQueries> getRequests() {
+        return meterRegistry.find("board.jdbc.queries.per.request").summaries().stream()
+                .map(this::toRequestQueries)
+                .sorted(Comparator.comparingDouble(RequestQueries::meanQueries).reversed())
+                .toList();
+    }
+
+    private RequestQueries toRequestQueries(DistributionSummary summary) {
+        String method = summary.getId().getTag("method");
+        String uri = summary.getId().getTag("uri");
+        Timer time = meterRegistry.find("board.jdbc.time.per.request").tag("method", method).tag("uri", uri).timer();
+
+        return new RequestQueries(
+                method,
+                uri,
+                summary.count(),
+                summary.mean(),
+                summary.max(),
+                time == null ? 0 : time.mean(TimeUnit.MILLISECONDS)
+        );
+    }
+
+    private List<ConnectionPool> getConnectionPools() {
+        return meterRegistry.find("hikaricp.connections.acquire").timers().stream()
+                .map(acquire -> {
+                    String pool = acquire.getId().getTag("pool");
+                    return new ConnectionPool(
+                            pool,
+                            acquire.count(),
+                            acquire.mean(TimeUnit.MILLISECONDS),
+                            acquire.max(TimeUnit.MILLISECONDS),
+                            getPoolGauge("hikaricp.connections.active", pool),
+                            getPoolGauge("hikaricp.connections.idle", pool),
+                            getPoolGauge("hikaricp.connections.pending", pool)
+                    );
+                })
+                .sorted(Comparator.comparing(ConnectionPool::pool))
+                .toList();
+    }
+
+    private double getPoolGauge(String name, String pool) {
+        Gauge gauge = meterRegistry.find(name).tag("pool", pool).gauge();
+        return gauge == null ? Double.NaN : gauge.value();
+    }
+}
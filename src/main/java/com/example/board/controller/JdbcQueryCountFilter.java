@@ -0,0 +1,51 @@
+package com.example.board.controller;
+
+import com.example.board.service.JdbcQueryRecorder;
+import com.example.board.service.JdbcQueryRecorder.RequestQueries;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.metrics.web.servlet.WebMvcTags;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청마다 실행한 쿼리 수와 쿼리 시간의 합을 요청 경로 패턴(uri 태그, http.server.requests와 같은 값)별로 남기는 필터.
+ * N+1처럼 요청 하나에 쿼리가 많이 나가는 화면은 board.jdbc.queries.per.request의 분포로 찾을 수 있다.
+ */
+@RequiredArgsConstructor
+public class JdbcQueryCountFilter extends OncePerRequestFilter {
+
+    private final JdbcQueryRecorder jdbcQueryRecorder;
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        jdbcQueryRecorder.startRequest();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            RequestQueries requestQueries = jdbcQueryRecorder.finishRequest();
+            Tags tags = Tags.of(WebMvcTags.method(request), WebMvcTags.uri(request, response));
+            DistributionSummary.builder("board.jdbc.queries.per.request")
+                    .description("요청 하나에서 실행한 JDBC 쿼리 수")
+                    .tags(tags)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry)
+                    .record(requestQueries.getCount());
+            Timer.builder("board.jdbc.time.per.request")
+                    .description("요청 하나에서 JDBC 쿼리 실행에 쓴 시간의 합")
+                    .tags(tags)
+                    .register(meterRegistry)
+                    .record(requestQueries.getElapsedMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+}
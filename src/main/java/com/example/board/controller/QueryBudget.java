@@ -0,0 +1,20 @@
+package com.example.board.controller;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 컨트롤러 핸들러가 요청 하나에서 실행해도 되는 JDBC 쿼리 수. 클래스에 붙이면 그 클래스의 모든 핸들러에 적용되고, 메서드에 붙인 값이 우선한다.
+ * 붙이지 않은 핸들러에는 'board.query-budget.default-budget'을 적용한다.
+ * 넘었을 때 로그만 남길지 요청을 실패시킬지는 'board.query-budget.mode'로 정한다. ({@link QueryBudgetInterceptor})
+ */
+@Documented
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface QueryBudget {
+
+    int value();
+}
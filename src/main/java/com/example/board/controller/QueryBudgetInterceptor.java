@@ -0,0 +1,86 @@
+package com.example.board.controller;
+
+import com.example.board.config.QueryBudgetProperties;
+import com.example.board.service.JdbcQueryRecorder;
+import com.example.board.service.JdbcQueryRecorder.RequestQueries;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+/**
+ * 컨트롤러 핸들러마다 {@link QueryBudget}(없으면 'board.query-budget.default-budget')만큼의 쿼리 예산을 건다.
+ * 핸들러 실행부터 화면 렌더링까지 실행한 쿼리를 세고, 쿼리 수는 {@link JdbcQueryCountFilter}가 요청마다 시작한 기록에서 가져온다.
+ *
+ * 예산을 넘으면 LOG 모드에서는 가장 많이 반복된 SQL(대개 N+1의 원인)과 함께 경고 로그를 남기고 board.jdbc.query.budget.exceeded를 센다.
+ * FAIL 모드에서는 예산을 넘는 쿼리가 실행되기 전에 예외가 나서 요청이 실패한다.
+ * 테스트에서 확인할 수 있도록 핸들러의 쿼리 수와 예산을 요청 속성({@link #QUERY_COUNT_ATTRIBUTE}, {@link #QUERY_BUDGET_ATTRIBUTE})에 남긴다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class QueryBudgetInterceptor implements HandlerInterceptor {
+
+    public static final String QUERY_COUNT_ATTRIBUTE = QueryBudgetInterceptor.class.getName() + ".queryCount";
+    public static final String QUERY_BUDGET_ATTRIBUTE = QueryBudgetInterceptor.class.getName() + ".queryBudget";
+
+    private final JdbcQueryRecorder jdbcQueryRecorder;
+    private final QueryBudgetProperties queryBudgetProperties;
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (queryBudgetProperties.mode() != QueryBudgetProperties.Mode.OFF && handler instanceof HandlerMethod handlerMethod) {
+            jdbcQueryRecorder.startBudget(
+                    getHandlerName(handlerMethod),
+                    getBudget(handlerMethod),
+                    queryBudgetProperties.mode() == QueryBudgetProperties.Mode.FAIL
+            );
+        }
+
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        RequestQueries requestQueries = jdbcQueryRecorder.getCurrentRequest();
+        if (requestQueries == null || requestQueries.getBudget() < 0) {
+            return;
+        }
+
+        request.setAttribute(QUERY_COUNT_ATTRIBUTE, requestQueries.getBudgetedCount());
+        request.setAttribute(QUERY_BUDGET_ATTRIBUTE, requestQueries.getBudget());
+        if (requestQueries.isOverBudget()) {
+            log.warn("쿼리 예산 초과 - {}: {}회 (예산 {}회), 가장 많이 반복된 쿼리: {}",
+                    requestQueries.getHandler(),
+                    requestQueries.getBudgetedCount(),
+                    requestQueries.getBudget(),
+                    requestQueries.getMostRepeatedQuery().map(query -> query.getValue() + "회 " + query.getKey()).orElse("-")
+            );
+            Counter.builder("board.jdbc.query.budget.exceeded")
+                    .description("쿼리 예산을 넘은 요청 수")
+                    .tag("handler", requestQueries.getHandler())
+                    .register(meterRegistry)
+                    .increment();
+        }
+    }
+
+
+    private int getBudget(HandlerMethod handlerMethod) {
+        QueryBudget queryBudget = handlerMethod.getMethodAnnotation(QueryBudget.class);
+        if (queryBudget == null) {
+            queryBudget = AnnotatedElementUtils.findMergedAnnotation(handlerMethod.getBeanType(), QueryBudget.class);
+        }
+
+        return queryBudget != null ? queryBudget.value() : queryBudgetProperties.defaultBudget();
+    }
+
+    private static String getHandlerName(HandlerMethod handlerMethod) {
+        return handlerMethod.getBeanType().getSimpleName() + "." + handlerMethod.getMethod().getName();
+    }
+}
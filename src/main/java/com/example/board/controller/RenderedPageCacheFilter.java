@@ -0,0 +1,93 @@
+package com.example.board.controller;
+
+import com.example.board.service.RenderedPageCache;
+import com.example.board.service.RenderedPageCache.RenderedPage;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.AuthenticationTrustResolver;
+import org.springframework.security.authentication.AuthenticationTrustResolverImpl;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.regex.Pattern;
+
+/**
+ * 비로그인 사용자의 게시글 목록(/articles), 상세(/articles/{articleId}) 화면 요청을 {@link RenderedPageCache}에서 바로 응답하는 필터.
+ * 로그인한 사용자는 화면에 본인 정보와 수정/삭제 버튼이 나오므로 캐시하지 않는다.
+ * 스프링 시큐리티 필터 뒤에서 동작하므로, 로그인이 필요한 화면은 이 필터까지 오기 전에 로그인 페이지로 이동한다.
+ */
+@RequiredArgsConstructor
+public class RenderedPageCacheFilter extends OncePerRequestFilter {
+
+    private static final Pattern CACHEABLE_PATH = Pattern.compile("/articles(/\\d+)?");
+    private static final AuthenticationTrustResolver AUTHENTICATION_TRUST_RESOLVER = new AuthenticationTrustResolverImpl();
+
+    private final RenderedPageCache renderedPageCache;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !HttpMethod.GET.matches(request.getMethod())
+                || !CACHEABLE_PATH.matcher(request.getRequestURI()).matches()
+                || !isAnonymous();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        String key = request.getQueryString() == null ? request.getRequestURI() : request.getRequestURI() + "?" + request.getQueryString();
+        RenderedPage page = renderedPageCache.get(key);
+        if (page != null) {
+            writeCachedPage(request, response, page);
+            return;
+        }
+
+        RenderedPageCache.Version version = renderedPageCache.version();  // 렌더링 도중에 게시글이 바뀌면 저장하지 않도록 먼저 받아둔다.
+        ContentCachingResponseWrapper responseWrapper = new ContentCachingResponseWrapper(response);
+        filterChain.doFilter(request, responseWrapper);
+
+        if (responseWrapper.getStatus() == HttpStatus.OK.value() && isHtml(responseWrapper.getContentType())) {
+            RenderedPage renderedPage = renderedPageCache.put(key, responseWrapper.getContentAsByteArray(), responseWrapper.getContentType(), version);
+            writeValidators(responseWrapper, renderedPage);
+        }
+        responseWrapper.copyBodyToResponse();
+    }
+
+
+    private void writeCachedPage(HttpServletRequest request, HttpServletResponse response, RenderedPage page) throws IOException {
+        if (new ServletWebRequest(request, response).checkNotModified(page.eTag(), page.lastModified())) {
+            response.setHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
+            return;  // 304. ETag, Last-Modified는 checkNotModified()가 넣어준다.
+        }
+
+        writeValidators(response, page);
+        response.setContentType(page.contentType());
+        response.setContentLength(page.body().length);
+        response.getOutputStream().write(page.body());
+    }
+
+    // 브라우저가 화면을 저장해두고 다음 요청부터 조건부 요청을 보내도록 한다. (시큐리티 기본값은 no-store)
+    private void writeValidators(HttpServletResponse response, RenderedPage page) {
+        response.setHeader(HttpHeaders.ETAG, page.eTag());
+        response.setDateHeader(HttpHeaders.LAST_MODIFIED, page.lastModified());
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
+    }
+
+    private boolean isAnonymous() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication == null || AUTHENTICATION_TRUST_RESOLVER.isAnonymous(authentication);
+    }
+
+    private boolean isHtml(String contentType) {
+        return contentType != null && MediaType.TEXT_HTML.isCompatibleWith(MediaType.parseMediaType(contentType));
+    }
+}
@@ -3,6 +3,9 @@ package com.example.board.domain;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.springframework.data.rest.core.annotation.RestResource;
 
 import javax.persistence.*;
 import java.util.*;
@@ -11,14 +14,17 @@ import java.util.*;
 @ToString(callSuper = true)  // 상속받은 AuditingFields의 toString()까지 출력하도록 설정
 @Table(indexes = {  // 테이블 인덱스 설정
         @Index(columnList = "title"),
-        @Index(columnList = "createdAt"),
+        @Index(columnList = "userId"),  // 작성자 검색(user_id in (...))과 join에 사용
+        @Index(columnList = "createdAt, id"),  // 최신순 정렬과 (createdAt, id) 커서 페이징의 범위 조회에 사용
         @Index(columnList = "createdBy")
 })
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "article")  // 2차 캐시. 수정/삭제는 하이버네이트가 캐시에 반영한다.
 @Entity
 public class Article extends AuditingFields {  // 공통 필드를 추출한 AuditingFields를 상속받음
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "article_seq")  // IDENTITY는 insert를 해야 id를 알 수 있어서 JDBC batch insert가 꺼진다. 시퀀스는 id를 미리 받아오므로 batch insert가 가능하다.
+    @SequenceGenerator(name = "article_seq", sequenceName = "article_seq", allocationSize = 50)  // 시퀀스 한 번 호출로 id 50개를 받아 메모리에서 나눠 쓴다(pooled-lo). 시퀀스의 increment도 50이다.
     private Long id;
 
     @Setter
@@ -38,13 +44,16 @@ public class Article extends AuditingFields {  // 공통 필드를 추출한 Aud
     @JoinTable(  // 다대다 관계의 주인 테이블 설정
             name = "article_hashtag",  // 연결 테이블 이름
             joinColumns = @JoinColumn(name = "articleId"),  // 연결 테이블의 외래키 설정
-            inverseJoinColumns = @JoinColumn(name = "hashtagId")  // 연결 테이블의 반대쪽 외래키 설정
+            inverseJoinColumns = @JoinColumn(name = "hashtagId"),  // 연결 테이블의 반대쪽 외래키 설정
+            indexes = @Index(columnList = "hashtagId, articleId")  // 해시태그별 게시글 목록의 키셋 페이지네이션과 게시글 수 조회용. 테이블을 읽지 않고 인덱스만으로 끝난다.
     )
     @ManyToMany(cascade = {CascadeType.PERSIST, CascadeType.MERGE})  // persist: insert할 때 동기화, merge: update할 때 동기화
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "articleHashtags")  // 컬렉션 캐시에는 해시태그 id만 담기고, 해시태그 자체는 hashtag 영역에서 가져온다.
     private Set<Hashtag> hashtags = new LinkedHashSet<>();
 
     @ToString.Exclude  // ArticleComment의 toString()에서 Article을 출력하지 않도록 설정(순환 참조 방지)
     @OrderBy("createdAt DESC")
+    @RestResource(exported = false)  // /api/articles/{id}/articleComments는 댓글 전체를 페이지 없이 읽으므로 노출하지 않는다. 댓글은 /api/articleComments/search/byArticleId로 페이지를 나눠서 조회
     @OneToMany(mappedBy = "article", cascade = CascadeType.ALL)  // 양방향 바인딩 연관관계의 주인. 실무에서는 양방향 관계를 일부러 풀어서 단방향으로 사용한다(양방향 관계는 서로 강하게 결합이 되어 있어서 데이터 마이그레이션이나 편집을 할 때 불편함이 크다. 원치 않은 데이터 손실이 일어날 수도 있고.)
     private final Set<ArticleComment> articleComments = new HashSet<>();  // 게시글에 달린 댓글들. 연관관계 처리
 
@@ -11,6 +11,7 @@ import java.util.Objects;
 @ToString(callSuper = true)
 @Table(indexes = {
         @Index(columnList = "content"),
+        @Index(columnList = "article_id, createdAt, id"),  // 게시글 상세 페이지의 댓글 키셋 페이지네이션용
         @Index(columnList = "createdAt"),
         @Index(columnList = "createdBy")
 })
@@ -18,7 +19,8 @@ import java.util.Objects;
 public class ArticleComment extends AuditingFields {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "article_comment_seq")
+    @SequenceGenerator(name = "article_comment_seq", sequenceName = "article_comment_seq", allocationSize = 50)
     private Long id;
 
     @Setter
@@ -0,0 +1,59 @@
+package com.example.board.domain;
+
+import lombok.Getter;
+import lombok.ToString;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import java.util.Objects;
+
+/**
+ * 게시글 일괄 가져오기 작업의 진행 상황. 각 묶음(chunk)과 같은 트랜잭션에서 갱신되므로, 커밋된 줄까지만 기록된다.
+ */
+@Getter
+@ToString(callSuper = true)
+@Entity
+public class ArticleImportCheckpoint extends AuditingFields {
+
+    @Id
+    @Column(length = 100)
+    private String jobId;
+
+    private long committedLines;  // 처리를 마친 입력 줄 수. 다시 가져올 때는 이 줄 다음부터 읽는다.
+    private long importedArticles;
+    private long importedComments;
+    private long skippedLines;  // 형식이 잘못되었거나 작성자를 찾을 수 없어서 건너뛴 줄 수
+
+
+    protected ArticleImportCheckpoint() {
+    }
+
+    private ArticleImportCheckpoint(String jobId) {
+        this.jobId = jobId;
+    }
+
+    public static ArticleImportCheckpoint of(String jobId) {
+        return new ArticleImportCheckpoint(jobId);
+    }
+
+    public void advance(long committedLines, long importedArticles, long importedComments, long skippedLines) {
+        this.committedLines = committedLines;
+        this.importedArticles += importedArticles;
+        this.importedComments += importedComments;
+        this.skippedLines += skippedLines;
+    }
+
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof ArticleImportCheckpoint that)) return false;
+        return this.getJobId() != null && Objects.equals(this.getJobId(), that.getJobId());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.getJobId());
+    }
+}
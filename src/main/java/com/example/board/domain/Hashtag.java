@@ -3,6 +3,9 @@ package com.example.board.domain;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.springframework.data.rest.core.annotation.RestResource;
 
 import javax.persistence.*;
 import java.util.LinkedHashSet;
@@ -16,14 +19,17 @@ import java.util.Set;
         @Index(columnList = "createdAt"),
         @Index(columnList = "createdBy")
 })
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "hashtag")
 @Entity
 public class Hashtag extends AuditingFields {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "hashtag_seq")
+    @SequenceGenerator(name = "hashtag_seq", sequenceName = "hashtag_seq", allocationSize = 50)
     private Long id;
 
     @ToString.Exclude  // 순환 참조로 인한 stack overflow 방지를 위해 toString()에서 제외
+    @RestResource(exported = false)  // /api/hashtags/{id}/articles는 해시태그의 게시글 전체를 페이지 없이 읽으므로 노출하지 않는다.
     @ManyToMany(mappedBy = "hashtags")
     private Set<Article> articles = new LinkedHashSet<>();
 
@@ -1,8 +1,11 @@
 package com.example.board.domain;
 
+import com.example.board.service.search.UserAccountSearchIndexListener;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import javax.persistence.*;
 import java.util.Objects;
@@ -14,6 +17,8 @@ import java.util.Objects;
         @Index(columnList = "createdAt"),
         @Index(columnList = "createdBy")
 })
+@EntityListeners(UserAccountSearchIndexListener.class)  // 사용자 ID, 닉네임 검색 색인 갱신
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "userAccount")  // 로그인(UserDetailsService)과 게시글 작성자 조회가 캐시를 탄다.
 @Entity
 public class UserAccount extends AuditingFields {
 
@@ -0,0 +1,15 @@
+package com.example.board.domain.constant;
+
+import lombok.Getter;
+
+@Getter
+public enum CursorDirection {
+    NEXT("다음"),  // 커서보다 오래된(createdAt이 작은) 게시글 방향
+    PREVIOUS("이전");  // 커서보다 최신인(createdAt이 큰) 게시글 방향
+
+    private final String description;
+
+    CursorDirection(String description) {
+        this.description = description;
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.board.domain.constant;
+
+import lombok.Getter;
+
+@Getter
+public enum ExportFormat {
+    JSONL("application/x-ndjson", "jsonl"),  // 한 줄에 게시글 하나(해시태그, 댓글 포함). 게시글 일괄 가져오기 입력으로 그대로 쓸 수 있다.
+    CSV("text/csv", "csv");  // 게시글 row 뒤에 그 게시글의 댓글 row가 이어진다.
+
+    private final String contentType;
+    private final String fileExtension;
+
+    ExportFormat(String contentType, String fileExtension) {
+        this.contentType = contentType;
+        this.fileExtension = fileExtension;
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.board.dto;
+
+import com.example.board.domain.Article;
+import com.example.board.domain.ArticleComment;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 키셋(seek) 페이지네이션에 사용하는 커서.
+ * 게시글 목록과 댓글 목록의 정렬 기준인 (createdAt, id) 쌍을 담고 있으며, 클라이언트에게는 Base64로 인코딩 된 불투명(opaque) 문자열로만 노출한다.
+ * createdAt은 중복될 수 있으므로 PK인 id를 함께 사용해서 정렬 순서를 유일하게 만든다.
+ */
+public record ArticleCursor(LocalDateTime createdAt, Long id) {
+
+    private static final String DELIMITER = "|";
+
+    public static ArticleCursor of(LocalDateTime createdAt, Long id) {
+        return new ArticleCursor(createdAt, id);
+    }
+
+    public static ArticleCursor from(Article entity) {
+        return new ArticleCursor(entity.getCreatedAt(), entity.getId());
+    }
+
+    public static ArticleCursor from(ArticleDto dto) {
+        return new ArticleCursor(dto.createdAt(), dto.id());
+    }
+
+    public static ArticleCursor from(ArticleComment entity) {
+        return new ArticleCursor(entity.getCreatedAt(), entity.getId());
+    }
+
+    /**
+     * 인코딩 된 커서 문자열을 해석한다. 빈 문자열이나 null은 첫 페이지를 뜻하므로 null을 반환한다.
+     *
+     * @throws InvalidCursorException 형식이 올바르지 않은 커서인 경우
+     */
+    public static ArticleCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int delimiterIndex = decoded.lastIndexOf(DELIMITER);
+            return new ArticleCursor(
+                    LocalDateTime.parse(decoded.substring(0, delimiterIndex)),
+                    Long.parseLong(decoded.substring(delimiterIndex + 1))
+            );
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {  // NumberFormatException은 IllegalArgumentException의 하위 타입
+            throw new InvalidCursorException(cursor, e);
+        }
+    }
+
+    public String encode() {
+        String raw = createdAt + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.board.dto;
+
+import com.example.board.domain.Article;
+import com.example.board.domain.ArticleComment;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 게시글 내보내기의 한 건. 게시글과 해시태그 이름, 댓글을 담는다.
+ */
+public record ArticleExportDto(
+        Long id,
+        String userId,
+        String title,
+        String content,
+        Set<String> hashtagNames,
+        List<Comment> comments,
+        LocalDateTime createdAt,
+        LocalDateTime modifiedAt
+) {
+
+    public static ArticleExportDto of(Long id,
+                                      String userId,
+                                      String title,
+                                      String content,
+                                      Set<String> hashtagNames,
+                                      List<Comment> comments,
+                                      LocalDateTime createdAt,
+                                      LocalDateTime modifiedAt) {
+        return new ArticleExportDto(id, userId, title, content, hashtagNames, comments, createdAt, modifiedAt);
+    }
+
+    public static ArticleExportDto from(Article entity, Set<String> hashtagNames, List<ArticleComment> articleComments) {
+        return new ArticleExportDto(
+                entity.getId(),
+                entity.getUserAccount().getUserId(),
+                entity.getTitle(),
+                entity.getContent(),
+                hashtagNames,
+                articleComments.stream().map(Comment::from).toList(),
+                entity.getCreatedAt(),
+                entity.getModifiedAt()
+        );
+    }
+
+
+    public record Comment(Long id, String userId, String content, LocalDateTime createdAt) {
+
+        public static Comment of(Long id, String userId, String content, LocalDateTime createdAt) {
+            return new Comment(id, userId, content, createdAt);
+        }
+
+        public static Comment from(ArticleComment entity) {
+            return new Comment(
+                    entity.getId(),
+                    entity.getUserAccount().getUserId(),
+                    entity.getContent(),
+                    entity.getCreatedAt()
+            );
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.board.dto;
+
+import com.example.board.domain.ArticleImportCheckpoint;
+
+import java.time.LocalDateTime;
+
+public record ArticleImportCheckpointDto(
+        String jobId,
+        long committedLines,
+        long importedArticles,
+        long importedComments,
+        long skippedLines,
+        LocalDateTime createdAt,
+        String createdBy,
+        LocalDateTime modifiedAt,
+        String modifiedBy
+) {
+
+    public static ArticleImportCheckpointDto of(String jobId) {
+        return new ArticleImportCheckpointDto(jobId, 0, 0, 0, 0, null, null, null, null);
+    }
+
+    public static ArticleImportCheckpointDto of(String jobId,
+                                                long committedLines,
+                                                long importedArticles,
+                                                long importedComments,
+                                                long skippedLines,
+                                                LocalDateTime createdAt,
+                                                String createdBy,
+                                                LocalDateTime modifiedAt,
+                                                String modifiedBy) {
+        return new ArticleImportCheckpointDto(
+                jobId,
+                committedLines,
+                importedArticles,
+                importedComments,
+                skippedLines,
+                createdAt,
+                createdBy,
+                modifiedAt,
+                modifiedBy
+        );
+    }
+
+    public static ArticleImportCheckpointDto from(ArticleImportCheckpoint entity) {
+        return new ArticleImportCheckpointDto(
+                entity.getJobId(),
+                entity.getCommittedLines(),
+                entity.getImportedArticles(),
+                entity.getImportedComments(),
+                entity.getSkippedLines(),
+                entity.getCreatedAt(),
+                entity.getCreatedBy(),
+                entity.getModifiedAt(),
+                entity.getModifiedBy()
+        );
+    }
+}
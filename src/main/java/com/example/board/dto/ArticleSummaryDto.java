@@ -0,0 +1,47 @@
+package com.example.board.dto;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 게시글 목록 화면에 필요한 컬럼만 담은 DTO.
+ * 엔티티를 거치지 않고 QueryDSL 생성자 프로젝션으로 바로 만들어서, 목록에 쓰지 않는 본문(최대 10,000자)과 작성자 정보를 DB에서 가져오지 않는다.
+ */
+public record ArticleSummaryDto(
+        Long id,
+        String title,
+        Set<String> hashtagNames,
+        String userId,
+        String nickname,
+        LocalDateTime createdAt
+) {
+
+    /**
+     * QueryDSL 생성자 프로젝션용. 해시태그는 컬렉션이라 한 row에 담을 수 없으므로 따로 조회해서 {@link #withHashtagNames(Set)}로 채운다.
+     */
+    public ArticleSummaryDto(Long id, String title, String userId, String nickname, LocalDateTime createdAt) {
+        this(id, title, Set.of(), userId, nickname, createdAt);
+    }
+
+    public static ArticleSummaryDto of(Long id, String title, Set<String> hashtagNames, String userId, String nickname, LocalDateTime createdAt) {
+        return new ArticleSummaryDto(id, title, hashtagNames, userId, nickname, createdAt);
+    }
+
+    public static ArticleSummaryDto from(ArticleDto dto) {
+        return new ArticleSummaryDto(
+                dto.id(),
+                dto.title(),
+                dto.hashtagDtos().stream()
+                        .map(HashTagDto::hashtagName)
+                        .collect(Collectors.toUnmodifiableSet()),
+                dto.userAccountDto().userId(),
+                dto.userAccountDto().nickname(),
+                dto.createdAt()
+        );
+    }
+
+    public ArticleSummaryDto withHashtagNames(Set<String> hashtagNames) {
+        return new ArticleSummaryDto(id, title, hashtagNames, userId, nickname, createdAt);
+    }
+}
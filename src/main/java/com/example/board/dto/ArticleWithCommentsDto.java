@@ -3,6 +3,7 @@ package com.example.board.dto;
 import com.example.board.domain.Article;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.LinkedHashSet;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -45,6 +46,24 @@ public record ArticleWithCommentsDto(
                 modifiedBy);
     }
 
+    /**
+     * 게시글과 따로 조회한 댓글(한 페이지)을 합친다. 게시글의 댓글 컬렉션 전체를 읽지 않기 위해 사용한다.
+     */
+    public static ArticleWithCommentsDto from(ArticleDto dto, Collection<ArticleCommentDto> articleCommentDtos) {
+        return new ArticleWithCommentsDto(
+                dto.id(),
+                dto.userAccountDto(),
+                new LinkedHashSet<>(articleCommentDtos),
+                dto.title(),
+                dto.content(),
+                dto.hashtagDtos(),
+                dto.createdAt(),
+                dto.createdBy(),
+                dto.modifiedAt(),
+                dto.modifiedBy()
+        );
+    }
+
     public static ArticleWithCommentsDto from(Article entity) {
         return new ArticleWithCommentsDto(
                 entity.getId(),
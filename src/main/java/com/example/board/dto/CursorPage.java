@@ -0,0 +1,50 @@
+package com.example.board.dto;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 키셋 페이지네이션 결과.
+ * 전체 개수(count 쿼리)를 알 필요 없이 앞/뒤 페이지로 이동할 수 있는 커서만 들고 있다.
+ * 뷰에서 th:each로 바로 순회할 수 있도록 Iterable을 구현한다.
+ */
+public record CursorPage<T>(
+        List<T> content,
+        String previousCursor,
+        String nextCursor
+) implements Iterable<T> {
+
+    public static <T> CursorPage<T> of(List<T> content, String previousCursor, String nextCursor) {
+        return new CursorPage<>(content, previousCursor, nextCursor);
+    }
+
+    public static <T> CursorPage<T> empty() {
+        return new CursorPage<>(List.of(), null, null);
+    }
+
+    public boolean hasPrevious() {
+        return previousCursor != null;
+    }
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+
+    public boolean isEmpty() {
+        return content.isEmpty();
+    }
+
+    public <U> CursorPage<U> map(Function<? super T, ? extends U> converter) {
+        return new CursorPage<>(
+                content.stream().<U>map(converter).toList(),
+                previousCursor,
+                nextCursor
+        );
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return content.iterator();
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.board.dto;
+
+/**
+ * 커서 기반 페이지네이션 바.
+ * 전체 페이지 수를 모르기 때문에 페이지 번호 대신 처음/이전/다음 이동 정보만 가진다.
+ */
+public record CursorPaginationBar(
+        boolean first,  // 현재 페이지가 첫 페이지인지 여부
+        String previousCursor,
+        String nextCursor
+) {
+
+    public static CursorPaginationBar of(boolean first, String previousCursor, String nextCursor) {
+        return new CursorPaginationBar(first, previousCursor, nextCursor);
+    }
+
+    public boolean hasPrevious() {
+        return previousCursor != null;
+    }
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.board.dto;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * 해시태그 검색 조건. 검색어를 공백으로 나눈 해시태그마다 앞에 붙은 기호로 조건을 정한다. ('#'은 붙여도 되고 빼도 된다.)
+ * <ul>
+ *     <li>'+java': 반드시 달려 있어야 하는 해시태그 (AND)</li>
+ *     <li>'java': 이 중 하나 이상 달려 있어야 하는 해시태그 (OR)</li>
+ *     <li>'-java': 달려 있으면 안 되는 해시태그 (NOT)</li>
+ * </ul>
+ * 예를 들어 'spring boot -legacy'는 spring이나 boot가 달렸고 legacy는 달리지 않은 게시글, '+spring +jpa'는 spring과 jpa가 모두 달린 게시글이다.
+ * 반드시/하나 이상 조건이 없으면(제외 조건만 있으면) 아무 게시글도 찾지 않는다.
+ */
+public record HashtagQuery(Set<String> allOf, Set<String> anyOf, Set<String> noneOf) {
+
+    public static HashtagQuery of(Collection<String> allOf, Collection<String> anyOf, Collection<String> noneOf) {
+        return new HashtagQuery(Set.copyOf(allOf), Set.copyOf(anyOf), Set.copyOf(noneOf));
+    }
+
+    /**
+     * 해시태그 중 하나 이상 달린 게시글을 찾는 조건
+     */
+    public static HashtagQuery anyOf(Collection<String> hashtagNames) {
+        return of(Set.of(), hashtagNames, Set.of());
+    }
+
+    public static HashtagQuery parse(String searchKeyword) {
+        Set<String> allOf = new LinkedHashSet<>();
+        Set<String> anyOf = new LinkedHashSet<>();
+        Set<String> noneOf = new LinkedHashSet<>();
+        if (searchKeyword == null) {
+            return of(allOf, anyOf, noneOf);
+        }
+
+        for (String term : searchKeyword.trim().split("\\s+")) {
+            Set<String> target = switch (term.isEmpty() ? ' ' : term.charAt(0)) {
+                case '+' -> allOf;
+                case '-' -> noneOf;
+                default -> anyOf;
+            };
+            String hashtagName = stripPrefix(target == anyOf ? term : term.substring(1));
+            if (!hashtagName.isEmpty()) {
+                target.add(hashtagName);
+            }
+        }
+
+        return of(allOf, anyOf, noneOf);
+    }
+
+    /**
+     * @return 찾을 게시글이 없는 조건인지. (반드시/하나 이상 조건이 없는 경우)
+     */
+    public boolean isEmpty() {
+        return allOf.isEmpty() && anyOf.isEmpty();
+    }
+
+
+    private static String stripPrefix(String term) {
+        return term.startsWith("#") ? term.substring(1) : term;
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.board.dto;
+
+/**
+ * 클라이언트가 보낸 커서 문자열을 {@link ArticleCursor}로 해석할 수 없을 때 던진다.
+ * 컨트롤러는 이 예외만 잘못된 요청(400)으로 응답하고, 다른 IllegalArgumentException은 그대로 서버 오류로 남긴다.
+ */
+public class InvalidCursorException extends IllegalArgumentException {
+
+    public InvalidCursorException(String cursor, Throwable cause) {
+        super("잘못된 커서입니다 - cursor: " + cursor, cause);
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.board.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * @param query 실행한 SQL. statement batch로 여러 SQL을 한 번에 실행했으면 ';'로 이어 붙인다.
+ * @param parameters 바인딩 파라미터. PreparedStatement batch면 batch 한 건마다 목록이 하나씩 있다.
+ */
+public record SlowQueryDto(
+        LocalDateTime executedAt,
+        long elapsedMillis,
+        String query,
+        List<List<String>> parameters
+) {
+
+    public static SlowQueryDto of(LocalDateTime executedAt, long elapsedMillis, String query, List<List<String>> parameters) {
+        return new SlowQueryDto(executedAt, elapsedMillis, query, parameters);
+    }
+}
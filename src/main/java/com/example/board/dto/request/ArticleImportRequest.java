@@ -0,0 +1,78 @@
+package com.example.board.dto.request;
+
+import com.example.board.dto.ArticleCommentDto;
+import com.example.board.dto.ArticleDto;
+import com.example.board.dto.HashTagDto;
+import com.example.board.dto.UserAccountDto;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 게시글 일괄 가져오기 입력(JSON Lines)의 한 줄. 게시글 하나와 그 게시글의 해시태그, 댓글을 담는다.
+ * <pre>
+ * {"userId":"sol","title":"제목","content":"본문 #java","hashtags":["spring"],"comments":[{"userId":"sol2","content":"댓글"}]}
+ * </pre>
+ *
+ * @param hashtags 본문의 해시태그 외에 더 붙일 해시태그 이름('#'은 있어도 없어도 된다). 없으면 null
+ * @param comments 없으면 null
+ */
+public record ArticleImportRequest(
+        String userId,
+        String title,
+        String content,
+        List<String> hashtags,
+        List<Comment> comments
+) {
+
+    public static ArticleImportRequest of(String userId, String title, String content, List<String> hashtags, List<Comment> comments) {
+        return new ArticleImportRequest(userId, title, content, hashtags, comments);
+    }
+
+    public boolean isValid() {
+        return userId != null && !userId.isBlank()
+                && title != null && !title.isBlank()
+                && content != null && !content.isBlank();
+    }
+
+    public List<Comment> getCommentsOrEmpty() {
+        return comments == null ? List.of() : comments;
+    }
+
+    public ArticleDto toDto(UserAccountDto userAccountDto) {
+        Set<HashTagDto> hashtagDtos = new LinkedHashSet<>();
+        if (hashtags != null) {
+            hashtags.stream()
+                    .filter(Objects::nonNull)
+                    .map(hashtag -> hashtag.strip().replaceFirst("^#", ""))
+                    .filter(hashtagName -> !hashtagName.isEmpty())
+                    .forEach(hashtagName -> hashtagDtos.add(HashTagDto.of(hashtagName)));
+        }
+
+        return ArticleDto.of(
+                userAccountDto,
+                title,
+                content,
+                hashtagDtos
+        );
+    }
+
+
+    public record Comment(String userId, String content) {
+
+        public static Comment of(String userId, String content) {
+            return new Comment(userId, content);
+        }
+
+        public boolean isValid() {
+            return userId != null && !userId.isBlank()
+                    && content != null && !content.isBlank();
+        }
+
+        public ArticleCommentDto toDto(Long articleId, UserAccountDto userAccountDto) {
+            return ArticleCommentDto.of(articleId, userAccountDto, content);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.board.dto.response;
+
+import com.example.board.dto.ArticleImportCheckpointDto;
+
+import java.time.LocalDateTime;
+
+public record ArticleImportResponse(
+        String jobId,
+        long committedLines,
+        long importedArticles,
+        long importedComments,
+        long skippedLines,
+        LocalDateTime startedAt,
+        LocalDateTime modifiedAt
+) {
+
+    public static ArticleImportResponse of(
+            String jobId,
+            long committedLines,
+            long importedArticles,
+            long importedComments,
+            long skippedLines,
+            LocalDateTime startedAt,
+            LocalDateTime modifiedAt
+    ) {
+        return new ArticleImportResponse(jobId, committedLines, importedArticles, importedComments, skippedLines, startedAt, modifiedAt);
+    }
+
+    public static ArticleImportResponse from(ArticleImportCheckpointDto dto) {
+        return new ArticleImportResponse(
+                dto.jobId(),
+                dto.committedLines(),
+                dto.importedArticles(),
+                dto.importedComments(),
+                dto.skippedLines(),
+                dto.createdAt(),
+                dto.modifiedAt()
+        );
+    }
+}
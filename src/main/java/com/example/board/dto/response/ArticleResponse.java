@@ -1,6 +1,7 @@
 package com.example.board.dto.response;
 
 import com.example.board.dto.ArticleDto;
+import com.example.board.dto.ArticleSummaryDto;
 import com.example.board.dto.HashTagDto;
 
 import java.time.LocalDateTime;
@@ -45,4 +46,22 @@ public record ArticleResponse(
                 dto.createdAt()
         );
     }
+
+    // 목록 화면용. 목록에 쓰지 않는 본문과 이메일은 비어 있다.
+    public static ArticleResponse from(ArticleSummaryDto dto) {
+        String nickname = dto.nickname();
+        if (nickname == null || nickname.isBlank()) {
+            nickname = dto.userId();
+        }
+
+        return new ArticleResponse(
+                dto.id(),
+                dto.title(),
+                null,
+                dto.hashtagNames(),
+                null,
+                nickname,
+                dto.createdAt()
+        );
+    }
 }
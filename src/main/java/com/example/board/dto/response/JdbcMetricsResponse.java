@@ -0,0 +1,36 @@
+package com.example.board.dto.response;
+
+import com.example.board.dto.SlowQueryDto;
+
+import java.util.List;
+
+/**
+ * /actuator/jdbc 응답. 시간은 모두 밀리초이고, max는 최근 몇 분 사이의 최댓값이다.
+ *
+ * @param repositoryMethods 저장소 메서드별 호출 시간. 총 시간이 긴 것부터
+ * @param requests 요청 경로별 쿼리 수. 요청당 평균 쿼리 수가 많은 것부터
+ * @param connectionPools 커넥션 풀별 커넥션 대기 시간과 현재 상태
+ * @param slowQueries 최근 느린 쿼리. 최근 것부터
+ */
+public record JdbcMetricsResponse(
+        List<RepositoryMethod> repositoryMethods,
+        List<RequestQueries> requests,
+        List<ConnectionPool> connectionPools,
+        List<SlowQueryDto> slowQueries
+) {
+
+    public static JdbcMetricsResponse of(
+            List<RepositoryMethod> repositoryMethods,
+            List<RequestQueries> requests,
+            List<ConnectionPool> connectionPools,
+            List<SlowQueryDto> slowQueries
+    ) {
+        return new JdbcMetricsResponse(repositoryMethods, requests, connectionPools, slowQueries);
+    }
+
+    public record RepositoryMethod(String repository, String method, long count, double totalMillis, double meanMillis, double maxMillis) {}
+
+    public record RequestQueries(String method, String uri, long requestCount, double meanQueries, double maxQueries, double meanQueryMillis) {}
+
+    public record ConnectionPool(String pool, long acquireCount, double acquireMeanMillis, double acquireMaxMillis, double active, double idle, double pending) {}
+}
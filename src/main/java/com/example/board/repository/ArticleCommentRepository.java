@@ -2,24 +2,47 @@ package com.example.board.repository;
 
 import com.example.board.domain.ArticleComment;
 import com.example.board.domain.QArticleComment;
+import com.example.board.repository.projection.ArticleCommentExcerpt;
+import com.example.board.repository.querydsl.ArticleCommentRepositoryCustom;
 import com.querydsl.core.types.dsl.DateTimeExpression;
 import com.querydsl.core.types.dsl.StringExpression;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.querydsl.QuerydslPredicateExecutor;
 import org.springframework.data.querydsl.binding.QuerydslBinderCustomizer;
 import org.springframework.data.querydsl.binding.QuerydslBindings;
+import org.springframework.data.repository.query.Param;
 import org.springframework.data.rest.core.annotation.RepositoryRestResource;
+import org.springframework.data.rest.core.annotation.RestResource;
 
 import java.util.List;
 
-@RepositoryRestResource
+@RepositoryRestResource(excerptProjection = ArticleCommentExcerpt.class)
 public interface ArticleCommentRepository extends
         JpaRepository<ArticleComment, Long>,
+        ArticleCommentRepositoryCustom,
         QuerydslPredicateExecutor<ArticleComment>,
         QuerydslBinderCustomizer<QArticleComment> {
 
+    @RestResource(exported = false)  // 페이징 없이 게시글의 댓글을 모두 조회하므로 Data REST로는 노출하지 않는다.
     List<ArticleComment> findByArticle_Id(Long articleId);  // Article_Id의 _는 Article의 요소로 들어간다는 뜻. 즉, 댓글에 있는 요소로 검색한 것이 아니라 게시글의 id로 댓글을 검색한 것.
 
+    /**
+     * 게시글의 댓글 페이지. GET /api/articleComments/search/byArticleId?articleId={게시글 id}&page=0&size=20
+     * 페이지 없이 댓글 전체를 읽던 /api/articles/{id}/articleComments 대신 쓴다. 페이지 크기는 spring.data.rest.max-page-size로 제한된다.
+     */
+    @RestResource(path = "byArticleId", rel = "byArticleId")
+    Page<ArticleComment> findByArticle_IdOrderByCreatedAtAscIdAsc(@Param("articleId") Long articleId, Pageable pageable);
+
+    /**
+     * id 기준 키셋 페이지네이션. GET /api/articleComments/search/after?id={앞 페이지의 마지막 id}&size=20 (첫 페이지는 id=0)
+     */
+    @RestResource(path = "after", rel = "after")
+    Slice<ArticleComment> findByIdGreaterThanOrderByIdAsc(@Param("id") Long id, Pageable pageable);
+
+    @RestResource(exported = false)
     void deleteByIdAndUserAccount_UserId(Long articleCommentId, String userId);
 
     @Override
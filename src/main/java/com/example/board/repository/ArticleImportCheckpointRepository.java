@@ -0,0 +1,7 @@
+package com.example.board.repository;
+
+import com.example.board.domain.ArticleImportCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface ArticleImportCheckpointRepository extends JpaRepository<ArticleImportCheckpoint, String> {
+}
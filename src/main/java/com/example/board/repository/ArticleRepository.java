@@ -2,18 +2,24 @@ package com.example.board.repository;
 
 import com.example.board.domain.Article;
 import com.example.board.domain.QArticle;
+import com.example.board.repository.projection.ArticleExcerpt;
 import com.example.board.repository.querydsl.ArticleRepositoryCustom;
 import com.querydsl.core.types.dsl.DateTimeExpression;
 import com.querydsl.core.types.dsl.StringExpression;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.querydsl.QuerydslPredicateExecutor;
 import org.springframework.data.querydsl.binding.QuerydslBinderCustomizer;
 import org.springframework.data.querydsl.binding.QuerydslBindings;
+import org.springframework.data.repository.query.Param;
 import org.springframework.data.rest.core.annotation.RepositoryRestResource;
+import org.springframework.data.rest.core.annotation.RestResource;
 
-@RepositoryRestResource
+
+@RepositoryRestResource(excerptProjection = ArticleExcerpt.class)  // 컬렉션 응답은 목록 컬럼만 담는다.
 public interface ArticleRepository extends
         JpaRepository<Article, Long>,
         ArticleRepositoryCustom, // QuerydslRepositorySupport를 상속받은 클래스를 사용하기 위해 추가
@@ -22,11 +28,29 @@ public interface ArticleRepository extends
 
     // JPA의 네임드 쿼리에선 원래는 Containing에 IgnoreCase를 붙여줘야 대소문자를 구분하지 않고 조회해오는데 현재 사용중인 MySQL 특성 상 DB에서 대소문자를 구분하지 않고 조회하기 때문에 IgnoreCase를 붙여주지 않아도 대소문자를 구분하지 않고 검색 작동한다.
     // (대부분의 RDBMS는 기본적으로 대소문자를 구분하지 않는 검색을 수행한다. 다만 애플리케이션에서 해당 검색이 어떻게 작동하는지 의도를 알리기 위해 명시해주는 것이 좋다.)
+    // 목록 화면용 검색 쿼리는 작성자를 join으로 함께 가져온다. like 검색에 count 쿼리까지 실행하므로 Data REST의 search 리소스로는 노출하지 않는다. 해시태그는 컬렉션이라 페이징 쿼리에 fetch join할 수 없으므로 default_batch_fetch_size로 한 번에 가져온다.
+    @RestResource(exported = false)
+    @EntityGraph(attributePaths = "userAccount")
     Page<Article> findByTitleContaining(String title, Pageable pageable);  // containing은 like '%${}%'와 같다.
+    @RestResource(exported = false)
+    @EntityGraph(attributePaths = "userAccount")
     Page<Article> findByContentContaining(String content, Pageable pageable);
+    @RestResource(exported = false)
+    @EntityGraph(attributePaths = "userAccount")
     Page<Article> findByUserAccount_UserIdContaining(String userId, Pageable pageable);
+    @RestResource(exported = false)
+    @EntityGraph(attributePaths = "userAccount")
     Page<Article> findByUserAccount_NicknameContaining(String nickname, Pageable pageable);
 
+    /**
+     * id 기준 키셋 페이지네이션. offset 없이 id 인덱스를 커서 위치부터 읽고, count 쿼리도 실행하지 않는다.
+     * GET /api/articles/search/after?id={앞 페이지의 마지막 id}&size=20 (첫 페이지는 id=0)
+     */
+    @RestResource(path = "after", rel = "after")
+    @EntityGraph(attributePaths = "userAccount")
+    Slice<Article> findByIdGreaterThanOrderByIdAsc(@Param("id") Long id, Pageable pageable);
+
+    @RestResource(exported = false)
     void deleteByIdAndUserAccount_UserId(Long articleId, String userId);
 
     @Override
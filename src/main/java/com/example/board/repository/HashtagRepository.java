@@ -1,19 +1,40 @@
 package com.example.board.repository;
 
 import com.example.board.domain.Hashtag;
+import com.example.board.domain.QHashtag;
+import com.example.board.repository.projection.HashtagExcerpt;
 import com.example.board.repository.querydsl.HashtagRepositoryCustom;
+import com.querydsl.core.types.dsl.DateTimeExpression;
+import com.querydsl.core.types.dsl.StringExpression;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.querydsl.QuerydslPredicateExecutor;
+import org.springframework.data.querydsl.binding.QuerydslBinderCustomizer;
+import org.springframework.data.querydsl.binding.QuerydslBindings;
 import org.springframework.data.rest.core.annotation.RepositoryRestResource;
+import org.springframework.data.rest.core.annotation.RestResource;
 
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
-@RepositoryRestResource
-public interface HashtagRepository extends JpaRepository<Hashtag, Long>, HashtagRepositoryCustom, QuerydslPredicateExecutor<Hashtag> {
+@RepositoryRestResource(excerptProjection = HashtagExcerpt.class)
+public interface HashtagRepository extends
+        JpaRepository<Hashtag, Long>,
+        HashtagRepositoryCustom,
+        QuerydslPredicateExecutor<Hashtag>,
+        QuerydslBinderCustomizer<QHashtag> {
 
     Optional<Hashtag> findByHashtagName(String hashtagName);
 
+    @RestResource(exported = false)  // 이름 개수만큼 in 조건이 늘어나므로 Data REST로는 노출하지 않는다.
     List<Hashtag> findByHashtagNameIn(Set<String> hashtagNames);
+
+    @Override
+    default void customize(QuerydslBindings bindings, QHashtag root) {
+        bindings.excludeUnlistedProperties(true);  // 게시글 컬렉션(articles) 등으로 검색하지 못하게 한다.
+        bindings.including(root.hashtagName, root.createdAt, root.createdBy);
+        bindings.bind(root.hashtagName).first(StringExpression::containsIgnoreCase);
+        bindings.bind(root.createdAt).first(DateTimeExpression::eq);
+        bindings.bind(root.createdBy).first(StringExpression::containsIgnoreCase);
+    }
 }
@@ -0,0 +1,26 @@
+package com.example.board.repository.projection;
+
+import com.example.board.domain.ArticleComment;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.rest.core.config.Projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * Data REST 댓글 컬렉션(/api/articleComments)의 한 건. 게시글은 통째로 담지 않고 id만 담는다.
+ */
+@Projection(name = "excerpt", types = ArticleComment.class)
+public interface ArticleCommentExcerpt {
+
+    Long getId();
+
+    @Value("#{target.article.id}")
+    Long getArticleId();
+
+    @Value("#{target.userAccount.userId}")
+    String getUserId();
+
+    String getContent();
+
+    LocalDateTime getCreatedAt();
+}
@@ -0,0 +1,24 @@
+package com.example.board.repository.projection;
+
+import com.example.board.domain.Article;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.rest.core.config.Projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * Data REST 게시글 컬렉션(/api/articles)의 한 건. 목록에 필요 없는 본문(최대 10,000자)과 해시태그, 댓글 링크는 담지 않는다.
+ * 전체 필드는 단건(/api/articles/{id})에서 조회한다.
+ */
+@Projection(name = "excerpt", types = Article.class)
+public interface ArticleExcerpt {
+
+    Long getId();
+
+    String getTitle();
+
+    @Value("#{target.userAccount.userId}")
+    String getUserId();
+
+    LocalDateTime getCreatedAt();
+}
@@ -0,0 +1,15 @@
+package com.example.board.repository.projection;
+
+import com.example.board.domain.Hashtag;
+import org.springframework.data.rest.core.config.Projection;
+
+/**
+ * Data REST 해시태그 컬렉션(/api/hashtags)의 한 건
+ */
+@Projection(name = "excerpt", types = Hashtag.class)
+public interface HashtagExcerpt {
+
+    Long getId();
+
+    String getHashtagName();
+}
@@ -0,0 +1,28 @@
+package com.example.board.repository.querydsl;
+
+import com.example.board.domain.ArticleComment;
+import org.springframework.data.rest.core.annotation.RestResource;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface ArticleCommentRepositoryCustom {
+
+    /**
+     * 게시글의 댓글을 (createdAt, id) 기준 키셋(seek) 페이지네이션으로 최신순 조회한다. 작성자는 fetch join으로 함께 가져온다.
+     * (articleId, createdAt, id) 인덱스를 커서 위치부터 읽기 때문에 댓글이 아무리 많아도 필요한 만큼만 읽는다.
+     *
+     * @param cursorCreatedAt 커서의 createdAt. null이면 가장 최신 댓글부터 조회한다.
+     * @param cursorId 커서의 id
+     * @param limit 조회할 최대 row 수
+     */
+    @RestResource(exported = false)
+    List<ArticleComment> findByArticleIdAndCursor(Long articleId, LocalDateTime cursorCreatedAt, Long cursorId, int limit);
+
+    /**
+     * 여러 게시글의 댓글을 작성자와 함께 한 번의 쿼리로 조회한다. 게시글 id, 댓글 id 순으로 정렬한다.
+     */
+    @RestResource(exported = false)
+    List<ArticleComment> findByArticleIdIn(Collection<Long> articleIds);
+}
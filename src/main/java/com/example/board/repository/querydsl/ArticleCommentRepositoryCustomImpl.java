@@ -0,0 +1,61 @@
+package com.example.board.repository.querydsl;
+
+import com.example.board.domain.ArticleComment;
+import com.example.board.domain.QArticleComment;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import org.springframework.data.jpa.repository.support.QuerydslRepositorySupport;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public class ArticleCommentRepositoryCustomImpl extends QuerydslRepositorySupport implements ArticleCommentRepositoryCustom {
+
+    public ArticleCommentRepositoryCustomImpl() {
+        super(ArticleComment.class);
+    }
+
+    @Override
+    public List<ArticleComment> findByArticleIdAndCursor(Long articleId, LocalDateTime cursorCreatedAt, Long cursorId, int limit) {
+        QArticleComment articleComment = QArticleComment.articleComment;
+
+        return from(articleComment)
+                .innerJoin(articleComment.userAccount).fetchJoin()
+                .where(
+                        articleComment.article.id.eq(articleId),
+                        cursorCondition(cursorCreatedAt, cursorId)
+                )
+                .orderBy(articleComment.createdAt.desc(), articleComment.id.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public List<ArticleComment> findByArticleIdIn(Collection<Long> articleIds) {
+        if (articleIds.isEmpty()) {
+            return List.of();
+        }
+
+        QArticleComment articleComment = QArticleComment.articleComment;
+
+        return from(articleComment)
+                .innerJoin(articleComment.userAccount).fetchJoin()
+                .where(articleComment.article.id.in(articleIds))
+                .orderBy(articleComment.article.id.asc(), articleComment.id.asc())
+                .fetch();
+    }
+
+
+    // (createdAt, id) < (:createdAt, :id) 형태의 row value 비교를 JPQL이 지원하지 않으므로 OR 조건으로 풀어서 작성
+    // OR 조건만으로는 (article_id, createdAt, id) 인덱스의 범위 시작점으로 쓰지 못하므로, 같은 뜻의 createdAt <= 조건을 앞에 붙인다.
+    private BooleanExpression cursorCondition(LocalDateTime cursorCreatedAt, Long cursorId) {
+        if (cursorCreatedAt == null || cursorId == null) {
+            return null;
+        }
+
+        QArticleComment articleComment = QArticleComment.articleComment;
+        return articleComment.createdAt.loe(cursorCreatedAt)
+                .and(articleComment.createdAt.lt(cursorCreatedAt)
+                        .or(articleComment.createdAt.eq(cursorCreatedAt).and(articleComment.id.lt(cursorId))));
+    }
+}
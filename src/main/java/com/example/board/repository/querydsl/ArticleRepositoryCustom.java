@@ -1,11 +1,21 @@
 package com.example.board.repository.querydsl;
 
 import com.example.board.domain.Article;
+import com.example.board.dto.ArticleSummaryDto;
+import com.example.board.dto.HashtagQuery;
+import com.example.board.domain.constant.CursorDirection;
+import com.example.board.domain.constant.SearchType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.rest.core.annotation.RestResource;
 
+import java.time.LocalDateTime;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.Set;
 
 public interface ArticleRepositoryCustom {
 
@@ -14,7 +24,167 @@ public interface ArticleRepositoryCustom {
      * @see HashtagRepositoryCustom findAllHashtagNames()
      */
     @Deprecated
+    @RestResource(exported = false)
     List<String> findAllDistinctHashtags();
 
+    /**
+     * 해시태그 중 하나 이상 달린 게시글을 조회한다. {@code findByHashtagQuery(HashtagQuery.anyOf(hashtagNames), pageable)}와 같다.
+     */
+    @RestResource(exported = false)
     Page<Article> findByHashtagNames(Collection<String> hashtagNames, Pageable pageable);
+
+    /**
+     * 해시태그 검색 조건(AND/OR/NOT)에 맞는 게시글을 조회한다.
+     * 해시태그 조건마다 exists 서브쿼리로 걸기 때문에, 여러 해시태그가 달린 게시글도 결과에 한 번만 나온다.
+     */
+    @RestResource(exported = false)
+    Page<Article> findByHashtagQuery(HashtagQuery hashtagQuery, Pageable pageable);
+
+    /**
+     * 해시태그 검색 조건에 맞는 게시글 중 한 페이지의 게시글 id만 조회한다. 게시글 수를 따로 알고 있을 때(해시태그 검색 색인) count 쿼리 없이 쓴다.
+     */
+    @RestResource(exported = false)
+    List<Long> findPageIdsByHashtagQuery(HashtagQuery hashtagQuery, Pageable pageable);
+
+    /**
+     * id 목록에 든 게시글 중 한 페이지의 게시글 id를 pageable의 정렬대로 조회한다. count 쿼리는 실행하지 않는다.
+     */
+    @RestResource(exported = false)
+    List<Long> findPageIdsByIdIn(Collection<Long> articleIds, Pageable pageable);
+
+    /**
+     * 검색 조건에 맞는 게시글 id 페이지. 게시글은 id로 따로 조회하므로 목록 화면은 엔티티 대신 목록 컬럼만 조회할 수 있다.
+     * 검색 조건이 없으면(searchType 또는 searchKeyword가 비어 있으면) 전체 게시글을 대상으로 한다.
+     */
+    @RestResource(exported = false)
+    Page<Long> findIdsBySearch(SearchType searchType, String searchKeyword, Pageable pageable);
+
+    /**
+     * 작성자들(사용자 검색 색인으로 찾은 사용자 ID)의 게시글 id 페이지
+     */
+    @RestResource(exported = false)
+    Page<Long> findIdsByUserIdIn(Collection<String> userIds, Pageable pageable);
+
+    /**
+     * 해시태그 하나가 달린 게시글 중 한 페이지를 최신순((createdAt, id) 내림차순)으로 조회한다. count 쿼리는 실행하지 않는다.
+     * article_hashtag의 (hashtagId, articleId) 인덱스로 게시글을 찾고 article을 join해서 정렬하므로, pageable의 정렬은 쓰지 않는다.
+     */
+    @RestResource(exported = false)
+    List<Article> findPageByHashtagId(Long hashtagId, Pageable pageable);
+
+    /**
+     * 해시태그 하나가 달린 게시글을 {@link #findByCursor}와 같은 (createdAt, id) 커서 기반으로 조회한다.
+     *
+     * @param cursorCreatedAt 커서의 createdAt. null이면 첫 페이지를 조회한다.
+     * @param cursorId 커서의 id
+     * @param direction NEXT면 커서보다 오래된 글을 최신순으로, PREVIOUS면 커서보다 최신인 글을 오래된 순으로 조회한다.
+     */
+    @RestResource(exported = false)
+    List<Article> findByHashtagIdAndCursor(
+            Long hashtagId,
+            LocalDateTime cursorCreatedAt,
+            Long cursorId,
+            CursorDirection direction,
+            int limit
+    );
+
+    /**
+     * 해시태그 하나가 달린 게시글 수. (hashtagId, articleId) 인덱스만 읽는다.
+     */
+    @RestResource(exported = false)
+    long countByHashtagId(Long hashtagId);
+
+    /**
+     * 게시글 목록 화면용 전체 조회. JpaRepository의 findAll(Pageable)을 대신한다.
+     * 페이지에 해당하는 id만 먼저 조회한 뒤, 그 id들의 게시글을 작성자, 해시태그와 함께 fetch join으로 한 번에 조회한다.
+     * 컬렉션(hashtags)을 fetch join하면서 limit/offset을 걸면 하이버네이트가 전체 row를 메모리에서 페이징하므로 두 단계로 나눈다.
+     */
+    Page<Article> findAll(Pageable pageable);
+
+    /**
+     * 게시글 목록 화면용 전체 조회. 엔티티 대신 목록 컬럼(id, 제목, 작성자 ID/닉네임, 작성일시)만 생성자 프로젝션으로 조회하고,
+     * 해시태그 이름은 페이지의 게시글 id로 한 번에 따로 조회해서 채운다.
+     */
+    @RestResource(exported = false)
+    Page<ArticleSummaryDto> findSummaries(Pageable pageable);
+
+    /**
+     * {@link #findSummaries}와 같은 목록 컬럼을 count 쿼리 없이 Slice로 조회한다.
+     */
+    @RestResource(exported = false)
+    Slice<ArticleSummaryDto> findSummarySlice(Pageable pageable);
+
+    /**
+     * id 목록의 순서대로 목록 컬럼만 조회한다. 검색 엔진이나 검색 결과 캐시가 준 id 목록을 목록 화면용 DTO로 바꿀 때 사용한다.
+     * 그 사이 삭제되어 DB에 없는 id는 결과에서 빠진다.
+     */
+    @RestResource(exported = false)
+    List<ArticleSummaryDto> findSummariesByIdInOrder(List<Long> articleIds);
+
+    /**
+     * id 목록의 순서대로 게시글을 작성자, 해시태그와 함께 조회한다. 검색 엔진이 관련도 순으로 정렬한 id 목록을 엔티티로 바꿀 때도 사용한다.
+     * 그 사이 삭제되어 DB에 없는 id는 결과에서 빠진다.
+     */
+    @RestResource(exported = false)
+    List<Article> findAllByIdInOrder(List<Long> articleIds);
+
+    /**
+     * {@link #findAllByIdInOrder}와 같지만, 2차 캐시(article 영역)에 있는 게시글은 DB 대신 캐시에서 꺼내고 캐시에 없는 게시글만 한 번에 조회한다.
+     * 작성자와 해시태그도 각자의 2차 캐시 영역에서 채워진다. 검색 결과 캐시에 담아둔 id 목록을 엔티티로 바꿀 때 사용한다.
+     */
+    @RestResource(exported = false)
+    List<Article> findAllByIdInOrderUsingCache(List<Long> articleIds);
+
+    /**
+     * 게시글 id들의 해시태그 이름을 한 번의 쿼리로 조회한다.
+     *
+     * @return 게시글 id -> 해시태그 이름. 해시태그가 없는 게시글은 포함되지 않는다.
+     */
+    @RestResource(exported = false)
+    Map<Long, Set<String>> findHashtagNamesByArticleIds(Collection<Long> articleIds);
+
+    /**
+     * (createdAt, id) 기준 키셋(seek) 페이지네이션으로 게시글을 조회한다.
+     * offset으로 앞쪽 row를 읽고 버리는 대신 커서 위치부터 createdAt 인덱스를 타고 바로 읽기 때문에, 몇 번째 페이지든 비용이 동일하다.
+     *
+     * @param cursorCreatedAt 커서의 createdAt. null이면 첫 페이지를 조회한다.
+     * @param cursorId 커서의 id
+     * @param direction NEXT면 커서보다 오래된 글을 최신순으로, PREVIOUS면 커서보다 최신인 글을 오래된 순으로 조회한다.
+     * @param limit 조회할 최대 row 수
+     */
+    @RestResource(exported = false)
+    List<Article> findByCursor(
+            SearchType searchType,
+            String searchKeyword,
+            LocalDateTime cursorCreatedAt,
+            Long cursorId,
+            CursorDirection direction,
+            int limit
+    );
+
+    /**
+     * count 쿼리 없이 검색 조건에 맞는 게시글을 Slice로 조회한다.
+     * 페이지 크기보다 한 건을 더 조회해서 다음 페이지가 있는지만 판단하기 때문에 테이블 크기와 상관 없이 조회 비용이 일정하다.
+     * 검색 조건이 없으면(searchType 또는 searchKeyword가 비어 있으면) 전체 게시글을 대상으로 한다.
+     */
+    @RestResource(exported = false)
+    Slice<Article> findSliceBySearch(SearchType searchType, String searchKeyword, Pageable pageable);
+
+    /**
+     * 현재 트랜잭션에서 대량으로 저장하는 게시글이 2차 캐시를 거치지 않게 한다. 세션의 CacheMode를 IGNORE로 바꿔서 새 게시글로 article 영역을 채우지 않고,
+     * 커밋된 뒤에는 해시태그 컬렉션 영역(articleHashtags)을 한 번 비운다.
+     * 하이버네이트는 CacheMode와 상관 없이 저장하는 게시글마다 해시태그 컬렉션 캐시 항목을 잠그고, 잠금을 푼 항목도 만료될 때까지 영역에 남긴다.
+     * 묶음마다 비우지 않으면 쌓인 잠금 항목이 영역 크기를 넘겨서, 다음 묶음의 잠금이 풀리기 전에 밀려난다.
+     */
+    @RestResource(exported = false)
+    void bypassSecondLevelCacheForBulkInsert();
+
+    /**
+     * 검색 조건에 맞는 게시글 수를 DB 통계로 추정한다. count(*)를 실행하지 않으므로 정확하지 않을 수 있다.
+     * 검색 조건이 없으면 pg_class.reltuples를, 있으면 EXPLAIN이 추정한 row 수를 사용한다.
+     *
+     * @return 추정 게시글 수. PostgreSQL이 아니거나 통계가 아직 수집되지 않았으면 빈 값
+     */
+    @RestResource(exported = false)
+    OptionalLong estimateCount(SearchType searchType, String searchKeyword);
 }
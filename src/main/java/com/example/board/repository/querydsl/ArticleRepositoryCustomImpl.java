@@ -3,17 +3,50 @@ package com.example.board.repository.querydsl;
 import com.example.board.domain.Article;
 import com.example.board.domain.QArticle;
 import com.example.board.domain.QHashtag;
+import com.example.board.domain.constant.CursorDirection;
+import com.example.board.domain.constant.SearchType;
+import com.example.board.dto.ArticleSummaryDto;
+import com.example.board.dto.HashtagQuery;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.Expressions;
 import com.querydsl.jpa.JPQLQuery;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.jpa.repository.support.QuerydslRepositorySupport;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import javax.persistence.Cache;
+import javax.persistence.Query;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
 public class ArticleRepositoryCustomImpl extends QuerydslRepositorySupport implements ArticleRepositoryCustom {
 
+    private static final Pattern EXPLAIN_ROWS_PATTERN = Pattern.compile("rows=(\\d+)");
+    private static final String ARTICLE_HASHTAGS_ROLE = Article.class.getName() + ".hashtags";  // 해시태그 컬렉션 캐시(articleHashtags 영역)의 컬렉션 role
+
+    private Boolean postgreSql;  // 연결된 DB가 PostgreSQL인지 여부. 처음 조회할 때 한 번만 확인한다.
+
     public ArticleRepositoryCustomImpl() {
         super(Article.class);
     }
@@ -30,14 +63,447 @@ public class ArticleRepositoryCustomImpl extends QuerydslRepositorySupport imple
 
     @Override
     public Page<Article> findByHashtagNames(Collection<String> hashtagNames, Pageable pageable) {
-        QHashtag hashtag = QHashtag.hashtag;
+        return findByHashtagQuery(HashtagQuery.anyOf(hashtagNames == null ? List.of() : hashtagNames), pageable);
+    }
+
+    @Override
+    public Page<Article> findByHashtagQuery(HashtagQuery hashtagQuery, Pageable pageable) {
+        if (hashtagQuery.isEmpty()) {
+            return Page.empty(pageable);
+        }
+
+        QArticle article = QArticle.article;
+        return PageableExecutionUtils.getPage(
+                findAllByIdInOrder(findPageIdsByHashtagQuery(hashtagQuery, pageable)),
+                pageable,
+                () -> from(article).where(hashtagCondition(hashtagQuery)).fetchCount()
+        );
+    }
+
+    @Override
+    public List<Long> findPageIdsByHashtagQuery(HashtagQuery hashtagQuery, Pageable pageable) {
+        if (hashtagQuery.isEmpty()) {
+            return List.of();
+        }
+
+        QArticle article = QArticle.article;
+        JPQLQuery<Long> query = from(article)
+                .select(article.id)
+                .where(hashtagCondition(hashtagQuery));
+
+        return getQuerydsl().applyPagination(pageable, query).fetch();
+    }
+
+    @Override
+    public List<Long> findPageIdsByIdIn(Collection<Long> articleIds, Pageable pageable) {
+        if (articleIds.isEmpty()) {
+            return List.of();
+        }
+
+        QArticle article = QArticle.article;
+        JPQLQuery<Long> query = from(article)
+                .select(article.id)
+                .where(article.id.in(articleIds));
+
+        return getQuerydsl().applyPagination(pageable, query).fetch();
+    }
+
+    @Override
+    public Page<Long> findIdsBySearch(SearchType searchType, String searchKeyword, Pageable pageable) {
+        QArticle article = QArticle.article;
+        BooleanExpression condition = searchCondition(searchType, searchKeyword);
+
+        return PageableExecutionUtils.getPage(
+                getQuerydsl().applyPagination(pageable, from(article).select(article.id).where(condition)).fetch(),
+                pageable,
+                () -> from(article).where(condition).fetchCount()
+        );
+    }
+
+    @Override
+    public Page<Long> findIdsByUserIdIn(Collection<String> userIds, Pageable pageable) {
+        if (userIds.isEmpty()) {
+            return Page.empty(pageable);
+        }
+
+        QArticle article = QArticle.article;
+        BooleanExpression condition = article.userAccount.userId.in(userIds);  // article.user_id 컬럼만 비교하므로 user_account를 join하지 않는다.
+
+        return PageableExecutionUtils.getPage(
+                getQuerydsl().applyPagination(pageable, from(article).select(article.id).where(condition)).fetch(),
+                pageable,
+                () -> from(article).where(condition).fetchCount()
+        );
+    }
+
+    @Override
+    public List<Article> findPageByHashtagId(Long hashtagId, Pageable pageable) {
+        Query query = getEntityManager()
+                .createNativeQuery("select a.id from article_hashtag ah join article a on a.id = ah.article_id"
+                        + " where ah.hashtag_id = ?1 order by a.created_at desc, a.id desc")
+                .setParameter(1, hashtagId);
+        if (pageable.isPaged()) {
+            query.setFirstResult((int) pageable.getOffset()).setMaxResults(pageable.getPageSize());
+        }
+
+        return findAllByIdInOrder(toArticleIds(query.getResultList()));
+    }
+
+    @Override
+    public List<Article> findByHashtagIdAndCursor(
+            Long hashtagId,
+            LocalDateTime cursorCreatedAt,
+            Long cursorId,
+            CursorDirection direction,
+            int limit
+    ) {
+        boolean forward = direction != CursorDirection.PREVIOUS;
+        boolean hasCursor = cursorCreatedAt != null && cursorId != null;
+        // cursorCondition()과 같이 (created_at, id) 비교를 OR로 풀고, 인덱스 범위 시작점이 되는 created_at <=(>=) 조건을 앞에 붙인다.
+        String sql = "select a.id from article_hashtag ah join article a on a.id = ah.article_id where ah.hashtag_id = ?1"
+                + (!hasCursor ? "" : forward
+                        ? " and a.created_at <= ?2 and (a.created_at < ?2 or (a.created_at = ?2 and a.id < ?3))"
+                        : " and a.created_at >= ?2 and (a.created_at > ?2 or (a.created_at = ?2 and a.id > ?3))")
+                + (forward ? " order by a.created_at desc, a.id desc" : " order by a.created_at asc, a.id asc");
+        Query query = getEntityManager()
+                .createNativeQuery(sql)
+                .setParameter(1, hashtagId)
+                .setMaxResults(limit);
+        if (hasCursor) {
+            query.setParameter(2, cursorCreatedAt).setParameter(3, cursorId);
+        }
+
+        return findAllByIdInOrder(toArticleIds(query.getResultList()));
+    }
+
+    @Override
+    public long countByHashtagId(Long hashtagId) {
+        return ((Number) getEntityManager()
+                .createNativeQuery("select count(*) from article_hashtag where hashtag_id = ?1")
+                .setParameter(1, hashtagId)
+                .getSingleResult()).longValue();
+    }
+
+    @Override
+    public Page<Article> findAll(Pageable pageable) {
+        QArticle article = QArticle.article;
+
+        List<Long> articleIds = getQuerydsl().applyPagination(pageable, from(article).select(article.id)).fetch();
+
+        // 첫 페이지가 다 차지 않는 등 결과만으로 전체 수를 알 수 있으면 count 쿼리를 생략한다.
+        return PageableExecutionUtils.getPage(findAllByIdInOrder(articleIds), pageable, () -> from(article).fetchCount());
+    }
+
+    @Override
+    public Page<ArticleSummaryDto> findSummaries(Pageable pageable) {
+        QArticle article = QArticle.article;
+
+        List<ArticleSummaryDto> summaries = getQuerydsl().applyPagination(pageable, selectSummaries()).fetch();
+
+        return PageableExecutionUtils.getPage(withHashtagNames(summaries), pageable, () -> from(article).fetchCount());
+    }
+
+    @Override
+    public Slice<ArticleSummaryDto> findSummarySlice(Pageable pageable) {
+        if (pageable.isUnpaged()) {
+            return new SliceImpl<>(withHashtagNames(getQuerydsl().applySorting(pageable.getSort(), selectSummaries()).fetch()), pageable, false);
+        }
+
+        List<ArticleSummaryDto> summaries = getQuerydsl().applyPagination(pageable, selectSummaries())
+                .limit(pageable.getPageSize() + 1L)  // 한 건을 더 조회해서 다음 페이지가 있는지 판단한다.
+                .fetch();
+        boolean hasNext = summaries.size() > pageable.getPageSize();
+
+        return new SliceImpl<>(withHashtagNames(hasNext ? summaries.subList(0, pageable.getPageSize()) : summaries), pageable, hasNext);
+    }
+
+    @Override
+    public List<ArticleSummaryDto> findSummariesByIdInOrder(List<Long> articleIds) {
+        if (articleIds.isEmpty()) {
+            return List.of();
+        }
+
+        QArticle article = QArticle.article;
+        Map<Long, ArticleSummaryDto> summaries = withHashtagNames(selectSummaries().where(article.id.in(articleIds)).fetch())
+                .stream()
+                .collect(Collectors.toMap(ArticleSummaryDto::id, Function.identity()));
+
+        return articleIds.stream()
+                .map(summaries::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    @Override
+    public List<Article> findAllByIdInOrder(List<Long> articleIds) {
+        if (articleIds.isEmpty()) {
+            return List.of();
+        }
+
+        QArticle article = QArticle.article;
+        Map<Long, Article> articles = from(article)
+                .innerJoin(article.userAccount).fetchJoin()
+                .leftJoin(article.hashtags).fetchJoin()
+                .where(article.id.in(articleIds))
+                .fetch()
+                .stream()
+                .collect(Collectors.toMap(Article::getId, Function.identity(), (a, b) -> a));  // 해시태그 수만큼 같은 게시글이 중복되어 나온다.
+
+        return articleIds.stream()
+                .map(articles::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    @Override
+    public List<Article> findAllByIdInOrderUsingCache(List<Long> articleIds) {
+        Cache secondLevelCache = getEntityManager().getEntityManagerFactory().getCache();
+        Map<Long, Article> articles = new HashMap<>();
+        List<Long> missedIds = new ArrayList<>();
+        for (Long articleId : articleIds) {
+            Article cached = secondLevelCache.contains(Article.class, articleId) ? getEntityManager().find(Article.class, articleId) : null;
+            if (cached != null) {
+                articles.put(articleId, cached);
+            } else {
+                missedIds.add(articleId);
+            }
+        }
+        findAllByIdInOrder(missedIds).forEach(missed -> articles.put(missed.getId(), missed));
+
+        return articleIds.stream()
+                .map(articles::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    @Override
+    public List<Article> findByCursor(
+            SearchType searchType,
+            String searchKeyword,
+            LocalDateTime cursorCreatedAt,
+            Long cursorId,
+            CursorDirection direction,
+            int limit
+    ) {
         QArticle article = QArticle.article;
+        boolean forward = direction != CursorDirection.PREVIOUS;
+
+        List<Long> articleIds = from(article)
+                .select(article.id)
+                .where(
+                        searchCondition(searchType, searchKeyword),  // where()에 null이 들어가면 해당 조건은 무시된다.
+                        cursorCondition(cursorCreatedAt, cursorId, forward)
+                )
+                .orderBy(
+                        forward ? article.createdAt.desc() : article.createdAt.asc(),
+                        forward ? article.id.desc() : article.id.asc()  // createdAt이 같은 게시글의 순서를 고정하기 위한 tie-breaker
+                )
+                .limit(limit)
+                .fetch();
+
+        return findAllByIdInOrder(articleIds);
+    }
+
+    @Override
+    public Slice<Article> findSliceBySearch(SearchType searchType, String searchKeyword, Pageable pageable) {
+        QArticle article = QArticle.article;
+
+        JPQLQuery<Long> query = from(article)
+                .select(article.id)
+                .where(searchCondition(searchType, searchKeyword));
+        if (pageable.isUnpaged()) {
+            return new SliceImpl<>(findAllByIdInOrder(getQuerydsl().applySorting(pageable.getSort(), query).fetch()), pageable, false);
+        }
 
-        JPQLQuery<Article> query = from(article)
+        List<Long> articleIds = getQuerydsl().applyPagination(pageable, query)
+                .limit(pageable.getPageSize() + 1L)  // 한 건을 더 조회해서 다음 페이지가 있는지 판단한다.
+                .fetch();
+        boolean hasNext = articleIds.size() > pageable.getPageSize();
+
+        return new SliceImpl<>(findAllByIdInOrder(hasNext ? articleIds.subList(0, pageable.getPageSize()) : articleIds), pageable, hasNext);
+    }
+
+    @Override
+    public void bypassSecondLevelCacheForBulkInsert() {
+        Session session = getEntityManager().unwrap(Session.class);
+        session.setCacheMode(CacheMode.IGNORE);
+
+        SessionFactory sessionFactory = session.getSessionFactory();
+        Runnable evictArticleHashtags = () -> sessionFactory.getCache().evictCollectionData(ARTICLE_HASHTAGS_ROLE);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evictArticleHashtags.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evictArticleHashtags.run();
+            }
+        });
+    }
+
+    @Override
+    public OptionalLong estimateCount(SearchType searchType, String searchKeyword) {
+        if (!isPostgreSql()) {
+            return OptionalLong.empty();
+        }
+
+        if (searchCondition(searchType, searchKeyword) == null) {
+            // 플래너 통계의 row 수. 한 번도 ANALYZE 되지 않은 테이블은 -1(PostgreSQL 14 이상) 또는 0을 반환한다.
+            Number reltuples = (Number) getEntityManager()
+                    .createNativeQuery("select cast(reltuples as bigint) from pg_class where oid = to_regclass('article')")
+                    .getSingleResult();
+            return reltuples == null || reltuples.longValue() <= 0 ? OptionalLong.empty() : OptionalLong.of(reltuples.longValue());
+        }
+
+        HashtagQuery hashtagQuery = searchType == SearchType.HASHTAG ? HashtagQuery.parse(searchKeyword) : null;
+        if (hashtagQuery != null && hashtagQuery.isEmpty()) {
+            return OptionalLong.of(0);
+        }
+
+        // EXPLAIN의 첫 줄(최상위 plan node)에 있는 'rows=' 값이 플래너가 추정한 결과 row 수. 이 출력 형식은 PostgreSQL 전용이라 위에서 DB를 확인한다.
+        // 해시태그 검색은 달려 있어야 하는 해시태그(AND/OR)만으로 추정한다.
+        List<?> plan = getEntityManager()
+                .createNativeQuery("explain " + estimateCountSql(searchType))
+                .setParameter(1, hashtagQuery != null ? List.copyOf(union(hashtagQuery.allOf(), hashtagQuery.anyOf())) : "%" + escapeLike(searchKeyword) + "%")
+                .getResultList();
+        if (plan.isEmpty()) {
+            return OptionalLong.empty();
+        }
+        Matcher matcher = EXPLAIN_ROWS_PATTERN.matcher(String.valueOf(plan.get(0)));
+        return matcher.find() ? OptionalLong.of(Long.parseLong(matcher.group(1))) : OptionalLong.empty();
+    }
+
+    @Override
+    public Map<Long, Set<String>> findHashtagNamesByArticleIds(Collection<Long> articleIds) {
+        if (articleIds.isEmpty()) {
+            return Map.of();
+        }
+
+        QArticle article = QArticle.article;
+        QHashtag hashtag = QHashtag.hashtag;
+        return from(article)
                 .innerJoin(article.hashtags, hashtag)
-                .where(hashtag.hashtagName.in(hashtagNames));
-        List<Article> articles = getQuerydsl().applyPagination(pageable, query).fetch();
+                .select(article.id, hashtag.hashtagName)
+                .where(article.id.in(articleIds))
+                .fetch()
+                .stream()
+                .collect(Collectors.groupingBy(
+                        tuple -> tuple.get(article.id),
+                        Collectors.mapping(tuple -> tuple.get(hashtag.hashtagName), Collectors.toUnmodifiableSet())
+                ));
+    }
+
+
+    // 게시글 목록 컬럼(id, 제목, 작성자 ID/닉네임, 작성일시)만 생성자 프로젝션으로 조회하는 쿼리
+    private JPQLQuery<ArticleSummaryDto> selectSummaries() {
+        QArticle article = QArticle.article;
+
+        return from(article)
+                .innerJoin(article.userAccount)
+                .select(Projections.constructor(ArticleSummaryDto.class,
+                        article.id,
+                        article.title,
+                        article.userAccount.userId,
+                        article.userAccount.nickname,
+                        article.createdAt
+                ));
+    }
+
+    // 해시태그 이름은 컬렉션이라 프로젝션 row에 담을 수 없으므로, 게시글 id들로 한 번에 따로 조회해서 채운다.
+    private List<ArticleSummaryDto> withHashtagNames(List<ArticleSummaryDto> summaries) {
+        Map<Long, Set<String>> hashtagNames = findHashtagNamesByArticleIds(summaries.stream().map(ArticleSummaryDto::id).toList());
+
+        return summaries.stream()
+                .map(summary -> summary.withHashtagNames(hashtagNames.getOrDefault(summary.id(), Set.of())))
+                .toList();
+    }
+
+    private String estimateCountSql(SearchType searchType) {
+        return switch (searchType) {
+            case TITLE -> "select a.id from article a where a.title like ?1 escape '!'";
+            case CONTENT -> "select a.id from article a where a.content like ?1 escape '!'";
+            case ID -> "select a.id from article a where a.user_id like ?1 escape '!'";
+            case NICKNAME -> "select a.id from article a join user_account u on u.user_id = a.user_id where u.nickname like ?1 escape '!'";
+            case HASHTAG -> "select distinct ah.article_id from article_hashtag ah join hashtag h on h.id = ah.hashtag_id where h.hashtag_name in (?1)";
+        };
+    }
+
+    // QueryDSL의 contains()와 같이 '!'를 escape 문자로 써서, 검색어의 %, _를 와일드카드가 아닌 글자로 찾는다.
+    private static String escapeLike(String keyword) {
+        return keyword.replace("!", "!!").replace("%", "!%").replace("_", "!_");
+    }
+
+    private boolean isPostgreSql() {
+        if (postgreSql == null) {
+            String databaseProductName = getEntityManager().unwrap(Session.class)
+                    .doReturningWork(connection -> connection.getMetaData().getDatabaseProductName());
+            postgreSql = "PostgreSQL".equalsIgnoreCase(databaseProductName);
+        }
+        return postgreSql;
+    }
+
+    private BooleanExpression searchCondition(SearchType searchType, String searchKeyword) {
+        if (searchType == null || searchKeyword == null || searchKeyword.isBlank()) {
+            return null;
+        }
+
+        QArticle article = QArticle.article;
+        return switch (searchType) {  // ArticleRepository의 Containing 네임드 쿼리와 같은 like '%${}%' 조건
+            case TITLE -> article.title.contains(searchKeyword);
+            case CONTENT -> article.content.contains(searchKeyword);
+            case ID -> article.userAccount.userId.contains(searchKeyword);
+            case NICKNAME -> article.userAccount.nickname.contains(searchKeyword);
+            case HASHTAG -> hashtagCondition(HashtagQuery.parse(searchKeyword));
+        };
+    }
 
-        return new PageImpl<>(articles, pageable, query.fetchCount());
+    // 해시태그 조건마다 exists 서브쿼리(any())를 건다. join과 달리 게시글 row가 해시태그 수만큼 늘어나지 않는다.
+    private BooleanExpression hashtagCondition(HashtagQuery hashtagQuery) {
+        if (hashtagQuery.isEmpty()) {
+            return Expressions.FALSE.isTrue();
+        }
+
+        QArticle article = QArticle.article;
+        List<BooleanExpression> conditions = new ArrayList<>();
+        hashtagQuery.allOf().forEach(hashtagName -> conditions.add(article.hashtags.any().hashtagName.eq(hashtagName)));
+        if (!hashtagQuery.anyOf().isEmpty()) {
+            conditions.add(article.hashtags.any().hashtagName.in(hashtagQuery.anyOf()));
+        }
+        if (!hashtagQuery.noneOf().isEmpty()) {
+            conditions.add(article.hashtags.any().hashtagName.in(hashtagQuery.noneOf()).not());
+        }
+
+        return Expressions.allOf(conditions.toArray(BooleanExpression[]::new));
+    }
+
+    private static Set<String> union(Set<String> first, Set<String> second) {
+        Set<String> union = new LinkedHashSet<>(first);
+        union.addAll(second);
+
+        return union;
+    }
+
+    // 네이티브 쿼리의 bigint 컬럼은 DB 드라이버에 따라 Long이나 BigInteger로 나온다.
+    private static List<Long> toArticleIds(List<?> rows) {
+        return rows.stream().map(row -> ((Number) row).longValue()).toList();
+    }
+
+    // (createdAt, id) < (:createdAt, :id) 형태의 row value 비교를 JPQL이 지원하지 않으므로 OR 조건으로 풀어서 작성
+    // OR 조건만으로는 대부분의 옵티마이저가 (createdAt, id) 인덱스의 범위 시작점으로 쓰지 못하므로, 같은 뜻의 createdAt <=(>=) 조건을 앞에 붙인다.
+    private BooleanExpression cursorCondition(LocalDateTime cursorCreatedAt, Long cursorId, boolean forward) {
+        if (cursorCreatedAt == null || cursorId == null) {
+            return null;
+        }
+
+        QArticle article = QArticle.article;
+        if (forward) {
+            return article.createdAt.loe(cursorCreatedAt)
+                    .and(article.createdAt.lt(cursorCreatedAt)
+                            .or(article.createdAt.eq(cursorCreatedAt).and(article.id.lt(cursorId))));
+        }
+        return article.createdAt.goe(cursorCreatedAt)
+                .and(article.createdAt.gt(cursorCreatedAt)
+                        .or(article.createdAt.eq(cursorCreatedAt).and(article.id.gt(cursorId))));
     }
 }
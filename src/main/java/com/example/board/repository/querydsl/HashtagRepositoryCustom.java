@@ -1,8 +1,30 @@
 package com.example.board.repository.querydsl;
 
+import org.springframework.data.rest.core.annotation.RestResource;
+
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 public interface HashtagRepositoryCustom {
 
+    @RestResource(exported = false)
     List<String> findAllHashtagNames();
+
+    /**
+     * 게시글마다 달린 해시태그 이름을 모두 조회한다. 해시태그 목록 캐시(HashtagCatalog)를 처음 채울 때 사용한다.
+     *
+     * @return 게시글 id별 해시태그 이름. 해시태그가 없는 게시글은 포함하지 않는다.
+     */
+    @RestResource(exported = false)
+    Map<Long, Set<String>> findAllHashtagNamesByArticleId();
+
+    /**
+     * 주어진 해시태그 중 어떤 게시글에도 연결되지 않은 해시태그를 한 번의 delete 쿼리로 지운다.
+     *
+     * @return 지운 해시태그 수
+     */
+    @RestResource(exported = false)
+    long deleteWithoutArticles(Collection<Long> hashtagIds);
 }
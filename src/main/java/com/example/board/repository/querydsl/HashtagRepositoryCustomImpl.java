@@ -1,10 +1,15 @@
 package com.example.board.repository.querydsl;
 
 import com.example.board.domain.Hashtag;
+import com.example.board.domain.QArticle;
 import com.example.board.domain.QHashtag;
 import org.springframework.data.jpa.repository.support.QuerydslRepositorySupport;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 public class HashtagRepositoryCustomImpl extends QuerydslRepositorySupport implements HashtagRepositoryCustom {
 
@@ -20,4 +25,29 @@ public class HashtagRepositoryCustomImpl extends QuerydslRepositorySupport imple
                 .select(hashtag.hashtagName)
                 .fetch();
     }
+
+    @Override
+    public Map<Long, Set<String>> findAllHashtagNamesByArticleId() {
+        QArticle article = QArticle.article;
+        QHashtag hashtag = QHashtag.hashtag;
+
+        return from(article)
+                .innerJoin(article.hashtags, hashtag)
+                .select(article.id, hashtag.hashtagName)
+                .fetch()
+                .stream()
+                .collect(Collectors.groupingBy(
+                        tuple -> tuple.get(article.id),
+                        Collectors.mapping(tuple -> tuple.get(hashtag.hashtagName), Collectors.toSet())
+                ));
+    }
+
+    @Override
+    public long deleteWithoutArticles(Collection<Long> hashtagIds) {
+        QHashtag hashtag = QHashtag.hashtag;
+
+        return delete(hashtag)
+                .where(hashtag.id.in(hashtagIds), hashtag.articles.isEmpty())
+                .execute();
+    }
 }
@@ -4,15 +4,22 @@ import com.example.board.domain.Article;
 import com.example.board.domain.ArticleComment;
 import com.example.board.domain.UserAccount;
 import com.example.board.dto.ArticleCommentDto;
+import com.example.board.dto.ArticleCursor;
+import com.example.board.dto.CursorPage;
+import com.example.board.dto.InvalidCursorException;
 import com.example.board.repository.ArticleCommentRepository;
 import com.example.board.repository.ArticleRepository;
 import com.example.board.repository.UserAccountRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import javax.persistence.EntityNotFoundException;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 @Slf4j
@@ -21,9 +28,15 @@ import java.util.List;
 @Service
 public class ArticleCommentService {
 
+    private static final int BULK_CHUNK_SIZE = 1000;  // hibernate.jdbc.batch_size의 배수로 맞춘다.
+
     private final ArticleRepository articleRepository;
     private final ArticleCommentRepository articleCommentRepository;
     private final UserAccountRepository userAccountRepository;
+    private final RenderedPageCache renderedPageCache;
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final RequestCoalescer requestCoalescer;
+    private final TransactionTemplate transactionTemplate;
 
     @Transactional(readOnly = true)
     public List<ArticleCommentDto> searchArticleComments(Long articleId) {
@@ -32,16 +45,89 @@ public class ArticleCommentService {
                 .toList();
     }
 
+    /**
+     * 게시글의 댓글을 최신순으로 size개씩 조회한다. 다음 페이지는 반환된 nextCursor로 조회한다.
+     * 게시글 상세 화면과 함께 불리므로, 같은 게시글의 같은 페이지를 동시에 읽는 요청은 한 번만 조회한다.
+     *
+     * @param cursor 이전 응답에서 받은 커서. 없으면 가장 최신 댓글부터 조회한다.
+     * @throws InvalidCursorException 형식이 올바르지 않은 커서인 경우
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CursorPage<ArticleCommentDto> searchArticleComments(Long articleId, String cursor, int size) {
+        ArticleCursor articleCursor = ArticleCursor.decode(cursor);
+        return requestCoalescer.execute("articleComments", Arrays.asList(articleId, articleCursor, size), () -> {
+            List<ArticleComment> articleComments = new ArrayList<>(articleCommentRepository.findByArticleIdAndCursor(
+                    articleId,
+                    articleCursor == null ? null : articleCursor.createdAt(),
+                    articleCursor == null ? null : articleCursor.id(),
+                    size + 1  // 한 건을 더 조회해서 다음 페이지가 있는지 판단한다.
+            ));
+            boolean hasNext = articleComments.size() > size;
+            if (hasNext) {
+                articleComments.remove(size);
+            }
+
+            return CursorPage.of(
+                    articleComments.stream().map(ArticleCommentDto::from).toList(),
+                    null,  // 댓글은 '더 보기'로 다음 페이지만 이어서 본다.
+                    hasNext ? ArticleCursor.from(articleComments.get(articleComments.size() - 1)).encode() : null
+            );
+        });
+    }
+
     public void saveArticleComment(ArticleCommentDto dto) {
         try {
             Article article = articleRepository.getReferenceById(dto.articleId());
             UserAccount userAccount = userAccountRepository.getReferenceById(dto.userAccountDto().userId());
-            articleCommentRepository.save(dto.toEntity(article, userAccount));
+            ArticleComment savedArticleComment = articleCommentRepository.save(dto.toEntity(article, userAccount));
+            renderedPageCache.evictArticle(dto.articleId(), savedArticleComment);
+            readYourWritesTracker.markWritten(dto.userAccountDto().userId());
         } catch (EntityNotFoundException e) {
             log.warn("댓글 저장 실패. 댓글 작성에 필요한 정보를 찾을 수 없습니다 - {}", e.getLocalizedMessage());
         }
     }
 
+    /**
+     * 댓글을 한꺼번에 저장한다. (대량 가져오기용)
+     * {@value #BULK_CHUNK_SIZE}건씩 나눠서 묶음마다 별도의 트랜잭션으로 저장하고, insert는 JDBC batch(hibernate.jdbc.batch_size)로 묶여서 나간다.
+     * 게시글과 작성자는 프록시로만 참조하므로 조회 쿼리가 나가지 않는다. 없는 게시글이나 작성자가 있으면 그 묶음이 롤백되고 예외가 전파된다.
+     *
+     * @return 저장한 댓글 수
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int saveArticleComments(List<ArticleCommentDto> dtos) {
+        int savedCount = 0;
+        for (int from = 0; from < dtos.size(); from += BULK_CHUNK_SIZE) {
+            List<ArticleCommentDto> chunk = dtos.subList(from, Math.min(from + BULK_CHUNK_SIZE, dtos.size()));
+            savedCount += transactionTemplate.execute(status -> saveArticleCommentChunk(chunk));
+        }
+        log.info("댓글 일괄 저장 완료 - {}건", savedCount);
+
+        return savedCount;
+    }
+
+    /**
+     * 댓글 묶음을 하나의 트랜잭션으로 저장한다. 호출한 쪽에 트랜잭션이 있으면 그 트랜잭션에 참여한다.
+     *
+     * @return 저장한 댓글 수
+     */
+    public int saveArticleCommentChunk(List<ArticleCommentDto> dtos) {
+        if (dtos.isEmpty()) {
+            return 0;
+        }
+
+        List<ArticleComment> articleComments = dtos.stream()
+                .map(dto -> dto.toEntity(
+                        articleRepository.getReferenceById(dto.articleId()),
+                        userAccountRepository.getReferenceById(dto.userAccountDto().userId())
+                ))
+                .toList();
+        articleCommentRepository.saveAll(articleComments);
+        renderedPageCache.evictAll(articleComments.get(articleComments.size() - 1));  // 여러 게시글의 댓글이 섞여 있으므로 게시글별로 비우지 않고 전체를 비운다.
+
+        return articleComments.size();
+    }
+
     /**
      * @deprecated 댓글 수정 기능은 이 프로젝트에선 구현하지 않음
      */
@@ -51,6 +137,7 @@ public class ArticleCommentService {
             ArticleComment articleComment = articleCommentRepository.getReferenceById(dto.id());
             if (dto.content() != null) {
                 articleComment.setContent(dto.content());
+                renderedPageCache.evictArticle(articleComment.getArticle().getId(), articleComment);
             }
         } catch (EntityNotFoundException e) {
             log.warn("댓글 수정 실패. 댓글 정보를 찾을 수 없습니다 - {}", e.getLocalizedMessage());
@@ -59,5 +146,6 @@ public class ArticleCommentService {
 
     public void deleteArticleComment(Long articleCommentId, String userId) {
         articleCommentRepository.deleteByIdAndUserAccount_UserId(articleCommentId, userId);
+        renderedPageCache.evictAll(null);  // 삭제 쿼리만으로는 어느 게시글의 댓글이었는지 알 수 없으므로 전체를 비운다.
     }
 }
@@ -0,0 +1,190 @@
+package com.example.board.service;
+
+import com.example.board.config.ArticleCountProperties;
+import com.example.board.repository.ArticleRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 전체 게시글 수를 메모리에 들고 있는 카운터. 게시글 상세 화면마다 count(*)를 실행하지 않도록 한다.
+ * {@link ArticleService}를 통한 저장/삭제는 커밋 후 바로 더하거나 빼고, 그 밖의 변경은 주기적으로 DB의 count(*)와 다시 맞춘다(reconcile).
+ * count(*)는 복제 지연이 없는 주 DB에서 센다. 세는 동안 커밋됐거나 커밋을 기다리는 저장/삭제가 있으면, 같은 게시글이 DB 수와 메모리에서 두 번 세어질 수 있으므로
+ * 그 주기에는 맞추지 않고 다음 주기에 다시 센다.
+ *
+ * 값이 얼마나 오래됐을 수 있는지는 {@link #getStaleness()}(마지막으로 DB와 맞춘 뒤 지난 시간)와 {@link #getMaxStaleness()}(다시 맞추는 주기)로 알 수 있고,
+ * actuator 메트릭(board.article.count, board.article.count.staleness)으로도 확인할 수 있다.
+ */
+@Slf4j
+@Component
+public class ArticleCounter implements SchedulingConfigurer, MeterBinder {
+
+    private static final long NOT_COUNTED = -1;
+
+    private final ArticleRepository articleRepository;
+    private final ArticleCountProperties articleCountProperties;
+    private final TransactionTemplate primaryTransactionTemplate;
+    private final Clock clock = Clock.systemUTC();
+
+    private final AtomicLong count = new AtomicLong(NOT_COUNTED);
+    private final AtomicInteger pendingWrites = new AtomicInteger();  // 커밋을 기다리거나, 커밋됐지만 아직 더하지 않은 저장/삭제 수
+    private final AtomicLong appliedWrites = new AtomicLong();  // 지금까지 더하거나 뺀 횟수. 세는 동안 값이 바뀌었는지 확인한다.
+    private volatile Instant reconciledAt;
+
+    public ArticleCounter(ArticleRepository articleRepository,
+                          ArticleCountProperties articleCountProperties,
+                          PlatformTransactionManager transactionManager) {
+        this.articleRepository = articleRepository;
+        this.articleCountProperties = articleCountProperties;
+        // 읽기 전용 트랜잭션은 복제본으로 가므로, 호출한 쪽 트랜잭션과 상관 없이 새 쓰기 트랜잭션으로 주 DB에서 센다.
+        this.primaryTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.primaryTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * @return 전체 게시글 수. 아직 한 번도 세지 않았으면 DB에서 센다.
+     */
+    public long getCount() {
+        long current = count.get();
+        return current == NOT_COUNTED ? reconcile() : current;
+    }
+
+    /**
+     * 게시글이 저장되면 1을 더한다. 트랜잭션 안에서 호출하면 커밋된 뒤에 반영한다.
+     */
+    public void increment() {
+        afterCommit(1);
+    }
+
+    /**
+     * 게시글이 한꺼번에 저장되면 저장된 수만큼 더한다. 트랜잭션 안에서 호출하면 커밋된 뒤에 반영한다.
+     */
+    public void increment(long count) {
+        afterCommit(count);
+    }
+
+    /**
+     * 게시글이 삭제되면 1을 뺀다. 트랜잭션 안에서 호출하면 커밋된 뒤에 반영한다.
+     */
+    public void decrement() {
+        afterCommit(-1);
+    }
+
+    /**
+     * 주 DB의 count(*)로 값을 다시 맞춘다. 세는 동안 저장/삭제가 있었으면 맞추지 않고 메모리의 값을 그대로 둔다. (처음 셀 때는 항상 맞춘다)
+     *
+     * @return 맞춘 뒤의 게시글 수
+     */
+    public long reconcile() {
+        long appliedBefore = appliedWrites.get();
+        boolean quietBefore = pendingWrites.get() == 0;
+        long counted = primaryTransactionTemplate.execute(status -> articleRepository.count());
+
+        synchronized (this) {
+            long previous = count.get();
+            boolean quiet = quietBefore && pendingWrites.get() == 0 && appliedWrites.get() == appliedBefore;
+            if (previous != NOT_COUNTED && !quiet) {
+                log.debug("게시글 수 보정 보류. 세는 동안 저장/삭제가 있었습니다 - 메모리: {}, DB: {}", previous, counted);
+                return previous;
+            }
+
+            count.set(counted);
+            reconciledAt = clock.instant();
+            if (previous != NOT_COUNTED && previous != counted) {
+                log.debug("게시글 수 보정 - 메모리: {}, DB: {}", previous, counted);
+            }
+        }
+
+        return counted;
+    }
+
+    /**
+     * @return 마지막으로 DB와 맞춘 뒤 지난 시간. 보정이 보류된 주기는 포함되지 않는다. 아직 한 번도 세지 않았으면 {@link Duration#ZERO}
+     */
+    public Duration getStaleness() {
+        Instant last = reconciledAt;
+        return last == null ? Duration.ZERO : Duration.between(last, clock.instant());
+    }
+
+    /**
+     * @return 서비스를 거치지 않은 변경이 반영되기까지 걸릴 수 있는 최대 시간(= DB와 다시 맞추는 주기)
+     */
+    public Duration getMaxStaleness() {
+        return articleCountProperties.reconcileInterval();
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar taskRegistrar) {
+        Duration interval = articleCountProperties.reconcileInterval();
+        taskRegistrar.addFixedDelayTask(this::reconcileQuietly, interval.toMillis());
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("board.article.count", this, counter -> counter.count.get())
+                .description("메모리에 들고 있는 전체 게시글 수")
+                .register(registry);
+        Gauge.builder("board.article.count.staleness", this, counter -> counter.getStaleness().toMillis() / 1000.0)
+                .description("마지막으로 DB와 게시글 수를 맞춘 뒤 지난 시간")
+                .baseUnit("seconds")
+                .register(registry);
+    }
+
+
+    private void reconcileQuietly() {
+        try {
+            reconcile();
+        } catch (RuntimeException e) {
+            log.warn("게시글 수 보정 실패. 다음 주기에 다시 시도합니다 - {}", e.getLocalizedMessage());
+        }
+    }
+
+    private void afterCommit(long delta) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            add(delta);
+            return;
+        }
+
+        pendingWrites.incrementAndGet();  // 더할 때까지 보정을 보류한다.
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                add(delta);
+            }
+
+            // 커밋이든 롤백이든 afterCommit() 다음에 불린다.
+            @Override
+            public void afterCompletion(int status) {
+                pendingWrites.decrementAndGet();
+            }
+
+            // 보정이 보류되는 구간을 줄이기 위해, 오래 걸릴 수 있는 색인 반영보다 먼저 더한다.
+            @Override
+            public int getOrder() {
+                return Ordered.HIGHEST_PRECEDENCE;
+            }
+        });
+    }
+
+    // 아직 세지 않았으면 처음 셀 때 DB에서 읽으므로 더하지 않는다. reconcile()이 값을 맞추는 사이에 끼어들지 않도록 같은 잠금을 쓴다.
+    private synchronized void add(long delta) {
+        appliedWrites.incrementAndGet();
+        count.updateAndGet(current -> current == NOT_COUNTED ? NOT_COUNTED : current + delta);
+    }
+}
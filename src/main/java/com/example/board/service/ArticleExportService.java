@@ -0,0 +1,101 @@
+package com.example.board.service;
+
+import com.example.board.config.ArticleExportProperties;
+import com.example.board.domain.Article;
+import com.example.board.domain.ArticleComment;
+import com.example.board.domain.constant.ExportFormat;
+import com.example.board.dto.ArticleExportDto;
+import com.example.board.repository.ArticleCommentRepository;
+import com.example.board.repository.ArticleRepository;
+import com.example.board.service.export.ArticleExportWriter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.CacheMode;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.Session;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 전체 게시글을 해시태그, 댓글과 함께 JSON Lines나 CSV로 내보낸다.
+ *
+ * 게시글은 id 순으로 앞으로만 읽는 DB 커서(ScrollableResults)로 fetch size만큼씩 가져온다. 그만큼 모이면 해시태그와 댓글을 한 번씩 조회해서 출력 스트림에 바로 쓰고
+ * 영속성 컨텍스트를 비우므로, 게시글이 몇 건이든 메모리에는 한 묶음만 올라간다.
+ * PostgreSQL 드라이버는 트랜잭션 안(autocommit off)에서 fetch size를 주어야 결과를 한꺼번에 받지 않고 커서로 나눠 받는다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+@Service
+public class ArticleExportService {
+
+    private final EntityManager entityManager;
+    private final ArticleRepository articleRepository;
+    private final ArticleCommentRepository articleCommentRepository;
+    private final ArticleExportProperties articleExportProperties;
+
+    /**
+     * @return 내보낸 게시글 수
+     */
+    public long exportArticles(ExportFormat format, OutputStream output) throws IOException {
+        int fetchSize = articleExportProperties.fetchSize();
+        Session session = entityManager.unwrap(Session.class);
+        session.setCacheMode(CacheMode.IGNORE);  // 한 번 읽고 버릴 게시글, 댓글로 2차 캐시를 채우지 않는다. 해시태그/댓글 조회에도 적용된다.
+        ArticleExportWriter writer = ArticleExportWriter.of(format, output);
+        long startedAt = System.nanoTime();
+        long exportedCount = 0;
+
+        try (ScrollableResults results = session.createQuery("select a from Article a join fetch a.userAccount order by a.id", Article.class)
+                .setFetchSize(fetchSize)
+                .setReadOnly(true)  // 스냅샷을 만들지 않는다(dirty checking 없음).
+                .scroll(ScrollMode.FORWARD_ONLY)) {
+            List<Article> chunk = new ArrayList<>(fetchSize);
+            while (results.next()) {
+                chunk.add((Article) results.get(0));
+                if (chunk.size() == fetchSize) {
+                    exportedCount += writeChunk(chunk, writer);
+                    chunk.clear();
+                    session.clear();
+                }
+            }
+            exportedCount += writeChunk(chunk, writer);
+        }
+        writer.flush();
+        log.info("게시글 내보내기 완료 - {}, {}건, {}ms", format, exportedCount, (System.nanoTime() - startedAt) / 1_000_000);
+
+        return exportedCount;
+    }
+
+
+    private int writeChunk(List<Article> articles, ArticleExportWriter writer) throws IOException {
+        if (articles.isEmpty()) {
+            return 0;
+        }
+
+        List<Long> articleIds = articles.stream().map(Article::getId).toList();
+        Map<Long, Set<String>> hashtagNames = articleRepository.findHashtagNamesByArticleIds(articleIds);
+        Map<Long, List<ArticleComment>> articleComments = articleCommentRepository.findByArticleIdIn(articleIds).stream()
+                .collect(Collectors.groupingBy(articleComment -> articleComment.getArticle().getId()));
+
+        for (Article article : articles) {
+            writer.write(ArticleExportDto.from(
+                    article,
+                    hashtagNames.getOrDefault(article.getId(), Set.of()),
+                    articleComments.getOrDefault(article.getId(), List.of())
+            ));
+        }
+        writer.flush();  // 묶음마다 응답으로 내보내서 버퍼가 쌓이지 않게 한다.
+
+        return articles.size();
+    }
+}
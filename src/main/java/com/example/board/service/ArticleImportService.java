@@ -0,0 +1,278 @@
+package com.example.board.service;
+
+import com.example.board.config.ArticleImportProperties;
+import com.example.board.domain.ArticleImportCheckpoint;
+import com.example.board.dto.ArticleCommentDto;
+import com.example.board.dto.ArticleDto;
+import com.example.board.dto.ArticleImportCheckpointDto;
+import com.example.board.dto.UserAccountDto;
+import com.example.board.dto.request.ArticleImportRequest;
+import com.example.board.repository.ArticleImportCheckpointRepository;
+import com.example.board.repository.UserAccountRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 다른 시스템의 게시글(댓글, 해시태그 포함)을 JSON Lines 입력으로 일괄 가져온다.
+ * 입력은 한 줄씩 읽어서 파싱하고, 설정한 줄 수(board.import.batch-size)만큼 모이면 한 트랜잭션으로 저장하므로 메모리에는 한 묶음만 올라간다.
+ *
+ * 작업마다 ID(jobId)를 받아서 묶음을 저장하는 트랜잭션 안에서 어디까지 읽었는지를 {@link ArticleImportCheckpoint}에 남긴다.
+ * 중간에 실패해도 같은 jobId와 같은 입력으로 다시 요청하면 커밋된 줄은 파싱하지 않고 건너뛰고 그 다음 줄부터 이어서 가져온다.
+ * 진행 상황은 {@link #getCheckpoint(String)}, 처리량은 actuator 메트릭(board.import.*)과 묶음마다 남기는 로그로 확인할 수 있다.
+ */
+@Slf4j
+@Service
+public class ArticleImportService {
+
+    private final ArticleService articleService;
+    private final ArticleCommentService articleCommentService;
+    private final UserAccountRepository userAccountRepository;
+    private final ArticleImportCheckpointRepository articleImportCheckpointRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ArticleImportProperties articleImportProperties;
+    private final ObjectReader lineReader;
+
+    private final Cache<String, Boolean> userExistence;  // 작성자 ID -> DB에 있는지 여부. 같은 작성자의 글이 많으므로 묶음마다 다시 조회하지 않는다.
+    private final Set<String> runningJobIds = ConcurrentHashMap.newKeySet();
+
+    private final Counter importedArticles;
+    private final Counter importedComments;
+    private final Counter skippedLines;
+    private final Timer chunkTimer;
+
+    public ArticleImportService(ArticleService articleService,
+                                ArticleCommentService articleCommentService,
+                                UserAccountRepository userAccountRepository,
+                                ArticleImportCheckpointRepository articleImportCheckpointRepository,
+                                TransactionTemplate transactionTemplate,
+                                ArticleImportProperties articleImportProperties,
+                                ObjectMapper objectMapper,
+                                MeterRegistry meterRegistry) {
+        this.articleService = articleService;
+        this.articleCommentService = articleCommentService;
+        this.userAccountRepository = userAccountRepository;
+        this.articleImportCheckpointRepository = articleImportCheckpointRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.articleImportProperties = articleImportProperties;
+        this.lineReader = objectMapper.readerFor(ArticleImportRequest.class);
+        this.userExistence = Caffeine.newBuilder()
+                .maximumSize(articleImportProperties.userCacheSize())
+                .expireAfterWrite(Duration.ofMinutes(10))  // 없던 작성자가 나중에 가입해도 이 시간이 지나면 다시 조회한다.
+                .build();
+        this.importedArticles = Counter.builder("board.import.articles")
+                .description("일괄 가져오기로 저장한 게시글 수")
+                .register(meterRegistry);
+        this.importedComments = Counter.builder("board.import.comments")
+                .description("일괄 가져오기로 저장한 댓글 수")
+                .register(meterRegistry);
+        this.skippedLines = Counter.builder("board.import.skipped")
+                .description("일괄 가져오기에서 건너뛴 입력 줄 수")
+                .register(meterRegistry);
+        this.chunkTimer = Timer.builder("board.import.chunk")
+                .description("일괄 가져오기 묶음 하나를 저장하는 데 걸린 시간")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @return 가져오기 작업의 진행 상황. 한 번도 실행하지 않은 작업이면 빈 Optional
+     */
+    public Optional<ArticleImportCheckpointDto> getCheckpoint(String jobId) {
+        return articleImportCheckpointRepository.findById(jobId).map(ArticleImportCheckpointDto::from);
+    }
+
+    /**
+     * JSON Lines 입력을 끝까지 읽어서 게시글과 댓글을 저장한다. 입력 스트림은 닫지 않는다.
+     * 형식이 잘못된 줄, 필수 값이 없는 줄, 작성자를 찾을 수 없는 줄은 건너뛰고 경고 로그를 남긴다. 작성자를 찾을 수 없는 댓글은 그 댓글만 건너뛴다.
+     *
+     * @param jobId 가져오기 작업 ID. 같은 ID로 다시 요청하면 지난번에 커밋된 줄 다음부터 이어서 가져온다.
+     * @return 이번 요청까지 합친 작업의 진행 상황
+     * @throws IllegalStateException 같은 jobId의 가져오기가 이미 실행 중일 때
+     */
+    public ArticleImportCheckpointDto importArticles(String jobId, InputStream input) throws IOException {
+        if (!runningJobIds.add(jobId)) {
+            throw new IllegalStateException("이미 실행 중인 가져오기 작업입니다 - jobId: " + jobId);
+        }
+
+        try {
+            return importLines(jobId, new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8)));
+        } finally {
+            runningJobIds.remove(jobId);
+        }
+    }
+
+
+    private ArticleImportCheckpointDto importLines(String jobId, BufferedReader reader) throws IOException {
+        ArticleImportCheckpointDto checkpoint = getCheckpoint(jobId).orElseGet(() -> ArticleImportCheckpointDto.of(jobId));
+        long resumeAfter = checkpoint.committedLines();
+        long startedAt = System.nanoTime();
+        long lineNumber = 0;
+        if (resumeAfter > 0) {
+            log.info("게시글 가져오기 재개 - jobId: {}, {}번째 줄부터", jobId, resumeAfter + 1);
+        }
+
+        Chunk chunk = new Chunk();
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (lineNumber <= resumeAfter) {
+                continue;  // 지난번에 커밋된 줄은 파싱하지 않는다.
+            }
+
+            parseLine(jobId, lineNumber, line, chunk);
+            if (++chunk.lineCount >= articleImportProperties.batchSize()) {
+                checkpoint = saveChunk(jobId, chunk, lineNumber, startedAt, resumeAfter);
+                chunk = new Chunk();
+            }
+        }
+        if (chunk.lineCount > 0) {
+            checkpoint = saveChunk(jobId, chunk, lineNumber, startedAt, resumeAfter);
+        }
+        log.info("게시글 가져오기 완료 - jobId: {}, 게시글 {}건, 댓글 {}건, 건너뛴 줄 {}건",
+                jobId, checkpoint.importedArticles(), checkpoint.importedComments(), checkpoint.skippedLines());
+
+        return checkpoint;
+    }
+
+    private void parseLine(String jobId, long lineNumber, String line, Chunk chunk) {
+        if (line.isBlank()) {
+            return;
+        }
+
+        try {
+            ArticleImportRequest request = lineReader.readValue(line);
+            if (request == null || !request.isValid()) {
+                log.warn("게시글 가져오기 - 필수 값(userId, title, content)이 없는 줄을 건너뜁니다 - jobId: {}, line: {}", jobId, lineNumber);
+                chunk.skippedLines++;
+                return;
+            }
+            chunk.lines.add(new ImportLine(lineNumber, request));
+        } catch (JsonProcessingException e) {
+            log.warn("게시글 가져오기 - 형식이 잘못된 줄을 건너뜁니다 - jobId: {}, line: {}, {}", jobId, lineNumber, e.getOriginalMessage());
+            chunk.skippedLines++;
+        }
+    }
+
+    // 묶음의 게시글, 댓글, 체크포인트를 한 트랜잭션으로 저장한다. 실패하면 체크포인트도 함께 롤백되므로 다음에 이 묶음부터 다시 가져온다.
+    private ArticleImportCheckpointDto saveChunk(String jobId, Chunk chunk, long lastLineNumber, long startedAt, long resumeAfter) {
+        Timer.Sample sample = Timer.start();
+        ChunkResult result = transactionTemplate.execute(status -> saveChunkInTransaction(jobId, chunk, lastLineNumber));
+        sample.stop(chunkTimer);
+
+        importedArticles.increment(result.importedArticles());
+        importedComments.increment(result.importedComments());
+        skippedLines.increment(result.skippedLines());
+
+        ArticleImportCheckpointDto checkpoint = result.checkpoint();
+        double elapsedSeconds = Math.max((System.nanoTime() - startedAt) / 1e9, 1e-3);
+        log.info("게시글 가져오기 진행 - jobId: {}, {}번째 줄까지, 게시글 {}건, 댓글 {}건, 건너뛴 줄 {}건 ({} 줄/초)",
+                jobId,
+                checkpoint.committedLines(),
+                checkpoint.importedArticles(),
+                checkpoint.importedComments(),
+                checkpoint.skippedLines(),
+                Math.round((lastLineNumber - resumeAfter) / elapsedSeconds));
+
+        return checkpoint;
+    }
+
+    private ChunkResult saveChunkInTransaction(String jobId, Chunk chunk, long lastLineNumber) {
+        Map<String, Boolean> existingUsers = findUserExistence(chunk);
+
+        List<ImportLine> importLines = new ArrayList<>(chunk.lines.size());
+        long skipped = chunk.skippedLines;
+        for (ImportLine importLine : chunk.lines) {
+            if (existingUsers.get(importLine.request().userId())) {
+                importLines.add(importLine);
+            } else {
+                log.warn("게시글 가져오기 - 작성자를 찾을 수 없는 줄을 건너뜁니다 - jobId: {}, line: {}, userId: {}",
+                        jobId, importLine.lineNumber(), importLine.request().userId());
+                skipped++;
+            }
+        }
+
+        List<ArticleDto> articleDtos = importLines.stream()
+                .map(importLine -> importLine.request().toDto(userAccountDto(importLine.request().userId())))
+                .toList();
+        List<Long> articleIds = articleService.saveArticleChunk(articleDtos);
+
+        List<ArticleCommentDto> commentDtos = new ArrayList<>();
+        for (int i = 0; i < importLines.size(); i++) {
+            ImportLine importLine = importLines.get(i);
+            for (ArticleImportRequest.Comment comment : importLine.request().getCommentsOrEmpty()) {
+                if (comment != null && comment.isValid() && existingUsers.get(comment.userId())) {
+                    commentDtos.add(comment.toDto(articleIds.get(i), userAccountDto(comment.userId())));
+                } else {
+                    log.warn("게시글 가져오기 - 작성자를 찾을 수 없거나 내용이 없는 댓글을 건너뜁니다 - jobId: {}, line: {}", jobId, importLine.lineNumber());
+                }
+            }
+        }
+        int commentCount = articleCommentService.saveArticleCommentChunk(commentDtos);
+
+        ArticleImportCheckpoint checkpoint = articleImportCheckpointRepository.findById(jobId)
+                .orElseGet(() -> ArticleImportCheckpoint.of(jobId));
+        checkpoint.advance(lastLineNumber, articleIds.size(), commentCount, skipped);
+        articleImportCheckpointRepository.saveAndFlush(checkpoint);  // 감사 필드(createdAt 등)를 채운 뒤에 DTO로 바꾼다.
+
+        return new ChunkResult(articleIds.size(), commentCount, skipped, ArticleImportCheckpointDto.from(checkpoint));
+    }
+
+    // 묶음에 나온 작성자 ID 중 캐시에 없는 것만 모아서 한 번의 쿼리로 조회한다.
+    private Map<String, Boolean> findUserExistence(Chunk chunk) {
+        Set<String> userIds = new HashSet<>();
+        for (ImportLine importLine : chunk.lines) {
+            userIds.add(importLine.request().userId());
+            importLine.request().getCommentsOrEmpty().stream()
+                    .filter(comment -> comment != null && comment.isValid())
+                    .forEach(comment -> userIds.add(comment.userId()));
+        }
+
+        return userExistence.getAll(userIds, missingUserIds -> {
+            Map<String, Boolean> loaded = new HashMap<>();
+            missingUserIds.forEach(userId -> loaded.put(userId, false));
+            userAccountRepository.findAllById(loaded.keySet()).forEach(userAccount -> loaded.put(userAccount.getUserId(), true));
+            return loaded;
+        });
+    }
+
+    // 게시글/댓글 저장에는 작성자 ID만 쓰이므로 나머지 정보는 조회하지 않는다.
+    private UserAccountDto userAccountDto(String userId) {
+        return UserAccountDto.of(userId, null, null, null, null);
+    }
+
+
+    private record ImportLine(long lineNumber, ArticleImportRequest request) {}
+
+    private record ChunkResult(long importedArticles, long importedComments, long skippedLines, ArticleImportCheckpointDto checkpoint) {}
+
+    // 저장 전인 한 묶음. 읽은 줄 수, 파싱에 성공한 줄, 파싱 단계에서 건너뛴 줄 수를 담는다.
+    private static class Chunk {
+
+        private final List<ImportLine> lines = new ArrayList<>();
+        private int lineCount;  // 빈 줄과 건너뛴 줄을 포함한 줄 수
+        private long skippedLines;
+    }
+}
@@ -0,0 +1,240 @@
+package com.example.board.service;
+
+import com.example.board.config.ReplicaRoutingDataSource;
+import com.example.board.config.SearchCacheProperties;
+import com.example.board.config.SearchProperties;
+import com.example.board.domain.Article;
+import com.example.board.domain.Hashtag;
+import com.example.board.domain.constant.SearchType;
+import com.example.board.dto.HashtagQuery;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * 게시글 검색 결과 캐시. 검색 조건(검색 종류 + 정규화한 검색어)과 페이지를 키로, 그 페이지의 게시글 id 목록과 전체 게시글 수를 담아둔다.
+ * 같은 검색이 몰리면 검색 쿼리와 count 쿼리 없이 id 목록만 꺼내고, 게시글 본문은 2차 캐시(article 영역)에서 채운다.
+ *
+ * 게시글이 저장, 수정, 삭제되면 트랜잭션 커밋 후에 그 게시글이 걸릴 수 있는 검색 결과만 비운다.
+ * 변경 전후의 게시글 중 하나라도 검색어를 포함하면(해시태그 검색은 검색 조건의 해시태그가 하나라도 달려 있으면) 그 검색 조건의 모든 페이지를 비운다.
+ * 제목/본문 검색 엔진이 like가 아니면(형태소 분석, 어간 추출) 포함 여부로는 걸리는지 알 수 없으므로 제목/본문 검색 결과는 모두 비운다.
+ *
+ * 복제본({@link ReplicaRoutingDataSource})을 쓰면 검색은 복제본에서 실행되므로, 커밋 후에 비운 다음 검색해도 아직 변경이 반영되지 않은 결과를 읽을 수 있다.
+ * 그런 결과가 캐시 유효 시간 내내 남지 않도록, 복제 지연이 있는 복제본이 있는 동안에는 검색 결과를 저장하지 않는다.
+ */
+@Component
+public class ArticleSearchCache implements MeterBinder {
+
+    private final boolean enabled;
+    private final boolean likeEngine;
+    private final Cache<Key, Result> results;
+    private final ReplicaRoutingDataSource replicaRoutingDataSource;  // 복제본을 쓰지 않으면 null
+    private final AtomicLong generation = new AtomicLong();
+    private final LongAdder invalidated = new LongAdder();
+    private final LongAdder skipped = new LongAdder();
+
+    public ArticleSearchCache(
+            SearchCacheProperties searchCacheProperties,
+            SearchProperties searchProperties,
+            ObjectProvider<ReplicaRoutingDataSource> replicaRoutingDataSource
+    ) {
+        this.enabled = searchCacheProperties.enabled();
+        this.replicaRoutingDataSource = replicaRoutingDataSource.getIfAvailable();
+        this.likeEngine = searchProperties.engine() == SearchProperties.Engine.LIKE;
+        this.results = Caffeine.newBuilder()
+                .maximumSize(searchCacheProperties.maximumSize())
+                .expireAfterWrite(searchCacheProperties.timeToLive())
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * @return 담아둔 검색 결과. 없거나 캐시를 쓰지 않는 검색(페이지 없이 전체 조회)이면 빈 값
+     */
+    public Optional<Result> get(Key key) {
+        if (!isCacheable(key)) {
+            return Optional.empty();
+        }
+
+        return Optional.ofNullable(results.getIfPresent(key));
+    }
+
+    /**
+     * 검색 결과 페이지의 게시글 id와 전체 게시글 수를 저장한다. 검색하는 동안 게시글이 바뀌었거나 복제 지연이 있는 복제본이 있으면
+     * 이전 결과일 수 있으므로 캐시에 남기지 않는다.
+     *
+     * @param searchedGeneration 검색을 시작하기 전에 {@link #generation()}으로 받아둔 값
+     */
+    public void put(Key key, Page<Long> articleIds, long searchedGeneration) {
+        if (!isCacheable(key)) {
+            return;
+        }
+        if (replicaRoutingDataSource != null && replicaRoutingDataSource.hasLaggingReplica()) {
+            skipped.increment();
+            return;
+        }
+
+        results.put(key, new Result(articleIds.getContent(), articleIds.getTotalElements()));
+        if (generation.get() != searchedGeneration) {  // 저장한 뒤에 확인해야, 확인과 저장 사이에 끼어든 변경도 놓치지 않는다.
+            results.invalidate(key);
+        }
+    }
+
+    public long generation() {
+        return generation.get();
+    }
+
+    /**
+     * 게시글이 저장, 수정, 삭제되면 그 게시글이 걸릴 수 있는 검색 결과를 비운다. 트랜잭션 안에서 호출하면 커밋된 뒤에 비운다.
+     *
+     * @param articles 바뀐 게시글의 변경 전/후 내용. 저장이면 저장한 내용, 삭제면 삭제 전 내용만 넘긴다.
+     */
+    public void evict(Snapshot... articles) {
+        List<Snapshot> changed = Arrays.asList(articles);
+        afterCommit(() -> {
+            generation.incrementAndGet();
+            results.asMap().keySet().removeIf(key -> {
+                boolean matched = changed.stream().anyMatch(article -> mayMatch(key, article));
+                if (matched) {
+                    invalidated.increment();
+                }
+                return matched;
+            });
+        });
+    }
+
+    /**
+     * 모든 검색 결과를 비운다. 한꺼번에 저장한 게시글처럼 하나씩 맞춰보는 것보다 다시 검색하는 편이 싼 경우에 쓴다.
+     */
+    public void evictAll() {
+        afterCommit(() -> {
+            generation.incrementAndGet();
+            invalidated.add(results.estimatedSize());
+            results.invalidateAll();
+        });
+    }
+
+    /**
+     * 검색어의 앞뒤 공백을 자르고 연속된 공백을 하나로 줄인다. 공백만 다른 검색어는 같은 검색으로 본다.
+     */
+    public static String normalizeKeyword(String searchKeyword) {
+        return searchKeyword == null ? null : searchKeyword.trim().replaceAll("\\s+", " ");
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, results, "articleSearch");
+        Gauge.builder("board.search.cache.hit.ratio", results, cache -> cache.stats().hitRate())
+                .description("게시글 검색 결과 캐시 적중률")
+                .register(registry);
+        FunctionCounter.builder("board.search.cache.invalidated", invalidated, LongAdder::sum)
+                .description("게시글 저장, 수정, 삭제로 비운 검색 결과 수")
+                .register(registry);
+        FunctionCounter.builder("board.search.cache.skipped", skipped, LongAdder::sum)
+                .description("복제 지연이 있는 복제본이 있어서 저장하지 않은 검색 결과 수")
+                .register(registry);
+    }
+
+
+    private boolean isCacheable(Key key) {
+        return enabled && key.pageable().isPaged();
+    }
+
+    private void afterCommit(Runnable eviction) {
+        if (!enabled) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            eviction.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                eviction.run();
+            }
+        });
+    }
+
+    // 걸릴 가능성만 보면 되므로 대소문자를 가리지 않고 넉넉하게 맞춰본다. 모르는 값(null)은 걸린다고 본다.
+    private boolean mayMatch(Key key, Snapshot article) {
+        return switch (key.searchType()) {
+            case TITLE -> !likeEngine || containsIgnoreCase(article.title(), (String) key.criteria());
+            case CONTENT -> !likeEngine || containsIgnoreCase(article.content(), (String) key.criteria());
+            case ID -> containsIgnoreCase(article.userId(), (String) key.criteria());
+            case NICKNAME -> containsIgnoreCase(article.nickname(), (String) key.criteria());
+            case HASHTAG -> {
+                HashtagQuery hashtagQuery = (HashtagQuery) key.criteria();  // 제외 조건만 있는 검색은 결과가 항상 비어 있고, 반드시/하나 이상 조건의 해시태그가 없는 게시글은 걸리지 않는다.
+                yield article.hashtagNames().stream().anyMatch(name -> hashtagQuery.allOf().contains(name) || hashtagQuery.anyOf().contains(name));
+            }
+        };
+    }
+
+    private static boolean containsIgnoreCase(String value, String keyword) {
+        return value == null || value.toLowerCase(Locale.ROOT).contains(keyword.toLowerCase(Locale.ROOT));
+    }
+
+
+    /**
+     * 검색 결과 캐시 키
+     *
+     * @param criteria 검색 조건. 해시태그 검색은 {@link HashtagQuery}, 그 외에는 {@link #normalizeKeyword}로 정규화한 검색어
+     * @param pageable 페이지 번호, 크기, 정렬
+     */
+    public record Key(SearchType searchType, Object criteria, Pageable pageable) {
+
+        public static Key of(SearchType searchType, String searchKeyword, Pageable pageable) {
+            Object criteria = searchType == SearchType.HASHTAG ? HashtagQuery.parse(searchKeyword) : normalizeKeyword(searchKeyword);
+            return new Key(searchType, criteria, pageable);
+        }
+    }
+
+    /**
+     * @param articleIds 페이지의 게시글 id. 검색 결과 순서대로 들어 있다.
+     * @param totalCount 검색 조건에 맞는 전체 게시글 수
+     */
+    public record Result(List<Long> articleIds, long totalCount) {}
+
+    /**
+     * 검색 결과를 비울지 판단하는 데 필요한 게시글 내용. 변경 전 내용은 엔티티를 고치기 전에 떠둬야 한다.
+     */
+    public record Snapshot(String title, String content, String userId, String nickname, Set<String> hashtagNames) {
+
+        public static Snapshot from(Article article) {
+            return from(article, article.getUserAccount().getNickname());
+        }
+
+        /**
+         * @param nickname 작성자 닉네임. 작성자 엔티티를 조회하지 않도록 알고 있는 값을 따로 넘긴다.
+         */
+        public static Snapshot from(Article article, String nickname) {
+            return new Snapshot(
+                    article.getTitle(),
+                    article.getContent(),
+                    article.getUserAccount().getUserId(),
+                    nickname,
+                    article.getHashtags().stream().map(Hashtag::getHashtagName).collect(Collectors.toUnmodifiableSet())
+            );
+        }
+    }
+}
@@ -1,22 +1,50 @@
 package com.example.board.service;
 
 import com.example.board.domain.Article;
+import com.example.board.domain.Hashtag;
 import com.example.board.domain.UserAccount;
+import com.example.board.domain.constant.CursorDirection;
 import com.example.board.domain.constant.SearchType;
+import com.example.board.dto.ArticleCursor;
 import com.example.board.dto.ArticleDto;
+import com.example.board.dto.ArticleSummaryDto;
 import com.example.board.dto.ArticleWithCommentsDto;
+import com.example.board.dto.CursorPage;
+import com.example.board.dto.HashtagQuery;
+import com.example.board.dto.InvalidCursorException;
 import com.example.board.repository.ArticleRepository;
+import com.example.board.repository.HashtagRepository;
 import com.example.board.repository.UserAccountRepository;
+import com.example.board.service.search.ArticleSearchEngine;
+import com.example.board.service.search.HashtagCatalog;
+import com.example.board.service.search.HashtagPostingsIndex;
+import com.example.board.service.search.UserAccountSearchIndex;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import javax.persistence.EntityNotFoundException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -24,8 +52,23 @@ import java.util.List;
 @Service
 public class ArticleService {
 
+    private static final int BULK_CHUNK_SIZE = 1000;  // hibernate.jdbc.batch_size의 배수로 맞춘다.
+    private static final int MAX_ID_LOOKUP = 1000;  // 해시태그 검색에 걸린 게시글이 이 이하이면 id 목록(in 조건)으로 조회한다.
+
+    private final HashtagService hashtagService;
     private final ArticleRepository articleRepository;
     private final UserAccountRepository userAccountRepository;
+    private final HashtagRepository hashtagRepository;
+    private final ArticleSearchEngine articleSearchEngine;  // 제목, 본문 검색은 설정된 검색 엔진(board.search.engine)에 맡긴다.
+    private final UserAccountSearchIndex userAccountSearchIndex;
+    private final HashtagCatalog hashtagCatalog;
+    private final HashtagPostingsIndex hashtagPostingsIndex;
+    private final RenderedPageCache renderedPageCache;
+    private final ArticleSearchCache articleSearchCache;
+    private final RequestCoalescer requestCoalescer;  // 같은 게시글, 같은 검색을 동시에 읽는 요청은 한 번만 조회한다.
+    private final ArticleCounter articleCounter;
+    private final ReadYourWritesTracker readYourWritesTracker;  // 복제본을 쓰면 글쓴이의 읽기를 잠시 주 DB로 보낸다.
+    private final TransactionTemplate transactionTemplate;
 
     @Transactional(readOnly = true)
     public Page<ArticleDto> searchArticles(SearchType searchType, String searchKeyword, Pageable pageable) {
@@ -33,42 +76,269 @@ public class ArticleService {
             return articleRepository.findAll(pageable).map(ArticleDto::from);
         }
 
-        return switch (searchType) {
-            case TITLE ->
-                    articleRepository.findByTitleContaining(searchKeyword, pageable)
-                            .map(ArticleDto::from);
-            case CONTENT ->
-                    articleRepository.findByContentContaining(searchKeyword, pageable)
-                            .map(ArticleDto::from);
-            case ID ->
-                    articleRepository.findByUserAccount_UserIdContaining(searchKeyword, pageable)
-                            .map(ArticleDto::from);
-            case NICKNAME ->
-                    articleRepository.findByUserAccount_NicknameContaining(searchKeyword, pageable)
-                            .map(ArticleDto::from);
-            case HASHTAG ->
-                    articleRepository.findByHashtagNames(Arrays.stream(searchKeyword.split(" ")).toList(), pageable)
-                            .map(ArticleDto::from);
-        };
+        Page<Long> articleIds = searchArticleIds(searchType, searchKeyword, pageable);
+        List<Article> articles = articleRepository.findAllByIdInOrderUsingCache(articleIds.getContent());
+
+        return new PageImpl<>(articles, pageable, articleIds.getTotalElements()).map(ArticleDto::from);
+    }
+
+    /**
+     * 목록 화면용 게시글 검색. 검색어가 있으면 {@link #searchArticles}와 같이 게시글 id를 검색하고, 게시글은 목록 컬럼만 프로젝션으로 조회한다.
+     * 같은 검색(정규화한 검색어, 페이지)이 동시에 들어오면 한 번만 조회한다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)  // 트랜잭션은 RequestCoalescer가 실제로 조회하는 요청에만 연다.
+    public Page<ArticleSummaryDto> searchArticleSummaries(SearchType searchType, String searchKeyword, Pageable pageable) {
+        String keyword = ArticleSearchCache.normalizeKeyword(searchKeyword);
+        return requestCoalescer.execute("articleSummaries", searchRequestKey(searchType, keyword, pageable), () -> {
+            if (searchType == null || keyword == null || keyword.isEmpty()) {
+                return articleRepository.findSummaries(pageable);
+            }
+
+            Page<Long> articleIds = searchArticleIds(searchType, keyword, pageable);
+            return new PageImpl<>(articleRepository.findSummariesByIdInOrder(articleIds.getContent()), pageable, articleIds.getTotalElements());
+        });
     }
 
+    /**
+     * 목록 화면용 게시글을 Slice로 검색한다. 다음 페이지 존재 여부만 알 수 있다. 같은 검색이 동시에 들어오면 한 번만 조회한다.
+     * 검색어가 없으면 count 쿼리 없이 조회한다. 검색어가 있으면 {@link #searchArticleSummaries}와 같이 검색 엔진, 사용자/해시태그 검색 색인, 검색 결과 캐시를 거친다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Slice<ArticleSummaryDto> searchArticleSlice(SearchType searchType, String searchKeyword, Pageable pageable) {
+        String keyword = ArticleSearchCache.normalizeKeyword(searchKeyword);
+        return requestCoalescer.execute("articleSlice", searchRequestKey(searchType, keyword, pageable), () -> {
+            if (searchType == null || keyword == null || keyword.isEmpty()) {
+                return articleRepository.findSummarySlice(pageable);
+            }
+
+            Page<Long> articleIds = searchArticleIds(searchType, keyword, pageable);
+            return new SliceImpl<>(articleRepository.findSummariesByIdInOrder(articleIds.getContent()), pageable, articleIds.hasNext());
+        });
+    }
+
+    /**
+     * DB 통계를 이용해서 검색 결과 게시글 수를 추정한다. 페이지네이션 바 표시용이므로 정확하지 않아도 된다.
+     * 해시태그 검색은 해시태그 검색 색인으로 정확한 게시글 수를 구한다.
+     */
     @Transactional(readOnly = true)
+    public OptionalLong estimateArticleCount(SearchType searchType, String searchKeyword) {
+        if (searchType == SearchType.HASHTAG && searchKeyword != null && !searchKeyword.isBlank()) {
+            Optional<HashtagPostingsIndex.ArticleIds> articleIds = hashtagPostingsIndex.search(HashtagQuery.parse(searchKeyword));
+            if (articleIds.isPresent()) {
+                return OptionalLong.of(articleIds.get().count());
+            }
+        }
+
+        return articleRepository.estimateCount(searchType, searchKeyword);
+    }
+
+    /**
+     * (createdAt, id) 커서 기반으로 게시글을 검색한다.
+     * offset 페이징과 달리 count 쿼리가 없고, 앞쪽 페이지를 건너뛰기 위한 스캔도 없어서 깊은 페이지도 첫 페이지와 같은 비용으로 조회된다.
+     *
+     * @param cursor 이전 응답에서 받은 커서. 없으면 첫 페이지를 조회한다.
+     * @throws InvalidCursorException 형식이 올바르지 않은 커서인 경우
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<ArticleDto> searchArticlesByCursor(
+            SearchType searchType,
+            String searchKeyword,
+            String cursor,
+            CursorDirection direction,
+            int size
+    ) {
+        ArticleCursor articleCursor = ArticleCursor.decode(cursor);
+        CursorDirection seekDirection = articleCursor == null ? CursorDirection.NEXT : direction;
+
+        List<Article> articles = new ArrayList<>(articleRepository.findByCursor(
+                searchType,
+                searchKeyword,
+                articleCursor == null ? null : articleCursor.createdAt(),
+                articleCursor == null ? null : articleCursor.id(),
+                seekDirection,
+                size + 1  // 한 건을 더 조회해서 다음(이전) 페이지가 있는지 판단한다.
+        ));
+        boolean hasMore = articles.size() > size;
+        if (hasMore) {
+            articles.remove(size);
+        }
+        if (seekDirection == CursorDirection.PREVIOUS) {
+            Collections.reverse(articles);  // 이전 페이지는 오래된 순으로 조회했으므로 화면 순서(최신순)로 되돌린다.
+        }
+        if (articles.isEmpty()) {
+            return CursorPage.empty();
+        }
+
+        String firstCursor = ArticleCursor.from(articles.get(0)).encode();
+        String lastCursor = ArticleCursor.from(articles.get(articles.size() - 1)).encode();
+        boolean hasPrevious = seekDirection == CursorDirection.NEXT ? articleCursor != null : hasMore;
+        boolean hasNext = seekDirection == CursorDirection.NEXT ? hasMore : true;  // 이전 페이지로 왔다면 뒤쪽에는 항상 게시글이 있다.
+
+        return CursorPage.of(
+                articles.stream().map(ArticleDto::from).toList(),
+                hasPrevious ? firstCursor : null,
+                hasNext ? lastCursor : null
+        );
+    }
+
+    // 검색어가 없으면 검색 종류와 상관 없이 같은 목록이다.
+    private static List<Object> searchRequestKey(SearchType searchType, String keyword, Pageable pageable) {
+        return searchType == null || keyword == null || keyword.isEmpty()
+                ? Arrays.asList(null, null, pageable)
+                : Arrays.asList(searchType, keyword, pageable);
+    }
+
+    private static String toHashtagName(String hashtag) {
+        String hashtagName = hashtag.trim();
+        return hashtagName.startsWith("#") ? hashtagName.substring(1) : hashtagName;
+    }
+
+    // 최신순(기본 정렬)은 article_hashtag에서 찾은 게시글을 (createdAt, id) 순서로 바로 정렬한다. 다른 정렬은 요청한 정렬 그대로 게시글 테이블에서 정렬한다.
+    private static boolean isNewestFirst(Sort sort) {
+        return sort.isUnsorted() || sort.equals(Sort.by(Sort.Direction.DESC, "createdAt"));
+    }
+
+    /**
+     * 검색어에 맞는 게시글 id 페이지. 검색 결과 캐시에 있으면 캐시의 id 목록을 쓰고, 없으면 검색 종류에 맞는 검색 엔진이나 색인으로 찾아서 캐시에 담는다.
+     * 게시글은 호출하는 쪽이 필요한 모양(엔티티, 목록 컬럼)으로 id로 조회한다.
+     */
+    private Page<Long> searchArticleIds(SearchType searchType, String searchKeyword, Pageable pageable) {
+        ArticleSearchCache.Key cacheKey = ArticleSearchCache.Key.of(searchType, searchKeyword, pageable);
+        String keyword = ArticleSearchCache.normalizeKeyword(searchKeyword);  // 캐시 키와 같은 검색어로 검색해야, 공백만 다른 검색어에 다른 결과를 돌려주지 않는다.
+        Optional<ArticleSearchCache.Result> cached = articleSearchCache.get(cacheKey);
+        if (cached.isPresent()) {
+            return new PageImpl<>(cached.get().articleIds(), pageable, cached.get().totalCount());
+        }
+
+        long generation = articleSearchCache.generation();
+        Page<Long> articleIds = switch (searchType) {
+            case TITLE, CONTENT -> articleSearchEngine.searchIds(searchType, keyword, pageable);
+            case ID, NICKNAME -> searchArticleIdsByUserAccount(searchType, keyword, pageable);
+            case HASHTAG -> searchArticleIdsByHashtags(keyword, pageable);
+        };
+        articleSearchCache.put(cacheKey, articleIds, generation);
+
+        return articleIds;
+    }
+
+    /**
+     * 해시태그 검색 색인으로 검색 조건(AND/OR/NOT)에 맞는 게시글 id와 게시글 수를 구하고, 페이지의 게시글 id만 DB에서 정렬해서 가져온다. count 쿼리는 실행하지 않는다.
+     * 걸린 게시글이 적으면 그 id들로, 많으면 해시태그 조건(exists)으로 페이지를 조회한다. 색인이 준비되기 전에는 DB에서 해시태그 조건으로 검색한다.
+     */
+    private Page<Long> searchArticleIdsByHashtags(String searchKeyword, Pageable pageable) {
+        HashtagQuery hashtagQuery = HashtagQuery.parse(searchKeyword);
+        return hashtagPostingsIndex.search(hashtagQuery)
+                .<Page<Long>>map(articleIds -> {
+                    long totalCount = articleIds.count();
+                    if (totalCount == 0 || pageable.isPaged() && pageable.getOffset() >= totalCount) {
+                        return new PageImpl<>(List.of(), pageable, totalCount);
+                    }
+
+                    List<Long> pageIds = totalCount <= MAX_ID_LOOKUP
+                            ? articleRepository.findPageIdsByIdIn(articleIds.toList(), pageable)
+                            : articleRepository.findPageIdsByHashtagQuery(hashtagQuery, pageable);
+                    return new PageImpl<>(pageIds, pageable, totalCount);
+                })
+                .orElseGet(() -> articleRepository.findIdsBySearch(SearchType.HASHTAG, searchKeyword, pageable));
+    }
+
+    /**
+     * 사용자 검색 색인으로 검색어가 포함된 작성자를 먼저 찾고, 그 작성자들의 게시글 id를 조회한다.
+     * 색인을 쓸 수 없으면(준비 전이거나 걸리는 작성자가 너무 많은 경우) user_account를 join한 like 검색을 한다.
+     */
+    private Page<Long> searchArticleIdsByUserAccount(SearchType searchType, String searchKeyword, Pageable pageable) {
+        return userAccountSearchIndex.findUserIds(searchType, searchKeyword)
+                .map(userIds -> articleRepository.findIdsByUserIdIn(userIds, pageable))
+                .orElseGet(() -> articleRepository.findIdsBySearch(searchType, searchKeyword, pageable));
+    }
+
+    /**
+     * 같은 게시글을 동시에 읽는 요청은 한 번만 조회하고 결과를 나눠 받는다. (인기 게시글에 요청이 몰리는 경우)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public ArticleWithCommentsDto getArticleWithComments(long articleId) {
-        return articleRepository.findById(articleId)
+        return requestCoalescer.execute("articleWithComments", articleId, () -> articleRepository.findById(articleId)
                 .map(ArticleWithCommentsDto::from)
-                .orElseThrow(() -> new EntityNotFoundException("게시글이 없습니다 - articleId: " + articleId));
+                .orElseThrow(() -> new EntityNotFoundException("게시글이 없습니다 - articleId: " + articleId)));
     }
 
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public ArticleDto getArticle(Long articleId) {
-        return articleRepository.findById(articleId)
+        return requestCoalescer.execute("article", articleId, () -> articleRepository.findById(articleId)
                 .map(ArticleDto::from)
-                .orElseThrow(() -> new EntityNotFoundException("게시글이 없습니다 - articleId: " + articleId));
+                .orElseThrow(() -> new EntityNotFoundException("게시글이 없습니다 - articleId: " + articleId)));
     }
 
     public void saveArticle(ArticleDto dto) {
         UserAccount userAccount = userAccountRepository.getReferenceById(dto.userAccountDto().userId());  // 바로 업데이트 할 수 없으니 수정을 할 객체를 영속성 컨텍스트에 올리기 위해 조회. 이 과정에서 findById()를 사용해버리면 무조건 select 쿼리가 발생해버린다. getReferenceById()를 사용하면 레퍼런스(프록시)만 가져오기 때문에 이 객체의 데이터에 접근하지 않으면 select 쿼리가 발생하지 않는다.
-        articleRepository.save(dto.toEntity(userAccount));
+        Article article = dto.toEntity(userAccount);
+        article.addHashtags(renewHashtagsFromContent(dto.content()));
+        Article savedArticle = articleRepository.save(article);
+        articleSearchEngine.index(savedArticle);
+        hashtagCatalog.index(savedArticle);
+        hashtagPostingsIndex.index(savedArticle);
+        renderedPageCache.evictAll(savedArticle);
+        articleSearchCache.evict(ArticleSearchCache.Snapshot.from(savedArticle, dto.userAccountDto().nickname()));
+        articleCounter.increment();
+        readYourWritesTracker.markWritten(dto.userAccountDto().userId());
+    }
+
+    /**
+     * 게시글을 한꺼번에 저장한다. (대량 가져오기용)
+     * {@value #BULK_CHUNK_SIZE}건씩 나눠서 묶음마다 별도의 트랜잭션으로 저장한다. 건수가 많아져도 영속성 컨텍스트와 2차 캐시 잠금이 한 트랜잭션에 계속 쌓이지 않게 하기 위해서다.
+     * 게시글 id를 시퀀스에서 미리 받아 오므로 insert는 JDBC batch(hibernate.jdbc.batch_size)로 묶여서 나간다.
+     * 중간에 실패하면 실패한 묶음만 롤백되고, 앞에서 저장한 묶음은 남은 채로 예외가 전파된다.
+     *
+     * @return 저장한 게시글 수
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int saveArticles(List<ArticleDto> dtos) {
+        int savedCount = 0;
+        for (int from = 0; from < dtos.size(); from += BULK_CHUNK_SIZE) {
+            List<ArticleDto> chunk = dtos.subList(from, Math.min(from + BULK_CHUNK_SIZE, dtos.size()));
+            savedCount += transactionTemplate.execute(status -> saveArticleChunk(chunk)).size();
+        }
+        log.info("게시글 일괄 저장 완료 - {}건", savedCount);
+
+        return savedCount;
+    }
+
+    /**
+     * 게시글 묶음을 하나의 트랜잭션으로 저장한다. 호출한 쪽에 트랜잭션이 있으면 그 트랜잭션에 참여한다.
+     * 본문의 해시태그와 DTO에 따로 담긴 해시태그를 합쳐서 묶음 전체에 대해 한 번의 쿼리로 조회하고, DB에 없는 해시태그는 이름마다 한 번씩만 만든다.
+     * 저장하는 게시글은 2차 캐시를 거치지 않는다. ({@link ArticleRepository#bypassSecondLevelCacheForBulkInsert()})
+     *
+     * @return 저장한 게시글 id. 입력한 DTO 순서와 같다.
+     */
+    public List<Long> saveArticleChunk(List<ArticleDto> dtos) {
+        if (dtos.isEmpty()) {
+            return List.of();
+        }
+
+        articleRepository.bypassSecondLevelCacheForBulkInsert();
+        List<Set<String>> hashtagNamesOfArticles = dtos.stream()
+                .map(this::getHashtagNames)
+                .toList();
+        Map<String, Hashtag> hashtagsByName = renewHashtagsByName(hashtagNamesOfArticles.stream()
+                .flatMap(Set::stream)
+                .collect(Collectors.toSet()));
+
+        List<Article> articles = new ArrayList<>(dtos.size());
+        for (int i = 0; i < dtos.size(); i++) {
+            ArticleDto dto = dtos.get(i);
+            Article article = dto.toEntity(userAccountRepository.getReferenceById(dto.userAccountDto().userId()));
+            hashtagNamesOfArticles.get(i).forEach(hashtagName -> article.addHashtag(hashtagsByName.get(hashtagName)));
+            articles.add(article);
+        }
+        articleRepository.saveAll(articles);
+        articleSearchEngine.indexAll(articles);
+        hashtagCatalog.indexAll(articles);
+        hashtagPostingsIndex.indexAll(articles);
+        renderedPageCache.evictAll(articles.get(articles.size() - 1));
+        articleSearchCache.evictAll();
+        articleCounter.increment(articles.size());
+
+        return articles.stream().map(Article::getId).toList();
     }
 
     public void updateArticle(Long articleId, ArticleDto dto) {
@@ -77,13 +347,21 @@ public class ArticleService {
             UserAccount userAccount = userAccountRepository.getReferenceById(dto.userAccountDto().userId());
 
             if (article.getUserAccount().equals(userAccount)) {
+                ArticleSearchCache.Snapshot before = ArticleSearchCache.Snapshot.from(article);  // 제목, 본문, 해시태그를 바꾸기 전에 떠둔다.
                 // dto의 데이터가 null일 경우를 위한 방어로직
                 if (dto.title() != null) {
                     article.setTitle(dto.title());
                 }
                 if (dto.content() != null) {
                     article.setContent(dto.content());
+                    replaceHashtags(article, renewHashtagsFromContent(dto.content()));
                 }
+                articleSearchEngine.index(article);
+                hashtagCatalog.index(article);
+                hashtagPostingsIndex.index(article);
+                renderedPageCache.evictAll(article);
+                articleSearchCache.evict(before, ArticleSearchCache.Snapshot.from(article));
+                readYourWritesTracker.markWritten(dto.userAccountDto().userId());
             }
         } catch (EntityNotFoundException e) {
             log.warn("게시글 업데이트 실패. 게시글을 수정하는데 필요한 정보를 찾을 수 없습니다 - dto: {}", e.getLocalizedMessage());
@@ -91,23 +369,161 @@ public class ArticleService {
     }
 
     public void deleteArticle(long articleId, String userId) {
-        articleRepository.deleteByIdAndUserAccount_UserId(articleId, userId);
+        try {
+            Article article = articleRepository.getReferenceById(articleId);
+            Set<Long> hashtagIds = getHashtagIds(article);
+            ArticleSearchCache.Snapshot deleted = ArticleSearchCache.Snapshot.from(article);
+
+            articleRepository.deleteByIdAndUserAccount_UserId(articleId, userId);
+            articleRepository.flush();  // 해시태그 연결이 지워진 뒤에 남은 해시태그를 찾아야 하므로 먼저 DB에 반영한다.
+            if (!articleRepository.existsById(articleId)) {  // 작성자가 아니면 삭제되지 않으므로, 실제로 삭제된 경우에만 정리한다.
+                hashtagService.deleteHashtagWithoutArticles(hashtagIds);
+                articleSearchEngine.remove(articleId);
+                hashtagCatalog.remove(articleId);
+                hashtagPostingsIndex.remove(articleId);
+                renderedPageCache.evictAll(null);
+                articleSearchCache.evict(deleted);
+                articleCounter.decrement();
+            }
+        } catch (EntityNotFoundException e) {
+            log.warn("게시글 삭제 실패. 게시글을 찾을 수 없습니다 - articleId: {}", articleId);
+        }
     }
 
+    /**
+     * 전체 게시글 수. 매번 count(*)를 실행하지 않고 메모리의 카운터 값을 반환하므로 최대 {@link ArticleCounter#getMaxStaleness()}만큼 늦을 수 있다.
+     */
+    @Transactional(readOnly = true)
     public long getArticleCount() {
-        return articleRepository.count();
+        return articleCounter.getCount();
     }
 
+    /**
+     * 해시태그 하나가 달린 게시글 페이지. 해시태그 이름은 유니크 인덱스로 한 번만 id로 바꾸고, 게시글은 article_hashtag의 (hashtagId, articleId) 인덱스에서 찾아 최신순으로 정렬한다.
+     * 페이지네이션 바에 쓰는 게시글 수는 해시태그 검색 색인이 들고 있는 값을 쓰고, 색인이 준비되기 전에만 count 쿼리를 실행한다.
+     */
     @Transactional(readOnly = true)
     public Page<ArticleDto> searchArticlesViaHashtag(String hashtag, Pageable pageable) {
         if (hashtag == null || hashtag.isBlank()) {
             return Page.empty(pageable);
         }
 
-        return articleRepository.findByHashtagNames(null, pageable).map(ArticleDto::from);
+        String hashtagName = toHashtagName(hashtag);
+        if (!isNewestFirst(pageable.getSort())) {
+            return articleRepository.findByHashtagNames(List.of(hashtagName), pageable).map(ArticleDto::from);
+        }
+
+        Optional<Long> hashtagId = hashtagRepository.findByHashtagName(hashtagName).map(Hashtag::getId);
+        if (hashtagId.isEmpty()) {
+            return Page.empty(pageable);
+        }
+
+        long totalCount = hashtagPostingsIndex.countArticles(hashtagName)
+                .orElseGet(() -> articleRepository.countByHashtagId(hashtagId.get()));
+        if (totalCount == 0 || pageable.isPaged() && pageable.getOffset() >= totalCount) {
+            return new PageImpl<>(List.of(), pageable, totalCount);
+        }
+
+        return new PageImpl<>(articleRepository.findPageByHashtagId(hashtagId.get(), pageable), pageable, totalCount)
+                .map(ArticleDto::from);
+    }
+
+    /**
+     * 해시태그 하나가 달린 게시글을 최신순으로 커서 기반 조회한다. count 쿼리는 실행하지 않는다.
+     * 커서는 게시글 목록과 같은 (createdAt, id) 커서({@link ArticleCursor})를 쓴다.
+     *
+     * @param cursor 이전 응답에서 받은 커서. 없으면 첫 페이지를 조회한다.
+     * @throws InvalidCursorException 형식이 올바르지 않은 커서인 경우
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<ArticleDto> searchArticlesViaHashtagByCursor(String hashtag, String cursor, CursorDirection direction, int size) {
+        if (hashtag == null || hashtag.isBlank()) {
+            return CursorPage.empty();
+        }
+
+        ArticleCursor articleCursor = ArticleCursor.decode(cursor);
+        Optional<Long> hashtagId = hashtagRepository.findByHashtagName(toHashtagName(hashtag)).map(Hashtag::getId);
+        if (hashtagId.isEmpty()) {
+            return CursorPage.empty();
+        }
+
+        CursorDirection seekDirection = articleCursor == null ? CursorDirection.NEXT : direction;
+        List<Article> articles = new ArrayList<>(articleRepository.findByHashtagIdAndCursor(
+                hashtagId.get(),
+                articleCursor == null ? null : articleCursor.createdAt(),
+                articleCursor == null ? null : articleCursor.id(),
+                seekDirection,
+                size + 1  // 한 건을 더 조회해서 다음(이전) 페이지가 있는지 판단한다.
+        ));
+        boolean hasMore = articles.size() > size;
+        if (hasMore) {
+            articles.remove(size);
+        }
+        if (seekDirection == CursorDirection.PREVIOUS) {
+            Collections.reverse(articles);
+        }
+        if (articles.isEmpty()) {
+            return CursorPage.empty();
+        }
+
+        boolean hasPrevious = seekDirection == CursorDirection.NEXT ? articleCursor != null : hasMore;
+        boolean hasNext = seekDirection == CursorDirection.NEXT ? hasMore : true;
+
+        return CursorPage.of(
+                articles.stream().map(ArticleDto::from).toList(),
+                hasPrevious ? ArticleCursor.from(articles.get(0)).encode() : null,
+                hasNext ? ArticleCursor.from(articles.get(articles.size() - 1)).encode() : null
+        );
     }
 
+    /**
+     * 해시태그 검색 화면에 보여줄 해시태그 목록. 메모리의 해시태그 목록 캐시에서 가져오므로 DB를 조회하지 않는다.
+     * 캐시가 준비되기 전(애플리케이션 시작 중)에만 DB에서 해시태그 이름을 조회한다.
+     */
+    @Transactional(readOnly = true)
     public List<String> getHashtags() {
-        return articleRepository.findAllDistinctHashtags();
+        return hashtagCatalog.getHashtagNames().orElseGet(hashtagRepository::findAllHashtagNames);
+    }
+
+
+    // 게시글의 해시태그를 본문의 해시태그로 바꾸고, 이 게시글에서 빠지면서 더 이상 쓰이지 않게 된 해시태그를 지운다.
+    private void replaceHashtags(Article article, Set<Hashtag> hashtags) {
+        Set<Long> previousHashtagIds = getHashtagIds(article);
+        article.clearHashtags();
+        article.addHashtags(hashtags);
+        articleRepository.flush();  // 바뀐 해시태그 연결을 DB에 반영해야 남은 해시태그를 찾을 수 있다.
+        hashtagService.deleteHashtagWithoutArticles(previousHashtagIds);
+    }
+
+    // 본문의 해시태그 이름을 한 번의 쿼리로 조회하고, DB에 없는 이름은 새 해시태그로 만든다. 새 해시태그는 게시글과 함께 저장(cascade)된다.
+    private Set<Hashtag> renewHashtagsFromContent(String content) {
+        return new HashSet<>(renewHashtagsByName(hashtagService.parseHashtagNames(content)).values());
+    }
+
+    private Map<String, Hashtag> renewHashtagsByName(Set<String> hashtagNames) {
+        Map<String, Hashtag> hashtagsByName = hashtagService.findHashtagsByNames(hashtagNames).stream()
+                .collect(Collectors.toMap(Hashtag::getHashtagName, Function.identity()));
+        hashtagNames.forEach(hashtagName -> hashtagsByName.computeIfAbsent(hashtagName, Hashtag::of));
+
+        return hashtagsByName;
+    }
+
+    // 본문의 해시태그에 DTO에 따로 담긴 해시태그(다른 시스템에서 가져온 게시글 등)를 더한다.
+    private Set<String> getHashtagNames(ArticleDto dto) {
+        Set<String> hashtagNamesInContent = hashtagService.parseHashtagNames(dto.content());
+        if (dto.hashtagDtos() == null || dto.hashtagDtos().isEmpty()) {
+            return hashtagNamesInContent;
+        }
+
+        Set<String> hashtagNames = new LinkedHashSet<>(hashtagNamesInContent);
+        dto.hashtagDtos().forEach(hashtagDto -> hashtagNames.add(hashtagDto.hashtagName()));
+
+        return hashtagNames;
+    }
+
+    private Set<Long> getHashtagIds(Article article) {
+        return article.getHashtags().stream()
+                .map(Hashtag::getId)
+                .collect(Collectors.toUnmodifiableSet());
     }
 }
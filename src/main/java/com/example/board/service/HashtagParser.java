@@ -0,0 +1,49 @@
+package com.example.board.service;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * 본문에서 '#해시태그'를 찾는 스캐너. 정규식 없이 본문을 한 번만 훑고, 찾은 해시태그 이름 외에는 객체를 만들지 않는다.
+ * 해시태그 이름은 '#' 뒤에 이어지는 문자(한글 포함), 숫자, '_'이다.
+ */
+public final class HashtagParser {
+
+    private HashtagParser() {
+    }
+
+    /**
+     * @return 본문에 나온 순서대로 중복 없이 담은 해시태그 이름('#' 제외). 본문이 null이거나 해시태그가 없으면 빈 Set
+     */
+    public static Set<String> parse(String content) {
+        Set<String> hashtagNames = new LinkedHashSet<>();
+        if (content == null) {
+            return hashtagNames;
+        }
+
+        int length = content.length();
+        int hash = content.indexOf('#');  // '#'이 아닌 부분은 indexOf()로 건너뛴다. (JIT이 벡터 연산으로 바꿔준다.)
+        while (hash >= 0) {
+            int start = hash + 1;
+            int end = start;
+            while (end < length && isHashtagChar(content.charAt(end))) {
+                end++;
+            }
+            if (end > start) {
+                hashtagNames.add(content.substring(start, end));
+            }
+            hash = content.indexOf('#', end);
+        }
+
+        return hashtagNames;
+    }
+
+    // 대부분의 본문은 ASCII이므로 Character.isLetterOrDigit()의 유니코드 표 조회는 ASCII가 아닐 때만 한다.
+    private static boolean isHashtagChar(char c) {
+        if (c < 128) {
+            return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '_';
+        }
+
+        return Character.isLetterOrDigit(c);
+    }
+}
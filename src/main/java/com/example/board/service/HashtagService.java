@@ -1,21 +1,73 @@
 package com.example.board.service;
 
+import com.example.board.domain.Hashtag;
+import com.example.board.repository.HashtagRepository;
+import com.example.board.service.search.HashtagCatalog;
+import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
+@RequiredArgsConstructor
+@Transactional
 @Service
 public class HashtagService {
 
-    public Object parseHashtagNames(String content) {
-        return null;
+    private final HashtagRepository hashtagRepository;
+    private final HashtagCatalog hashtagCatalog;
+
+    /**
+     * 본문에서 해시태그 이름을 추출한다.
+     *
+     * @see HashtagParser
+     */
+    public Set<String> parseHashtagNames(String content) {
+        return HashtagParser.parse(content);
     }
 
-    public Object findHashtagsByNames(Set<String> expectedHashtagNames) {
-        return null;
+    /**
+     * 이름으로 해시태그를 한 번의 쿼리로 조회한다. DB에 없는 이름은 결과에 포함되지 않는다.
+     *
+     * @return 조회한 해시태그. 호출한 쪽에서 없는 해시태그를 추가할 수 있도록 수정 가능한 Set으로 반환한다.
+     */
+    @Transactional(readOnly = true)
+    public Set<Hashtag> findHashtagsByNames(Set<String> hashtagNames) {
+        if (hashtagNames.isEmpty()) {
+            return new HashSet<>();
+        }
+
+        return new HashSet<>(hashtagRepository.findByHashtagNameIn(hashtagNames));
+    }
+
+    /**
+     * 검색창에 입력 중인 해시태그를 자동완성한다. 메모리의 해시태그 목록 캐시에서 찾으므로 트랜잭션도 열지 않는다.
+     * 캐시가 준비되기 전(애플리케이션 시작 중)에는 DB를 대신 조회하지 않고 빈 목록을 반환한다.
+     *
+     * @return 이름이 접두어로 시작하는 해시태그. 많이 쓰인 순서로 최대 {@value HashtagCatalog#MAX_SUGGESTIONS}개
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<String> suggestHashtagNames(String prefix, int limit) {
+        if (prefix == null || prefix.isBlank()) {
+            return List.of();
+        }
+
+        return hashtagCatalog.suggest(prefix.strip(), limit).orElse(List.of());
     }
 
-    public void deleteHashtagWithoutArticles(Object any) {
+    /**
+     * 주어진 해시태그 중 더 이상 어떤 게시글에도 쓰이지 않는 해시태그를 한 번의 delete 쿼리로 지운다.
+     * 게시글과 해시태그의 연결이 DB에 반영된 뒤(flush 이후)에 호출해야 한다.
+     */
+    public void deleteHashtagWithoutArticles(Collection<Long> hashtagIds) {
+        if (hashtagIds.isEmpty()) {
+            return;
+        }
 
+        hashtagRepository.deleteWithoutArticles(hashtagIds);
     }
 }
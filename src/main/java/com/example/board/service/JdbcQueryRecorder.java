@@ -0,0 +1,260 @@
+package com.example.board.service;
+
+import com.example.board.config.JdbcMetricsProperties;
+import com.example.board.dto.SlowQueryDto;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * DataSource 프록시(datasource-proxy)가 알려주는 쿼리 실행을 기록한다.
+ *
+ * 쿼리마다 종류(select, insert, ...)별 실행 시간을 board.jdbc.query 타이머에 남기고, 요청 처리 중이면({@link #startRequest()} ~ {@link #finishRequest()})
+ * 그 요청의 쿼리 수와 시간을 더한다. 'board.jdbc-metrics.slow-query-threshold'보다 오래 걸린 쿼리는 바인딩 파라미터와 함께 로그를 남기고 최근 것부터 보관한다.
+ * 요청에 쿼리 예산이 걸려 있으면({@link #startBudget(String, int, boolean)}) 예산을 넘는 쿼리를 막을 수도 있다.
+ */
+@Slf4j
+@Component
+public class JdbcQueryRecorder implements QueryExecutionListener, MeterBinder {
+
+    private final JdbcMetricsProperties jdbcMetricsProperties;
+    private final ThreadLocal<RequestQueries> currentRequest = new ThreadLocal<>();
+    private final Deque<SlowQueryDto> slowQueries = new ArrayDeque<>();
+    private volatile MeterRegistry meterRegistry;  // DataSource가 메트릭 설정보다 먼저 만들어지므로, 바인딩되기 전의 쿼리는 타이머에 남기지 않는다.
+
+    public JdbcQueryRecorder(JdbcMetricsProperties jdbcMetricsProperties) {
+        this.jdbcMetricsProperties = jdbcMetricsProperties;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo executionInfo, List<QueryInfo> queryInfos) {
+        RequestQueries requestQueries = currentRequest.get();
+        if (requestQueries != null && requestQueries.failOnExceed && requestQueries.getBudgetedCount() >= requestQueries.budget) {
+            throw new IllegalStateException("쿼리 예산 초과 - %s: 예산 %d회, 다음 쿼리: %s".formatted(
+                    requestQueries.handler,
+                    requestQueries.budget,
+                    queryInfos.stream().map(QueryInfo::getQuery).collect(Collectors.joining("; "))
+            ));
+        }
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo executionInfo, List<QueryInfo> queryInfos) {
+        long elapsedMillis = executionInfo.getElapsedTime();
+        RequestQueries requestQueries = currentRequest.get();
+        if (requestQueries != null) {
+            requestQueries.add(elapsedMillis, queryInfos);
+        }
+
+        MeterRegistry registry = meterRegistry;
+        if (registry != null) {
+            Timer.builder("board.jdbc.query")
+                    .description("JDBC 쿼리 실행 시간")
+                    .tag("type", getQueryType(queryInfos))
+                    .tag("success", String.valueOf(executionInfo.isSuccess()))
+                    .publishPercentileHistogram()
+                    .register(registry)
+                    .record(elapsedMillis, TimeUnit.MILLISECONDS);
+        }
+
+        if (elapsedMillis >= jdbcMetricsProperties.slowQueryThreshold().toMillis()) {
+            recordSlowQuery(elapsedMillis, queryInfos);
+        }
+    }
+
+    /**
+     * 현재 스레드에서 요청 처리를 시작한다. 이후 {@link #finishRequest()}까지 실행한 쿼리를 센다.
+     */
+    public void startRequest() {
+        currentRequest.set(new RequestQueries());
+    }
+
+    /**
+     * 현재 요청에서 이후에 실행하는 쿼리에 예산을 건다. 요청 처리 중이 아니면 아무것도 하지 않는다.
+     *
+     * @param handler 로그와 예외 메시지에 남길 핸들러 이름
+     * @param failOnExceed true면 예산을 넘는 쿼리를 실행하기 전에 {@link IllegalStateException}을 던진다.
+     */
+    public void startBudget(String handler, int budget, boolean failOnExceed) {
+        RequestQueries requestQueries = currentRequest.get();
+        if (requestQueries != null) {
+            requestQueries.startBudget(handler, budget, failOnExceed);
+        }
+    }
+
+    /**
+     * @return 현재 요청에서 지금까지 실행한 쿼리 수와 시간. 요청 처리 중이 아니면 null
+     */
+    public RequestQueries getCurrentRequest() {
+        return currentRequest.get();
+    }
+
+    /**
+     * @return {@link #startRequest()} 이후 현재 스레드에서 실행한 쿼리 수와 시간
+     */
+    public RequestQueries finishRequest() {
+        RequestQueries requestQueries = currentRequest.get();
+        currentRequest.remove();
+
+        return requestQueries == null ? new RequestQueries() : requestQueries;
+    }
+
+    /**
+     * @return 최근 느린 쿼리. 최근 것이 먼저 온다.
+     */
+    public List<SlowQueryDto> getSlowQueries() {
+        synchronized (slowQueries) {
+            return List.copyOf(slowQueries);
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        this.meterRegistry = registry;
+    }
+
+
+    private void recordSlowQuery(long elapsedMillis, List<QueryInfo> queryInfos) {
+        String query = queryInfos.stream().map(QueryInfo::getQuery).collect(Collectors.joining("; "));
+        List<List<String>> parameters = queryInfos.stream()
+                .flatMap(queryInfo -> queryInfo.getParametersList().stream())
+                .map(this::toParameterValues)
+                .toList();
+        log.warn("느린 쿼리 - {}ms, {}, 파라미터: {}", elapsedMillis, query, parameters);
+
+        synchronized (slowQueries) {
+            slowQueries.addFirst(SlowQueryDto.of(LocalDateTime.now(), elapsedMillis, query, parameters));
+            while (slowQueries.size() > jdbcMetricsProperties.slowQueryHistorySize()) {
+                slowQueries.removeLast();
+            }
+        }
+    }
+
+    private List<String> toParameterValues(List<ParameterSetOperation> operations) {
+        List<String> values = new ArrayList<>(operations.size());
+        for (ParameterSetOperation operation : operations) {
+            if (ParameterSetOperation.isSetNullParameterOperation(operation)) {
+                values.add(null);
+            } else if (!ParameterSetOperation.isRegisterOutParameterOperation(operation)) {
+                values.add(String.valueOf(operation.getArgs()[1]));  // args[0]은 파라미터 위치(또는 이름)
+            }
+        }
+
+        return values;
+    }
+
+    private static String getQueryType(List<QueryInfo> queryInfos) {
+        if (queryInfos.isEmpty()) {
+            return "other";
+        }
+
+        String query = queryInfos.get(0).getQuery().stripLeading();
+        int end = 0;
+        while (end < query.length() && Character.isLetter(query.charAt(end))) {
+            end++;
+        }
+
+        return switch (query.substring(0, end).toLowerCase(Locale.ROOT)) {
+            case "select", "with" -> "select";
+            case "insert" -> "insert";
+            case "update" -> "update";
+            case "delete" -> "delete";
+            default -> "other";
+        };
+    }
+
+
+    /**
+     * 한 요청에서 실행한 쿼리 수와 시간. 한 요청은 한 스레드에서만 다루므로 동기화하지 않는다.
+     * 예산을 건 뒤로는 같은 SQL을 몇 번 실행했는지도 세어서, 예산을 넘었을 때 N+1을 일으킨 쿼리를 알려준다.
+     */
+    public static class RequestQueries {
+
+        private static final int NO_BUDGET = -1;
+
+        private int count;
+        private long elapsedMillis;
+        private String handler;
+        private int budget = NO_BUDGET;
+        private int budgetStartCount;
+        private boolean failOnExceed;
+        private Map<String, Integer> budgetedQueryCounts;
+
+        public int getCount() {
+            return count;
+        }
+
+        public long getElapsedMillis() {
+            return elapsedMillis;
+        }
+
+        public String getHandler() {
+            return handler;
+        }
+
+        /**
+         * @return 쿼리 예산. 예산을 걸지 않았으면 -1
+         */
+        public int getBudget() {
+            return budget;
+        }
+
+        /**
+         * @return 예산을 건 뒤로 실행한 쿼리 수
+         */
+        public int getBudgetedCount() {
+            return count - budgetStartCount;
+        }
+
+        public boolean isOverBudget() {
+            return budget != NO_BUDGET && getBudgetedCount() > budget;
+        }
+
+        /**
+         * @return 예산을 건 뒤로 가장 많이 실행한 SQL과 실행 횟수. 예산을 걸지 않았거나 쿼리가 없었으면 빈 값
+         */
+        public Optional<Map.Entry<String, Integer>> getMostRepeatedQuery() {
+            if (budgetedQueryCounts == null) {
+                return Optional.empty();
+            }
+
+            return budgetedQueryCounts.entrySet().stream().max(Map.Entry.comparingByValue());
+        }
+
+        private void startBudget(String handler, int budget, boolean failOnExceed) {
+            this.handler = handler;
+            this.budget = budget;
+            this.budgetStartCount = count;
+            this.failOnExceed = failOnExceed;
+            this.budgetedQueryCounts = new HashMap<>();
+        }
+
+        private void add(long elapsedMillis, List<QueryInfo> queryInfos) {
+            this.count++;
+            this.elapsedMillis += elapsedMillis;
+            if (budgetedQueryCounts != null) {
+                for (QueryInfo queryInfo : queryInfos) {
+                    budgetedQueryCounts.merge(queryInfo.getQuery(), 1, Integer::sum);
+                }
+            }
+        }
+    }
+}
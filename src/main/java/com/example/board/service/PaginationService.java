@@ -1,8 +1,12 @@
 package com.example.board.service;
 
+import com.example.board.dto.CursorPage;
+import com.example.board.dto.CursorPaginationBar;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.OptionalLong;
 import java.util.stream.IntStream;
 
 @Service
@@ -17,6 +21,37 @@ public class PaginationService {
         return IntStream.range(startNumber, endNumber).boxed().toList();  // 페이지 번호 범위를 primitive int 배열로 만들고, 이것을 박싱해서 리스트로 만든다.
     }
 
+    /**
+     * 전체 페이지 수(count 쿼리) 없이 Slice의 다음 페이지 존재 여부로 페이지네이션 바를 만든다.
+     * 추정 게시글 수가 있으면 그만큼 바를 뒤쪽으로 늘려주고, 없으면 바로 다음 페이지까지만 보여준다.
+     * 마지막 페이지(다음 페이지가 없음)에 도달하면 추정치와 상관 없이 실제 페이지 수로 바를 자른다.
+     */
+    public List<Integer> getPaginationBarNumbers(Slice<?> slice, OptionalLong estimatedTotalElements) {
+        int currentPageNumber = slice.getNumber();
+        int knownTotalPages = currentPageNumber + (slice.hasNext() ? 2 : 1);  // 확실히 존재한다고 알 수 있는 페이지 수
+        if (!slice.hasNext() || slice.getSize() <= 0) {
+            return getPaginationBarNumbers(currentPageNumber, knownTotalPages);
+        }
+
+        long estimatedTotalPages = estimatedTotalElements.isPresent()
+                ? (estimatedTotalElements.getAsLong() + slice.getSize() - 1) / slice.getSize()
+                : 0;
+        int totalPages = (int) Math.min(Math.max(knownTotalPages, estimatedTotalPages), Integer.MAX_VALUE);
+
+        return getPaginationBarNumbers(currentPageNumber, totalPages);
+    }
+
+    /**
+     * 커서 기반 페이지네이션 바를 만든다. 전체 페이지 수 없이 현재 페이지의 커서 정보만으로 처음/이전/다음 이동을 결정한다.
+     *
+     * @param currentCursor 현재 페이지를 조회할 때 사용한 커서. 없으면 첫 페이지
+     */
+    public CursorPaginationBar getCursorPaginationBar(String currentCursor, CursorPage<?> page) {
+        boolean first = currentCursor == null || currentCursor.isBlank();
+
+        return CursorPaginationBar.of(first, page.previousCursor(), page.nextCursor());
+    }
+
     public int currentBarLength() {
         return BAR_LENGTH;
     }
@@ -0,0 +1,63 @@
+package com.example.board.service;
+
+import com.example.board.config.ReplicaDataSourceProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 최근에 글이나 댓글을 쓴 사용자를 기억한다. 복제본을 쓰는 경우 이 사용자들의 읽기는 'board.datasource.read-your-writes-window' 동안 주 DB로 보내서
+ * 방금 쓴 내용이 복제 지연 때문에 보이지 않는 일이 없게 한다.
+ */
+@Component
+public class ReadYourWritesTracker {
+
+    private static final int MAXIMUM_WRITERS = 100_000;
+
+    private final Cache<String, Boolean> recentWriters;
+
+    public ReadYourWritesTracker(ReplicaDataSourceProperties replicaDataSourceProperties) {
+        this.recentWriters = Caffeine.newBuilder()
+                .maximumSize(MAXIMUM_WRITERS)
+                .expireAfterWrite(replicaDataSourceProperties.readYourWritesWindow())
+                .build();
+    }
+
+    /**
+     * 사용자가 글을 썼다고 기록한다. 트랜잭션 안에서 호출하면 커밋된 뒤부터 기간을 센다.
+     */
+    public void markWritten(String userId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            recentWriters.put(userId, Boolean.TRUE);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                recentWriters.put(userId, Boolean.TRUE);
+            }
+        });
+    }
+
+    public boolean hasRecentlyWritten(String userId) {
+        return userId != null && recentWriters.getIfPresent(userId) != null;
+    }
+
+    /**
+     * @return 현재 요청의 로그인 사용자가 최근에 글을 썼는지 여부. 비로그인 요청이나 요청 밖(스케줄 작업 등)에서는 false
+     */
+    public boolean hasCurrentUserRecentlyWritten() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || authentication instanceof AnonymousAuthenticationToken) {
+            return false;
+        }
+
+        return hasRecentlyWritten(authentication.getName());
+    }
+}
@@ -0,0 +1,119 @@
+package com.example.board.service;
+
+import com.example.board.config.PageCacheProperties;
+import com.example.board.domain.AuditingFields;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.DigestUtils;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * 비로그인 사용자용 게시글 목록/상세 화면의 렌더링 결과 캐시. 요청 경로+쿼리스트링을 키로 쓰고, 담아둔 화면의 바이트 수 합계로 크기를 제한한다.
+ * 게시글, 댓글이 바뀌면 {@link ArticleService}, {@link ArticleCommentService}가 트랜잭션 커밋 후에 관련 화면을 비운다.
+ *
+ * 화면마다 렌더링 당시의 마지막 수정 시각(게시글/댓글의 modifiedAt)을 Last-Modified로, 본문의 해시를 ETag로 함께 저장해서
+ * 조건부 요청(If-None-Match, If-Modified-Since)에는 다시 렌더링하지 않고 304로 응답할 수 있게 한다.
+ */
+@Component
+public class RenderedPageCache {
+
+    private final Cache<String, RenderedPage> pages;
+    private volatile Version version = new Version(0, Instant.now().truncatedTo(ChronoUnit.SECONDS).toEpochMilli());  // 시작 이전의 변경은 모두 시작 시각 이전이다.
+
+    public RenderedPageCache(PageCacheProperties pageCacheProperties) {
+        this.pages = Caffeine.newBuilder()
+                .maximumWeight(pageCacheProperties.maximumSize().toBytes())
+                .weigher((String key, RenderedPage page) -> key.length() + page.body().length)
+                .expireAfterWrite(pageCacheProperties.timeToLive())
+                .build();
+    }
+
+    public RenderedPage get(String key) {
+        return pages.getIfPresent(key);
+    }
+
+    /**
+     * 렌더링한 화면을 저장한다. 렌더링하는 동안 게시글이나 댓글이 바뀌었으면 이전 내용일 수 있으므로 캐시에 남기지 않는다.
+     *
+     * @param renderedVersion 렌더링을 시작하기 전에 {@link #version()}으로 받아둔 값
+     */
+    public RenderedPage put(String key, byte[] body, String contentType, Version renderedVersion) {
+        RenderedPage page = new RenderedPage(body, contentType, "\"" + DigestUtils.md5DigestAsHex(body) + "\"", renderedVersion.lastModified());
+        pages.put(key, page);
+        if (version.generation() != renderedVersion.generation()) {
+            pages.invalidate(key);
+        }
+
+        return page;
+    }
+
+    public Version version() {
+        return version;
+    }
+
+    /**
+     * 게시글이 저장, 수정, 삭제되면 모든 화면을 비운다. 목록은 모든 페이지가 밀리고 상세 화면에도 전체 게시글 수가 나오기 때문이다.
+     *
+     * @param modified 바뀐 게시글. 삭제된 경우에는 null
+     */
+    public void evictAll(AuditingFields modified) {
+        afterCommit(() -> {
+            touch(modified);
+            pages.invalidateAll();
+        });
+    }
+
+    /**
+     * 댓글이 저장, 수정되면 해당 게시글의 상세 화면만 비운다. 목록 화면에는 댓글이 나오지 않는다.
+     */
+    public void evictArticle(Long articleId, AuditingFields modified) {
+        String path = "/articles/" + articleId;
+        afterCommit(() -> {
+            touch(modified);
+            pages.asMap().keySet().removeIf(key -> key.equals(path) || key.startsWith(path + "?"));
+        });
+    }
+
+
+    // 트랜잭션 안에서 호출하면 커밋된 뒤에 반영한다. 수정 시각(modifiedAt)도 flush 때 채워지므로 커밋 뒤에 읽는다.
+    private void afterCommit(Runnable eviction) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            eviction.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                eviction.run();
+            }
+        });
+    }
+
+    // HTTP 날짜는 초 단위이므로 수정 시각도 초 단위로 자른다. 삭제된 경우처럼 수정 시각이 없으면 현재 시각을 쓴다.
+    private synchronized void touch(AuditingFields modified) {
+        LocalDateTime modifiedAt = modified == null ? null : modified.getModifiedAt();
+        long modifiedMillis = (modifiedAt == null ? Instant.now() : modifiedAt.atZone(ZoneId.systemDefault()).toInstant())
+                .truncatedTo(ChronoUnit.SECONDS)
+                .toEpochMilli();
+        version = new Version(version.generation() + 1, Math.max(version.lastModified(), modifiedMillis));
+    }
+
+    /**
+     * @param lastModified 렌더링 당시의 마지막 수정 시각(epoch millis)
+     */
+    public record RenderedPage(byte[] body, String contentType, String eTag, long lastModified) {}
+
+    /**
+     * @param generation 게시글/댓글 변경이 반영될 때마다 1씩 늘어난다. 렌더링 도중에 변경이 있었는지 확인하는 데 쓴다.
+     * @param lastModified 지금까지 반영된 게시글/댓글 변경 중 가장 늦은 수정 시각(epoch millis)
+     */
+    public record Version(long generation, long lastModified) {}
+}
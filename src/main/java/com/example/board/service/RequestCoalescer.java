@@ -0,0 +1,144 @@
+package com.example.board.service;
+
+import com.example.board.config.CoalescingProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * 같은 읽기 요청 합치기(single flight). 같은 키의 조회가 이미 진행 중이면 DB를 다시 조회하지 않고 그 조회가 끝나기를 기다렸다가 같은 결과를 받는다.
+ * 인기 게시글 상세 화면이나 같은 검색이 한꺼번에 몰려도 DB에는 키마다 한 번의 조회만 나간다. 결과는 여러 요청이 같이 쓰므로 바뀌지 않는 DTO여야 한다.
+ *
+ * 조회는 여기서 읽기 전용 트랜잭션을 열어서 실행한다. 호출하는 서비스 메서드는 트랜잭션 없이(NOT_SUPPORTED) 불러야,
+ * 기다리는 요청들이 트랜잭션(과 DB 커넥션)을 잡은 채로 기다리지 않는다.
+ *
+ * 다음 경우에는 합치지 않고 직접 조회한다.
+ * <ul>
+ *     <li>최근에 글을 쓴 사용자의 요청: 복제 지연이 있는 복제본에서 읽은 다른 요청의 결과를 받으면 방금 쓴 글이 안 보일 수 있다.</li>
+ *     <li>진행 중인 조회가 'board.coalescing.max-wait' 안에 끝나지 않은 경우: 느린 조회 하나에 모든 요청이 묶이지 않게 한다.</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class RequestCoalescer {
+
+    private final boolean enabled;
+    private final Duration maxWait;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final MeterRegistry meterRegistry;
+    private final ConcurrentMap<FlightKey, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    public RequestCoalescer(CoalescingProperties coalescingProperties,
+                            PlatformTransactionManager transactionManager,
+                            ReadYourWritesTracker readYourWritesTracker,
+                            MeterRegistry meterRegistry) {
+        this.enabled = coalescingProperties.enabled();
+        this.maxWait = coalescingProperties.maxWait();
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+        this.readYourWritesTracker = readYourWritesTracker;
+        this.meterRegistry = meterRegistry;
+        Gauge.builder("board.coalescing.in.flight", inFlight, ConcurrentMap::size)
+                .description("다른 요청이 결과를 기다릴 수 있는 진행 중인 조회 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 같은 키의 조회가 진행 중이면 그 결과를, 아니면 읽기 전용 트랜잭션에서 직접 조회한 결과를 반환한다.
+     * 먼저 시작한 조회가 예외로 끝나면 기다리던 요청도 같은 예외를 던진다.
+     *
+     * @param operation 조회 종류. 키의 이름 공간이자 메트릭(board.coalescing.*)의 태그로 쓴다.
+     * @param key 조회 조건. equals/hashCode로 같은 조회인지 판단한다.
+     */
+    public <T> T execute(String operation, Object key, Supplier<T> loader) {
+        if (!enabled || readYourWritesTracker.hasCurrentUserRecentlyWritten()) {
+            count(operation, "bypassed");
+            return load(loader);
+        }
+
+        FlightKey flightKey = new FlightKey(operation, key);
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> running = inFlight.putIfAbsent(flightKey, flight);
+        if (running != null) {
+            return await(operation, running, loader);
+        }
+
+        count(operation, "loaded");
+        try {
+            T result = load(loader);
+            flight.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(flightKey, flight);  // 결과를 담아두지는 않는다. 끝난 뒤에 온 요청은 새로 조회한다.
+        }
+    }
+
+
+    private <T> T load(Supplier<T> loader) {
+        return readOnlyTransactionTemplate.execute(status -> loader.get());
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T await(String operation, CompletableFuture<Object> running, Supplier<T> loader) {
+        long startedAt = System.nanoTime();
+        try {
+            T result = (T) running.get(maxWait.toNanos(), TimeUnit.NANOSECONDS);
+            count(operation, "shared");
+            return result;
+        } catch (TimeoutException e) {
+            count(operation, "timed-out");
+            log.debug("진행 중인 조회가 {} 안에 끝나지 않아 직접 조회합니다 - operation: {}", maxWait, operation);
+        } catch (ExecutionException e) {
+            count(operation, "shared");
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("진행 중인 조회가 실패했습니다 - operation: " + operation, e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("진행 중인 조회를 기다리다 중단되었습니다 - operation: " + operation, e);
+        } finally {
+            Timer.builder("board.coalescing.wait")
+                    .description("진행 중인 같은 조회를 기다린 시간")
+                    .tag("operation", operation)
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+
+        return load(loader);
+    }
+
+    // loaded: 직접 조회해서 기다리던 요청에도 나눠준 호출, shared: 진행 중인 조회의 결과를 받은 호출, timed-out: 기다리다 직접 조회한 호출, bypassed: 합치지 않은 호출
+    private void count(String operation, String result) {
+        Counter.builder("board.coalescing.calls")
+                .description("읽기 요청 합치기를 거친 호출 수")
+                .tag("operation", operation)
+                .tag("result", result)
+                .register(meterRegistry)
+                .increment();
+    }
+
+
+    private record FlightKey(String operation, Object key) {}
+}
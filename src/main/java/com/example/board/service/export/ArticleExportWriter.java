@@ -0,0 +1,24 @@
+package com.example.board.service.export;
+
+import com.example.board.domain.constant.ExportFormat;
+import com.example.board.dto.ArticleExportDto;
+
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * 게시글 내보내기 결과를 출력 스트림에 바로 쓰는 writer. 게시글 한 건씩 받아서 쓰므로 내보내는 게시글 수와 상관없이 메모리를 일정하게 쓴다.
+ * 출력 스트림은 닫지 않는다.
+ */
+public interface ArticleExportWriter extends Flushable {
+
+    void write(ArticleExportDto article) throws IOException;
+
+    static ArticleExportWriter of(ExportFormat format, OutputStream output) throws IOException {
+        return switch (format) {
+            case JSONL -> new JsonLinesArticleExportWriter(output);
+            case CSV -> new CsvArticleExportWriter(output);
+        };
+    }
+}
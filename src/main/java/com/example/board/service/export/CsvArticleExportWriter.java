@@ -0,0 +1,98 @@
+package com.example.board.service.export;
+
+import com.example.board.dto.ArticleExportDto;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * 게시글을 RFC 4180 CSV로 쓴다. 게시글 row('article') 바로 뒤에 그 게시글의 댓글 row('comment')가 이어진다.
+ * 해시태그는 공백으로 구분해서 한 칸에 쓴다.
+ */
+public class CsvArticleExportWriter implements ArticleExportWriter {
+
+    private static final String HEADER = "record_type,article_id,comment_id,user_id,title,content,hashtags,created_at,modified_at";
+
+    private final Writer writer;
+
+    public CsvArticleExportWriter(OutputStream output) throws IOException {
+        this.writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+        this.writer.write(HEADER);
+        this.writer.write("\r\n");
+    }
+
+    @Override
+    public void write(ArticleExportDto article) throws IOException {
+        writeRow(
+                "article",
+                String.valueOf(article.id()),
+                "",
+                article.userId(),
+                article.title(),
+                article.content(),
+                String.join(" ", article.hashtagNames()),
+                format(article.createdAt()),
+                format(article.modifiedAt())
+        );
+        for (ArticleExportDto.Comment comment : article.comments()) {
+            writeRow(
+                    "comment",
+                    String.valueOf(article.id()),
+                    String.valueOf(comment.id()),
+                    comment.userId(),
+                    "",
+                    comment.content(),
+                    "",
+                    format(comment.createdAt()),
+                    ""
+            );
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        writer.flush();
+    }
+
+
+    private void writeRow(String... values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writeValue(values[i]);
+        }
+        writer.write("\r\n");
+    }
+
+    // 쉼표, 큰따옴표, 줄바꿈이 있는 값만 큰따옴표로 감싸고, 값 안의 큰따옴표는 두 번 쓴다.
+    private void writeValue(String value) throws IOException {
+        if (value == null || value.isEmpty()) {
+            return;
+        }
+
+        boolean quote = false;
+        for (int i = 0; i < value.length() && !quote; i++) {
+            char c = value.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!quote) {
+            writer.write(value);
+            return;
+        }
+
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    private String format(LocalDateTime dateTime) {
+        return dateTime == null ? "" : DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(dateTime);
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.board.service.export;
+
+import com.example.board.dto.ArticleExportDto;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.StreamWriteFeature;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * 한 줄에 게시글 하나를 JSON으로 쓴다. 필드 이름은 게시글 일괄 가져오기 입력(ArticleImportRequest)과 같아서, 내보낸 파일을 그대로 가져올 수 있다.
+ * <pre>
+ * {"id":1,"userId":"sol","title":"제목","content":"본문","hashtags":["java"],"comments":[{"id":1,"userId":"sol2","content":"댓글","createdAt":"..."}],"createdAt":"...","modifiedAt":"..."}
+ * </pre>
+ * ObjectMapper의 리플렉션 직렬화 대신 JsonGenerator로 필드를 직접 쓴다.
+ */
+public class JsonLinesArticleExportWriter implements ArticleExportWriter {
+
+    private static final JsonFactory JSON_FACTORY = JsonFactory.builder()
+            .disable(StreamWriteFeature.AUTO_CLOSE_TARGET)
+            .build();
+
+    private final JsonGenerator generator;
+
+    public JsonLinesArticleExportWriter(OutputStream output) throws IOException {
+        this.generator = JSON_FACTORY.createGenerator(output);
+    }
+
+    @Override
+    public void write(ArticleExportDto article) throws IOException {
+        generator.writeStartObject();
+        generator.writeNumberField("id", article.id());
+        generator.writeStringField("userId", article.userId());
+        generator.writeStringField("title", article.title());
+        generator.writeStringField("content", article.content());
+        generator.writeArrayFieldStart("hashtags");
+        for (String hashtagName : article.hashtagNames()) {
+            generator.writeString(hashtagName);
+        }
+        generator.writeEndArray();
+        generator.writeArrayFieldStart("comments");
+        for (ArticleExportDto.Comment comment : article.comments()) {
+            generator.writeStartObject();
+            generator.writeNumberField("id", comment.id());
+            generator.writeStringField("userId", comment.userId());
+            generator.writeStringField("content", comment.content());
+            generator.writeStringField("createdAt", format(comment.createdAt()));
+            generator.writeEndObject();
+        }
+        generator.writeEndArray();
+        generator.writeStringField("createdAt", format(article.createdAt()));
+        generator.writeStringField("modifiedAt", format(article.modifiedAt()));
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+    }
+
+    @Override
+    public void flush() throws IOException {
+        generator.flush();
+    }
+
+
+    private String format(LocalDateTime dateTime) {
+        return dateTime == null ? null : DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(dateTime);
+    }
+}
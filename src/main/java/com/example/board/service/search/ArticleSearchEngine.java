@@ -0,0 +1,50 @@
+package com.example.board.service.search;
+
+import com.example.board.domain.Article;
+import com.example.board.domain.constant.SearchType;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.Collection;
+
+/**
+ * 게시글 제목/본문 검색 엔진.
+ * 'board.search.engine' 설정에 따라 구현체 하나만 빈으로 등록된다.
+ *
+ * @see LikeArticleSearchEngine
+ * @see PostgresArticleSearchEngine
+ * @see LuceneArticleSearchEngine
+ */
+public interface ArticleSearchEngine {
+
+    /**
+     * 검색어에 맞는 게시글을 검색한다. 전문 검색 엔진은 Pageable의 정렬 대신 검색어와의 관련도 순으로 정렬한다.
+     *
+     * @param searchType {@link SearchType#TITLE} 또는 {@link SearchType#CONTENT}
+     */
+    Page<Article> search(SearchType searchType, String searchKeyword, Pageable pageable);
+
+    /**
+     * {@link #search}와 같은 순서의 게시글 id 페이지. 게시글을 어떤 모양(엔티티, 목록 컬럼)으로 조회할지는 호출하는 쪽이 정한다.
+     *
+     * @param searchType {@link SearchType#TITLE} 또는 {@link SearchType#CONTENT}
+     */
+    Page<Long> searchIds(SearchType searchType, String searchKeyword, Pageable pageable);
+
+    /**
+     * 새로 저장되거나 수정된 게시글을 색인에 반영한다. DB가 색인을 관리하는 엔진은 아무 것도 하지 않는다.
+     */
+    default void index(Article article) {}
+
+    /**
+     * 한꺼번에 저장된 게시글들을 색인에 반영한다. 색인 반영 비용이 큰 엔진은 한 번에 반영하도록 재정의한다.
+     */
+    default void indexAll(Collection<Article> articles) {
+        articles.forEach(this::index);
+    }
+
+    /**
+     * 삭제된 게시글을 색인에서 제거한다. DB가 색인을 관리하는 엔진은 아무 것도 하지 않는다.
+     */
+    default void remove(Long articleId) {}
+}
@@ -0,0 +1,150 @@
+package com.example.board.service.search;
+
+import com.example.board.domain.Article;
+import com.example.board.domain.Hashtag;
+import com.example.board.repository.HashtagRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 게시글에 쓰이고 있는 해시태그 이름 목록을 애플리케이션 메모리에 들고 있는 캐시. 해시태그 검색 화면의 해시태그 목록을 DB 조회 없이 보여준다.
+ * 시작할 때 한 번 전체를 읽고, 이후에는 게시글 저장/수정/삭제가 커밋될 때마다 바뀐 게시글만 반영한다.
+ * 목록은 해시태그를 쓰는 게시글 수가 많은 순서(같으면 이름순)로 정렬된다.
+ * 같은 게시글 수를 가중치로 하는 접두어 트라이({@link HashtagTrie})도 함께 들고 있어서, 검색창의 해시태그 자동완성도 DB 조회 없이 답한다.
+ *
+ * 조회는 정렬해 둔 목록을 그대로 돌려주므로 잠금이 없고, 변경은 한 번에 하나씩만 반영한다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class HashtagCatalog {
+
+    private static final Comparator<Map.Entry<String, Integer>> MOST_USED_FIRST =
+            Map.Entry.<String, Integer>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey());
+
+    public static final int MAX_SUGGESTIONS = 10;
+
+    private final HashtagRepository hashtagRepository;
+
+    private final Map<Long, Set<String>> hashtagNamesByArticleId = new HashMap<>();
+    private final Map<String, Integer> usageCounts = new HashMap<>();
+    private final HashtagTrie suggestions = new HashtagTrie(MAX_SUGGESTIONS);
+    private volatile List<String> hashtagNames;  // 준비 전에는 null
+
+    // data.sql로 넣은 게시글도 반영해야 하므로, SQL 초기화가 끝난 애플리케이션 시작 시점에 채운다.
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void initialize() {
+        hashtagNamesByArticleId.clear();
+        usageCounts.clear();
+        hashtagRepository.findAllHashtagNamesByArticleId().forEach(this::put);
+        suggestions.rebuild(usageCounts);
+        refresh();
+        log.info("해시태그 목록 캐시 준비 완료 - 해시태그 {}개", hashtagNames.size());
+    }
+
+    /**
+     * @return 게시글에 쓰이고 있는 해시태그 이름. 많이 쓰인 순서로 정렬되어 있다. 캐시가 아직 준비되지 않았으면 빈 값
+     */
+    public Optional<List<String>> getHashtagNames() {
+        return Optional.ofNullable(hashtagNames);
+    }
+
+    /**
+     * 이름이 접두어로 시작하는 해시태그를 많이 쓰인 순서로 찾는다. ('#'은 붙여도 되고 빼도 되며, 대소문자를 가리지 않는다.)
+     *
+     * @return 최대 min(limit, {@value #MAX_SUGGESTIONS})개의 해시태그 이름. 캐시가 아직 준비되지 않았으면 빈 값
+     */
+    public Optional<List<String>> suggest(String prefix, int limit) {
+        if (hashtagNames == null) {
+            return Optional.empty();
+        }
+
+        return Optional.of(suggestions.suggest(prefix.startsWith("#") ? prefix.substring(1) : prefix, limit));
+    }
+
+    /**
+     * 새로 저장되거나 수정된 게시글의 해시태그를 반영한다. 트랜잭션 안에서 호출하면 커밋된 뒤에 반영한다.
+     */
+    public void index(Article article) {
+        Long articleId = article.getId();
+        Set<String> names = article.getHashtags().stream().map(Hashtag::getHashtagName).collect(Collectors.toSet());
+        afterCommit(() -> putAndSuggest(articleId, names));
+    }
+
+    /**
+     * 한꺼번에 저장된 게시글들의 해시태그를 반영한다. 게시글마다 목록을 다시 정렬하지 않고 한 번만 정렬한다.
+     */
+    public void indexAll(Collection<Article> articles) {
+        Map<Long, Set<String>> names = articles.stream().collect(Collectors.toMap(
+                Article::getId,
+                article -> article.getHashtags().stream().map(Hashtag::getHashtagName).collect(Collectors.toSet())
+        ));
+        afterCommit(() -> names.forEach(this::putAndSuggest));
+    }
+
+    public void remove(Long articleId) {
+        afterCommit(() -> putAndSuggest(articleId, Set.of()));
+    }
+
+
+    private void afterCommit(Runnable change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            applyNow(change);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                applyNow(change);
+            }
+        });
+    }
+
+    private synchronized void applyNow(Runnable change) {
+        change.run();
+        if (hashtagNames != null) {  // 준비 전의 변경은 initialize()가 DB에서 다시 읽으므로 목록을 만들지 않는다.
+            refresh();
+        }
+    }
+
+    // 게시글의 이전 해시태그 사용 횟수를 빼고 새 해시태그 사용 횟수를 더한다.
+    private void put(Long articleId, Set<String> names) {
+        Set<String> previous = names.isEmpty() ? hashtagNamesByArticleId.remove(articleId) : hashtagNamesByArticleId.put(articleId, Set.copyOf(names));
+        if (previous != null) {
+            previous.forEach(name -> usageCounts.computeIfPresent(name, (key, count) -> count > 1 ? count - 1 : null));
+        }
+        names.forEach(name -> usageCounts.merge(name, 1, Integer::sum));
+    }
+
+    // 사용 횟수가 바뀐 해시태그만 트라이에 반영한다. 시작할 때는 initialize()가 트라이를 한 번에 만든다.
+    private void putAndSuggest(Long articleId, Set<String> names) {
+        Set<String> previous = hashtagNamesByArticleId.getOrDefault(articleId, Set.of());
+        put(articleId, names);
+        Stream.concat(previous.stream(), names.stream())
+                .distinct()
+                .forEach(name -> suggestions.put(name, usageCounts.getOrDefault(name, 0)));
+    }
+
+    private void refresh() {
+        hashtagNames = usageCounts.entrySet().stream()
+                .sorted(MOST_USED_FIRST)
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+}
@@ -0,0 +1,244 @@
+package com.example.board.service.search;
+
+import com.example.board.domain.Article;
+import com.example.board.domain.Hashtag;
+import com.example.board.dto.HashtagQuery;
+import com.example.board.repository.HashtagRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.longlong.LongIterator;
+import org.roaringbitmap.longlong.Roaring64Bitmap;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+/**
+ * 해시태그 검색 색인. 해시태그마다 그 해시태그가 달린 게시글 id를 압축 비트맵(Roaring bitmap)으로 애플리케이션 메모리에 들고 있다.
+ * 해시태그 검색 조건(AND/OR/NOT)을 비트맵 연산으로 계산하므로, 조건에 맞는 게시글 id와 정확한 게시글 수를 DB 조회 없이 구한다.
+ * 시작할 때 한 번 전체를 읽고, 이후에는 게시글 저장/수정/삭제가 커밋될 때마다 바뀐 게시글만 반영한다. ({@link HashtagCatalog}와 같은 방식)
+ *
+ * 비트맵은 스레드 안전하지 않으므로 조회는 읽기 잠금, 변경은 쓰기 잠금을 잡는다. 조회 결과는 복사본이라 잠금 밖에서 써도 된다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class HashtagPostingsIndex {
+
+    private final HashtagRepository hashtagRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Roaring64Bitmap> postings = new HashMap<>();
+    private final Map<Long, Set<String>> hashtagNamesByArticleId = new HashMap<>();  // 게시글이 수정/삭제될 때 이전 해시태그의 비트맵에서 빼기 위해 둔다.
+    private volatile boolean ready;
+
+    // data.sql로 넣은 게시글도 반영해야 하므로, SQL 초기화가 끝난 애플리케이션 시작 시점에 채운다.
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        Map<Long, Set<String>> hashtagNames;
+        lock.writeLock().lock();  // 읽는 동안 커밋된 변경이 다시 읽은 내용에 덮이지 않도록, 잠금을 잡은 채로 DB에서 읽는다.
+        try {
+            hashtagNames = hashtagRepository.findAllHashtagNamesByArticleId();
+            postings.clear();
+            hashtagNamesByArticleId.clear();
+            hashtagNames.forEach(this::put);
+            postings.values().forEach(Roaring64Bitmap::runOptimize);  // 연속된 id 구간을 run으로 압축한다.
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("해시태그 검색 색인 준비 완료 - 해시태그 {}개, 게시글 {}개", postings.size(), hashtagNames.size());
+    }
+
+    /**
+     * 해시태그 검색 조건에 맞는 게시글을 찾는다.
+     *
+     * @return 조건에 맞는 게시글 id. 색인이 아직 준비되지 않았으면 빈 값
+     */
+    public Optional<ArticleIds> search(HashtagQuery hashtagQuery) {
+        if (!ready) {
+            return Optional.empty();
+        }
+        if (hashtagQuery.isEmpty()) {
+            return Optional.of(new ArticleIds(new Roaring64Bitmap()));
+        }
+
+        lock.readLock().lock();
+        try {
+            return Optional.of(new ArticleIds(evaluate(hashtagQuery)));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 해시태그 하나가 달린 게시글 수. 비트맵을 복사하지 않고 크기만 읽는다.
+     *
+     * @return 게시글 수. 색인이 아직 준비되지 않았으면 빈 값
+     */
+    public OptionalLong countArticles(String hashtagName) {
+        if (!ready) {
+            return OptionalLong.empty();
+        }
+
+        lock.readLock().lock();
+        try {
+            Roaring64Bitmap articleIds = postings.get(hashtagName);
+            return OptionalLong.of(articleIds == null ? 0 : articleIds.getLongCardinality());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 새로 저장되거나 수정된 게시글의 해시태그를 반영한다. 트랜잭션 안에서 호출하면 커밋된 뒤에 반영한다.
+     */
+    public void index(Article article) {
+        Long articleId = article.getId();
+        Set<String> names = article.getHashtags().stream().map(Hashtag::getHashtagName).collect(Collectors.toSet());
+        afterCommit(() -> put(articleId, names));
+    }
+
+    /**
+     * 한꺼번에 저장된 게시글들의 해시태그를 반영한다. 쓰기 잠금은 한 번만 잡는다.
+     */
+    public void indexAll(Collection<Article> articles) {
+        Map<Long, Set<String>> names = articles.stream().collect(Collectors.toMap(
+                Article::getId,
+                article -> article.getHashtags().stream().map(Hashtag::getHashtagName).collect(Collectors.toSet())
+        ));
+        afterCommit(() -> names.forEach(this::put));
+    }
+
+    public void remove(Long articleId) {
+        afterCommit(() -> put(articleId, Set.of()));
+    }
+
+
+    private void afterCommit(Runnable change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            applyNow(change);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                applyNow(change);
+            }
+        });
+    }
+
+    private void applyNow(Runnable change) {
+        lock.writeLock().lock();
+        try {
+            change.run();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 게시글을 이전 해시태그의 비트맵에서 빼고 새 해시태그의 비트맵에 넣는다. 게시글이 하나도 남지 않은 해시태그는 지운다.
+    private void put(Long articleId, Set<String> names) {
+        Set<String> previous = names.isEmpty() ? hashtagNamesByArticleId.remove(articleId) : hashtagNamesByArticleId.put(articleId, Set.copyOf(names));
+        if (previous != null) {
+            for (String name : previous) {
+                Roaring64Bitmap articleIds = postings.get(name);
+                if (articleIds != null) {
+                    articleIds.removeLong(articleId);
+                    if (articleIds.isEmpty()) {
+                        postings.remove(name);
+                    }
+                }
+            }
+        }
+        names.forEach(name -> postings.computeIfAbsent(name, key -> new Roaring64Bitmap()).addLong(articleId));
+    }
+
+    // (allOf 모두의 교집합) ∩ (anyOf의 합집합) - (noneOf의 합집합). 색인의 비트맵은 바꾸지 않고 복사본으로 계산한다.
+    private Roaring64Bitmap evaluate(HashtagQuery hashtagQuery) {
+        Roaring64Bitmap result = null;
+        for (String name : hashtagQuery.allOf()) {
+            Roaring64Bitmap articleIds = postings.get(name);
+            if (articleIds == null) {
+                return new Roaring64Bitmap();
+            }
+            if (result == null) {
+                result = articleIds.clone();
+            } else {
+                result.and(articleIds);
+            }
+        }
+
+        if (!hashtagQuery.anyOf().isEmpty()) {
+            Roaring64Bitmap union = new Roaring64Bitmap();
+            hashtagQuery.anyOf().stream().map(postings::get).filter(Objects::nonNull).forEach(union::or);
+            if (result == null) {
+                result = union;
+            } else {
+                result.and(union);
+            }
+        }
+
+        for (String name : hashtagQuery.noneOf()) {
+            Roaring64Bitmap articleIds = postings.get(name);
+            if (articleIds != null) {
+                result.andNot(articleIds);
+            }
+        }
+
+        return result;
+    }
+
+
+    /**
+     * 검색 조건에 맞는 게시글 id. 색인과 분리된 복사본이다.
+     */
+    public static class ArticleIds {
+
+        private final Roaring64Bitmap articleIds;
+
+        private ArticleIds(Roaring64Bitmap articleIds) {
+            this.articleIds = articleIds;
+        }
+
+        public static ArticleIds of(long... articleIds) {
+            return new ArticleIds(Roaring64Bitmap.bitmapOf(articleIds));
+        }
+
+        public long count() {
+            return articleIds.getLongCardinality();
+        }
+
+        public boolean isEmpty() {
+            return articleIds.isEmpty();
+        }
+
+        /**
+         * @return 게시글 id. 작은 id부터 온다.
+         */
+        public List<Long> toList() {
+            List<Long> ids = new ArrayList<>((int) Math.min(count(), Integer.MAX_VALUE));
+            LongIterator iterator = articleIds.getLongIterator();
+            while (iterator.hasNext()) {
+                ids.add(iterator.next());
+            }
+
+            return ids;
+        }
+    }
+}
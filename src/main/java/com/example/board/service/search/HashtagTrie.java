@@ -0,0 +1,169 @@
+package com.example.board.service.search;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 해시태그 자동완성용 접두어 트라이. 해시태그마다 가중치(쓰는 게시글 수)를 두고, 노드마다 그 아래 해시태그 중 가중치가 큰 상위 K개를 미리 골라 둔다.
+ * 접두어를 따라 내려간 노드의 목록을 그대로 돌려주므로, 조회 비용은 해시태그 수와 상관없이 접두어 길이에만 비례한다.
+ * 대소문자를 가리지 않고 찾는다. ('Java', 'java'는 같은 노드에 달린다.)
+ *
+ * 가중치가 바뀌면 그 해시태그의 경로에 있는 노드의 상위 목록만 아래에서부터 다시 고른다. 순위에 영향이 없는 노드를 만나면 그 위는 건드리지 않는다.
+ */
+public class HashtagTrie {
+
+    private final int topK;
+    private final Map<String, Integer> weights = new HashMap<>();
+    private final Comparator<String> heaviestFirst = Comparator.<String>comparingInt(weights::get).reversed().thenComparing(Comparator.naturalOrder());
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private Node root = new Node();
+
+    public HashtagTrie(int topK) {
+        this.topK = topK;
+    }
+
+    /**
+     * 트라이를 주어진 해시태그와 가중치로 다시 만든다. 노드를 모두 넣은 다음 상위 목록을 한 번에 고르므로, 하나씩 넣는 것보다 훨씬 빠르다.
+     */
+    public void rebuild(Map<String, Integer> hashtagWeights) {
+        lock.writeLock().lock();
+        try {
+            weights.clear();
+            root = new Node();
+            hashtagWeights.forEach((name, weight) -> {
+                if (weight > 0) {
+                    weights.put(name, weight);
+                    path(name, true).get(name.length()).names.add(name);
+                }
+            });
+            selectTopAll(root);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 해시태그의 가중치를 바꾼다. 0 이하이면 트라이에서 뺀다.
+     */
+    public void put(String hashtagName, int weight) {
+        lock.writeLock().lock();
+        try {
+            Integer previous = weight > 0 ? weights.put(hashtagName, weight) : weights.get(hashtagName);
+            if (previous != null && previous == weight || previous == null && weight <= 0) {
+                return;
+            }
+
+            List<Node> path = path(hashtagName, weight > 0);
+            Node leaf = path.get(path.size() - 1);
+            if (weight > 0) {
+                leaf.names.add(hashtagName);
+            } else {
+                leaf.names.remove(hashtagName);
+            }
+
+            for (int depth = path.size() - 1; depth >= 0; depth--) {
+                Node node = path.get(depth);
+                boolean affected = node.top.contains(hashtagName) || weight > 0 && (node.top.size() < topK || heaviestFirst.compare(hashtagName, node.top.get(node.top.size() - 1)) < 0);
+                if (!affected) {
+                    break;  // 이 노드의 순위가 그대로면 조상 노드의 순위도 그대로다.
+                }
+                selectTop(node, weight > 0 ? null : hashtagName);
+            }
+            if (weight <= 0) {
+                weights.remove(hashtagName);  // 다시 고르는 동안 비교자가 가중치를 읽으므로 마지막에 지운다.
+                prune(hashtagName, path);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @return 이름이 접두어로 시작하는 해시태그. 가중치가 큰 순서(같으면 이름순)로 최대 min(limit, K)개
+     */
+    public List<String> suggest(String prefix, int limit) {
+        lock.readLock().lock();
+        try {
+            Node node = root;
+            String key = prefix.toLowerCase(Locale.ROOT);
+            for (int i = 0; i < key.length() && node != null; i++) {
+                node = node.children.get(key.charAt(i));
+            }
+            if (node == null) {
+                return List.of();
+            }
+
+            return List.copyOf(node.top.subList(0, Math.min(Math.max(limit, 0), node.top.size())));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return weights.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+
+    // 루트부터 해시태그 이름의 마지막 글자 노드까지. create가 false인데 없는 노드를 만나면 거기까지만 담는다.
+    private List<Node> path(String hashtagName, boolean create) {
+        String key = hashtagName.toLowerCase(Locale.ROOT);
+        List<Node> path = new ArrayList<>(key.length() + 1);
+        Node node = root;
+        path.add(node);
+        for (int i = 0; i < key.length(); i++) {
+            node = create ? node.children.computeIfAbsent(key.charAt(i), c -> new Node()) : node.children.get(key.charAt(i));
+            if (node == null) {
+                break;
+            }
+            path.add(node);
+        }
+
+        return path;
+    }
+
+    // 노드에 달린 해시태그와 자식 노드들의 상위 목록을 합쳐서 이 노드의 상위 목록을 고른다. excluded는 지금 빼고 있는 해시태그
+    private void selectTop(Node node, String excluded) {
+        List<String> candidates = new ArrayList<>(node.names);
+        node.children.values().forEach(child -> candidates.addAll(child.top));
+        candidates.remove(excluded);
+        candidates.sort(heaviestFirst);
+        node.top = new ArrayList<>(candidates.subList(0, Math.min(topK, candidates.size())));
+    }
+
+    private void selectTopAll(Node node) {
+        node.children.values().forEach(this::selectTopAll);
+        selectTop(node, null);
+    }
+
+    // 해시태그도 자식도 없게 된 노드를 아래에서부터 떼어낸다.
+    private void prune(String hashtagName, List<Node> path) {
+        String key = hashtagName.toLowerCase(Locale.ROOT);
+        for (int depth = path.size() - 1; depth > 0; depth--) {
+            Node node = path.get(depth);
+            if (!node.names.isEmpty() || !node.children.isEmpty()) {
+                return;
+            }
+            path.get(depth - 1).children.remove(key.charAt(depth - 1));
+        }
+    }
+
+
+    private static class Node {
+        private final Map<Character, Node> children = new HashMap<>();
+        private final Set<String> names = new HashSet<>(2);  // 이 노드에서 끝나는 해시태그 (대소문자만 다른 이름이 여럿일 수 있다.)
+        private List<String> top = List.of();
+    }
+}
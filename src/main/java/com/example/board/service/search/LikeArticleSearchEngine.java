@@ -0,0 +1,39 @@
+package com.example.board.service.search;
+
+import com.example.board.domain.Article;
+import com.example.board.domain.constant.SearchType;
+import com.example.board.repository.ArticleRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+/**
+ * like '%${}%' 검색. 별도 색인이 필요 없는 기본 검색 엔진.
+ */
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "board.search.engine", havingValue = "like", matchIfMissing = true)
+@Component
+public class LikeArticleSearchEngine implements ArticleSearchEngine {
+
+    private final ArticleRepository articleRepository;
+
+    @Override
+    public Page<Article> search(SearchType searchType, String searchKeyword, Pageable pageable) {
+        return switch (searchType) {
+            case TITLE -> articleRepository.findByTitleContaining(searchKeyword, pageable);
+            case CONTENT -> articleRepository.findByContentContaining(searchKeyword, pageable);
+            default -> throw new IllegalArgumentException("검색 엔진이 지원하지 않는 검색 유형입니다 - searchType: " + searchType);
+        };
+    }
+
+    @Override
+    public Page<Long> searchIds(SearchType searchType, String searchKeyword, Pageable pageable) {
+        if (searchType != SearchType.TITLE && searchType != SearchType.CONTENT) {
+            throw new IllegalArgumentException("검색 엔진이 지원하지 않는 검색 유형입니다 - searchType: " + searchType);
+        }
+
+        return articleRepository.findIdsBySearch(searchType, searchKeyword, pageable);
+    }
+}
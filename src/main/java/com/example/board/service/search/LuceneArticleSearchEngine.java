@@ -0,0 +1,217 @@
+package com.example.board.service.search;
+
+import com.example.board.config.SearchProperties;
+import com.example.board.domain.Article;
+import com.example.board.domain.constant.SearchType;
+import com.example.board.repository.ArticleRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.NumericDocValuesField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.util.QueryBuilder;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 애플리케이션에 내장된 Lucene 역색인 검색 엔진. H2 같은 개발 환경에서 전문 검색을 쓰기 위한 용도.
+ * 색인은 'board.search.lucene.index-path' 디렉토리에 저장되고, 애플리케이션이 뜰 때 DB 기준으로 다시 만든다.
+ * 결과는 BM25 관련도 순, 같으면 최신순으로 정렬한다.
+ *
+ * 게시글 저장/수정/삭제는 트랜잭션이 커밋된 후에 색인에 반영해서, 롤백된 변경이 색인에 남지 않게 한다.
+ */
+@Slf4j
+@ConditionalOnProperty(name = "board.search.engine", havingValue = "lucene")
+@Component
+public class LuceneArticleSearchEngine implements ArticleSearchEngine {
+
+    private static final String ID = "id";
+    private static final String TITLE = "title";
+    private static final String CONTENT = "content";
+    private static final String CREATED_AT = "createdAt";
+    private static final Sort RANKING = new Sort(SortField.FIELD_SCORE, new SortField(CREATED_AT, SortField.Type.LONG, true));
+    private static final int REINDEX_CHUNK_SIZE = 1000;
+
+    private final ArticleRepository articleRepository;
+    private final Analyzer analyzer = new StandardAnalyzer();
+    private final Directory directory;
+    private final IndexWriter indexWriter;
+    private final SearcherManager searcherManager;
+
+    public LuceneArticleSearchEngine(ArticleRepository articleRepository, SearchProperties searchProperties) throws IOException {
+        this.articleRepository = articleRepository;
+        this.directory = FSDirectory.open(Path.of(searchProperties.lucene().indexPath()));
+        this.indexWriter = new IndexWriter(directory, new IndexWriterConfig(analyzer));
+        this.searcherManager = new SearcherManager(indexWriter, null);
+    }
+
+    // ddl-auto: create 환경에서는 실행할 때마다 DB가 새로 만들어지므로, 디스크에 남아 있는 색인을 버리고 DB 기준으로 다시 색인한다.
+    @EventListener(ApplicationReadyEvent.class)
+    public void reindex() throws IOException {
+        indexWriter.deleteAll();
+
+        long count = 0;
+        Pageable pageable = PageRequest.of(0, REINDEX_CHUNK_SIZE, Direction.ASC, ID);
+        Slice<Article> articles;
+        do {
+            articles = articleRepository.findSliceBySearch(null, null, pageable);
+            for (Article article : articles) {
+                indexWriter.addDocument(toDocument(article));
+            }
+            count += articles.getNumberOfElements();
+            pageable = articles.nextPageable();
+        } while (articles.hasNext());
+
+        indexWriter.commit();
+        searcherManager.maybeRefresh();
+        log.info("게시글 검색 색인 완료 - {}건", count);
+    }
+
+    @Override
+    public Page<Article> search(SearchType searchType, String searchKeyword, Pageable pageable) {
+        Page<Long> ids = searchIds(searchType, searchKeyword, pageable);
+
+        return new PageImpl<>(articleRepository.findAllByIdInOrder(ids.getContent()), pageable, ids.getTotalElements());
+    }
+
+    @Override
+    public Page<Long> searchIds(SearchType searchType, String searchKeyword, Pageable pageable) {
+        String field = switch (searchType) {
+            case TITLE -> TITLE;
+            case CONTENT -> CONTENT;
+            default -> throw new IllegalArgumentException("검색 엔진이 지원하지 않는 검색 유형입니다 - searchType: " + searchType);
+        };
+        Query query = new QueryBuilder(analyzer).createBooleanQuery(field, searchKeyword, BooleanClause.Occur.MUST);  // 검색어의 모든 단어를 포함해야 한다.
+        if (query == null) {  // 검색어가 구두점 등으로만 이루어져 색인할 단어가 없는 경우
+            return Page.empty(pageable);
+        }
+
+        List<Long> ids = new ArrayList<>(pageable.getPageSize());
+        int total;
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                total = searcher.count(query);
+                if (total > pageable.getOffset()) {
+                    TopDocs topDocs = searcher.search(query, (int) pageable.getOffset() + pageable.getPageSize(), RANKING);
+                    ScoreDoc[] scoreDocs = topDocs.scoreDocs;
+                    for (int i = (int) pageable.getOffset(); i < scoreDocs.length; i++) {
+                        ids.add(Long.valueOf(searcher.doc(scoreDocs[i].doc).get(ID)));
+                    }
+                }
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("게시글 검색 색인을 읽을 수 없습니다", e);
+        }
+
+        return new PageImpl<>(ids, pageable, total);
+    }
+
+    @Override
+    public void index(Article article) {
+        Document document = toDocument(article);
+        afterCommit(() -> indexWriter.updateDocument(new Term(ID, document.get(ID)), document));
+    }
+
+    // 게시글마다 commit 하지 않고, 모두 색인에 넣은 뒤 한 번만 commit 한다.
+    @Override
+    public void indexAll(Collection<Article> articles) {
+        List<Document> documents = articles.stream().map(this::toDocument).toList();
+        afterCommit(() -> {
+            for (Document document : documents) {
+                indexWriter.updateDocument(new Term(ID, document.get(ID)), document);
+            }
+        });
+    }
+
+    @Override
+    public void remove(Long articleId) {
+        afterCommit(() -> indexWriter.deleteDocuments(new Term(ID, String.valueOf(articleId))));
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        searcherManager.close();
+        indexWriter.close();
+        directory.close();
+    }
+
+
+    private Document toDocument(Article article) {
+        Document document = new Document();
+        document.add(new StringField(ID, String.valueOf(article.getId()), Field.Store.YES));
+        document.add(new TextField(TITLE, article.getTitle(), Field.Store.NO));
+        document.add(new TextField(CONTENT, article.getContent(), Field.Store.NO));
+        if (article.getCreatedAt() != null) {
+            document.add(new NumericDocValuesField(CREATED_AT, article.getCreatedAt().toEpochSecond(ZoneOffset.UTC)));
+        }
+
+        return document;
+    }
+
+    private void afterCommit(IndexWork work) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            applyNow(work);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                applyNow(work);
+            }
+        });
+    }
+
+    private void applyNow(IndexWork work) {
+        try {
+            work.run();
+            indexWriter.commit();
+            searcherManager.maybeRefresh();
+        } catch (IOException e) {
+            log.warn("게시글 검색 색인 반영 실패 - {}", e.getLocalizedMessage());
+        }
+    }
+
+    @FunctionalInterface
+    private interface IndexWork {
+        void run() throws IOException;
+    }
+}
@@ -0,0 +1,130 @@
+package com.example.board.service.search;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 부분 문자열 검색용 메모리 n-gram 역색인. 대소문자를 구분하지 않는다.
+ * 각 값의 모든 n-gram마다 키 목록(posting)을 두고, 검색어의 n-gram posting들을 교집합한 뒤 실제로 포함하는지 확인한다.
+ * 검색어가 n보다 짧으면 n-gram을 만들 수 없으므로 전체 값을 훑는다.
+ *
+ * 여러 스레드에서 동시에 읽고 쓸 수 있다. 다만 put/remove 도중의 검색은 바뀌기 전/후 중 어느 쪽 결과가 나올 수도 있다.
+ *
+ * @param <K> 검색 결과로 돌려줄 키 타입
+ */
+public class NgramIndex<K> {
+
+    private final int n;
+    private final Map<K, String> values = new ConcurrentHashMap<>();
+    private final Map<String, Set<K>> postings = new ConcurrentHashMap<>();
+
+    public NgramIndex(int n) {
+        if (n < 1) {
+            throw new IllegalArgumentException("n-gram 길이는 1 이상이어야 합니다 - n: " + n);
+        }
+        this.n = n;
+    }
+
+    public void put(K key, String value) {
+        remove(key);
+        if (value == null) {
+            return;
+        }
+
+        String normalized = normalize(value);
+        values.put(key, normalized);
+        for (String gram : grams(normalized)) {
+            postings.computeIfAbsent(gram, g -> ConcurrentHashMap.newKeySet()).add(key);
+        }
+    }
+
+    public void remove(K key) {
+        String old = values.remove(key);
+        if (old == null) {
+            return;
+        }
+
+        for (String gram : grams(old)) {
+            postings.computeIfPresent(gram, (g, keys) -> {
+                keys.remove(key);
+                return keys.isEmpty() ? null : keys;
+            });
+        }
+    }
+
+    public void clear() {
+        values.clear();
+        postings.clear();
+    }
+
+    public int size() {
+        return values.size();
+    }
+
+    /**
+     * 값에 검색어가 포함된 키를 찾는다.
+     *
+     * @param limit 최대 결과 수. 결과가 잘렸는지 알고 싶으면 필요한 수보다 하나 더 요청한다.
+     */
+    public Set<K> search(String keyword, int limit) {
+        String normalized = normalize(keyword);
+        Set<K> result = new HashSet<>();
+        if (normalized.length() < n) {
+            for (Map.Entry<K, String> entry : values.entrySet()) {
+                if (result.size() >= limit) {
+                    break;
+                }
+                if (entry.getValue().contains(normalized)) {
+                    result.add(entry.getKey());
+                }
+            }
+            return result;
+        }
+
+        List<Set<K>> candidatePostings = new ArrayList<>();
+        for (String gram : grams(normalized)) {
+            Set<K> keys = postings.get(gram);
+            if (keys == null) {
+                return result;  // 검색어의 n-gram 중 하나라도 색인에 없으면 결과가 없다.
+            }
+            candidatePostings.add(keys);
+        }
+        candidatePostings.sort(Comparator.comparingInt(Set::size));  // 가장 짧은 posting부터 훑어야 확인할 후보가 적다.
+
+        Set<K> shortest = candidatePostings.get(0);
+        List<Set<K>> others = candidatePostings.subList(1, candidatePostings.size());
+        for (K key : shortest) {
+            if (result.size() >= limit) {
+                break;
+            }
+            if (others.stream().allMatch(keys -> keys.contains(key))) {
+                String value = values.get(key);
+                if (value != null && value.contains(normalized)) {  // n-gram이 모두 있어도 순서가 다를 수 있으므로 실제로 포함하는지 확인한다.
+                    result.add(key);
+                }
+            }
+        }
+
+        return result;
+    }
+
+
+    private Set<String> grams(String value) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + n <= value.length(); i++) {
+            grams.add(value.substring(i, i + n));
+        }
+
+        return grams;
+    }
+
+    private String normalize(String value) {
+        return value.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.board.service.search;
+
+import com.example.board.domain.Article;
+import com.example.board.domain.constant.SearchType;
+import com.example.board.repository.ArticleRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import java.util.List;
+
+/**
+ * PostgreSQL 전문 검색(tsvector, GIN 인덱스) 엔진.
+ * title, content 각각에 to_tsvector 표현식 GIN 인덱스를 만들고, 같은 표현식으로 검색해서 인덱스를 타게 한다.
+ * 결과는 ts_rank(관련도) 순, 같으면 최신순으로 정렬한다.
+ *
+ * 한글은 형태소 분석 사전이 기본 제공되지 않으므로 단순 공백/구두점 분리만 하는 'simple' 설정을 사용한다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "board.search.engine", havingValue = "postgres")
+@Component
+public class PostgresArticleSearchEngine implements ArticleSearchEngine {
+
+    private static final String TEXT_SEARCH_CONFIG = "'simple'";
+
+    private final EntityManager entityManager;
+    private final ArticleRepository articleRepository;
+
+    // ddl-auto로는 표현식 인덱스를 만들 수 없으므로 애플리케이션이 뜰 때 직접 만든다. 이미 있으면 아무 것도 하지 않는다.
+    @Transactional
+    @EventListener(ApplicationReadyEvent.class)
+    public void createIndexes() {
+        for (String column : List.of("title", "content")) {
+            entityManager.createNativeQuery(
+                    "create index if not exists article_" + column + "_fts_idx on article using gin (" + tsvector(column) + ")"
+            ).executeUpdate();
+        }
+        log.info("게시글 전문 검색 인덱스 준비 완료");
+    }
+
+    @Override
+    public Page<Article> search(SearchType searchType, String searchKeyword, Pageable pageable) {
+        Page<Long> ids = searchIds(searchType, searchKeyword, pageable);
+        if (ids.getContent().isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, ids.getTotalElements());
+        }
+
+        return new PageImpl<>(articleRepository.findAllByIdInOrder(ids.getContent()), pageable, ids.getTotalElements());
+    }
+
+    @Override
+    public Page<Long> searchIds(SearchType searchType, String searchKeyword, Pageable pageable) {
+        String column = switch (searchType) {
+            case TITLE -> "title";
+            case CONTENT -> "content";
+            default -> throw new IllegalArgumentException("검색 엔진이 지원하지 않는 검색 유형입니다 - searchType: " + searchType);
+        };
+        String match = tsvector("a." + column) + " @@ plainto_tsquery(" + TEXT_SEARCH_CONFIG + ", :keyword)";
+
+        long total = ((Number) entityManager.createNativeQuery("select count(*) from article a where " + match)
+                .setParameter("keyword", searchKeyword)
+                .getSingleResult()).longValue();
+        if (total <= pageable.getOffset()) {
+            return new PageImpl<>(List.of(), pageable, total);
+        }
+
+        List<?> ids = entityManager.createNativeQuery(
+                        "select a.id from article a where " + match +
+                                " order by ts_rank(" + tsvector("a." + column) + ", plainto_tsquery(" + TEXT_SEARCH_CONFIG + ", :keyword)) desc," +
+                                " a.created_at desc, a.id desc")
+                .setParameter("keyword", searchKeyword)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultList();
+
+        return new PageImpl<>(ids.stream().map(id -> ((Number) id).longValue()).toList(), pageable, total);
+    }
+
+    private String tsvector(String column) {
+        return "to_tsvector(" + TEXT_SEARCH_CONFIG + ", " + column + ")";
+    }
+}
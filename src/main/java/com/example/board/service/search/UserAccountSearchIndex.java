@@ -0,0 +1,165 @@
+package com.example.board.service.search;
+
+import com.example.board.domain.UserAccount;
+import com.example.board.domain.constant.SearchType;
+import com.example.board.repository.UserAccountRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 사용자 ID, 닉네임 부분 문자열 검색 색인. 게시글 작성자 검색에서 user_account를 join한 like '%${}%' 스캔 대신,
+ * 검색어가 포함된 사용자 ID를 먼저 찾고 그 ID로 게시글을 조회하게 한다. 대소문자를 구분하지 않는다.
+ *
+ * PostgreSQL에서 pg_trgm 확장을 쓸 수 있으면 trigram GIN 인덱스로 ilike 검색을 하고,
+ * 그렇지 않으면(H2, 확장 설치 권한 없음 등) 애플리케이션 메모리에 trigram 색인을 만들어 검색한다.
+ *
+ * 어느 쪽이든 {@value #MIN_KEYWORD_LENGTH}자보다 짧은 검색어는 trigram을 만들 수 없어 색인을 타지 못하고 모든 사용자를 훑는다.
+ * 그래서 게시글 목록 화면은 그런 검색어로 작성자를 검색하는 요청을 받지 않는다. (ArticleController)
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class UserAccountSearchIndex {
+
+    public static final int MAX_CANDIDATES = 1000;  // 이보다 많은 사용자가 걸리면 in 조건이 너무 길어지므로 검색 색인을 쓰지 않는다.
+    public static final int MIN_KEYWORD_LENGTH = 3;  // 이보다 짧은 검색어는 색인을 쓸 수 없다.
+    private static final int GRAM_SIZE = MIN_KEYWORD_LENGTH;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final UserAccountRepository userAccountRepository;
+
+    private final NgramIndex<String> userIdIndex = new NgramIndex<>(GRAM_SIZE);
+    private final NgramIndex<String> nicknameIndex = new NgramIndex<>(GRAM_SIZE);
+    private volatile Mode mode = Mode.NOT_READY;
+
+    // data.sql로 넣은 사용자도 색인해야 하므로, SQL 초기화가 끝난 애플리케이션 시작 시점에 준비한다.
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        if (isPostgreSql() && createTrigramIndexes()) {
+            mode = Mode.TRIGRAM;
+            log.info("사용자 검색 색인 준비 완료 - pg_trgm GIN 인덱스");
+            return;
+        }
+
+        userIdIndex.clear();
+        nicknameIndex.clear();
+        userAccountRepository.findAll().forEach(this::index);
+        mode = Mode.IN_MEMORY;
+        log.info("사용자 검색 색인 준비 완료 - 메모리 trigram 색인 {}건", userIdIndex.size());
+    }
+
+    /**
+     * 사용자 ID 또는 닉네임에 검색어가 포함된 사용자 ID를 찾는다.
+     *
+     * @param searchType {@link SearchType#ID} 또는 {@link SearchType#NICKNAME}
+     * @return 찾은 사용자 ID. 색인이 아직 준비되지 않았거나 {@link #MAX_CANDIDATES}명보다 많이 걸려서 색인으로 찾을 수 없으면 빈 값
+     */
+    public Optional<Set<String>> findUserIds(SearchType searchType, String searchKeyword) {
+        String column = switch (searchType) {
+            case ID -> "user_id";
+            case NICKNAME -> "nickname";
+            default -> throw new IllegalArgumentException("사용자 검색 색인이 지원하지 않는 검색 유형입니다 - searchType: " + searchType);
+        };
+
+        Set<String> userIds = switch (mode) {
+            case NOT_READY -> null;
+            case TRIGRAM -> new HashSet<>(jdbcTemplate.queryForList(
+                    "select user_id from user_account where " + column + " ilike ? escape '!' limit " + (MAX_CANDIDATES + 1),
+                    String.class,
+                    "%" + escapeLike(searchKeyword) + "%"
+            ));
+            case IN_MEMORY -> (searchType == SearchType.ID ? userIdIndex : nicknameIndex).search(searchKeyword, MAX_CANDIDATES + 1);
+        };
+        if (userIds == null || userIds.size() > MAX_CANDIDATES) {
+            return Optional.empty();
+        }
+
+        return Optional.of(userIds);
+    }
+
+    /**
+     * 새로 저장되거나 수정된 사용자를 메모리 색인에 반영한다. 트랜잭션 안에서 호출하면 커밋된 뒤에 반영하고, 롤백되면 반영하지 않는다.
+     * pg_trgm을 쓰는 경우에는 DB가 인덱스를 관리하므로 아무 것도 하지 않는다.
+     */
+    public void index(UserAccount userAccount) {
+        if (mode == Mode.TRIGRAM) {
+            return;
+        }
+
+        String userId = userAccount.getUserId();
+        String nickname = userAccount.getNickname();
+        afterCommit(() -> {
+            userIdIndex.put(userId, userId);
+            nicknameIndex.put(userId, nickname);
+        });
+    }
+
+    /**
+     * 삭제된 사용자를 메모리 색인에서 뺀다. 트랜잭션 안에서 호출하면 커밋된 뒤에 뺀다.
+     */
+    public void remove(String userId) {
+        if (mode == Mode.TRIGRAM) {
+            return;
+        }
+
+        afterCommit(() -> {
+            userIdIndex.remove(userId);
+            nicknameIndex.remove(userId);
+        });
+    }
+
+
+    private void afterCommit(Runnable change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            change.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                change.run();
+            }
+        });
+    }
+
+    private boolean isPostgreSql() {
+        return Boolean.TRUE.equals(jdbcTemplate.execute((ConnectionCallback<Boolean>) connection ->
+                "PostgreSQL".equals(connection.getMetaData().getDatabaseProductName())));
+    }
+
+    // ddl-auto로는 연산자 클래스를 지정한 인덱스를 만들 수 없으므로 직접 만든다. 이미 있으면 아무 것도 하지 않는다.
+    private boolean createTrigramIndexes() {
+        try {
+            jdbcTemplate.execute("create extension if not exists pg_trgm");
+            jdbcTemplate.execute("create index if not exists user_account_user_id_trgm_idx on user_account using gin (user_id gin_trgm_ops)");
+            jdbcTemplate.execute("create index if not exists user_account_nickname_trgm_idx on user_account using gin (nickname gin_trgm_ops)");
+            return true;
+        } catch (DataAccessException e) {
+            log.warn("pg_trgm 인덱스를 만들 수 없어 메모리 색인을 사용합니다 - {}", e.getLocalizedMessage());
+            return false;
+        }
+    }
+
+    private String escapeLike(String keyword) {
+        return keyword.replace("!", "!!").replace("%", "!%").replace("_", "!_");
+    }
+
+    private enum Mode {
+        NOT_READY,
+        TRIGRAM,
+        IN_MEMORY
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.board.service.search;
+
+import com.example.board.domain.UserAccount;
+import org.springframework.beans.factory.ObjectProvider;
+
+import javax.persistence.PostPersist;
+import javax.persistence.PostRemove;
+import javax.persistence.PostUpdate;
+
+/**
+ * 사용자 저장/수정/삭제를 {@link UserAccountSearchIndex}에 반영하는 JPA 엔티티 리스너.
+ * 콜백은 커밋이 아니라 flush 때 불리므로, 색인은 트랜잭션이 커밋된 뒤에 반영하고 롤백되면 반영하지 않는다.
+ * 스프링 부트가 하이버네이트에 등록한 SpringBeanContainer가 이 리스너를 만들면서 의존성을 주입한다.
+ * 슬라이스 테스트처럼 색인 빈이 없는 환경에서는 아무 것도 하지 않는다.
+ */
+public class UserAccountSearchIndexListener {
+
+    private final ObjectProvider<UserAccountSearchIndex> userAccountSearchIndex;
+
+    public UserAccountSearchIndexListener(ObjectProvider<UserAccountSearchIndex> userAccountSearchIndex) {
+        this.userAccountSearchIndex = userAccountSearchIndex;
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void index(UserAccount userAccount) {
+        userAccountSearchIndex.ifAvailable(index -> index.index(userAccount));
+    }
+
+    @PostRemove
+    public void remove(UserAccount userAccount) {
+        userAccountSearchIndex.ifAvailable(index -> index.remove(userAccount.getUserId()));
+    }
+}
@@ -0,0 +1,195 @@
+package com.example.board.config;
+
+import com.example.board.service.ReadYourWritesTracker;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 주 DB와 복제본을 각각 다른 H2 메모리 DB로 띄워서, 실제로 어느 DB에서 쿼리가 실행되는지(H2의 DATABASE() 함수) 확인한다.
+ */
+@DisplayName("DB 라우팅 - 읽기 전용 트랜잭션의 복제본 분산")
+class ReplicaRoutingDataSourceTest {
+
+    private static final ReplicaDataSourceProperties PROPERTIES = new ReplicaDataSourceProperties(
+            List.of(),
+            Duration.ofSeconds(5),
+            Duration.ofSeconds(5),
+            Duration.ofSeconds(10),
+            "select lag from replication_status"  // 복제 지연을 테스트에서 정할 수 있도록 복제본마다 둔 테이블에서 읽는다.
+    );
+
+    private final DataSource primary = h2("primary");
+    private final DataSource replica = h2("replica");
+    private final ReadYourWritesTracker readYourWritesTracker = new ReadYourWritesTracker(PROPERTIES);
+
+    @BeforeEach
+    void setUp() {
+        setReplicationLag(replica, 0);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @DisplayName("읽기 전용 트랜잭션이면, 복제본에서 실행한다")
+    @Test
+    void givenReadOnlyTransaction_whenQuerying_thenRoutesToReplica() {
+        // given
+        ReplicaRoutingDataSource sut = createRoutingDataSource(Map.of("replica", replica));
+
+        // when
+        String database = queryDatabaseName(sut, true);
+
+        // then
+        assertThat(database).isEqualToIgnoringCase("replica");
+    }
+
+    @DisplayName("읽기 전용이 아닌 트랜잭션이면, 주 DB에서 실행한다")
+    @Test
+    void givenReadWriteTransaction_whenQuerying_thenRoutesToPrimary() {
+        // given
+        ReplicaRoutingDataSource sut = createRoutingDataSource(Map.of("replica", replica));
+
+        // when
+        String database = queryDatabaseName(sut, false);
+
+        // then
+        assertThat(database).isEqualToIgnoringCase("primary");
+    }
+
+    @DisplayName("복제본이 여럿이면, 읽기 전용 트랜잭션을 돌아가며 보낸다")
+    @Test
+    void givenReplicas_whenQueryingRepeatedly_thenRoutesToEachReplica() {
+        // given
+        DataSource secondReplica = h2("replica2");
+        setReplicationLag(secondReplica, 0);
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        replicas.put("replica", replica);
+        replicas.put("replica2", secondReplica);
+        ReplicaRoutingDataSource sut = createRoutingDataSource(replicas);
+
+        // when
+        List<String> databases = List.of(queryDatabaseName(sut, true), queryDatabaseName(sut, true));
+
+        // then
+        assertThat(databases).containsExactlyInAnyOrder("REPLICA", "REPLICA2");
+    }
+
+    @DisplayName("복제 지연이 허용치보다 크면, 다음 상태 확인까지 주 DB에서 실행한다")
+    @Test
+    void givenLaggingReplica_whenQueryingReadOnly_thenFallsBackToPrimaryUntilCaughtUp() {
+        // given
+        ReplicaRoutingDataSource sut = createRoutingDataSource(Map.of("replica", replica));
+        setReplicationLag(replica, 60);
+        sut.checkReplicas();
+
+        // when
+        String lagging = queryDatabaseName(sut, true);
+        setReplicationLag(replica, 1);
+        sut.checkReplicas();
+        String caughtUp = queryDatabaseName(sut, true);
+
+        // then
+        assertThat(lagging).isEqualToIgnoringCase("primary");
+        assertThat(caughtUp).isEqualToIgnoringCase("replica");
+    }
+
+    @DisplayName("쓸 수 있는 복제본에 복제 지연이 있으면, 지연이 있다고 알린다")
+    @Test
+    void givenReplicaLaggingWithinMaxLag_whenCheckingLag_thenReportsLaggingReplica() {
+        // given
+        ReplicaRoutingDataSource sut = createRoutingDataSource(Map.of("replica", replica));
+        boolean caughtUp = sut.hasLaggingReplica();
+
+        // when
+        setReplicationLag(replica, 0.5);
+        sut.checkReplicas();
+        boolean lagging = sut.hasLaggingReplica();
+        setReplicationLag(replica, 60);  // 허용치를 넘으면 복제본으로 보내지 않으므로 지연이 있는 복제본으로 보지 않는다.
+        sut.checkReplicas();
+        boolean excluded = sut.hasLaggingReplica();
+
+        // then
+        assertThat(caughtUp).isFalse();
+        assertThat(lagging).isTrue();
+        assertThat(excluded).isFalse();
+    }
+
+    @DisplayName("복제본에 연결할 수 없으면, 주 DB에서 실행한다")
+    @Test
+    void givenUnreachableReplica_whenQueryingReadOnly_thenFallsBackToPrimary() {
+        // given
+        DataSource unreachable = new DriverManagerDataSource("jdbc:h2:tcp://localhost:1/unreachable", "sa", "");
+        ReplicaRoutingDataSource sut = createRoutingDataSource(Map.of("unreachable", unreachable));
+
+        // when
+        String database = queryDatabaseName(sut, true);
+
+        // then
+        assertThat(sut.getAvailableReplicas()).isEmpty();
+        assertThat(database).isEqualToIgnoringCase("primary");
+    }
+
+    @DisplayName("방금 글을 쓴 사용자의 읽기 전용 트랜잭션은, 주 DB에서 실행한다")
+    @Test
+    void givenUserWhoJustWrote_whenQueryingReadOnly_thenRoutesToPrimary() {
+        // given
+        ReplicaRoutingDataSource sut = createRoutingDataSource(Map.of("replica", replica));
+        readYourWritesTracker.markWritten("uno");
+
+        // when
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("uno", null, "ROLE_USER"));
+        String writer = queryDatabaseName(sut, true);
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("sol", null, "ROLE_USER"));
+        String otherUser = queryDatabaseName(sut, true);
+
+        // then
+        assertThat(writer).isEqualToIgnoringCase("primary");
+        assertThat(otherUser).isEqualToIgnoringCase("replica");
+    }
+
+
+    private ReplicaRoutingDataSource createRoutingDataSource(Map<String, DataSource> replicas) {
+        ReplicaRoutingDataSource routingDataSource = new ReplicaRoutingDataSource(primary, replicas, PROPERTIES, readYourWritesTracker);
+        routingDataSource.afterPropertiesSet();
+
+        return routingDataSource;
+    }
+
+    private String queryDatabaseName(ReplicaRoutingDataSource routingDataSource, boolean readOnly) {
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        transactionTemplate.setReadOnly(readOnly);
+
+        return transactionTemplate.execute(status -> new JdbcTemplate(dataSource).queryForObject("select database()", String.class));
+    }
+
+    private static void setReplicationLag(DataSource replica, double lagSeconds) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(replica);
+        jdbcTemplate.execute("create table if not exists replication_status (lag double precision)");
+        jdbcTemplate.update("delete from replication_status");
+        jdbcTemplate.update("insert into replication_status (lag) values (?)", lagSeconds);
+    }
+
+    private static DataSource h2(String name) {
+        return new DriverManagerDataSource("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.board.controller;
+
+import com.example.board.config.PaginationProperties;
+import com.example.board.config.TestSecurityConfig;
+import com.example.board.domain.constant.SearchType;
+import com.example.board.dto.ArticleSummaryDto;
+import com.example.board.service.ArticleCommentService;
+import com.example.board.service.ArticleService;
+import com.example.board.service.PaginationService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.Set;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.model;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.view;
+
+/**
+ * 기본 설정(board.pagination.count-mode=estimated)의 게시글 목록. count 쿼리 없이 조회하고, 실제 PaginationService로 추정 게시글 수만큼 페이지네이션 바를 만든다.
+ * count 쿼리로 구한 전체 페이지 수를 쓰는 목록(exact)은 ArticleControllerTest에서 확인한다.
+ */
+@DisplayName("View 컨트롤러 - 게시글 목록의 게시글 수 추정")
+@Import({TestSecurityConfig.class, PaginationService.class})
+@EnableConfigurationProperties(PaginationProperties.class)  // @WebMvcTest는 @ConfigurationProperties 빈을 스캔하지 않으므로 직접 등록
+@WebMvcTest(ArticleController.class)
+class ArticleControllerCountModeTest {
+
+    @Autowired
+    private MockMvc mvc;
+
+    @MockBean
+    private ArticleService articleService;
+
+    @MockBean
+    private ArticleCommentService articleCommentService;
+
+    @DisplayName("[view][GET] 게시글 리스트 (게시판) 페이지 - 게시글 수를 세지 않고, 추정한 게시글 수로 페이지네이션 바를 만든다")
+    @Test
+    void givenEstimatedCount_whenRequestingArticlesView_thenBuildsPaginationBarWithoutCountQuery() throws Exception {
+        // given
+        Pageable pageable = PageRequest.of(0, 10);
+        given(articleService.searchArticleSlice(eq(null), eq(null), any(Pageable.class)))
+                .willReturn(new SliceImpl<>(List.of(createArticleSummaryDto()), pageable, true));
+        given(articleService.estimateArticleCount(null, null)).willReturn(OptionalLong.of(95));
+
+        // when & then
+        mvc.perform(get("/articles"))
+                .andExpect(status().isOk())
+                .andExpect(view().name("articles/index"))
+                .andExpect(model().attributeExists("articles"))
+                .andExpect(model().attribute("paginationBarNumbers", List.of(0, 1, 2, 3, 4)))
+                .andExpect(model().attribute("searchTypeHashtag", SearchType.HASHTAG));
+        then(articleService).should(never()).searchArticleSummaries(any(), any(), any(Pageable.class));
+    }
+
+    @DisplayName("[view][GET] 게시글 리스트 (게시판) 페이지 - 게시글 수를 추정할 수 없으면, 다음 페이지까지만 페이지네이션 바를 만든다")
+    @Test
+    void givenNoEstimate_whenRequestingArticlesView_thenBuildsPaginationBarUpToNextPage() throws Exception {
+        // given
+        Pageable pageable = PageRequest.of(0, 10);
+        given(articleService.searchArticleSlice(eq(null), eq(null), any(Pageable.class)))
+                .willReturn(new SliceImpl<>(List.of(createArticleSummaryDto()), pageable, true));
+        given(articleService.estimateArticleCount(null, null)).willReturn(OptionalLong.empty());  // 통계가 없는 DB(H2 등)
+
+        // when & then
+        mvc.perform(get("/articles"))
+                .andExpect(status().isOk())
+                .andExpect(view().name("articles/index"))
+                .andExpect(model().attribute("paginationBarNumbers", List.of(0, 1)));
+        then(articleService).should(never()).searchArticleSummaries(any(), any(), any(Pageable.class));
+    }
+
+
+    private ArticleSummaryDto createArticleSummaryDto() {
+        return ArticleSummaryDto.of(1L, "title", Set.of("java"), "sol", "Ssol", LocalDateTime.now());
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.board.controller;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.TestExecutionEvent;
+import org.springframework.security.test.context.support.WithUserDetails;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static com.example.board.util.QueryBudgetMatchers.queryCountAtMost;
+import static com.example.board.util.QueryBudgetMatchers.withinQueryBudget;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * ArticleControllerTest는 서비스를 mocking하므로 쿼리가 나가지 않는다. 쿼리 예산은 실제 DB(테스트용 내장 DB와 data.sql)까지 내려가는 통합 테스트로 확인한다.
+ * 'test' 프로필은 예산을 넘는 쿼리에서 바로 예외를 던지므로(board.query-budget.mode=fail), N+1이 생기면 그 쿼리를 실행한 곳에서 테스트가 실패한다.
+ */
+@DisplayName("View 컨트롤러 - 게시글 쿼리 예산")
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase
+@AutoConfigureMockMvc
+@SpringBootTest
+class ArticleControllerQueryBudgetTest {
+
+    @Autowired
+    private MockMvc mvc;
+
+    @WithUserDetails(value = "uno", setupBefore = TestExecutionEvent.TEST_EXECUTION)
+    @DisplayName("[view][GET] 게시글 리스트 (게시판) 페이지 - 쿼리 예산 안에서 조회")
+    @Test
+    void givenNothing_whenRequestingArticlesView_thenStaysWithinQueryBudget() throws Exception {
+        // given
+
+        // when & then
+        mvc.perform(get("/articles"))
+                .andExpect(status().isOk())
+                .andExpect(withinQueryBudget());
+    }
+
+    @WithUserDetails(value = "uno", setupBefore = TestExecutionEvent.TEST_EXECUTION)
+    @DisplayName("[view][GET] 게시글 상세 페이지 - 댓글 작성자를 댓글마다 따로 조회하지 않는다")
+    @Test
+    void givenArticleWithComments_whenRequestingArticleView_thenDoesNotQueryPerComment() throws Exception {
+        // given
+        long articleId = 1L;
+
+        // when & then
+        mvc.perform(get("/articles/" + articleId))
+                .andExpect(status().isOk())
+                .andExpect(withinQueryBudget())
+                .andExpect(queryCountAtMost(3));
+    }
+}
@@ -1,14 +1,20 @@
 package com.example.board.controller;
 
+import com.example.board.config.PaginationProperties;
 import com.example.board.config.TestSecurityConfig;
+import com.example.board.domain.constant.CursorDirection;
 import com.example.board.domain.constant.FormStatus;
 import com.example.board.domain.constant.SearchType;
 import com.example.board.dto.ArticleDto;
-import com.example.board.dto.ArticleWithCommentsDto;
+import com.example.board.dto.ArticleCursor;
+import com.example.board.dto.CursorPage;
+import com.example.board.dto.CursorPaginationBar;
 import com.example.board.dto.HashTagDto;
+import com.example.board.dto.InvalidCursorException;
 import com.example.board.dto.UserAccountDto;
 import com.example.board.dto.request.ArticleRequest;
 import com.example.board.dto.response.ArticleResponse;
+import com.example.board.service.ArticleCommentService;
 import com.example.board.service.ArticleService;
 import com.example.board.service.PaginationService;
 import com.example.board.util.FormDataEncoder;
@@ -16,6 +22,7 @@ import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
@@ -33,6 +40,8 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Set;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.*;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
@@ -46,7 +55,11 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
  */
 @DisplayName("View 컨트롤러 - 게시글")
 @Import({TestSecurityConfig.class, FormDataEncoder.class})  // 기본 웹 시큐리티가 아닌 직접 구현한 SecurityConfig를 사용하도록 설정 -> 테스트용 SecurityConfig를 사용해서 mocking한 인증 유저를 받아오도록 설정
-@WebMvcTest(ArticleController.class)
+@EnableConfigurationProperties(PaginationProperties.class)  // @WebMvcTest는 @ConfigurationProperties 빈을 스캔하지 않으므로 직접 등록
+@WebMvcTest(
+        controllers = ArticleController.class,
+        properties = "board.pagination.count-mode=exact"  // count 쿼리로 구한 전체 페이지 수를 쓰는 목록을 확인한다. 기본값(estimated)은 ArticleControllerCountModeTest에서 확인
+)
 class ArticleControllerTest {
 
     @Autowired
@@ -57,6 +70,9 @@ class ArticleControllerTest {
     @MockBean  // @WebMvcTest의 컨트롤러 단에 의존하는 의존성 테스트를 위해 사용. 컨트롤러에 있는 의존성을 끊고 mocking 해준다.
     private ArticleService articleService;  // 왜 필드 주입을 했는가? JUnit5의 @WebMvcTest 내에는 @Autowired를 인지해서 생성자 주입을 할 수 있게 되었는데 이게 @MockBean에 대해선 구현이 안되어 있기 때문에 통일성을 위해 테스트 코드에선 모두 필드 주입을 사용하기로 결정함.
 
+    @MockBean
+    private ArticleCommentService articleCommentService;
+
     @MockBean
     private PaginationService paginationService;
 
@@ -64,7 +80,7 @@ class ArticleControllerTest {
     @Test
     void givenNothing_whenRequestingArticlesView_thenReturnsArticlesView() throws Exception {
         // given
-        given(articleService.searchArticles(eq(null), eq(null), any(Pageable.class))).willReturn(Page.empty());  // 필드의 일부분만 matcher를 사용할 수 없기 때문에 null이 들어가는 부분도 matcher를 사용해줘야 한다.
+        given(articleService.searchArticleSummaries(eq(null), eq(null), any(Pageable.class))).willReturn(Page.empty());  // 필드의 일부분만 matcher를 사용할 수 없기 때문에 null이 들어가는 부분도 matcher를 사용해줘야 한다.
         given(paginationService.getPaginationBarNumbers(anyInt(), anyInt())).willReturn(List.of(0, 1, 2, 3, 4));  // getPaginationBarNumbers()의 인자는 primitive 타입인데 any()는 null도 허용한다는 뜻이기 때문에 사용하면 안된다. 따라서 anyInt()를 사용해야 한다.
 
         // when & then
@@ -76,7 +92,7 @@ class ArticleControllerTest {
                 .andExpect(model().attributeExists("paginationBarNumbers"))
                 .andExpect(model().attributeExists("searchTypes"))
                 .andExpect(model().attribute("searchTypeHashtag", SearchType.HASHTAG));
-        then(articleService).should().searchArticles(eq(null), eq(null), any(Pageable.class));  // 이러한 조건에서 동작을 하는지 검증. should()에는 '1회 호출'이라는 의미가 포함되어 있음
+        then(articleService).should().searchArticleSummaries(eq(null), eq(null), any(Pageable.class));  // 이러한 조건에서 동작을 하는지 검증. should()에는 '1회 호출'이라는 의미가 포함되어 있음
         then(paginationService).should().getPaginationBarNumbers(anyInt(), anyInt());
     }
 
@@ -86,7 +102,7 @@ class ArticleControllerTest {
         // given
         SearchType searchType = SearchType.TITLE;
         String searchValue = "title";
-        given(articleService.searchArticles(eq(searchType), eq(searchValue), any(Pageable.class))).willReturn(Page.empty());
+        given(articleService.searchArticleSummaries(eq(searchType), eq(searchValue), any(Pageable.class))).willReturn(Page.empty());
         given(paginationService.getPaginationBarNumbers(anyInt(), anyInt())).willReturn(List.of(0, 1, 2, 3, 4));
 
         // when & then
@@ -99,10 +115,47 @@ class ArticleControllerTest {
                 .andExpect(view().name("articles/index"))
                 .andExpect(model().attributeExists("articles"))
                 .andExpect(model().attributeExists("searchTypes"));
-        then(articleService).should().searchArticles(eq(searchType), eq(searchValue), any(Pageable.class));
+        then(articleService).should().searchArticleSummaries(eq(searchType), eq(searchValue), any(Pageable.class));
         then(paginationService).should().getPaginationBarNumbers(anyInt(), anyInt());
     }
-    
+
+    @DisplayName("[view][GET] 게시글 리스트 (게시판) 페이지 - 사용자 검색 색인을 쓸 수 없는 짧은 작성자 검색어면 400 응답")
+    @Test
+    void givenTooShortUserSearchKeyword_whenSearchingArticlesView_thenReturnsBadRequest() throws Exception {
+        // given
+        String searchValue = "so";
+
+        // when & then
+        mvc.perform(get("/articles")
+                        .queryParam("searchType", SearchType.NICKNAME.name())
+                        .queryParam("searchValue", searchValue)
+                )
+                .andExpect(status().isBadRequest());
+        mvc.perform(get("/articles")
+                        .queryParam("searchType", SearchType.ID.name())
+                        .queryParam("searchValue", searchValue)
+                        .queryParam("cursor", "")
+                )
+                .andExpect(status().isBadRequest());
+        then(articleService).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("[view][GET] 게시글 리스트 (게시판) 페이지 - 짧은 검색어라도 작성자 검색이 아니면 그대로 검색한다")
+    @Test
+    void givenShortTitleKeyword_whenSearchingArticlesView_thenSearchesArticles() throws Exception {
+        // given
+        given(articleService.searchArticleSummaries(eq(SearchType.TITLE), eq("so"), any(Pageable.class))).willReturn(Page.empty());
+        given(paginationService.getPaginationBarNumbers(anyInt(), anyInt())).willReturn(List.of(0));
+
+        // when & then
+        mvc.perform(get("/articles")
+                        .queryParam("searchType", SearchType.TITLE.name())
+                        .queryParam("searchValue", "so")
+                )
+                .andExpect(status().isOk());
+        then(articleService).should().searchArticleSummaries(eq(SearchType.TITLE), eq("so"), any(Pageable.class));
+    }
+
     @DisplayName("[view][GET] 게시글 리스트 (게시판) 페이지 - 페이징, 정렬 기능")
     @Test
     void givenPagingAndSortingParams_whenSearchingArticlesView_thenReturnsArticlesView() throws Exception {
@@ -113,7 +166,7 @@ class ArticleControllerTest {
         int pageSize = 5;
         Pageable pageable = PageRequest.of(pageNumber, pageSize, Sort.by(Sort.Order.desc(sortName)));
         List<Integer> barNumbers = List.of(1, 2, 3, 4, 5);
-        given(articleService.searchArticles(null, null, pageable)).willReturn(Page.empty());
+        given(articleService.searchArticleSummaries(null, null, pageable)).willReturn(Page.empty());
         given(paginationService.getPaginationBarNumbers(pageable.getPageNumber(), Page.empty().getTotalPages())).willReturn(barNumbers);
         
         // when & then
@@ -131,6 +184,70 @@ class ArticleControllerTest {
         then(paginationService).should().getPaginationBarNumbers(pageable.getPageNumber(), Page.empty().getTotalPages());
     }
 
+    @DisplayName("[view][GET] 게시글 리스트 (게시판) 페이지 - 커서 기반 페이징")
+    @Test
+    void givenCursor_whenRequestingArticlesView_thenReturnsCursorPagedArticlesView() throws Exception {
+        // given
+        String cursor = "cursor";
+        CursorPage<ArticleDto> articles = CursorPage.of(List.of(createArticleDto()), "prev", "next");
+        CursorPaginationBar cursorPaginationBar = CursorPaginationBar.of(false, "prev", "next");
+        given(articleService.searchArticlesByCursor(null, null, cursor, CursorDirection.NEXT, 10)).willReturn(articles);
+        given(paginationService.getCursorPaginationBar(eq(cursor), any())).willReturn(cursorPaginationBar);
+
+        // when & then
+        mvc.perform(get("/articles").queryParam("cursor", cursor))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.TEXT_HTML))
+                .andExpect(view().name("articles/index"))
+                .andExpect(model().attributeExists("articles"))
+                .andExpect(model().attribute("cursorPaginationBar", cursorPaginationBar))
+                .andExpect(model().attributeDoesNotExist("paginationBarNumbers"));
+        then(articleService).should().searchArticlesByCursor(null, null, cursor, CursorDirection.NEXT, 10);
+        then(articleService).shouldHaveNoMoreInteractions();  // offset 페이징(count 쿼리)은 호출되지 않아야 한다.
+        then(paginationService).should().getCursorPaginationBar(eq(cursor), any());
+    }
+
+    @DisplayName("[view][GET] 게시글 리스트 (게시판) 페이지 - 커서 기반 페이징, 최대 크기보다 큰 페이지 크기는 최대 크기로 줄여서 조회")
+    @Test
+    void givenTooLargeSize_whenRequestingArticlesViewByCursor_thenClampsSize() throws Exception {
+        // given
+        given(articleService.searchArticlesByCursor(null, null, "", CursorDirection.NEXT, 100)).willReturn(CursorPage.empty());
+        given(paginationService.getCursorPaginationBar(eq(""), any())).willReturn(CursorPaginationBar.of(false, null, null));
+
+        // when & then
+        mvc.perform(get("/articles").queryParam("cursor", "").queryParam("size", "100000"))
+                .andExpect(status().isOk());
+        then(articleService).should().searchArticlesByCursor(null, null, "", CursorDirection.NEXT, 100);
+    }
+
+    @DisplayName("[view][GET] 게시글 리스트 (게시판) 페이지 - 커서 기반 페이징, 형식이 잘못된 커서면 400 응답")
+    @Test
+    void givenMalformedCursor_whenRequestingArticlesView_thenReturnsBadRequest() throws Exception {
+        // given
+        String cursor = "not-a-cursor";
+        given(articleService.searchArticlesByCursor(null, null, cursor, CursorDirection.NEXT, 10))
+                .willThrow(new InvalidCursorException(cursor, null));
+
+        // when & then
+        mvc.perform(get("/articles").queryParam("cursor", cursor))
+                .andExpect(status().isBadRequest());
+        then(paginationService).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("[view][GET] 게시글 리스트 (게시판) 페이지 - 커서가 아닌 다른 IllegalArgumentException은 400으로 바꾸지 않는다")
+    @Test
+    void givenIllegalArgumentFromService_whenRequestingArticlesView_thenDoesNotRespondBadRequest() {
+        // given
+        given(articleService.searchArticlesByCursor(null, null, "", CursorDirection.NEXT, 10))
+                .willThrow(new IllegalArgumentException("검색 엔진이 지원하지 않는 검색 유형입니다"));
+
+        // when
+        Throwable t = catchThrowable(() -> mvc.perform(get("/articles").queryParam("cursor", "")));
+
+        // then
+        assertThat(t).hasRootCauseInstanceOf(IllegalArgumentException.class);  // 처리되지 않고 서버 오류로 전파된다.
+    }
+
     @DisplayName("[view][GET] 게시글 상세 페이지 - 인증 없을 땐 로그인 페이지로 이동")
     @Test
     void givenNothing_whenRequestingArticlePage_thenRedirectsToLoginPage() throws Exception {
@@ -152,7 +269,8 @@ class ArticleControllerTest {
         long articleId = 1L;
         long totalCount = 1L;
         
-        given(articleService.getArticleWithComments(articleId)).willReturn(createArticleWithCommentsDto());
+        given(articleService.getArticle(articleId)).willReturn(createArticleDto());
+        given(articleCommentService.searchArticleComments(eq(articleId), eq(null), anyInt())).willReturn(CursorPage.empty());
         given(articleService.getArticleCount()).willReturn(totalCount);
 
         // when & then
@@ -164,10 +282,32 @@ class ArticleControllerTest {
                 .andExpect(model().attributeExists("articleComments"))
                 .andExpect(model().attribute("totalCount", totalCount))
                 .andExpect(model().attribute("searchTypeHashtag", SearchType.HASHTAG));
-        then(articleService).should().getArticleWithComments(articleId);
+        then(articleService).should().getArticle(articleId);
+        then(articleCommentService).should().searchArticleComments(eq(articleId), eq(null), anyInt());
         then(articleService).should().getArticleCount();
     }
 
+    @WithMockUser
+    @DisplayName("[view][GET] 게시글 상세 페이지 - 댓글 커서와 함께 호출하면, 다음 댓글 페이지를 보여준다")
+    @Test
+    void givenCommentCursor_whenRequestingArticleView_thenReturnsArticleViewWithNextComments() throws Exception {
+        // given
+        long articleId = 1L;
+        String commentCursor = ArticleCursor.of(LocalDateTime.of(2023, 1, 1, 0, 0), 30L).encode();
+        String nextCommentCursor = ArticleCursor.of(LocalDateTime.of(2022, 12, 1, 0, 0), 10L).encode();
+        given(articleService.getArticle(articleId)).willReturn(createArticleDto());
+        given(articleCommentService.searchArticleComments(eq(articleId), eq(commentCursor), anyInt()))
+                .willReturn(CursorPage.of(List.of(), null, nextCommentCursor));
+
+        // when & then
+        mvc.perform(get("/articles/" + articleId).queryParam("commentCursor", commentCursor))
+                .andExpect(status().isOk())
+                .andExpect(view().name("articles/detail"))
+                .andExpect(model().attributeExists("articleComments"))
+                .andExpect(model().attribute("nextCommentCursor", nextCommentCursor));
+        then(articleCommentService).should().searchArticleComments(eq(articleId), eq(commentCursor), anyInt());
+    }
+
     @Disabled("구현 중")
     @DisplayName("[view][GET] 게시글 검색 페이지 - 정상 호출")
     @Test
@@ -230,6 +370,73 @@ class ArticleControllerTest {
         then(paginationService).should().getPaginationBarNumbers(anyInt(), anyInt());
     }
 
+    @DisplayName("[view][GET] 게시글 해시태그 검색 페이지 - 커서 기반 페이징")
+    @Test
+    void givenHashtagAndCursor_whenRequestingArticleSearchHashtagView_thenReturnsCursorPagedView() throws Exception {
+        // given
+        String hashtag = "spring";
+        String cursor = "cursor";
+        CursorPage<ArticleDto> articles = CursorPage.of(List.of(createArticleDto()), "prev", "next");
+        CursorPaginationBar cursorPaginationBar = CursorPaginationBar.of(false, "prev", "next");
+        List<String> hashtags = List.of("java", "spring");
+        given(articleService.searchArticlesViaHashtagByCursor(hashtag, cursor, CursorDirection.NEXT, 10)).willReturn(articles);
+        given(articleService.getHashtags()).willReturn(hashtags);
+        given(paginationService.getCursorPaginationBar(eq(cursor), any())).willReturn(cursorPaginationBar);
+
+        // when & then
+        mvc.perform(get("/articles/search-hashtag")
+                        .queryParam("searchValue", hashtag)
+                        .queryParam("cursor", cursor)
+                )
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.TEXT_HTML))
+                .andExpect(view().name("articles/search-hashtag"))
+                .andExpect(model().attributeExists("articles"))
+                .andExpect(model().attribute("hashtags", hashtags))
+                .andExpect(model().attribute("cursorPaginationBar", cursorPaginationBar))
+                .andExpect(model().attributeDoesNotExist("paginationBarNumbers"));
+        then(articleService).should().searchArticlesViaHashtagByCursor(hashtag, cursor, CursorDirection.NEXT, 10);
+        then(articleService).should().getHashtags();
+        then(articleService).shouldHaveNoMoreInteractions();
+    }
+
+    @DisplayName("[view][GET] 게시글 해시태그 검색 페이지 - 커서 기반 페이징, 최대 크기보다 큰 페이지 크기는 최대 크기로 줄여서 조회")
+    @Test
+    void givenTooLargeSize_whenRequestingArticleSearchHashtagViewByCursor_thenClampsSize() throws Exception {
+        // given
+        String hashtag = "spring";
+        given(articleService.searchArticlesViaHashtagByCursor(hashtag, "", CursorDirection.NEXT, 100)).willReturn(CursorPage.empty());
+        given(articleService.getHashtags()).willReturn(List.of());
+        given(paginationService.getCursorPaginationBar(eq(""), any())).willReturn(CursorPaginationBar.of(false, null, null));
+
+        // when & then
+        mvc.perform(get("/articles/search-hashtag")
+                        .queryParam("searchValue", hashtag)
+                        .queryParam("cursor", "")
+                        .queryParam("size", "100000")
+                )
+                .andExpect(status().isOk());
+        then(articleService).should().searchArticlesViaHashtagByCursor(hashtag, "", CursorDirection.NEXT, 100);
+    }
+
+    @DisplayName("[view][GET] 게시글 해시태그 검색 페이지 - 커서 기반 페이징, 형식이 잘못된 커서면 400 응답")
+    @Test
+    void givenMalformedCursor_whenRequestingArticleSearchHashtagView_thenReturnsBadRequest() throws Exception {
+        // given
+        String hashtag = "spring";
+        String cursor = "not-a-cursor";
+        given(articleService.searchArticlesViaHashtagByCursor(hashtag, cursor, CursorDirection.NEXT, 10))
+                .willThrow(new InvalidCursorException(cursor, null));
+
+        // when & then
+        mvc.perform(get("/articles/search-hashtag")
+                        .queryParam("searchValue", hashtag)
+                        .queryParam("cursor", cursor)
+                )
+                .andExpect(status().isBadRequest());
+        then(paginationService).shouldHaveNoInteractions();
+    }
+
     @WithMockUser
     @DisplayName("[view][GET] 새 게시글 작성 페이지")
     @Test
@@ -350,21 +557,6 @@ class ArticleControllerTest {
         );
     }
 
-    private ArticleWithCommentsDto createArticleWithCommentsDto() {
-        return ArticleWithCommentsDto.of(
-                1L,
-                createUserAccountDto(),
-                Set.of(),
-                "title",
-                "content",
-                Set.of(HashTagDto.of("java")),
-                LocalDateTime.now(),
-                "sol",
-                LocalDateTime.now(),
-                "sol"
-        );
-    }
-
     private UserAccountDto createUserAccountDto() {
         return UserAccountDto.of(
                 "sol",
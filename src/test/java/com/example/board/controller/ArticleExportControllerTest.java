@@ -0,0 +1,83 @@
+package com.example.board.controller;
+
+import com.example.board.config.TestSecurityConfig;
+import com.example.board.domain.constant.ExportFormat;
+import com.example.board.service.ArticleExportService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.test.context.support.TestExecutionEvent;
+import org.springframework.security.test.context.support.WithUserDetails;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@DisplayName("API 컨트롤러 - 게시글 내보내기")
+@Import(TestSecurityConfig.class)
+@WebMvcTest(ArticleExportController.class)
+class ArticleExportControllerTest {
+
+    @Autowired
+    private MockMvc mvc;
+
+    @MockBean
+    private ArticleExportService articleExportService;
+
+
+    @WithUserDetails(value = "solTest", setupBefore = TestExecutionEvent.TEST_EXECUTION)
+    @DisplayName("[API][GET] 게시글 내보내기 - 정상 호출, 기본 형식은 JSON Lines")
+    @Test
+    void givenNothing_whenRequesting_thenStreamsJsonLines() throws Exception {
+        // given
+        given(articleExportService.exportArticles(eq(ExportFormat.JSONL), any(OutputStream.class))).willAnswer(invocation -> {
+            invocation.<OutputStream>getArgument(1).write("{\"id\":1}\n".getBytes(StandardCharsets.UTF_8));
+            return 1L;
+        });
+
+        // when & then
+        mvc.perform(get("/exports/articles"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("application/x-ndjson"))
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"articles.jsonl\""))
+                .andExpect(content().string("{\"id\":1}\n"));
+        then(articleExportService).should().exportArticles(eq(ExportFormat.JSONL), any(OutputStream.class));
+    }
+
+    @WithUserDetails(value = "solTest", setupBefore = TestExecutionEvent.TEST_EXECUTION)
+    @DisplayName("[API][GET] 게시글 내보내기 - CSV")
+    @Test
+    void givenCsvFormat_whenRequesting_thenStreamsCsv() throws Exception {
+        // given
+        given(articleExportService.exportArticles(eq(ExportFormat.CSV), any(OutputStream.class))).willReturn(0L);
+
+        // when & then
+        mvc.perform(get("/exports/articles").queryParam("format", "CSV"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("text/csv"))
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"articles.csv\""));
+        then(articleExportService).should().exportArticles(eq(ExportFormat.CSV), any(OutputStream.class));
+    }
+
+    @DisplayName("[API][GET] 게시글 내보내기 - 인증이 없으면 401")
+    @Test
+    void givenNothing_whenRequestingWithoutAuthentication_thenReturnsUnauthorized() throws Exception {
+        // given
+
+        // when & then
+        mvc.perform(get("/exports/articles"))
+                .andExpect(status().isUnauthorized());
+        then(articleExportService).shouldHaveNoInteractions();
+    }
+}
@@ -0,0 +1,125 @@
+package com.example.board.controller;
+
+import com.example.board.config.TestSecurityConfig;
+import com.example.board.dto.ArticleImportCheckpointDto;
+import com.example.board.service.ArticleImportService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.test.context.support.TestExecutionEvent;
+import org.springframework.security.test.context.support.WithUserDetails;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@DisplayName("API 컨트롤러 - 게시글 일괄 가져오기")
+@Import(TestSecurityConfig.class)
+@WebMvcTest(ArticleImportController.class)
+class ArticleImportControllerTest {
+
+    @Autowired
+    private MockMvc mvc;
+
+    @MockBean
+    private ArticleImportService articleImportService;
+
+
+    @WithUserDetails(value = "solTest", setupBefore = TestExecutionEvent.TEST_EXECUTION)
+    @DisplayName("[API][POST] 게시글 일괄 가져오기 - 정상 호출(CSRF 토큰 없이)")
+    @Test
+    void givenJsonLines_whenRequesting_thenImportsArticles() throws Exception {
+        // given
+        String jobId = "migration-1";
+        given(articleImportService.importArticles(eq(jobId), any(InputStream.class))).willReturn(createCheckpointDto(jobId));
+
+        // when & then
+        mvc.perform(
+                post("/imports/articles/" + jobId)
+                        .content("{\"userId\":\"solTest\",\"title\":\"title\",\"content\":\"content\"}")
+        )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.jobId").value(jobId))
+                .andExpect(jsonPath("$.committedLines").value(10))
+                .andExpect(jsonPath("$.importedArticles").value(8));
+        then(articleImportService).should().importArticles(eq(jobId), any(InputStream.class));
+    }
+
+    @WithUserDetails(value = "solTest", setupBefore = TestExecutionEvent.TEST_EXECUTION)
+    @DisplayName("[API][POST] 게시글 일괄 가져오기 - 같은 작업이 실행 중이면 409")
+    @Test
+    void givenRunningJob_whenRequesting_thenReturnsConflict() throws Exception {
+        // given
+        String jobId = "migration-1";
+        given(articleImportService.importArticles(eq(jobId), any(InputStream.class))).willThrow(new IllegalStateException());
+
+        // when & then
+        mvc.perform(post("/imports/articles/" + jobId).content(""))
+                .andExpect(status().isConflict());
+    }
+
+    @DisplayName("[API][POST] 게시글 일괄 가져오기 - 인증이 없으면 401")
+    @Test
+    void givenNothing_whenRequestingWithoutAuthentication_thenReturnsUnauthorized() throws Exception {
+        // given
+
+        // when & then
+        mvc.perform(post("/imports/articles/migration-1").content(""))
+                .andExpect(status().isUnauthorized());
+        then(articleImportService).shouldHaveNoInteractions();
+    }
+
+    @WithUserDetails(value = "solTest", setupBefore = TestExecutionEvent.TEST_EXECUTION)
+    @DisplayName("[API][GET] 게시글 일괄 가져오기 진행 상황 - 정상 호출")
+    @Test
+    void givenJobId_whenRequestingProgress_thenReturnsCheckpoint() throws Exception {
+        // given
+        String jobId = "migration-1";
+        given(articleImportService.getCheckpoint(jobId)).willReturn(Optional.of(createCheckpointDto(jobId)));
+
+        // when & then
+        mvc.perform(get("/imports/articles/" + jobId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.skippedLines").value(2));
+    }
+
+    @WithUserDetails(value = "solTest", setupBefore = TestExecutionEvent.TEST_EXECUTION)
+    @DisplayName("[API][GET] 게시글 일괄 가져오기 진행 상황 - 없는 작업이면 404")
+    @Test
+    void givenUnknownJobId_whenRequestingProgress_thenReturnsNotFound() throws Exception {
+        // given
+        String jobId = "unknown";
+        given(articleImportService.getCheckpoint(jobId)).willReturn(Optional.empty());
+
+        // when & then
+        mvc.perform(get("/imports/articles/" + jobId))
+                .andExpect(status().isNotFound());
+    }
+
+
+    private ArticleImportCheckpointDto createCheckpointDto(String jobId) {
+        return ArticleImportCheckpointDto.of(
+                jobId,
+                10L,
+                8L,
+                3L,
+                2L,
+                LocalDateTime.now(),
+                "solTest",
+                LocalDateTime.now(),
+                "solTest"
+        );
+    }
+}
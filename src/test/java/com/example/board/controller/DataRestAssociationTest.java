@@ -0,0 +1,87 @@
+package com.example.board.controller;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.TestExecutionEvent;
+import org.springframework.security.test.context.support.WithUserDetails;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.hasKey;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.not;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 컬렉션 연관관계 리소스(/api/{리소스}/{id}/{연관관계})는 페이지 없이 연관된 엔티티를 모두 읽으므로 노출하지 않는다.
+ * 게시글의 댓글은 페이지를 나누는 search 리소스(/api/articleComments/search/byArticleId)로 조회한다.
+ * Data REST가 만드는 경로라서 슬라이스 테스트로는 확인할 수 없으므로, 테스트용 내장 DB와 data.sql로 통합 테스트를 한다.
+ */
+@DisplayName("Data REST - 컬렉션 연관관계 리소스 비노출과 대체 search 리소스")
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase
+@AutoConfigureMockMvc
+@SpringBootTest
+class DataRestAssociationTest {
+
+    @Autowired
+    private MockMvc mvc;
+
+    @WithUserDetails(value = "uno", setupBefore = TestExecutionEvent.TEST_EXECUTION)
+    @DisplayName("[api] 게시글의 댓글 리스트는 제공하지 않는다.")
+    @Test
+    void givenArticle_whenRequestingArticleCommentsFromArticle_thenReturnsNotFound() throws Exception {
+        // given
+        long articleId = 1L;
+
+        // when & then
+        mvc.perform(get("/api/articles/" + articleId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$._links", not(hasKey("articleComments"))));
+        mvc.perform(get("/api/articles/" + articleId + "/articleComments")).andExpect(status().isNotFound());
+    }
+
+    @WithUserDetails(value = "uno", setupBefore = TestExecutionEvent.TEST_EXECUTION)
+    @DisplayName("[api] 게시글의 댓글은 search 리소스로 페이지를 나눠서 조회하고, 페이지 크기는 max-page-size로 제한한다.")
+    @Test
+    void givenArticle_whenRequestingArticleCommentsByArticleId_thenReturnsPagedArticleComments() throws Exception {
+        // given
+        long articleId = 1L;
+
+        // when & then
+        mvc.perform(get("/api/articleComments/search/byArticleId")
+                        .queryParam("articleId", String.valueOf(articleId))
+                        .queryParam("page", "0")
+                        .queryParam("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$._embedded.articleComments", hasSize(lessThanOrEqualTo(2))))
+                .andExpect(jsonPath("$.page.size").value(2))
+                .andExpect(jsonPath("$.page.totalElements").isNumber());
+        mvc.perform(get("/api/articleComments/search/byArticleId")
+                        .queryParam("articleId", String.valueOf(articleId))
+                        .queryParam("size", "1000"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.page.size").value(100));  // spring.data.rest.max-page-size
+    }
+
+    @WithUserDetails(value = "uno", setupBefore = TestExecutionEvent.TEST_EXECUTION)
+    @DisplayName("[api] 해시태그의 게시글 리스트는 제공하지 않는다.")
+    @Test
+    void givenHashtag_whenRequestingArticlesFromHashtag_thenReturnsNotFound() throws Exception {
+        // given
+        long hashtagId = 1L;
+
+        // when & then
+        mvc.perform(get("/api/hashtags/" + hashtagId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$._links", not(hasKey("articles"))));
+        mvc.perform(get("/api/hashtags/" + hashtagId + "/articles")).andExpect(status().isNotFound());
+    }
+}
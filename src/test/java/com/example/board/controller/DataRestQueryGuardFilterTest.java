@@ -0,0 +1,116 @@
+package com.example.board.controller;
+
+import com.example.board.config.DataRestGuardProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.data.rest.core.config.EnumTranslationConfiguration;
+import org.springframework.data.rest.core.config.MetadataConfiguration;
+import org.springframework.data.rest.core.config.ProjectionDefinitionConfiguration;
+import org.springframework.data.rest.core.config.RepositoryRestConfiguration;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import javax.servlet.FilterChain;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("필터 - Data REST 조회 비용 제한")
+class DataRestQueryGuardFilterTest {
+
+    private final DataRestQueryGuardFilter sut = new DataRestQueryGuardFilter(
+            createRepositoryRestConfiguration(),
+            new DataRestGuardProperties(10000, 3, 2)
+    );
+    private final AtomicInteger queryCount = new AtomicInteger();
+    private final FilterChain query = (request, response) -> queryCount.incrementAndGet();
+
+    @DisplayName("제한 안의 조회를 요청하면, 그대로 통과시킨다")
+    @ParameterizedTest(name = "[{index}] {0}?{1}")
+    @CsvSource(delimiter = '|', value = {
+            "/api/articles|page=99&size=100",
+            "/api/articles|page=100&size=100000",  // size는 max-page-size(100)로 잘린다.
+            "/api/articles|title=spring&content=boot&sort=createdAt,desc",
+            "/api/articles/1|",
+            "/api/articles/search/after|id=1&size=100"
+    })
+    void givenCheapRequest_whenRequesting_thenPassesThrough(String path, String queryString) throws Exception {
+        // given
+
+        // when
+        MockHttpServletResponse response = request(path, queryString);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.OK.value());
+        assertThat(queryCount).hasValue(1);
+    }
+
+    @DisplayName("offset이 너무 크거나, 검색 조건이 너무 많거나 짧으면, 쿼리 전에 400을 반환한다")
+    @ParameterizedTest(name = "[{index}] {0}?{1}")
+    @CsvSource(delimiter = '|', value = {
+            "/api/articles|page=101&size=100",
+            "/api/articles/search/after|id=1&page=1000&size=20",
+            "/api/articles|title=a",
+            "/api/articles|title=spring&content=boot&createdBy=sol&hashtags=java",
+            "/api/hashtags|hashtagName= j "
+    })
+    void givenExpensiveRequest_whenRequesting_thenRejectsWithoutQuerying(String path, String queryString) throws Exception {
+        // given
+
+        // when
+        MockHttpServletResponse response = request(path, queryString);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+        assertThat(response.getContentAsString()).isNotBlank();
+        assertThat(queryCount).hasValue(0);
+    }
+
+    @DisplayName("조회가 아닌 요청은 검사하지 않는다")
+    @Test
+    void givenNonGetRequest_whenRequesting_thenPassesThrough() throws Exception {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("DELETE", "/api/articles/1");
+        request.setQueryString("page=100000");
+        request.addParameter("page", "100000");
+
+        // when
+        sut.doFilter(request, new MockHttpServletResponse(), query);
+
+        // then
+        assertThat(queryCount).hasValue(1);
+    }
+
+
+    private MockHttpServletResponse request(String path, String queryString) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+        if (queryString != null) {
+            request.setQueryString(queryString);
+            for (String param : queryString.split("&")) {
+                String[] nameAndValue = param.split("=", 2);
+                request.addParameter(nameAndValue[0], nameAndValue[1]);
+            }
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        sut.doFilter(request, response, query);
+
+        return response;
+    }
+
+    private static RepositoryRestConfiguration createRepositoryRestConfiguration() {
+        RepositoryRestConfiguration configuration = new RepositoryRestConfiguration(
+                new ProjectionDefinitionConfiguration(),
+                new MetadataConfiguration(),
+                mock(EnumTranslationConfiguration.class)
+        );
+        configuration.setBasePath("/api");
+        configuration.setDefaultPageSize(20);
+        configuration.setMaxPageSize(100);
+
+        return configuration;
+    }
+}
@@ -57,13 +57,22 @@ class DataRestTest {
                 .andExpect(content().contentType(MediaType.valueOf("application/hal+json")));
     }
 
-    @DisplayName("[api] 게시글 댓글 리스트 조회")
+    @DisplayName("[api] 게시글 댓글 리스트는 페이지 없이 전체를 읽으므로 제공하지 않는다.")
     @Test
-    void givenNothing_whenRequestingArticleCommentsFromArticle_thenReturnsArticleCommentsJsonResponse() throws Exception {
+    void givenNothing_whenRequestingArticleCommentsFromArticle_thenReturnsNotFound() throws Exception {
         // given
 
         // when & then
-        mvc.perform(get("/api/articles/1/articleComments"))
+        mvc.perform(get("/api/articles/1/articleComments")).andExpect(status().isNotFound());
+    }
+
+    @DisplayName("[api] 게시글 댓글 리스트 조회 - 페이지를 나누는 search 리소스")
+    @Test
+    void givenNothing_whenRequestingArticleCommentsByArticleId_thenReturnsArticleCommentsJsonResponse() throws Exception {
+        // given
+
+        // when & then
+        mvc.perform(get("/api/articleComments/search/byArticleId?articleId=1&page=0&size=10"))
                 .andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.valueOf("application/hal+json")));
     }
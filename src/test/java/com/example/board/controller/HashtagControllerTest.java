@@ -0,0 +1,46 @@
+package com.example.board.controller;
+
+import com.example.board.config.TestSecurityConfig;
+import com.example.board.service.HashtagService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@DisplayName("API 컨트롤러 - 해시태그")
+@Import(TestSecurityConfig.class)
+@WebMvcTest(HashtagController.class)
+class HashtagControllerTest {
+
+    @Autowired
+    private MockMvc mvc;
+
+    @MockBean
+    private HashtagService hashtagService;
+
+    @DisplayName("[API][GET] 해시태그 자동완성 - 로그인 없이 호출")
+    @Test
+    void givenPrefix_whenRequestingSuggestions_thenReturnsHashtagNames() throws Exception {
+        // given
+        given(hashtagService.suggestHashtagNames("sp", 10)).willReturn(List.of("spring", "springboot"));
+
+        // when & then
+        mvc.perform(get("/hashtags/suggest").queryParam("prefix", "sp"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$[0]").value("spring"))
+                .andExpect(jsonPath("$[1]").value("springboot"));
+        then(hashtagService).should().suggestHashtagNames("sp", 10);
+    }
+}
@@ -0,0 +1,142 @@
+package com.example.board.controller;
+
+import com.example.board.config.PageCacheProperties;
+import com.example.board.service.RenderedPageCache;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.util.unit.DataSize;
+
+import javax.servlet.FilterChain;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("필터 - 렌더링 결과 캐시")
+class RenderedPageCacheFilterTest {
+
+    private final RenderedPageCache renderedPageCache = new RenderedPageCache(new PageCacheProperties(true, DataSize.ofMegabytes(1), Duration.ofMinutes(1)));
+    private final RenderedPageCacheFilter sut = new RenderedPageCacheFilter(renderedPageCache);
+    private final AtomicInteger renderCount = new AtomicInteger();
+    private final FilterChain render = (request, response) -> {
+        renderCount.incrementAndGet();
+        response.setContentType("text/html;charset=UTF-8");
+        response.getOutputStream().write(("<html>" + renderCount.get() + "</html>").getBytes(StandardCharsets.UTF_8));
+    };
+
+    @AfterEach
+    void clearSecurityContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @DisplayName("비로그인 사용자가 같은 목록 화면을 다시 요청하면, 렌더링하지 않고 캐시된 화면을 ETag, Last-Modified와 함께 반환한다")
+    @Test
+    void givenAnonymousUser_whenRequestingSamePageTwice_thenRendersOnce() throws Exception {
+        // given
+        MockHttpServletResponse first = request("/articles", "page=1");
+
+        // when
+        MockHttpServletResponse second = request("/articles", "page=1");
+
+        // then
+        assertThat(renderCount).hasValue(1);
+        assertThat(second.getContentAsString()).isEqualTo(first.getContentAsString()).isEqualTo("<html>1</html>");
+        assertThat(second.getHeader(HttpHeaders.ETAG)).isNotBlank().isEqualTo(first.getHeader(HttpHeaders.ETAG));
+        assertThat(second.getDateHeader(HttpHeaders.LAST_MODIFIED)).isEqualTo(renderedPageCache.version().lastModified());
+        assertThat(second.getHeader(HttpHeaders.CACHE_CONTROL)).isEqualTo("no-cache");
+    }
+
+    @DisplayName("쿼리스트링이 다르면, 다른 화면으로 보고 새로 렌더링한다")
+    @Test
+    void givenDifferentQueryString_whenRequesting_thenRendersEach() throws Exception {
+        // given
+        request("/articles", "page=1");
+
+        // when
+        request("/articles", "page=2");
+
+        // then
+        assertThat(renderCount).hasValue(2);
+    }
+
+    @DisplayName("ETag가 같은 조건부 요청을 보내면, 렌더링하지 않고 304를 반환한다")
+    @Test
+    void givenMatchingETag_whenRequesting_thenReturnsNotModified() throws Exception {
+        // given
+        String eTag = request("/articles", null).getHeader(HttpHeaders.ETAG);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/articles");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, eTag);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        sut.doFilter(request, response, render);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(304);
+        assertThat(response.getContentAsByteArray()).isEmpty();
+        assertThat(renderCount).hasValue(1);
+    }
+
+    @DisplayName("게시글이 바뀌면, 캐시를 비우고 다음 요청에서 새로 렌더링한다")
+    @Test
+    void givenArticleChanged_whenRequesting_thenRendersAgain() throws Exception {
+        // given
+        request("/articles/1", null);
+        renderedPageCache.evictAll(null);
+
+        // when
+        MockHttpServletResponse response = request("/articles/1", null);
+
+        // then
+        assertThat(renderCount).hasValue(2);
+        assertThat(response.getContentAsString()).isEqualTo("<html>2</html>");
+    }
+
+    @DisplayName("다른 게시글에 댓글이 달리면, 그 게시글의 상세 화면만 비운다")
+    @Test
+    void givenCommentOnAnotherArticle_whenRequesting_thenKeepsCachedPage() throws Exception {
+        // given
+        request("/articles/1", null);
+        request("/articles/2", null);
+        renderedPageCache.evictArticle(2L, null);
+
+        // when
+        request("/articles/1", null);
+        request("/articles/2", null);
+
+        // then
+        assertThat(renderCount).hasValue(3);
+    }
+
+    @DisplayName("로그인한 사용자의 요청은, 캐시하지 않고 매번 렌더링한다")
+    @Test
+    void givenAuthenticatedUser_whenRequestingTwice_thenRendersEveryTime() throws Exception {
+        // given
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("sol", null, "ROLE_USER"));
+
+        // when
+        request("/articles", null);
+        MockHttpServletResponse response = request("/articles", null);
+
+        // then
+        assertThat(renderCount).hasValue(2);
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isNull();
+    }
+
+
+    private MockHttpServletResponse request(String path, String queryString) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+        request.setQueryString(queryString);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        sut.doFilter(request, response, render);
+
+        return response;
+    }
+}
@@ -1,42 +1,71 @@
 package com.example.board.repository;
 
+import com.example.board.config.SecondLevelCacheConfig;
 import com.example.board.domain.Article;
+import com.example.board.domain.ArticleComment;
 import com.example.board.domain.Hashtag;
 import com.example.board.domain.UserAccount;
+import com.example.board.domain.constant.CursorDirection;
+import com.example.board.domain.constant.SearchType;
+import com.example.board.dto.ArticleDto;
+import com.example.board.dto.ArticleSummaryDto;
+import org.assertj.core.api.InstanceOfAssertFactories;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.*;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
 @DisplayName("JPA 연결 테스트")
-@Import(JpaRepositoryTest.TestJpaConfig.class)  // JpaConfig(Auditing)를 테스트 환경에 적용 -> 테스트 환경에 맞는 테스트 전용 JpaConfig를 만들어서 사용
-@DataJpaTest
+@Import({JpaRepositoryTest.TestJpaConfig.class, SecondLevelCacheConfig.class})  // JpaConfig(Auditing)를 테스트 환경에 적용 -> 테스트 환경에 맞는 테스트 전용 JpaConfig를 만들어서 사용
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")  // 목록 조회 시 실행되는 쿼리 수를 세기 위해 하이버네이트 통계를 켠다.
 class JpaRepositoryTest {
 
     private final ArticleRepository articleRepository;
     private final ArticleCommentRepository articleCommentRepository;
     private final UserAccountRepository userAccountRepository;
     private final HashtagRepository hashtagRepository;
+    private final TestEntityManager testEntityManager;
+    private final EntityManagerFactory entityManagerFactory;
+    private final Statistics statistics;
 
     public JpaRepositoryTest(@Autowired ArticleRepository articleRepository,
                              @Autowired ArticleCommentRepository articleCommentRepository,
                              @Autowired UserAccountRepository userAccountRepository,
-                             @Autowired HashtagRepository hashtagRepository) {
+                             @Autowired HashtagRepository hashtagRepository,
+                             @Autowired TestEntityManager testEntityManager,
+                             @Autowired EntityManagerFactory entityManagerFactory) {
         this.articleRepository = articleRepository;
         this.articleCommentRepository = articleCommentRepository;
         this.userAccountRepository = userAccountRepository;
         this.hashtagRepository = hashtagRepository;
+        this.testEntityManager = testEntityManager;
+        this.entityManagerFactory = entityManagerFactory;
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @BeforeEach
+    void evictSecondLevelCache() {
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();  // 테스트끼리 2차 캐시를 공유하지 않도록 컬렉션 캐시까지 모두 비운다.
     }
 
     @DisplayName("select 테스트")
@@ -117,6 +146,40 @@ class JpaRepositoryTest {
         assertThat(hashtagNames).hasSize(19);
     }
 
+    @DisplayName("[QueryDSL] 게시글별 hashtag 이름 조회하기")
+    @Test
+    void givenNothing_whenQueryingHashtagNamesByArticleId_thenReturnsHashtagNamesOfEachArticle() {
+        // given
+        Article article = articleRepository.findById(1L).orElseThrow();
+
+        // when
+        Map<Long, Set<String>> hashtagNamesByArticleId = hashtagRepository.findAllHashtagNamesByArticleId();
+
+        // then
+        assertThat(hashtagNamesByArticleId.get(article.getId()))
+                .containsExactlyInAnyOrderElementsOf(article.getHashtags().stream().map(Hashtag::getHashtagName).toList());
+        assertThat(hashtagNamesByArticleId.values()).allMatch(names -> !names.isEmpty());
+    }
+
+    @DisplayName("[QueryDSL] 게시글이 없는 hashtag만 한 번에 삭제하기")
+    @Test
+    void givenUsedAndOrphanHashtags_whenDeletingHashtagsWithoutArticles_thenDeletesOnlyOrphans() {
+        // given
+        Hashtag usedHashtag = articleRepository.findById(1L).orElseThrow().getHashtags().iterator().next();
+        Hashtag orphanHashtag = hashtagRepository.saveAndFlush(Hashtag.of("orphan"));
+        statistics.clear();
+
+        // when
+        long deletedCount = hashtagRepository.deleteWithoutArticles(Set.of(usedHashtag.getId(), orphanHashtag.getId()));
+        testEntityManager.clear();  // 벌크 delete는 영속성 컨텍스트를 거치지 않으므로 DB에서 다시 읽도록 비운다.
+
+        // then
+        assertThat(deletedCount).isEqualTo(1);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);  // 하이버네이트가 연결 테이블(article_hashtag) 정리 delete를 먼저 하나 더 실행한다. 해시태그 수와는 상관없다.
+        assertThat(hashtagRepository.findById(orphanHashtag.getId())).isEmpty();
+        assertThat(hashtagRepository.findById(usedHashtag.getId())).isPresent();
+    }
+
     @DisplayName("[QueryDSL] hashtag로 페이징 된 게시글 검색하기")
     @Test
     void givenHashtagNamesAndPageable_whenQueryingArticles_thenReturnsArticlePage() throws Exception {
@@ -141,6 +204,276 @@ class JpaRepositoryTest {
     }
 
 
+    @DisplayName("[QueryDSL] count 쿼리 없이 Slice로 게시글 검색하기")
+    @Test
+    void givenSearchParametersAndPageable_whenQueryingArticleSlice_thenReturnsArticleSlice() {
+        // given
+        Pageable firstPage = PageRequest.of(0, 100, Sort.by(Sort.Order.desc("createdAt")));
+        Pageable lastPage = PageRequest.of(1, 100, Sort.by(Sort.Order.desc("createdAt")));
+
+        // when
+        Slice<Article> first = articleRepository.findSliceBySearch(null, null, firstPage);
+        Slice<Article> last = articleRepository.findSliceBySearch(null, null, lastPage);
+        Slice<Article> hashtagSlice = articleRepository.findSliceBySearch(SearchType.HASHTAG, "blue crimson fuscia", PageRequest.of(0, 20));
+
+        // then
+        assertThat(first.getContent()).hasSize(100);
+        assertThat(first.hasNext()).isTrue();
+        assertThat(last.getContent()).hasSize(23);  // classpath:resources/data.sql 참조
+        assertThat(last.hasNext()).isFalse();
+        assertThat(hashtagSlice.getContent()).hasSize(17).doesNotHaveDuplicates();
+        assertThat(hashtagSlice.hasNext()).isFalse();
+    }
+
+    @DisplayName("PostgreSQL이 아니면, 게시글 수 추정치는 빈 값이다")
+    @Test
+    void givenNonPostgreSqlDatabase_whenEstimatingArticleCount_thenReturnsEmpty() {
+        // given
+
+        // when & then
+        assertThat(articleRepository.estimateCount(null, null)).isEmpty();
+        assertThat(articleRepository.estimateCount(SearchType.TITLE, "title")).isEmpty();
+    }
+
+    @DisplayName("[QueryDSL] 커서로 다음 페이지와 이전 페이지의 게시글 검색하기")
+    @Test
+    void givenCursor_whenQueryingArticlesByCursor_thenReturnsArticlesAfterAndBeforeCursor() {
+        // given
+        Comparator<Article> latestFirst = Comparator.comparing(Article::getCreatedAt).thenComparing(Article::getId).reversed();
+        List<Article> firstPage = articleRepository.findByCursor(null, null, null, null, CursorDirection.NEXT, 10);
+        Article last = firstPage.get(firstPage.size() - 1);
+
+        // when
+        List<Article> nextPage = articleRepository.findByCursor(null, null, last.getCreatedAt(), last.getId(), CursorDirection.NEXT, 10);
+        Article first = nextPage.get(0);
+        List<Article> previousPage = articleRepository.findByCursor(null, null, first.getCreatedAt(), first.getId(), CursorDirection.PREVIOUS, 10);
+
+        // then
+        assertThat(firstPage).hasSize(10).isSortedAccordingTo(latestFirst);
+        assertThat(nextPage).hasSize(10).isSortedAccordingTo(latestFirst).doesNotContainAnyElementsOf(firstPage);
+        assertThat(latestFirst.compare(last, first)).isNegative();
+        assertThat(previousPage).containsExactlyInAnyOrderElementsOf(firstPage);
+    }
+
+    @DisplayName("[article_hashtag 인덱스] 해시태그 하나의 게시글을 최신순 페이지와 (createdAt, id) 커서로 조회하고, 게시글 수를 센다")
+    @Test
+    void givenHashtagId_whenQueryingArticlesByHashtagId_thenReturnsArticlesInLatestFirstOrder() {
+        // given
+        Hashtag hashtag = hashtagRepository.findByHashtagName("blue").orElseThrow();
+        Comparator<Article> latestFirst = Comparator.comparing(Article::getCreatedAt).thenComparing(Article::getId).reversed();
+
+        // when
+        long count = articleRepository.countByHashtagId(hashtag.getId());
+        List<Article> firstPage = articleRepository.findPageByHashtagId(hashtag.getId(), PageRequest.of(0, 3));
+        List<Article> secondPage = articleRepository.findPageByHashtagId(hashtag.getId(), PageRequest.of(1, 3));
+        Article last = firstPage.get(2);
+        Article first = secondPage.get(0);
+        List<Article> nextByCursor = articleRepository.findByHashtagIdAndCursor(hashtag.getId(), last.getCreatedAt(), last.getId(), CursorDirection.NEXT, 3);
+        List<Article> previousByCursor = articleRepository.findByHashtagIdAndCursor(hashtag.getId(), first.getCreatedAt(), first.getId(), CursorDirection.PREVIOUS, 3);
+
+        // then
+        assertThat(count).isEqualTo(articleRepository.findByHashtagNames(List.of("blue"), Pageable.unpaged()).getTotalElements());
+        assertThat(firstPage).hasSize(3).isSortedAccordingTo(latestFirst);
+        assertThat(secondPage).isSortedAccordingTo(latestFirst);
+        assertThat(latestFirst.compare(last, first)).isNegative();
+        assertThat(firstPage).allSatisfy(article -> assertThat(article.getHashtags()).contains(hashtag));
+        assertThat(nextByCursor).containsExactlyElementsOf(secondPage);
+        assertThat(previousByCursor).containsExactlyInAnyOrderElementsOf(firstPage);
+    }
+
+    @DisplayName("[QueryDSL] 커서로 게시글의 댓글을 최신순으로 이어서 조회하기")
+    @Test
+    void givenCursor_whenFindingArticleComments_thenReturnsOlderCommentsInLatestFirstOrder() {
+        // given
+        Long articleId = articleCommentRepository.findAll().get(0).getArticle().getId();
+        List<ArticleComment> all = articleCommentRepository.findByArticle_Id(articleId);
+        Comparator<ArticleComment> latestFirst = Comparator.comparing(ArticleComment::getCreatedAt).thenComparing(ArticleComment::getId).reversed();
+        List<ArticleComment> firstPage = articleCommentRepository.findByArticleIdAndCursor(articleId, null, null, 2);
+        ArticleComment last = firstPage.get(firstPage.size() - 1);
+
+        // when
+        List<ArticleComment> nextPage = articleCommentRepository.findByArticleIdAndCursor(articleId, last.getCreatedAt(), last.getId(), all.size());
+
+        // then
+        assertThat(firstPage).isSortedAccordingTo(latestFirst).allMatch(comment -> comment.getArticle().getId().equals(articleId));
+        assertThat(nextPage).isSortedAccordingTo(latestFirst).doesNotContainAnyElementsOf(firstPage);
+        assertThat(firstPage.size() + nextPage.size()).isEqualTo(all.size());
+    }
+
+    @DisplayName("[2차 캐시] 다른 세션에서 한 번 읽은 게시글, 작성자, 해시태그는 DB 대신 2차 캐시에서 읽는다")
+    @Test
+    void givenArticleLoadedInAnotherSession_whenReading_thenHitsSecondLevelCache() {
+        // given
+        EntityManager previousSession = entityManagerFactory.createEntityManager();  // READ_WRITE 캐시는 캐시에 올린 세션보다 나중에 열린 세션에서만 읽힌다.
+        Article article = previousSession.find(Article.class, 1L);
+        article.getHashtags().size();  // 해시태그 컬렉션도 읽어서 캐시에 올린다.
+        previousSession.close();
+        statistics.clear();
+
+        // when
+        EntityManager session = entityManagerFactory.createEntityManager();
+        Article cached = session.find(Article.class, 1L);
+        cached.getHashtags().forEach(Hashtag::getHashtagName);
+        UserAccount userAccount = session.find(UserAccount.class, cached.getUserAccount().getUserId());
+        session.close();
+
+        // then
+        assertThat(cached.getTitle()).isEqualTo(article.getTitle());
+        assertThat(cached.getHashtags()).hasSameSizeAs(article.getHashtags());
+        assertThat(userAccount.getUserId()).isEqualTo(article.getUserAccount().getUserId());
+        assertThat(statistics.getDomainDataRegionStatistics("article").getHitCount()).isEqualTo(1);
+        assertThat(statistics.getDomainDataRegionStatistics("articleHashtags").getHitCount()).isEqualTo(1);
+        assertThat(statistics.getDomainDataRegionStatistics("userAccount").getHitCount()).isPositive();
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @DisplayName("[2차 캐시] 2차 캐시에 있는 게시글과 없는 게시글을 섞어서 조회해도, 요청한 id 순서대로 반환하고 없는 id는 뺀다")
+    @Test
+    void givenPartiallyCachedArticleIds_whenFindingInOrderUsingCache_thenReturnsArticlesInRequestedOrder() {
+        // given
+        EntityManager previousSession = entityManagerFactory.createEntityManager();
+        previousSession.find(Article.class, 1L);
+        previousSession.close();
+
+        // when
+        List<Article> articles = articleRepository.findAllByIdInOrderUsingCache(List.of(3L, 1L, 999_999L, 2L));
+
+        // then
+        assertThat(entityManagerFactory.getCache().contains(Article.class, 1L)).isTrue();
+        assertThat(articles).extracting(Article::getId).containsExactly(3L, 1L, 2L);
+        assertThat(articles).allSatisfy(article -> assertThat(article.getUserAccount().getUserId()).isNotNull());
+    }
+
+    @DisplayName("[2차 캐시] 게시글을 수정하거나 삭제하면, 2차 캐시에서 이전 값을 읽지 않는다")
+    @Test
+    void givenCachedArticle_whenUpdatingAndDeleting_thenDoesNotReadStaleCacheEntry() {
+        // given
+        articleRepository.findById(1L).orElseThrow();
+        articleRepository.findById(2L).orElseThrow();
+        testEntityManager.clear();
+
+        // when
+        Article article = articleRepository.findById(1L).orElseThrow();
+        article.setTitle("updated title");
+        articleRepository.deleteById(2L);
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        // then
+        assertThat(articleRepository.findById(1L)).get().hasFieldOrPropertyWithValue("title", "updated title");
+        assertThat(articleRepository.findById(2L)).isEmpty();
+    }
+
+    @DisplayName("[N+1] 게시글 목록 한 페이지를 DTO로 바꾸는 동안, id 조회, fetch join 조회, count 쿼리 3개만 실행한다")
+    @Test
+    void givenPageRequest_whenFindingAllAndMappingToDto_thenExecutesThreeStatements() {
+        // given
+        Pageable pageable = PageRequest.of(1, 10, Sort.by(Sort.Direction.DESC, "createdAt"));
+        statistics.clear();
+
+        // when
+        Page<ArticleDto> articles = articleRepository.findAll(pageable).map(ArticleDto::from);  // 작성자, 해시태그까지 모두 접근한다.
+
+        // then
+        assertThat(articles.getContent()).hasSize(10);
+        assertThat(articles.getTotalElements()).isEqualTo(123);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+    }
+
+    @DisplayName("[프로젝션] 게시글 목록 한 페이지를 엔티티 없이 목록 컬럼과 해시태그 이름만으로 조회한다")
+    @Test
+    void givenPageRequest_whenFindingSummaries_thenReturnsProjectionsWithoutLoadingEntities() {
+        // given
+        Article article = articleRepository.findById(1L).orElseThrow();
+        article.addHashtags(Set.of(Hashtag.of("projection")));
+        articleRepository.saveAndFlush(article);
+        Pageable pageable = PageRequest.of(0, 200, Sort.by(Sort.Direction.ASC, "id"));
+        statistics.clear();
+
+        // when
+        Page<ArticleSummaryDto> summaries = articleRepository.findSummaries(pageable);
+
+        // then
+        assertThat(summaries.getContent()).hasSize(123);
+        assertThat(summaries.getContent().get(0))
+                .hasFieldOrPropertyWithValue("id", article.getId())
+                .hasFieldOrPropertyWithValue("title", article.getTitle())
+                .hasFieldOrPropertyWithValue("userId", article.getUserAccount().getUserId())
+                .hasFieldOrPropertyWithValue("nickname", article.getUserAccount().getNickname())
+                .extracting(ArticleSummaryDto::hashtagNames)
+                .asInstanceOf(InstanceOfAssertFactories.collection(String.class))
+                .contains("projection");
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);  // 첫 페이지에 전부 들어오므로 count 쿼리는 생략된다.
+    }
+
+    @DisplayName("[프로젝션] 검색으로 찾은 게시글 id들을 엔티티 없이 id 순서대로 목록 컬럼으로 조회한다")
+    @Test
+    void givenSearchedArticleIds_whenFindingSummariesByIds_thenReturnsProjectionsInIdOrder() {
+        // given
+        Page<Long> articleIds = articleRepository.findIdsBySearch(SearchType.TITLE, "a", PageRequest.of(0, 5, Sort.by(Sort.Direction.DESC, "id")));
+        statistics.clear();
+
+        // when
+        List<ArticleSummaryDto> summaries = articleRepository.findSummariesByIdInOrder(articleIds.getContent());
+
+        // then
+        assertThat(summaries).extracting(ArticleSummaryDto::id).containsExactlyElementsOf(articleIds.getContent());
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);  // 목록 컬럼 조회, 해시태그 이름 조회
+    }
+
+    @DisplayName("[N+1] 게시글 제목 검색 한 페이지를 DTO로 바꾸는 동안, 작성자 join 조회, 해시태그 batch 조회, count 쿼리 3개만 실행한다")
+    @Test
+    void givenTitleKeyword_whenSearchingAndMappingToDto_thenExecutesThreeStatements() {
+        // given
+        Pageable pageable = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "createdAt"));
+        statistics.clear();
+
+        // when
+        Page<ArticleDto> articles = articleRepository.findByTitleContaining("a", pageable).map(ArticleDto::from);
+
+        // then
+        assertThat(articles.getContent()).hasSize(10);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+    }
+
+    @DisplayName("[N+1] 게시글 Slice 한 페이지를 DTO로 바꾸는 동안, id 조회와 fetch join 조회 2개만 실행한다")
+    @Test
+    void givenPageRequest_whenFindingSliceAndMappingToDto_thenExecutesTwoStatements() {
+        // given
+        Pageable pageable = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "createdAt"));
+        statistics.clear();
+
+        // when
+        Slice<ArticleDto> articles = articleRepository.findSliceBySearch(null, null, pageable).map(ArticleDto::from);
+
+        // then
+        assertThat(articles.getContent()).hasSize(10);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+
+    @DisplayName("[JDBC batch] 게시글 100개를 저장하면, 시퀀스 조회 2번과 insert 문 하나를 재사용하는 batch로 실행한다")
+    @Test
+    void givenHundredArticles_whenSavingAll_thenInsertsInJdbcBatches() {
+        // given
+        UserAccount userAccount = userAccountRepository.getReferenceById("uno");
+        List<Article> articles = IntStream.range(0, 100)
+                .mapToObj(i -> Article.of(userAccount, "title" + i, "content" + i))
+                .toList();
+        statistics.clear();
+
+        // when
+        articleRepository.saveAll(articles);
+        articleRepository.flush();
+
+        // then
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(100);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);  // 시퀀스는 한 번에 id 50개(allocationSize)를 받고, insert 문은 한 번만 만들어서 50개씩(hibernate.jdbc.batch_size) 보낸다.
+        assertThat(articles.get(0).getId()).isGreaterThan(123L);  // data.sql로 넣은 게시글 123개와 id가 겹치지 않는다. (시퀀스는 롤백되지 않으므로 다른 테스트가 먼저 쓴 번호는 건너뛴다.)
+        assertThat(articles).extracting(Article::getId).doesNotHaveDuplicates();
+    }
     // JpaAuditConfig에 시큐리티 인증 유저 로직을 붙이니 JpaRepositoryTest에서 insert 테스트 코드 실행 시 createdBy가 null로 들어가는 문제가 발생
     // = JpaAuditConfig는 UserAccountRepository를 사용해서 유저를 가져오게 되어 있는데, 이 repository가 제대로 빈으로 등록되어 있지 않거나 회원 데이터가 들어가 있지 않으면 테스트를 실패하게 되는 것이다.
     // 이 문제를 해결하기 위한 테스트 전용 설정
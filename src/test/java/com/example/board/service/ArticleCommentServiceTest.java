@@ -1,22 +1,32 @@
 package com.example.board.service;
 
+import com.example.board.config.CoalescingProperties;
 import com.example.board.domain.Article;
 import com.example.board.domain.ArticleComment;
 import com.example.board.domain.Hashtag;
 import com.example.board.domain.UserAccount;
 import com.example.board.dto.ArticleCommentDto;
+import com.example.board.dto.ArticleCursor;
+import com.example.board.dto.CursorPage;
 import com.example.board.dto.UserAccountDto;
 import com.example.board.repository.ArticleCommentRepository;
 import com.example.board.repository.ArticleRepository;
 import com.example.board.repository.UserAccountRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import javax.persistence.EntityNotFoundException;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Set;
@@ -38,6 +48,19 @@ class ArticleCommentServiceTest {
     private ArticleCommentRepository articleCommentRepository;
     @Mock
     private UserAccountRepository userAccountRepository;
+    @Mock
+    private RenderedPageCache renderedPageCache;
+    @Mock
+    private ReadYourWritesTracker readYourWritesTracker;
+    @Spy  // 동시에 들어온 같은 요청이 없으면 조회를 그대로 실행한다.
+    private RequestCoalescer requestCoalescer = new RequestCoalescer(
+            new CoalescingProperties(true, Duration.ofMillis(500)),
+            mock(PlatformTransactionManager.class),
+            mock(ReadYourWritesTracker.class),
+            new SimpleMeterRegistry()
+    );
+    @Mock
+    private TransactionTemplate transactionTemplate;
 
     @DisplayName("게시글 ID로 조회하면, 해당하는 댓글 리스트를 반환한다")
     @Test
@@ -58,6 +81,44 @@ class ArticleCommentServiceTest {
         then(articleCommentRepository).should().findByArticle_Id(articleId);
     }
 
+    @DisplayName("게시글 ID와 커서로 조회하면, 커서 이후의 댓글 한 페이지와 다음 커서를 반환한다")
+    @Test
+    void givenArticleIdAndCursor_whenSearchingArticleComments_thenReturnsCommentPageWithNextCursor() {
+        // given
+        Long articleId = 1L;
+        int size = 2;
+        ArticleCursor cursor = ArticleCursor.of(LocalDateTime.of(2023, 1, 1, 0, 0), 10L);
+        List<ArticleComment> comments = List.of(
+                createArticleComment(9L, "댓글9"),
+                createArticleComment(8L, "댓글8"),
+                createArticleComment(7L, "댓글7")
+        );
+        given(articleCommentRepository.findByArticleIdAndCursor(articleId, cursor.createdAt(), cursor.id(), size + 1)).willReturn(comments);
+
+        // when
+        CursorPage<ArticleCommentDto> actual = sut.searchArticleComments(articleId, cursor.encode(), size);
+
+        // then
+        assertThat(actual.content()).extracting(ArticleCommentDto::content).containsExactly("댓글9", "댓글8");
+        assertThat(actual.hasPrevious()).isFalse();
+        assertThat(ArticleCursor.decode(actual.nextCursor()).id()).isEqualTo(8L);
+    }
+
+    @DisplayName("마지막 댓글 페이지를 조회하면, 다음 커서가 없다")
+    @Test
+    void givenLastPage_whenSearchingArticleComments_thenReturnsNoNextCursor() {
+        // given
+        Long articleId = 1L;
+        given(articleCommentRepository.findByArticleIdAndCursor(articleId, null, null, 21)).willReturn(List.of(createArticleComment(1L, "댓글")));
+
+        // when
+        CursorPage<ArticleCommentDto> actual = sut.searchArticleComments(articleId, null, 20);
+
+        // then
+        assertThat(actual.content()).hasSize(1);
+        assertThat(actual.hasNext()).isFalse();
+    }
+
     @DisplayName("댓글 정보를 입력하면, 댓글을 저장한다")
     @Test
     void givenArticleCommentInfo_whenSavingArticleComment_thenSavesArticleComment() {
@@ -75,6 +136,27 @@ class ArticleCommentServiceTest {
         then(articleRepository).should().getReferenceById(dto.articleId());
         then(userAccountRepository).should().getReferenceById(dto.userAccountDto().userId());
         then(articleCommentRepository).should().save(any(ArticleComment.class));
+        then(readYourWritesTracker).should().markWritten(dto.userAccountDto().userId());
+    }
+
+    @DisplayName("여러 댓글 정보를 입력하면, 댓글들을 일괄 저장한다")
+    @Test
+    void givenArticleCommentInfos_whenSavingArticleComments_thenSavesArticleComments() {
+        // given
+        List<ArticleCommentDto> dtos = List.of(createArticleCommentDto("댓글1"), createArticleCommentDto("댓글2"));
+
+        given(articleRepository.getReferenceById(1L)).willReturn(createArticle());
+        given(userAccountRepository.getReferenceById("sol")).willReturn(createUserAccount());
+        given(transactionTemplate.execute(any())).willAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+
+        // when
+        int savedCount = sut.saveArticleComments(dtos);
+
+        // then
+        assertThat(savedCount).isEqualTo(2);
+        then(transactionTemplate).should().execute(any());
+        then(articleCommentRepository).should().saveAll(argThat(articleComments -> articleComments.spliterator().getExactSizeIfKnown() == 2));
+        then(renderedPageCache).should().evictAll(any(ArticleComment.class));
     }
 
     @DisplayName("댓글 저장을 시도했는데 맞는 게시글이 없으면, 경로 로그를 찍고 아무것도 하지 않는다")
@@ -189,6 +271,14 @@ class ArticleCommentServiceTest {
         );
     }
 
+    private ArticleComment createArticleComment(Long id, String content) {
+        ArticleComment articleComment = createArticleComment(content);
+        ReflectionTestUtils.setField(articleComment, "id", id);
+        ReflectionTestUtils.setField(articleComment, "createdAt", LocalDateTime.of(2022, 12, 1, 0, 0).plusHours(id));
+
+        return articleComment;
+    }
+
     private UserAccount createUserAccount() {
         return UserAccount.of(
                 "sol",
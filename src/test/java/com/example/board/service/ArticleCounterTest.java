@@ -0,0 +1,149 @@
+package com.example.board.service;
+
+import com.example.board.config.ArticleCountProperties;
+import com.example.board.repository.ArticleRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.BDDMockito.*;
+
+@DisplayName("비즈니스 로직 - 게시글 수 카운터")
+@ExtendWith(MockitoExtension.class)
+class ArticleCounterTest {
+
+    private ArticleCounter sut;
+
+    @Mock
+    private ArticleRepository articleRepository;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        sut = new ArticleCounter(articleRepository, new ArticleCountProperties(Duration.ofMinutes(1)), transactionManager);
+    }
+
+    @DisplayName("처음 조회하면, DB에서 한 번 세고 이후에는 메모리의 값을 반환한다")
+    @Test
+    void givenNotCounted_whenGettingCountTwice_thenCountsOnce() {
+        // given
+        given(articleRepository.count()).willReturn(123L);
+
+        // when
+        long first = sut.getCount();
+        long second = sut.getCount();
+
+        // then
+        assertThat(first).isEqualTo(123L);
+        assertThat(second).isEqualTo(123L);
+        then(articleRepository).should(times(1)).count();
+    }
+
+    @DisplayName("게시글이 저장되거나 삭제되면, DB를 다시 세지 않고 값을 더하거나 뺀다")
+    @Test
+    void givenCounted_whenIncrementingAndDecrementing_thenUpdatesCountWithoutQuerying() {
+        // given
+        given(articleRepository.count()).willReturn(123L);
+        sut.getCount();
+
+        // when
+        sut.increment();
+        sut.increment();
+        sut.decrement();
+
+        // then
+        assertThat(sut.getCount()).isEqualTo(124L);
+        then(articleRepository).should(times(1)).count();
+    }
+
+    @DisplayName("DB와 다시 맞추면, 서비스를 거치지 않은 변경도 반영하고 마지막으로 맞춘 시각부터 오래된 정도를 잰다")
+    @Test
+    void givenChangedOutsideService_whenReconciling_thenUsesDatabaseCount() {
+        // given
+        given(articleRepository.count()).willReturn(123L, 120L);
+        sut.getCount();
+        sut.increment();
+
+        // when
+        long reconciled = sut.reconcile();
+
+        // then
+        assertThat(reconciled).isEqualTo(120L);
+        assertThat(sut.getCount()).isEqualTo(120L);
+        assertThat(sut.getStaleness()).isLessThan(sut.getMaxStaleness());
+        assertThat(sut.getMaxStaleness()).isEqualTo(Duration.ofMinutes(1));
+    }
+
+    @DisplayName("DB와 다시 맞추면, 호출한 쪽 트랜잭션과 상관 없이 새 쓰기 트랜잭션(주 DB)에서 센다")
+    @Test
+    void givenNothing_whenReconciling_thenCountsInNewReadWriteTransaction() {
+        // given
+        given(articleRepository.count()).willReturn(123L);
+
+        // when
+        sut.reconcile();
+
+        // then
+        then(transactionManager).should().getTransaction(argThat(definition ->
+                !definition.isReadOnly() && definition.getPropagationBehavior() == TransactionDefinition.PROPAGATION_REQUIRES_NEW));
+    }
+
+    @DisplayName("커밋됐지만 아직 더하지 않은 저장이 있으면, DB와 맞추지 않아 같은 게시글을 두 번 세지 않는다")
+    @Test
+    void givenCommittedButNotAppliedWrite_whenReconciling_thenKeepsCountUntilApplied() {
+        // given
+        given(articleRepository.count()).willReturn(123L, 124L, 124L);
+        sut.getCount();
+        TransactionSynchronizationManager.initSynchronization();
+        List<TransactionSynchronization> synchronizations;
+        try {
+            sut.increment();  // 커밋 후에 더하도록 등록된다.
+            synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // when
+        long reconciledBeforeApplied = sut.reconcile();  // DB에는 이미 커밋된 게시글이 세어진다.
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        long reconciledAfterApplied = sut.reconcile();
+
+        // then
+        assertThat(reconciledBeforeApplied).isEqualTo(123L);
+        assertThat(sut.getCount()).isEqualTo(124L);
+        assertThat(reconciledAfterApplied).isEqualTo(124L);
+    }
+
+    @DisplayName("DB를 세는 동안 저장이 반영되면, 센 값으로 덮어쓰지 않는다")
+    @Test
+    void givenWriteAppliedWhileCounting_whenReconciling_thenKeepsCount() {
+        // given
+        given(articleRepository.count()).willReturn(123L);
+        sut.getCount();
+        given(articleRepository.count()).willAnswer(invocation -> {
+            sut.increment();  // 세기 시작한 뒤에 커밋된 저장. 센 값에는 들어 있지 않다.
+            return 123L;
+        });
+
+        // when
+        long reconciled = sut.reconcile();
+
+        // then
+        assertThat(reconciled).isEqualTo(124L);
+        assertThat(sut.getCount()).isEqualTo(124L);
+    }
+}
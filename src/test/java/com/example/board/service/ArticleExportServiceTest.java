@@ -0,0 +1,116 @@
+package com.example.board.service;
+
+import com.example.board.config.ArticleExportProperties;
+import com.example.board.config.SecondLevelCacheConfig;
+import com.example.board.domain.Article;
+import com.example.board.domain.constant.ExportFormat;
+import com.example.board.dto.request.ArticleImportRequest;
+import com.example.board.repository.ArticleCommentRepository;
+import com.example.board.repository.ArticleRepository;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.hibernate.Session;
+import org.hibernate.engine.spi.EntityKey;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import javax.persistence.EntityManager;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("비즈니스 로직 - 게시글 내보내기")
+@Import(SecondLevelCacheConfig.class)
+@DataJpaTest
+class ArticleExportServiceTest {
+
+    private static final int FETCH_SIZE = 50;
+
+    private ArticleExportService sut;
+
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private ArticleRepository articleRepository;
+    @Autowired
+    private ArticleCommentRepository articleCommentRepository;
+
+    @BeforeEach
+    void setUp() {
+        sut = new ArticleExportService(entityManager, articleRepository, articleCommentRepository, new ArticleExportProperties(FETCH_SIZE));
+    }
+
+    @DisplayName("JSON Lines로 내보내면, 게시글마다 댓글과 해시태그를 담은 한 줄을 쓰고 게시글 일괄 가져오기 입력으로 다시 읽을 수 있다")
+    @Test
+    void givenArticles_whenExportingJsonLines_thenWritesOneImportableLinePerArticle() throws Exception {
+        // given
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ObjectMapper objectMapper = new ObjectMapper().disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+        // when
+        long exportedCount = sut.exportArticles(ExportFormat.JSONL, output);
+
+        // then
+        List<String> lines = output.toString(StandardCharsets.UTF_8).lines().toList();
+        assertThat(exportedCount).isEqualTo(articleRepository.count());
+        assertThat(lines).hasSize((int) exportedCount);
+        List<ArticleImportRequest> requests = lines.stream()
+                .map(line -> readValue(objectMapper, line))
+                .toList();
+        assertThat(requests).allMatch(ArticleImportRequest::isValid);
+        assertThat(requests.stream().mapToLong(request -> request.getCommentsOrEmpty().size()).sum())
+                .isEqualTo(articleCommentRepository.count());
+    }
+
+    @DisplayName("CSV로 내보내면, 헤더 다음에 게시글 row와 그 게시글의 댓글 row를 쓴다")
+    @Test
+    void givenArticles_whenExportingCsv_thenWritesArticleAndCommentRows() throws Exception {
+        // given
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // when
+        long exportedCount = sut.exportArticles(ExportFormat.CSV, output);
+
+        // then
+        String csv = output.toString(StandardCharsets.UTF_8);
+        assertThat(csv).startsWith("record_type,article_id,comment_id,user_id,title,content,hashtags,created_at,modified_at\r\n");
+        assertThat(csv.split("\r\n(?=article,)", -1)).hasSize((int) exportedCount + 1);
+        assertThat(csv.split("\r\n(?=comment,)", -1)).hasSize((int) articleCommentRepository.count() + 1);
+    }
+
+    @DisplayName("게시글을 내보내면, fetch size만큼 쓸 때마다 영속성 컨텍스트를 비운다")
+    @Test
+    void givenArticles_whenExporting_thenClearsPersistenceContextPerChunk() throws Exception {
+        // given
+        long articleCount = articleRepository.count();
+        entityManager.clear();
+
+        // when
+        sut.exportArticles(ExportFormat.JSONL, new ByteArrayOutputStream());
+
+        // then
+        Set<?> entityKeys = entityManager.unwrap(Session.class).getStatistics().getEntityKeys();
+        long managedArticles = entityKeys.stream()
+                .map(EntityKey.class::cast)
+                .filter(entityKey -> Article.class.getName().equals(entityKey.getEntityName()))
+                .count();
+        assertThat(articleCount).isGreaterThan(FETCH_SIZE);
+        assertThat(managedArticles).isLessThanOrEqualTo(FETCH_SIZE);  // 마지막 묶음만 남아 있다.
+    }
+
+
+    private ArticleImportRequest readValue(ObjectMapper objectMapper, String line) {
+        try {
+            return objectMapper.readValue(line, ArticleImportRequest.class);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,223 @@
+package com.example.board.service;
+
+import com.example.board.config.ArticleImportProperties;
+import com.example.board.domain.ArticleImportCheckpoint;
+import com.example.board.domain.UserAccount;
+import com.example.board.dto.ArticleCommentDto;
+import com.example.board.dto.ArticleDto;
+import com.example.board.dto.ArticleImportCheckpointDto;
+import com.example.board.dto.HashTagDto;
+import com.example.board.repository.ArticleImportCheckpointRepository;
+import com.example.board.repository.UserAccountRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.*;
+
+@DisplayName("비즈니스 로직 - 게시글 일괄 가져오기")
+@ExtendWith(MockitoExtension.class)
+class ArticleImportServiceTest {
+
+    private ArticleImportService sut;
+
+    @Mock
+    private ArticleService articleService;
+    @Mock
+    private ArticleCommentService articleCommentService;
+    @Mock
+    private UserAccountRepository userAccountRepository;
+    @Mock
+    private ArticleImportCheckpointRepository articleImportCheckpointRepository;
+    @Mock
+    private TransactionTemplate transactionTemplate;
+    @Captor
+    private ArgumentCaptor<List<ArticleDto>> articleCaptor;
+    @Captor
+    private ArgumentCaptor<List<ArticleCommentDto>> commentCaptor;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicReference<ArticleImportCheckpoint> savedCheckpoint = new AtomicReference<>();
+    private final AtomicLong articleIdSequence = new AtomicLong();
+
+    @BeforeEach
+    void setUp() {
+        sut = new ArticleImportService(
+                articleService,
+                articleCommentService,
+                userAccountRepository,
+                articleImportCheckpointRepository,
+                transactionTemplate,
+                new ArticleImportProperties(2, 100),
+                new ObjectMapper(),
+                meterRegistry
+        );
+
+        lenient().when(transactionTemplate.execute(any())).thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        lenient().when(articleImportCheckpointRepository.findById("job")).thenAnswer(invocation -> Optional.ofNullable(savedCheckpoint.get()));
+        lenient().when(articleImportCheckpointRepository.saveAndFlush(any(ArticleImportCheckpoint.class))).thenAnswer(invocation -> {
+            savedCheckpoint.set(invocation.getArgument(0));
+            return invocation.getArgument(0);
+        });
+        lenient().when(articleService.saveArticleChunk(anyList())).thenAnswer(invocation -> LongStream
+                .range(0, invocation.<List<ArticleDto>>getArgument(0).size())
+                .mapToObj(i -> articleIdSequence.incrementAndGet())
+                .toList());
+        lenient().when(articleCommentService.saveArticleCommentChunk(anyList())).thenAnswer(invocation -> invocation.<List<ArticleCommentDto>>getArgument(0).size());
+    }
+
+    @DisplayName("JSON Lines를 입력하면, 설정한 줄 수마다 한 트랜잭션으로 저장하고 진행 상황을 남긴다")
+    @Test
+    void givenJsonLines_whenImporting_thenSavesInChunksAndAdvancesCheckpoint() throws Exception {
+        // given
+        given(userAccountRepository.findAllById(anyIterable())).willReturn(List.of(createUserAccount("sol")));
+        InputStream input = jsonLines(
+                "{\"userId\":\"sol\",\"title\":\"title1\",\"content\":\"content1\"}",
+                "{\"userId\":\"sol\",\"title\":\"title2\",\"content\":\"content2\"}",
+                "{\"userId\":\"sol\",\"title\":\"title3\",\"content\":\"content3\"}"
+        );
+
+        // when
+        ArticleImportCheckpointDto checkpoint = sut.importArticles("job", input);
+
+        // then
+        assertThat(checkpoint)
+                .hasFieldOrPropertyWithValue("committedLines", 3L)
+                .hasFieldOrPropertyWithValue("importedArticles", 3L)
+                .hasFieldOrPropertyWithValue("skippedLines", 0L);
+        then(transactionTemplate).should(times(2)).execute(any());
+        then(articleService).should(times(2)).saveArticleChunk(anyList());
+        then(articleImportCheckpointRepository).should(times(2)).saveAndFlush(any(ArticleImportCheckpoint.class));
+        then(userAccountRepository).should().findAllById(anyIterable());  // 두 번째 묶음의 작성자는 캐시에서 찾는다.
+        assertThat(meterRegistry.get("board.import.articles").counter().count()).isEqualTo(3);
+        assertThat(meterRegistry.get("board.import.chunk").timer().count()).isEqualTo(2);
+    }
+
+    @DisplayName("형식이 잘못된 줄, 필수 값이 없는 줄, 작성자가 없는 줄을 입력하면, 건너뛰고 건너뛴 줄 수를 센다")
+    @Test
+    void givenInvalidLines_whenImporting_thenSkipsAndCountsThem() throws Exception {
+        // given
+        given(userAccountRepository.findAllById(anyIterable())).willReturn(List.of(createUserAccount("sol")));
+        InputStream input = jsonLines(
+                "{\"userId\":\"sol\",\"title\":\"title1\",\"content\":\"content1\"}",
+                "{not json",
+                "",
+                "{\"userId\":\"sol\",\"title\":\" \",\"content\":\"content2\"}",
+                "{\"userId\":\"unknown\",\"title\":\"title3\",\"content\":\"content3\"}"
+        );
+
+        // when
+        ArticleImportCheckpointDto checkpoint = sut.importArticles("job", input);
+
+        // then
+        assertThat(checkpoint)
+                .hasFieldOrPropertyWithValue("committedLines", 5L)
+                .hasFieldOrPropertyWithValue("importedArticles", 1L)
+                .hasFieldOrPropertyWithValue("skippedLines", 3L);
+        assertThat(meterRegistry.get("board.import.skipped").counter().count()).isEqualTo(3);
+    }
+
+    @DisplayName("댓글과 해시태그가 있는 줄을 입력하면, 저장된 게시글 ID로 댓글을 저장하고 해시태그를 함께 넘긴다")
+    @Test
+    void givenLineWithCommentsAndHashtags_whenImporting_thenSavesCommentsWithSavedArticleId() throws Exception {
+        // given
+        given(userAccountRepository.findAllById(anyIterable())).willReturn(List.of(createUserAccount("sol"), createUserAccount("sol2")));
+        InputStream input = jsonLines(
+                "{\"userId\":\"sol\",\"title\":\"title\",\"content\":\"content #java\",\"hashtags\":[\"#spring\"],"
+                        + "\"comments\":[{\"userId\":\"sol2\",\"content\":\"comment\"},{\"userId\":\"unknown\",\"content\":\"comment\"}]}"
+        );
+
+        // when
+        ArticleImportCheckpointDto checkpoint = sut.importArticles("job", input);
+
+        // then
+        assertThat(checkpoint.importedComments()).isEqualTo(1);
+        then(articleService).should().saveArticleChunk(articleCaptor.capture());
+        assertThat(articleCaptor.getValue().get(0).hashtagDtos())
+                .extracting(HashTagDto::hashtagName)
+                .containsExactly("spring");
+        then(articleCommentService).should().saveArticleCommentChunk(commentCaptor.capture());
+        assertThat(commentCaptor.getValue())
+                .singleElement()
+                .hasFieldOrPropertyWithValue("articleId", 1L)
+                .hasFieldOrPropertyWithValue("content", "comment");
+    }
+
+    @DisplayName("체크포인트가 있는 작업을 다시 입력하면, 커밋된 줄은 건너뛰고 다음 줄부터 가져온다")
+    @Test
+    void givenCheckpoint_whenImportingAgain_thenResumesAfterCommittedLines() throws Exception {
+        // given
+        ArticleImportCheckpoint checkpoint = ArticleImportCheckpoint.of("job");
+        checkpoint.advance(2, 2, 0, 0);
+        savedCheckpoint.set(checkpoint);
+        given(userAccountRepository.findAllById(anyIterable())).willReturn(List.of(createUserAccount("sol")));
+        InputStream input = jsonLines(
+                "{\"userId\":\"sol\",\"title\":\"title1\",\"content\":\"content1\"}",
+                "{not json",  // 이미 커밋된 줄은 파싱하지 않는다.
+                "{\"userId\":\"sol\",\"title\":\"title3\",\"content\":\"content3\"}"
+        );
+
+        // when
+        ArticleImportCheckpointDto actual = sut.importArticles("job", input);
+
+        // then
+        assertThat(actual)
+                .hasFieldOrPropertyWithValue("committedLines", 3L)
+                .hasFieldOrPropertyWithValue("importedArticles", 3L)
+                .hasFieldOrPropertyWithValue("skippedLines", 0L);
+        then(articleService).should().saveArticleChunk(articleCaptor.capture());
+        assertThat(articleCaptor.getValue())
+                .singleElement()
+                .hasFieldOrPropertyWithValue("title", "title3");
+    }
+
+    @DisplayName("이미 모두 가져온 작업을 다시 입력하면, 아무것도 저장하지 않는다")
+    @Test
+    void givenFinishedCheckpoint_whenImportingAgain_thenSavesNothing() throws Exception {
+        // given
+        ArticleImportCheckpoint checkpoint = ArticleImportCheckpoint.of("job");
+        checkpoint.advance(1, 1, 0, 0);
+        savedCheckpoint.set(checkpoint);
+        InputStream input = jsonLines("{\"userId\":\"sol\",\"title\":\"title1\",\"content\":\"content1\"}");
+
+        // when
+        ArticleImportCheckpointDto actual = sut.importArticles("job", input);
+
+        // then
+        assertThat(actual.committedLines()).isEqualTo(1);
+        then(transactionTemplate).shouldHaveNoInteractions();
+        then(articleService).shouldHaveNoInteractions();
+    }
+
+
+    private InputStream jsonLines(String... lines) {
+        return new ByteArrayInputStream(String.join("\n", lines).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private UserAccount createUserAccount(String userId) {
+        return UserAccount.of(userId, "password", userId + "@mail.com", userId, null);
+    }
+}
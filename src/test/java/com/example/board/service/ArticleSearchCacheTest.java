@@ -0,0 +1,156 @@
+package com.example.board.service;
+
+import com.example.board.config.ReplicaRoutingDataSource;
+import com.example.board.config.SearchCacheProperties;
+import com.example.board.config.SearchProperties;
+import com.example.board.domain.constant.SearchType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("비즈니스 로직 - 게시글 검색 결과 캐시")
+class ArticleSearchCacheTest {
+
+    private final Pageable pageable = PageRequest.of(0, 10);
+
+    @DisplayName("검색 결과를 저장하면, 공백만 다른 같은 검색어로 게시글 id와 게시글 수를 꺼낸다")
+    @Test
+    void givenStoredResult_whenGettingWithNormalizedKeyword_thenReturnsArticleIdsAndTotalCount() {
+        // given
+        ArticleSearchCache sut = createCache(SearchProperties.Engine.LIKE);
+        sut.put(ArticleSearchCache.Key.of(SearchType.TITLE, "spring boot", pageable), createPage(3L, 1L), sut.generation());
+
+        // when & then
+        assertThat(sut.get(ArticleSearchCache.Key.of(SearchType.TITLE, "  spring   boot ", pageable)))
+                .hasValue(new ArticleSearchCache.Result(List.of(3L, 1L), 2L));
+        assertThat(sut.get(ArticleSearchCache.Key.of(SearchType.TITLE, "spring boot", PageRequest.of(1, 10)))).isEmpty();
+        assertThat(sut.get(ArticleSearchCache.Key.of(SearchType.CONTENT, "spring boot", pageable))).isEmpty();
+    }
+
+    @DisplayName("검색하는 동안 게시글이 바뀌었으면, 검색 결과를 저장하지 않는다")
+    @Test
+    void givenArticleChangedWhileSearching_whenStoringResult_thenDoesNotCache() {
+        // given
+        ArticleSearchCache sut = createCache(SearchProperties.Engine.LIKE);
+        ArticleSearchCache.Key key = ArticleSearchCache.Key.of(SearchType.TITLE, "spring", pageable);
+        long searchedGeneration = sut.generation();
+        sut.evict(createSnapshot("kotlin", "sol", Set.of()));
+
+        // when
+        sut.put(key, createPage(1L), searchedGeneration);
+
+        // then
+        assertThat(sut.get(key)).isEmpty();
+    }
+
+    @DisplayName("복제 지연이 있는 복제본이 있으면, 커밋 후에 비운 다음 검색한 결과라도 복제본이 따라잡을 때까지 저장하지 않는다")
+    @Test
+    void givenLaggingReplica_whenStoringResultSearchedAfterEviction_thenDoesNotCacheUntilCaughtUp() {
+        // given
+        ReplicaRoutingDataSource replicaRoutingDataSource = mock(ReplicaRoutingDataSource.class);
+        ArticleSearchCache sut = createCache(SearchProperties.Engine.LIKE, replicaRoutingDataSource);
+        ArticleSearchCache.Key key = ArticleSearchCache.Key.of(SearchType.TITLE, "spring", pageable);
+        sut.evict(createSnapshot("learning spring", "sol", Set.of()));  // 주 DB에 커밋되고 검색 결과를 비웠지만, 복제본에는 아직 반영되지 않았다.
+        given(replicaRoutingDataSource.hasLaggingReplica()).willReturn(true);
+
+        // when
+        sut.put(key, createPage(1L), sut.generation());  // 비운 뒤에 시작한 검색이라 세대는 같지만, 복제본에서 이전 결과를 읽었을 수 있다.
+        Optional<ArticleSearchCache.Result> whileLagging = sut.get(key);
+        given(replicaRoutingDataSource.hasLaggingReplica()).willReturn(false);
+        sut.put(key, createPage(2L, 1L), sut.generation());
+        Optional<ArticleSearchCache.Result> caughtUp = sut.get(key);
+
+        // then
+        assertThat(whileLagging).isEmpty();
+        assertThat(caughtUp).hasValue(new ArticleSearchCache.Result(List.of(2L, 1L), 2L));
+    }
+
+    @DisplayName("게시글이 바뀌면, 바뀌기 전이나 후의 게시글이 걸릴 수 있는 검색 결과만 비운다")
+    @Test
+    void givenStoredResults_whenEvictingChangedArticle_thenEvictsOnlyMatchingSearches() {
+        // given
+        ArticleSearchCache sut = createCache(SearchProperties.Engine.LIKE);
+        ArticleSearchCache.Key springTitle = store(sut, SearchType.TITLE, "Spring");
+        ArticleSearchCache.Key kotlinTitle = store(sut, SearchType.TITLE, "kotlin");
+        ArticleSearchCache.Key writer = store(sut, SearchType.ID, "so");
+        ArticleSearchCache.Key otherWriter = store(sut, SearchType.ID, "john");
+        ArticleSearchCache.Key javaHashtag = store(sut, SearchType.HASHTAG, "#java -legacy");
+        ArticleSearchCache.Key jpaHashtag = store(sut, SearchType.HASHTAG, "+jpa");
+
+        // when
+        sut.evict(
+                createSnapshot("learning spring", "sol", Set.of("legacy")),
+                createSnapshot("learning java", "sol", Set.of("java"))
+        );
+
+        // then
+        assertThat(sut.get(springTitle)).isEmpty();
+        assertThat(sut.get(writer)).isEmpty();
+        assertThat(sut.get(javaHashtag)).isEmpty();
+        assertThat(sut.get(kotlinTitle)).isPresent();
+        assertThat(sut.get(otherWriter)).isPresent();
+        assertThat(sut.get(jpaHashtag)).isPresent();
+    }
+
+    @DisplayName("like가 아닌 검색 엔진이면, 게시글이 바뀔 때 제목/본문 검색 결과를 모두 비운다")
+    @Test
+    void givenFullTextSearchEngine_whenEvictingChangedArticle_thenEvictsAllTitleAndContentSearches() {
+        // given
+        ArticleSearchCache sut = createCache(SearchProperties.Engine.LUCENE);
+        ArticleSearchCache.Key title = store(sut, SearchType.TITLE, "running");
+        ArticleSearchCache.Key nickname = store(sut, SearchType.NICKNAME, "john");
+
+        // when
+        sut.evict(createSnapshot("he runs", "sol", Set.of()));  // 어간 추출을 하면 'running'으로도 걸린다.
+
+        // then
+        assertThat(sut.get(title)).isEmpty();
+        assertThat(sut.get(nickname)).isPresent();
+    }
+
+
+    private ArticleSearchCache createCache(SearchProperties.Engine engine) {
+        return createCache(engine, null);
+    }
+
+    private ArticleSearchCache createCache(SearchProperties.Engine engine, ReplicaRoutingDataSource replicaRoutingDataSource) {
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        if (replicaRoutingDataSource != null) {
+            beanFactory.addBean("replicaRoutingDataSource", replicaRoutingDataSource);
+        }
+
+        return new ArticleSearchCache(
+                new SearchCacheProperties(true, 100, Duration.ofMinutes(5)),
+                new SearchProperties(engine, new SearchProperties.Lucene("build/search-index")),
+                beanFactory.getBeanProvider(ReplicaRoutingDataSource.class)
+        );
+    }
+
+    private ArticleSearchCache.Key store(ArticleSearchCache cache, SearchType searchType, String searchKeyword) {
+        ArticleSearchCache.Key key = ArticleSearchCache.Key.of(searchType, searchKeyword, pageable);
+        cache.put(key, createPage(1L), cache.generation());
+
+        return key;
+    }
+
+    private ArticleSearchCache.Snapshot createSnapshot(String title, String userId, Set<String> hashtagNames) {
+        return new ArticleSearchCache.Snapshot(title, "content", userId, "nick-" + userId, hashtagNames);
+    }
+
+    private Page<Long> createPage(Long... articleIds) {
+        return new PageImpl<>(List.of(articleIds), pageable, articleIds.length);
+    }
+}
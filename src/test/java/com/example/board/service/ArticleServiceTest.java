@@ -1,33 +1,57 @@
 package com.example.board.service;
 
+import com.example.board.config.CoalescingProperties;
 import com.example.board.domain.Article;
 import com.example.board.domain.Hashtag;
 import com.example.board.domain.UserAccount;
+import com.example.board.domain.constant.CursorDirection;
 import com.example.board.domain.constant.SearchType;
+import com.example.board.dto.ArticleCursor;
 import com.example.board.dto.ArticleDto;
+import com.example.board.dto.ArticleSummaryDto;
 import com.example.board.dto.ArticleWithCommentsDto;
+import com.example.board.dto.CursorPage;
 import com.example.board.dto.HashTagDto;
+import com.example.board.dto.HashtagQuery;
+import com.example.board.dto.InvalidCursorException;
 import com.example.board.dto.UserAccountDto;
 import com.example.board.repository.ArticleRepository;
 import com.example.board.repository.HashtagRepository;
 import com.example.board.repository.UserAccountRepository;
+import com.example.board.service.search.ArticleSearchEngine;
+import com.example.board.service.search.HashtagCatalog;
+import com.example.board.service.search.HashtagPostingsIndex;
+import com.example.board.service.search.UserAccountSearchIndex;
 import org.assertj.core.api.InstanceOfAssertFactories;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import javax.persistence.EntityNotFoundException;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.OptionalLong;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -58,6 +82,33 @@ class ArticleServiceTest {
     private UserAccountRepository userAccountRepository;
     @Mock
     private HashtagRepository hashtagRepository;
+    @Mock
+    private ArticleSearchEngine articleSearchEngine;
+    @Mock
+    private UserAccountSearchIndex userAccountSearchIndex;
+    @Mock
+    private HashtagCatalog hashtagCatalog;
+    @Mock
+    private HashtagPostingsIndex hashtagPostingsIndex;
+    @Mock
+    private RenderedPageCache renderedPageCache;
+    @Mock
+    private ArticleSearchCache articleSearchCache;
+    @Spy  // 동시에 들어온 같은 요청이 없으면 조회를 그대로 실행한다.
+    private RequestCoalescer requestCoalescer = new RequestCoalescer(
+            new CoalescingProperties(true, Duration.ofMillis(500)),
+            mock(PlatformTransactionManager.class),
+            mock(ReadYourWritesTracker.class),
+            new SimpleMeterRegistry()
+    );
+    @Mock
+    private ArticleCounter articleCounter;
+    @Mock
+    private ReadYourWritesTracker readYourWritesTracker;
+    @Mock
+    private TransactionTemplate transactionTemplate;
+    @Captor
+    private ArgumentCaptor<List<Article>> articlesCaptor;
 
     @DisplayName("검색어 없이 게시글을 검색하면, 게시글 페이지를 반환한다")
     @Test
@@ -81,14 +132,243 @@ class ArticleServiceTest {
         SearchType searchType = SearchType.TITLE;
         String searchKeyword = "title";
         Pageable pageable = Pageable.ofSize(20);
-        given(articleRepository.findByTitleContaining(searchKeyword, pageable)).willReturn(Page.empty());
+        given(articleSearchEngine.searchIds(searchType, searchKeyword, pageable)).willReturn(Page.empty());
 
         // when
         Page<ArticleDto> articles = sut.searchArticles(searchType, searchKeyword, pageable);
 
         // then
         assertThat(articles).isEmpty();
-        then(articleRepository).should().findByTitleContaining(searchKeyword, pageable);
+        then(articleSearchEngine).should().searchIds(searchType, searchKeyword, pageable);  // 제목, 본문 검색은 검색 엔진에 위임한다.
+        then(articleSearchCache).should().put(ArticleSearchCache.Key.of(searchType, searchKeyword, pageable), Page.empty(), 0L);
+    }
+
+    @DisplayName("검색 결과 캐시에 담긴 검색이면, 검색하지 않고 담아둔 게시글 id로 게시글을 채워서 반환한다")
+    @Test
+    void givenCachedSearchResult_whenSearchingArticles_thenHydratesCachedArticleIdsWithoutSearching() {
+        // given
+        SearchType searchType = SearchType.TITLE;
+        String searchKeyword = "  spring   boot ";
+        Pageable pageable = PageRequest.of(0, 20);
+        given(articleSearchCache.get(ArticleSearchCache.Key.of(searchType, "spring boot", pageable)))
+                .willReturn(Optional.of(new ArticleSearchCache.Result(List.of(2L, 1L), 42L)));
+        given(articleRepository.findAllByIdInOrderUsingCache(List.of(2L, 1L))).willReturn(List.of(createArticle(2L), createArticle(1L)));
+
+        // when
+        Page<ArticleDto> articles = sut.searchArticles(searchType, searchKeyword, pageable);
+
+        // then
+        assertThat(articles.getContent()).extracting(ArticleDto::id).containsExactly(2L, 1L);
+        assertThat(articles.getTotalElements()).isEqualTo(42L);
+        then(articleSearchEngine).shouldHaveNoInteractions();
+        then(articleSearchCache).should(never()).put(any(), any(), anyLong());
+    }
+
+    @DisplayName("검색어 없이 목록용 게시글을 검색하면, 프로젝션으로 조회한 게시글 목록 페이지를 반환한다")
+    @Test
+    void givenNoSearchParameters_whenSearchingArticleSummaries_thenReturnsProjectedPage() {
+        // given
+        Pageable pageable = Pageable.ofSize(20);
+        given(articleRepository.findSummaries(pageable)).willReturn(Page.empty());
+
+        // when
+        Page<ArticleSummaryDto> articles = sut.searchArticleSummaries(null, null, pageable);
+
+        // then
+        assertThat(articles).isEmpty();
+        then(articleRepository).should().findSummaries(pageable);
+        then(articleRepository).shouldHaveNoMoreInteractions();  // 엔티티를 조회하지 않는다.
+    }
+
+    @DisplayName("검색어와 함께 목록용 게시글을 검색하면, 검색 엔진이 찾은 게시글 id로 목록 컬럼만 조회해서 반환한다")
+    @Test
+    void givenSearchParameters_whenSearchingArticleSummaries_thenReturnsSearchResultAsSummaries() {
+        // given
+        Pageable pageable = Pageable.ofSize(20);
+        ArticleSummaryDto summary = createArticleSummaryDto(1L);
+        given(articleSearchEngine.searchIds(SearchType.TITLE, "title", pageable)).willReturn(new PageImpl<>(List.of(1L), pageable, 21));
+        given(articleRepository.findSummariesByIdInOrder(List.of(1L))).willReturn(List.of(summary));
+
+        // when
+        Page<ArticleSummaryDto> articles = sut.searchArticleSummaries(SearchType.TITLE, "title", pageable);
+
+        // then
+        assertThat(articles.getContent()).containsExactly(summary);
+        assertThat(articles.getTotalElements()).isEqualTo(21);
+        then(articleRepository).should().findSummariesByIdInOrder(List.of(1L));
+        then(articleRepository).shouldHaveNoMoreInteractions();  // 엔티티를 조회하지 않는다.
+    }
+
+    @DisplayName("닉네임으로 게시글을 검색하면, 사용자 검색 색인으로 찾은 작성자들의 게시글 페이지를 반환한다")
+    @Test
+    void givenNicknameKeyword_whenSearchingArticles_thenReturnsArticlesOfIndexedUsers() {
+        // given
+        String searchKeyword = "uno";
+        Pageable pageable = Pageable.ofSize(20);
+        Set<String> userIds = Set.of("uno", "unox");
+        given(userAccountSearchIndex.findUserIds(SearchType.NICKNAME, searchKeyword)).willReturn(Optional.of(userIds));
+        given(articleRepository.findIdsByUserIdIn(userIds, pageable)).willReturn(Page.empty());
+
+        // when
+        Page<ArticleDto> articles = sut.searchArticles(SearchType.NICKNAME, searchKeyword, pageable);
+
+        // then
+        assertThat(articles).isEmpty();
+        then(articleRepository).should().findIdsByUserIdIn(userIds, pageable);
+        then(articleRepository).should().findAllByIdInOrderUsingCache(List.of());
+        then(articleRepository).shouldHaveNoMoreInteractions();
+    }
+
+    @DisplayName("사용자 검색 색인을 쓸 수 없으면, 작성자 ID like 검색으로 게시글 페이지를 반환한다")
+    @Test
+    void givenUnavailableUserAccountIndex_whenSearchingArticlesById_thenFallsBackToLikeSearch() {
+        // given
+        String searchKeyword = "u";
+        Pageable pageable = Pageable.ofSize(20);
+        given(userAccountSearchIndex.findUserIds(SearchType.ID, searchKeyword)).willReturn(Optional.empty());
+        given(articleRepository.findIdsBySearch(SearchType.ID, searchKeyword, pageable)).willReturn(Page.empty());
+
+        // when
+        Page<ArticleDto> articles = sut.searchArticles(SearchType.ID, searchKeyword, pageable);
+
+        // then
+        assertThat(articles).isEmpty();
+        then(articleRepository).should().findIdsBySearch(SearchType.ID, searchKeyword, pageable);
+    }
+
+    @DisplayName("해시태그로 게시글을 검색하면, 해시태그 검색 색인으로 찾은 게시글 id로 페이지를 조회하고 count 쿼리는 실행하지 않는다")
+    @Test
+    void givenHashtagKeyword_whenSearchingArticles_thenReturnsArticlesOfIndexedIdsWithoutCountQuery() {
+        // given
+        String searchKeyword = "spring #java -jpa";
+        Pageable pageable = Pageable.ofSize(20);
+        HashtagQuery hashtagQuery = HashtagQuery.of(Set.of(), Set.of("spring", "java"), Set.of("jpa"));
+        given(hashtagPostingsIndex.search(hashtagQuery)).willReturn(Optional.of(HashtagPostingsIndex.ArticleIds.of(2L, 1L)));
+        given(articleRepository.findPageIdsByIdIn(List.of(1L, 2L), pageable)).willReturn(List.of(2L, 1L));
+        given(articleRepository.findAllByIdInOrderUsingCache(List.of(2L, 1L))).willReturn(List.of(createArticle(2L), createArticle(1L)));
+
+        // when
+        Page<ArticleDto> articles = sut.searchArticles(SearchType.HASHTAG, searchKeyword, pageable);
+
+        // then
+        assertThat(articles.getContent()).extracting("id").containsExactly(2L, 1L);
+        assertThat(articles.getTotalElements()).isEqualTo(2);
+        then(articleRepository).should().findPageIdsByIdIn(List.of(1L, 2L), pageable);
+        then(articleRepository).should().findAllByIdInOrderUsingCache(List.of(2L, 1L));
+        then(articleRepository).shouldHaveNoMoreInteractions();
+    }
+
+    @DisplayName("해시태그 검색 색인이 준비되지 않았으면, DB에서 해시태그 조건으로 게시글 페이지를 검색한다")
+    @Test
+    void givenUnavailableHashtagIndex_whenSearchingArticles_thenFallsBackToDatabaseSearch() {
+        // given
+        String searchKeyword = "+spring +java";
+        Pageable pageable = Pageable.ofSize(20);
+        HashtagQuery hashtagQuery = HashtagQuery.of(Set.of("spring", "java"), Set.of(), Set.of());
+        given(hashtagPostingsIndex.search(hashtagQuery)).willReturn(Optional.empty());
+        given(articleRepository.findIdsBySearch(SearchType.HASHTAG, searchKeyword, pageable)).willReturn(Page.empty());
+
+        // when
+        Page<ArticleDto> articles = sut.searchArticles(SearchType.HASHTAG, searchKeyword, pageable);
+
+        // then
+        assertThat(articles).isEmpty();
+        then(articleRepository).should().findIdsBySearch(SearchType.HASHTAG, searchKeyword, pageable);
+    }
+
+    @DisplayName("검색어 없이 게시글을 Slice로 검색하면, count 쿼리 없이 목록 컬럼만 조회한 Slice를 반환한다")
+    @Test
+    void givenNoSearchParameters_whenSearchingArticleSlice_thenReturnsSummarySlice() {
+        // given
+        Pageable pageable = Pageable.ofSize(20);
+        given(articleRepository.findSummarySlice(pageable))
+                .willReturn(new SliceImpl<>(List.of(createArticleSummaryDto(1L)), pageable, true));
+
+        // when
+        Slice<ArticleSummaryDto> articles = sut.searchArticleSlice(null, null, pageable);
+
+        // then
+        assertThat(articles).hasSize(1);
+        assertThat(articles.hasNext()).isTrue();
+        then(articleRepository).should().findSummarySlice(pageable);
+        then(articleRepository).shouldHaveNoMoreInteractions();
+    }
+
+    @DisplayName("검색어와 함께 게시글을 Slice로 검색하면, 검색 엔진으로 찾은 게시글 id를 캐시에 담고 목록 컬럼만 조회한다")
+    @Test
+    void givenSearchParameters_whenSearchingArticleSlice_thenSearchesWithSearchEngine() {
+        // given
+        SearchType searchType = SearchType.TITLE;
+        String searchKeyword = "title";
+        Pageable pageable = Pageable.ofSize(20);
+        Page<Long> searched = new PageImpl<>(List.of(1L), pageable, 21);
+        given(articleSearchEngine.searchIds(searchType, searchKeyword, pageable)).willReturn(searched);
+        given(articleRepository.findSummariesByIdInOrder(List.of(1L))).willReturn(List.of(createArticleSummaryDto(1L)));
+
+        // when
+        Slice<ArticleSummaryDto> articles = sut.searchArticleSlice(searchType, searchKeyword, pageable);
+
+        // then
+        assertThat(articles).hasSize(1);
+        assertThat(articles.hasNext()).isTrue();
+        then(articleSearchEngine).should().searchIds(searchType, searchKeyword, pageable);
+        then(articleSearchCache).should().put(any(), eq(searched), anyLong());
+        then(articleRepository).should().findSummariesByIdInOrder(List.of(1L));
+        then(articleRepository).shouldHaveNoMoreInteractions();
+    }
+
+    @DisplayName("커서 없이 게시글을 커서 검색하면, 첫 페이지와 다음 커서를 반환한다")
+    @Test
+    void givenNoCursor_whenSearchingArticlesByCursor_thenReturnsFirstCursorPage() {
+        // given
+        int size = 2;
+        List<Article> articles = List.of(createArticle(3L), createArticle(2L), createArticle(1L));
+        given(articleRepository.findByCursor(null, null, null, null, CursorDirection.NEXT, size + 1)).willReturn(articles);
+
+        // when
+        CursorPage<ArticleDto> page = sut.searchArticlesByCursor(null, null, null, CursorDirection.PREVIOUS, size);
+
+        // then
+        assertThat(page.content()).extracting("id").containsExactly(3L, 2L);
+        assertThat(page.hasPrevious()).isFalse();
+        assertThat(page.nextCursor()).isEqualTo(ArticleCursor.from(articles.get(1)).encode());
+        then(articleRepository).should().findByCursor(null, null, null, null, CursorDirection.NEXT, size + 1);
+        then(articleRepository).shouldHaveNoMoreInteractions();  // 커서 페이징은 count 쿼리를 실행하지 않는다.
+    }
+
+    @DisplayName("커서와 함께 이전 페이지를 검색하면, 최신순으로 정렬된 이전 페이지를 반환한다")
+    @Test
+    void givenCursorAndPreviousDirection_whenSearchingArticlesByCursor_thenReturnsPreviousCursorPage() {
+        // given
+        int size = 2;
+        ArticleCursor cursor = ArticleCursor.of(LocalDateTime.of(2023, 10, 1, 0, 0), 5L);
+        List<Article> articles = List.of(createArticle(6L), createArticle(7L));  // 이전 방향은 오래된 순으로 조회된다.
+        given(articleRepository.findByCursor(SearchType.TITLE, "title", cursor.createdAt(), cursor.id(), CursorDirection.PREVIOUS, size + 1))
+                .willReturn(articles);
+
+        // when
+        CursorPage<ArticleDto> page = sut.searchArticlesByCursor(SearchType.TITLE, "title", cursor.encode(), CursorDirection.PREVIOUS, size);
+
+        // then
+        assertThat(page.content()).extracting("id").containsExactly(7L, 6L);
+        assertThat(page.hasPrevious()).isFalse();
+        assertThat(page.hasNext()).isTrue();
+    }
+
+    @DisplayName("잘못된 커서로 게시글을 검색하면, 예외를 던진다")
+    @Test
+    void givenMalformedCursor_whenSearchingArticlesByCursor_thenThrowsException() {
+        // given
+        String cursor = "not-a-cursor";
+
+        // when
+        Throwable t = catchThrowable(() -> sut.searchArticlesByCursor(null, null, cursor, CursorDirection.NEXT, 10));
+
+        // then
+        assertThat(t)
+                .isInstanceOf(InvalidCursorException.class)
+                .hasMessage("잘못된 커서입니다 - cursor: " + cursor);
+        then(articleRepository).shouldHaveNoInteractions();
     }
 
     @DisplayName("검색어 없이 게시글을 해시태그 검색하면, 빈 페이지를 반환한다")
@@ -112,31 +392,90 @@ class ArticleServiceTest {
         // given
         String hashtagName = "nothing";
         Pageable pageable = Pageable.ofSize(20);
-        given(articleRepository.findByHashtagNames(List.of(hashtagName), pageable)).willReturn(new PageImpl<>(List.of(), pageable, 0));
+        given(hashtagRepository.findByHashtagName(hashtagName)).willReturn(Optional.empty());
         
         // when
         Page<ArticleDto> articles = sut.searchArticlesViaHashtag(hashtagName, pageable);
         
         // then
         assertThat(articles).isEqualTo(Page.empty(pageable));
-        then(articleRepository).should().findByHashtagNames(List.of(hashtagName), pageable);
+        then(hashtagRepository).should().findByHashtagName(hashtagName);
+        then(articleRepository).shouldHaveNoInteractions();
     }
 
-    @DisplayName("게시글을 해시태그 검색하면, 게시글 페이지를 반환한다")
+    @DisplayName("게시글을 해시태그 검색하면, 해시태그 id로 게시글 페이지를 조회하고 게시글 수는 해시태그 검색 색인에서 가져온다")
     @Test
     void givenHashtag_whenSearchingArticlesViaHashtag_thenReturnsArticlesPage() {
         // given
-        String hashtagName = "spring";
+        String hashtag = "#spring";
         Pageable pageable = Pageable.ofSize(20);
         Article expectedArticle = createArticle();
-        given(articleRepository.findByHashtagNames(List.of(hashtagName), pageable)).willReturn(new PageImpl<>(List.of(expectedArticle), pageable, 1));
+        given(hashtagRepository.findByHashtagName("spring")).willReturn(Optional.of(createHashtag(2L, "spring")));
+        given(hashtagPostingsIndex.countArticles("spring")).willReturn(OptionalLong.of(1));
+        given(articleRepository.findPageByHashtagId(2L, pageable)).willReturn(List.of(expectedArticle));
 
         // when
-        Page<ArticleDto> articles = sut.searchArticlesViaHashtag(hashtagName, pageable);
+        Page<ArticleDto> articles = sut.searchArticlesViaHashtag(hashtag, pageable);
 
         // then
         assertThat(articles).isEqualTo(new PageImpl<>(List.of(ArticleDto.from(expectedArticle)), pageable, 1));
-        then(articleRepository).should().findByHashtagNames(List.of(hashtagName), pageable);
+        then(articleRepository).should().findPageByHashtagId(2L, pageable);
+        then(articleRepository).shouldHaveNoMoreInteractions();  // count 쿼리를 실행하지 않는다.
+    }
+
+    @DisplayName("해시태그 검색 색인이 준비되지 않았으면, 해시태그의 게시글 수를 article_hashtag에서 센다")
+    @Test
+    void givenUnavailableHashtagIndex_whenSearchingArticlesViaHashtag_thenCountsArticlesByHashtagId() {
+        // given
+        Pageable pageable = PageRequest.of(3, 10);
+        given(hashtagRepository.findByHashtagName("spring")).willReturn(Optional.of(createHashtag(2L, "spring")));
+        given(hashtagPostingsIndex.countArticles("spring")).willReturn(OptionalLong.empty());
+        given(articleRepository.countByHashtagId(2L)).willReturn(25L);
+
+        // when
+        Page<ArticleDto> articles = sut.searchArticlesViaHashtag("spring", pageable);
+
+        // then
+        assertThat(articles.getContent()).isEmpty();
+        assertThat(articles.getTotalElements()).isEqualTo(25);
+        then(articleRepository).should().countByHashtagId(2L);
+        then(articleRepository).shouldHaveNoMoreInteractions();  // 마지막 페이지를 넘어서면 게시글을 조회하지 않는다.
+    }
+
+    @DisplayName("최신순이 아닌 정렬로 해시태그 검색하면, 게시글 테이블에서 정렬한 페이지를 반환한다")
+    @Test
+    void givenNonDefaultSort_whenSearchingArticlesViaHashtag_thenSearchesWithSort() {
+        // given
+        Pageable pageable = PageRequest.of(0, 20, Sort.by("title"));
+        given(articleRepository.findByHashtagNames(List.of("spring"), pageable)).willReturn(Page.empty(pageable));
+
+        // when
+        Page<ArticleDto> articles = sut.searchArticlesViaHashtag("spring", pageable);
+
+        // then
+        assertThat(articles).isEmpty();
+        then(articleRepository).should().findByHashtagNames(List.of("spring"), pageable);
+        then(hashtagRepository).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("커서와 함께 해시태그의 게시글을 검색하면, 커서 다음 게시글과 이전/다음 커서를 반환한다")
+    @Test
+    void givenHashtagAndCursor_whenSearchingArticlesViaHashtagByCursor_thenReturnsCursorPage() {
+        // given
+        int size = 2;
+        ArticleCursor cursor = ArticleCursor.of(LocalDateTime.of(2023, 10, 1, 0, 0), 9L);
+        List<Article> articles = List.of(createArticle(8L), createArticle(5L), createArticle(3L));
+        given(hashtagRepository.findByHashtagName("spring")).willReturn(Optional.of(createHashtag(2L, "spring")));
+        given(articleRepository.findByHashtagIdAndCursor(2L, cursor.createdAt(), 9L, CursorDirection.NEXT, size + 1)).willReturn(articles);
+
+        // when
+        CursorPage<ArticleDto> page = sut.searchArticlesViaHashtagByCursor("#spring", cursor.encode(), CursorDirection.NEXT, size);
+
+        // then
+        assertThat(page.content()).extracting("id").containsExactly(8L, 5L);
+        assertThat(page.previousCursor()).isEqualTo(ArticleCursor.from(articles.get(0)).encode());
+        assertThat(page.nextCursor()).isEqualTo(ArticleCursor.from(articles.get(1)).encode());
+        then(articleRepository).shouldHaveNoMoreInteractions();
     }
 
     @DisplayName("게시글 ID로 조회하면, 댓글 달린 게시글을 반환한다")
@@ -241,12 +580,69 @@ class ArticleServiceTest {
         then(hashtagService).should().parseHashtagNames(dto.content());
         then(hashtagService).should().findHashtagsByNames(expectedHashtagsNames);
         then(articleRepository).should().save(any(Article.class));  // articleRepository의 save() 메서드가 호출되었는지 확인
+        then(readYourWritesTracker).should().markWritten(dto.userAccountDto().userId());
         /*
           이런 식으로 Mocking을 이용해 테스트를 할 수 있다. 그러나 Mocking을 이용하면 테스트가 통과하더라도 실제로는 제대로 동작하지 않을 수도 있다.
           DB에 직접 데이터를 넣으면서 테스트 하는 것이 아니기 때문이다. DB 레이어까지 내려가면서 테스트를 진행하게 되면 이것은 더 이상 온전한 유닛 테스트가 아니게 된다.
          */
     }
 
+    @DisplayName("여러 게시글 정보를 입력하면, 해시태그를 한 번에 조회하고 게시글들을 일괄 저장한다")
+    @Test
+    void givenArticleInfos_whenSavingArticles_thenFindsHashtagsOnceAndSavesArticles() {
+        // given
+        ArticleDto javaArticleDto = createArticleDto("title1", "#java");
+        ArticleDto springArticleDto = createArticleDto("title2", "#java #spring");
+        Set<String> hashtagNames = Set.of("java", "spring");
+        Set<Hashtag> existingHashtags = new HashSet<>();
+        existingHashtags.add(createHashtag("java"));
+
+        given(hashtagService.parseHashtagNames(javaArticleDto.content())).willReturn(Set.of("java"));
+        given(hashtagService.parseHashtagNames(springArticleDto.content())).willReturn(hashtagNames);
+        given(hashtagService.findHashtagsByNames(hashtagNames)).willReturn(existingHashtags);
+        given(userAccountRepository.getReferenceById("sol")).willReturn(createUserAccount());
+        given(transactionTemplate.execute(any())).willAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+
+        // when
+        int savedCount = sut.saveArticles(List.of(javaArticleDto, springArticleDto));
+
+        // then
+        assertThat(savedCount).isEqualTo(2);
+        then(hashtagService).should().findHashtagsByNames(hashtagNames);
+        then(transactionTemplate).should().execute(any());  // 1,000건 이하는 한 트랜잭션으로 저장한다.
+        then(articleRepository).should().bypassSecondLevelCacheForBulkInsert();
+        then(articleRepository).should().saveAll(articlesCaptor.capture());
+        List<Article> savedArticles = articlesCaptor.getValue();
+        assertThat(savedArticles)
+                .extracting(article -> article.getHashtags().stream().map(Hashtag::getHashtagName).collect(Collectors.toSet()))
+                .containsExactly(Set.of("java"), hashtagNames);
+        Hashtag newSpringHashtag = savedArticles.get(1).getHashtags().stream()
+                .filter(hashtag -> hashtag.getHashtagName().equals("spring"))
+                .findFirst()
+                .orElseThrow();
+        assertThat(newSpringHashtag.getId()).isNull();  // DB에 없던 해시태그는 게시글과 함께 저장된다.
+        then(articleSearchEngine).should().indexAll(savedArticles);
+        then(hashtagCatalog).should().indexAll(savedArticles);
+        then(hashtagPostingsIndex).should().indexAll(savedArticles);
+        then(articleCounter).should().increment(2L);
+    }
+
+    @DisplayName("저장할 게시글이 없으면, 아무 것도 하지 않는다")
+    @Test
+    void givenNoArticleInfos_whenSavingArticles_thenDoesNothing() {
+        // given
+
+        // when
+        int savedCount = sut.saveArticles(List.of());
+
+        // then
+        assertThat(savedCount).isZero();
+        then(transactionTemplate).shouldHaveNoInteractions();
+        then(articleRepository).shouldHaveNoInteractions();
+        then(hashtagService).shouldHaveNoInteractions();
+        then(articleCounter).shouldHaveNoInteractions();
+    }
+
     @DisplayName("게시글의 수정 정보를 입력하면, 게시글을 수정한다")
     @Test
     void givenModifiedArticleInfo_whenUpdatingArticle_thenUpdatesArticle() {
@@ -282,6 +678,10 @@ class ArticleServiceTest {
         then(hashtagService).should().deleteHashtagWithoutArticles(any());
         then(hashtagService).should().parseHashtagNames(dto.content());
         then(hashtagService).should().findHashtagsByNames(expectedHashtagNames);
+        then(articleSearchCache).should().evict(  // 수정 전 내용에 걸리던 검색과 수정 후 내용에 걸릴 검색을 모두 비운다.
+                new ArticleSearchCache.Snapshot("title", "content", "sol", "Ssol", Set.of("java", "spring")),
+                new ArticleSearchCache.Snapshot(dto.title(), dto.content(), "sol", "Ssol", Set.of("springboot"))
+        );
     }
 
     @DisplayName("없는 게시글의 수정 정보를 입력하면, 경고 로그를 찍고 아무 것도 하지 않는다")
@@ -320,6 +720,7 @@ class ArticleServiceTest {
         then(articleRepository).should().getReferenceById(differentArticleId);
         then(userAccountRepository).should().getReferenceById(dto.userAccountDto().userId());
         then(hashtagService).shouldHaveNoInteractions();
+        then(articleSearchEngine).shouldHaveNoInteractions();
     }
     
     @DisplayName("게시글 ID를 입력하면, 게시글을 삭제한다")
@@ -341,7 +742,7 @@ class ArticleServiceTest {
         then(articleRepository).should().getReferenceById(articleId);
         then(articleRepository).should().deleteByIdAndUserAccount_UserId(articleId, userId);
         then(articleRepository).should().flush();
-        then(hashtagService).should(times(2)).deleteHashtagWithoutArticles(any());
+        then(hashtagService).should().deleteHashtagWithoutArticles(Set.of(1L, 2L));  // 게시글의 해시태그를 한 번에 정리한다.
     }
 
     @DisplayName("게시글 수를 조회하면, 게시글 수를 반환한다")
@@ -349,14 +750,15 @@ class ArticleServiceTest {
     void givenNothing_whenCountingArticles_thenReturnsArticleCount() {
         // given
         long expected = 0L;
-        given(articleRepository.count()).willReturn(expected);
+        given(articleCounter.getCount()).willReturn(expected);
         
         // when
         long actual = sut.getArticleCount();
         
         // then
         assertThat(actual).isEqualTo(expected);
-        then(articleRepository).should().count();
+        then(articleCounter).should().getCount();
+        then(articleRepository).shouldHaveNoInteractions();
     }
 
     @DisplayName("해시태그를 조회하면, 유니크 해시태그 리스트를 반환한다")
@@ -376,6 +778,21 @@ class ArticleServiceTest {
         then(hashtagRepository).should().findAllHashtagNames();
     }
 
+    @DisplayName("해시태그 목록 캐시가 준비되어 있으면, DB 조회 없이 캐시의 해시태그 리스트를 반환한다")
+    @Test
+    void givenHashtagCatalog_whenCalling_thenReturnsHashtagsWithoutQuerying() {
+        // given
+        List<String> expectedHashtags = List.of("java", "spring");
+        given(hashtagCatalog.getHashtagNames()).willReturn(Optional.of(expectedHashtags));
+
+        // when
+        List<String> actualHashtags = sut.getHashtags();
+
+        // then
+        assertThat(actualHashtags).isEqualTo(expectedHashtags);
+        then(hashtagRepository).shouldHaveNoInteractions();
+    }
+
 
     private UserAccount createUserAccount() {
         return createUserAccount("sol");
@@ -410,6 +827,10 @@ class ArticleServiceTest {
         return article;
     }
 
+    private ArticleSummaryDto createArticleSummaryDto(Long id) {
+        return ArticleSummaryDto.of(id, "title", Set.of("java"), "uno", "Uno", LocalDateTime.now());
+    }
+
     private Hashtag createHashtag(String hashtagName) {
         return createHashtag(1L, hashtagName);
     }
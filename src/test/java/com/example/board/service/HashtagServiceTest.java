@@ -0,0 +1,138 @@
+package com.example.board.service;
+
+import com.example.board.domain.Hashtag;
+import com.example.board.repository.HashtagRepository;
+import com.example.board.service.search.HashtagCatalog;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+import static org.mockito.BDDMockito.*;
+
+@DisplayName("비즈니스 로직 - 해시태그")
+@ExtendWith(MockitoExtension.class)
+class HashtagServiceTest {
+
+    @InjectMocks
+    private HashtagService sut;
+
+    @Mock
+    private HashtagRepository hashtagRepository;
+    @Mock
+    private HashtagCatalog hashtagCatalog;
+
+    @DisplayName("본문을 파싱하면, 해시태그 이름들을 중복 없이 반환한다")
+    @MethodSource
+    @ParameterizedTest(name = "[{index}] \"{0}\" => {1}")
+    void givenContent_whenParsing_thenReturnsUniqueHashtagNames(String input, List<String> expected) {
+        // given
+
+        // when
+        Set<String> actual = sut.parseHashtagNames(input);
+
+        // then
+        assertThat(actual).containsExactlyElementsOf(expected);
+        then(hashtagRepository).shouldHaveNoInteractions();
+    }
+
+    static Stream<Arguments> givenContent_whenParsing_thenReturnsUniqueHashtagNames() {
+        return Stream.of(
+                arguments(null, List.of()),
+                arguments("", List.of()),
+                arguments("   ", List.of()),
+                arguments("#", List.of()),
+                arguments("# java", List.of()),
+                arguments("#java", List.of("java")),
+                arguments("#java_spring", List.of("java_spring")),
+                arguments("#java-spring", List.of("java")),
+                arguments("#java#spring", List.of("java", "spring")),
+                arguments("#java #spring #java", List.of("java", "spring")),
+                arguments("본문 #자바 와 #스프링부트2", List.of("자바", "스프링부트2")),
+                arguments("Fusce posuere felis sed lacus.\n#pink", List.of("pink")),
+                arguments("##java, #spring.", List.of("java", "spring"))
+        );
+    }
+
+    @DisplayName("해시태그 이름들을 입력하면, 한 번의 조회로 저장된 해시태그를 수정 가능한 Set으로 반환한다")
+    @Test
+    void givenHashtagNames_whenFindingHashtags_thenReturnsMutableHashtagSet() {
+        // given
+        Set<String> hashtagNames = Set.of("java", "spring", "boots");
+        given(hashtagRepository.findByHashtagNameIn(hashtagNames)).willReturn(List.of(Hashtag.of("java"), Hashtag.of("spring")));
+
+        // when
+        Set<Hashtag> hashtags = sut.findHashtagsByNames(hashtagNames);
+
+        // then
+        assertThat(hashtags).hasSize(2);
+        hashtags.add(Hashtag.of("boots"));
+        assertThat(hashtags).hasSize(3);
+        then(hashtagRepository).should().findByHashtagNameIn(hashtagNames);
+    }
+
+    @DisplayName("빈 해시태그 이름들을 입력하면, 조회하지 않는다")
+    @Test
+    void givenNoHashtagNames_whenFindingHashtags_thenReturnsEmptySetWithoutQuerying() {
+        // given
+
+        // when
+        Set<Hashtag> hashtags = sut.findHashtagsByNames(Set.of());
+
+        // then
+        assertThat(hashtags).isEmpty();
+        then(hashtagRepository).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("해시태그 ID들을 입력하면, 게시글이 없는 해시태그를 한 번의 delete로 지운다")
+    @Test
+    void givenHashtagIds_whenDeletingHashtagsWithoutArticles_thenDeletesOnce() {
+        // given
+        Set<Long> hashtagIds = Set.of(1L, 2L);
+        given(hashtagRepository.deleteWithoutArticles(hashtagIds)).willReturn(1L);
+
+        // when
+        sut.deleteHashtagWithoutArticles(hashtagIds);
+
+        // then
+        then(hashtagRepository).should().deleteWithoutArticles(hashtagIds);
+    }
+
+    @DisplayName("접두어를 입력하면, DB 조회 없이 해시태그 목록 캐시에서 자동완성한다")
+    @Test
+    void givenPrefix_whenSuggestingHashtags_thenReturnsSuggestionsWithoutQuerying() {
+        // given
+        given(hashtagCatalog.suggest("sp", 5)).willReturn(Optional.of(List.of("spring", "springboot")));
+
+        // when
+        List<String> suggestions = sut.suggestHashtagNames(" sp ", 5);
+
+        // then
+        assertThat(suggestions).containsExactly("spring", "springboot");
+        then(hashtagRepository).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("해시태그 목록 캐시가 준비되기 전이거나 접두어가 비어 있으면, 빈 목록을 반환한다")
+    @Test
+    void givenNotReadyCatalogOrBlankPrefix_whenSuggestingHashtags_thenReturnsEmptyList() {
+        // given
+        given(hashtagCatalog.suggest("sp", 10)).willReturn(Optional.empty());
+
+        // when & then
+        assertThat(sut.suggestHashtagNames("sp", 10)).isEmpty();
+        assertThat(sut.suggestHashtagNames(" ", 10)).isEmpty();
+        then(hashtagRepository).shouldHaveNoInteractions();
+    }
+}
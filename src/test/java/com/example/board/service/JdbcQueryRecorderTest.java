@@ -0,0 +1,119 @@
+package com.example.board.service;
+
+import com.example.board.config.JdbcMetricsProperties;
+import com.example.board.dto.SlowQueryDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+@DisplayName("비즈니스 로직 - JDBC 쿼리 기록")
+class JdbcQueryRecorderTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @DisplayName("요청 처리 중에 실행한 쿼리만, 요청의 쿼리 수로 센다")
+    @Test
+    void givenQueriesInAndOutOfRequest_whenFinishingRequest_thenCountsOnlyQueriesInRequest() {
+        // given
+        JdbcQueryRecorder sut = new JdbcQueryRecorder(new JdbcMetricsProperties(Duration.ofMinutes(1), 10));
+        sut.bindTo(meterRegistry);
+        JdbcTemplate jdbcTemplate = createJdbcTemplate(sut);
+        jdbcTemplate.queryForObject("select 1", Integer.class);
+
+        // when
+        sut.startRequest();
+        jdbcTemplate.queryForObject("select 1", Integer.class);
+        jdbcTemplate.queryForObject("select 2", Integer.class);
+        jdbcTemplate.update("create table if not exists recorder_test (id bigint)");
+        JdbcQueryRecorder.RequestQueries requestQueries = sut.finishRequest();
+
+        // then
+        assertThat(requestQueries.getCount()).isEqualTo(3);
+        assertThat(meterRegistry.get("board.jdbc.query").tag("type", "select").timer().count()).isEqualTo(3);
+        assertThat(meterRegistry.get("board.jdbc.query").tag("type", "other").timer().count()).isEqualTo(1);
+        assertThat(sut.getSlowQueries()).isEmpty();
+    }
+
+    @DisplayName("기준보다 오래 걸린 쿼리는, 바인딩 파라미터와 함께 최근 것부터 정해진 수만큼 보관한다")
+    @Test
+    void givenSlowQueries_whenQuerying_thenKeepsRecentSlowQueriesWithParameters() {
+        // given
+        JdbcQueryRecorder sut = new JdbcQueryRecorder(new JdbcMetricsProperties(Duration.ZERO, 2));
+        JdbcTemplate jdbcTemplate = createJdbcTemplate(sut);
+
+        // when
+        jdbcTemplate.queryForObject("select 1", Integer.class);
+        jdbcTemplate.queryForObject("select ? + ?", Integer.class, 1, 2);
+        jdbcTemplate.queryForObject("select coalesce(?, 'none')", String.class, (Object) null);
+
+        // then
+        List<SlowQueryDto> slowQueries = sut.getSlowQueries();
+        assertThat(slowQueries).hasSize(2);
+        assertThat(slowQueries.get(0).query()).isEqualTo("select coalesce(?, 'none')");
+        assertThat(slowQueries.get(0).parameters()).singleElement().satisfies(parameters -> assertThat(parameters).containsExactly((String) null));
+        assertThat(slowQueries.get(1).query()).isEqualTo("select ? + ?");
+        assertThat(slowQueries.get(1).parameters()).containsExactly(List.of("1", "2"));
+    }
+
+    @DisplayName("예산을 넘으면, 예산을 건 뒤의 쿼리 수와 가장 많이 반복된 쿼리를 알려준다")
+    @Test
+    void givenQueriesOverBudget_whenFinishingRequest_thenReportsOverBudgetWithMostRepeatedQuery() {
+        // given
+        JdbcQueryRecorder sut = new JdbcQueryRecorder(new JdbcMetricsProperties(Duration.ofMinutes(1), 10));
+        JdbcTemplate jdbcTemplate = createJdbcTemplate(sut);
+        sut.startRequest();
+        jdbcTemplate.queryForObject("select 0", Integer.class);
+        sut.startBudget("TestController.test", 2, false);
+
+        // when
+        jdbcTemplate.queryForObject("select 1", Integer.class);
+        jdbcTemplate.queryForObject("select ?", Integer.class, 2);
+        jdbcTemplate.queryForObject("select ?", Integer.class, 3);
+        JdbcQueryRecorder.RequestQueries requestQueries = sut.finishRequest();
+
+        // then
+        assertThat(requestQueries.getCount()).isEqualTo(4);
+        assertThat(requestQueries.getBudgetedCount()).isEqualTo(3);
+        assertThat(requestQueries.isOverBudget()).isTrue();
+        assertThat(requestQueries.getMostRepeatedQuery()).hasValueSatisfying(query -> {
+            assertThat(query.getKey()).isEqualTo("select ?");
+            assertThat(query.getValue()).isEqualTo(2);
+        });
+    }
+
+    @DisplayName("예산을 넘으면 실패하도록 했으면, 예산을 넘는 쿼리를 실행하기 전에 예외를 던진다")
+    @Test
+    void givenFailOnExceed_whenQueryingOverBudget_thenThrowsException() {
+        // given
+        JdbcQueryRecorder sut = new JdbcQueryRecorder(new JdbcMetricsProperties(Duration.ofMinutes(1), 10));
+        JdbcTemplate jdbcTemplate = createJdbcTemplate(sut);
+        sut.startRequest();
+        sut.startBudget("TestController.test", 1, true);
+        jdbcTemplate.queryForObject("select 1", Integer.class);
+
+        // when
+        Throwable t = catchThrowable(() -> jdbcTemplate.queryForObject("select 2", Integer.class));
+
+        // then
+        assertThat(t)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("TestController.test")
+                .hasMessageContaining("select 2");
+        assertThat(sut.finishRequest().getCount()).isEqualTo(1);
+    }
+
+
+    private JdbcTemplate createJdbcTemplate(JdbcQueryRecorder recorder) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:recorder;DB_CLOSE_DELAY=-1", "sa", "");
+        return new JdbcTemplate(ProxyDataSourceBuilder.create(dataSource).listener(recorder).build());
+    }
+}
@@ -1,5 +1,7 @@
 package com.example.board.service;
 
+import com.example.board.dto.CursorPage;
+import com.example.board.dto.CursorPaginationBar;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -7,8 +9,11 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
 
 import java.util.List;
+import java.util.OptionalLong;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -52,6 +57,55 @@ class PaginationServiceTest {
         );
     }
 
+    @DisplayName("현재 Slice와 추정 게시글 수를 주면, 전체 페이지 수 없이 페이징 바 리스트를 만들어준다")
+    @MethodSource
+    @ParameterizedTest(name = "[{index}] 현재 페이지: {0}, 다음 페이지 존재: {1}, 추정 게시글 수: {2} => {3}")
+    void givenSliceAndEstimatedTotal_whenCalculating_thenReturnsPaginationBarNumbers(int currentPageNumber, boolean hasNext, OptionalLong estimatedTotalElements, List<Integer> expected) {
+        // given
+        SliceImpl<Object> slice = new SliceImpl<>(List.of(), PageRequest.of(currentPageNumber, 10), hasNext);
+
+        // when
+        List<Integer> actual = sut.getPaginationBarNumbers(slice, estimatedTotalElements);
+
+        // then
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    static Stream<Arguments> givenSliceAndEstimatedTotal_whenCalculating_thenReturnsPaginationBarNumbers() {
+        return Stream.of(
+                arguments(0, true, OptionalLong.empty(), List.of(0, 1)),
+                arguments(0, false, OptionalLong.empty(), List.of(0)),
+                arguments(4, true, OptionalLong.empty(), List.of(2, 3, 4, 5)),
+                arguments(4, false, OptionalLong.empty(), List.of(2, 3, 4)),
+                arguments(0, true, OptionalLong.of(130), List.of(0, 1, 2, 3, 4)),
+                arguments(4, true, OptionalLong.of(30), List.of(2, 3, 4, 5)),  // 추정치가 실제보다 작아도 다음 페이지는 보여준다.
+                arguments(4, false, OptionalLong.of(130), List.of(2, 3, 4))  // 마지막 페이지면 추정치는 무시한다.
+        );
+    }
+
+    @DisplayName("현재 커서와 커서 페이지를 주면, 전체 페이지 수 없이 커서 페이징 바를 만들어준다")
+    @MethodSource
+    @ParameterizedTest(name = "[{index}] 현재 커서: {0}, 이전: {1}, 다음: {2} => 첫 페이지: {3}")
+    void givenCurrentCursorAndCursorPage_whenCalculating_thenReturnsCursorPaginationBar(String currentCursor, String previousCursor, String nextCursor, boolean first) {
+        // given
+        CursorPage<Object> page = CursorPage.of(List.of(), previousCursor, nextCursor);
+
+        // when
+        CursorPaginationBar actual = sut.getCursorPaginationBar(currentCursor, page);
+
+        // then
+        assertThat(actual).isEqualTo(CursorPaginationBar.of(first, previousCursor, nextCursor));
+    }
+
+    static Stream<Arguments> givenCurrentCursorAndCursorPage_whenCalculating_thenReturnsCursorPaginationBar() {
+        return Stream.of(
+                arguments(null, null, "next", true),
+                arguments("", null, "next", true),
+                arguments("current", "prev", "next", false),
+                arguments("current", "prev", null, false)
+        );
+    }
+
     @DisplayName("현재 설정되어 있는 페이지네이션 바의 길이를 알려준다")
     @Test
     void givenNothing_whenCalling_thenReturnsCurrentBarLength() throws Exception {
@@ -0,0 +1,160 @@
+package com.example.board.service;
+
+import com.example.board.config.CoalescingProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.persistence.EntityNotFoundException;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.BDDMockito.given;
+
+@DisplayName("비즈니스 로직 - 같은 읽기 요청 합치기")
+@ExtendWith(MockitoExtension.class)
+class RequestCoalescerTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    @Mock
+    private ReadYourWritesTracker readYourWritesTracker;
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @DisplayName("같은 키의 조회가 진행 중이면, 다시 조회하지 않고 그 결과를 나눠 받는다")
+    @Test
+    void givenLoadInFlight_whenExecutingSameKey_thenSharesResult() throws Exception {
+        // given
+        RequestCoalescer sut = createCoalescer(Duration.ofSeconds(5));
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<String> leader = executor.submit(() -> sut.execute("article", 1L, () -> {
+            loads.incrementAndGet();
+            loading.countDown();
+            await(release);
+            return "article 1";
+        }));
+        loading.await(5, TimeUnit.SECONDS);
+
+        // when
+        Future<String> follower = executor.submit(() -> sut.execute("article", 1L, countingLoader(loads, "again")));
+        TimeUnit.MILLISECONDS.sleep(200);  // 뒤따르는 요청이 진행 중인 조회를 기다리기 시작할 때까지
+        release.countDown();
+
+        // then
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("article 1");
+        assertThat(follower.get(5, TimeUnit.SECONDS)).isEqualTo("article 1");
+        assertThat(loads).hasValue(1);
+        assertThat(callCount("article", "loaded")).isEqualTo(1);
+        assertThat(callCount("article", "shared")).isEqualTo(1);
+    }
+
+    @DisplayName("진행 중인 조회가 최대 대기 시간 안에 끝나지 않으면, 기다리지 않고 직접 조회한다")
+    @Test
+    void givenSlowLoadInFlight_whenWaitingLongerThanMaxWait_thenLoadsItself() throws Exception {
+        // given
+        RequestCoalescer sut = createCoalescer(Duration.ofMillis(50));
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<String> leader = executor.submit(() -> sut.execute("article", 1L, () -> {
+            loading.countDown();
+            await(release);
+            return "slow";
+        }));
+        loading.await(5, TimeUnit.SECONDS);
+
+        // when
+        String result = sut.execute("article", 1L, () -> "fresh");
+        release.countDown();
+
+        // then
+        assertThat(result).isEqualTo("fresh");
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("slow");
+        assertThat(callCount("article", "timed-out")).isEqualTo(1);
+    }
+
+    @DisplayName("진행 중인 조회가 예외로 끝나면, 기다리던 요청도 같은 예외를 던진다")
+    @Test
+    void givenLoadInFlightFails_whenWaiting_thenThrowsSameException() throws Exception {
+        // given
+        RequestCoalescer sut = createCoalescer(Duration.ofSeconds(5));
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        executor.submit(() -> sut.execute("article", 1L, () -> {
+            loading.countDown();
+            await(release);
+            throw new EntityNotFoundException("게시글이 없습니다 - articleId: 1");
+        }));
+        loading.await(5, TimeUnit.SECONDS);
+
+        // when
+        Future<Object> follower = executor.submit(() -> sut.execute("article", 1L, () -> "unreachable"));
+        TimeUnit.MILLISECONDS.sleep(200);  // 뒤따르는 요청이 진행 중인 조회를 기다리기 시작할 때까지
+        release.countDown();
+        Throwable t = catchThrowable(() -> follower.get(5, TimeUnit.SECONDS));
+
+        // then
+        assertThat(t).hasCauseInstanceOf(EntityNotFoundException.class);
+    }
+
+    @DisplayName("최근에 글을 쓴 사용자의 요청은, 진행 중인 조회와 합치지 않고 직접 조회한다")
+    @Test
+    void givenRecentWriter_whenExecuting_thenBypassesCoalescing() {
+        // given
+        RequestCoalescer sut = createCoalescer(Duration.ofSeconds(5));
+        given(readYourWritesTracker.hasCurrentUserRecentlyWritten()).willReturn(true);
+
+        // when
+        String result = sut.execute("article", 1L, () -> "own write");
+
+        // then
+        assertThat(result).isEqualTo("own write");
+        assertThat(callCount("article", "bypassed")).isEqualTo(1);
+    }
+
+
+    private RequestCoalescer createCoalescer(Duration maxWait) {
+        return new RequestCoalescer(new CoalescingProperties(true, maxWait), transactionManager, readYourWritesTracker, meterRegistry);
+    }
+
+    private Supplier<String> countingLoader(AtomicInteger loads, String result) {
+        return () -> {
+            loads.incrementAndGet();
+            return result;
+        };
+    }
+
+    private double callCount(String operation, String result) {
+        return meterRegistry.get("board.coalescing.calls").tag("operation", operation).tag("result", result).counter().count();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.example.board.service.search;
+
+import com.example.board.domain.Article;
+import com.example.board.domain.Hashtag;
+import com.example.board.domain.UserAccount;
+import com.example.board.repository.HashtagRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+@DisplayName("해시태그 목록 캐시")
+@ExtendWith(MockitoExtension.class)
+class HashtagCatalogTest {
+
+    @InjectMocks
+    private HashtagCatalog sut;
+
+    @Mock
+    private HashtagRepository hashtagRepository;
+
+    @DisplayName("준비되기 전에는, 해시태그 목록이 빈 값이다")
+    @Test
+    void givenNotInitialized_whenGettingHashtagNames_thenReturnsEmpty() {
+        // given
+
+        // when & then
+        assertThat(sut.getHashtagNames()).isEmpty();
+    }
+
+    @DisplayName("준비되면, 게시글에 많이 쓰인 순서로 해시태그 이름을 반환한다")
+    @Test
+    void givenArticleHashtags_whenInitializing_thenReturnsHashtagNamesOrderedByUsage() {
+        // given
+        given(hashtagRepository.findAllHashtagNamesByArticleId()).willReturn(Map.of(
+                1L, Set.of("java", "spring"),
+                2L, Set.of("spring"),
+                3L, Set.of("jpa", "spring", "java")
+        ));
+
+        // when
+        sut.initialize();
+
+        // then
+        assertThat(sut.getHashtagNames()).hasValue(List.of("spring", "java", "jpa"));
+    }
+
+    @DisplayName("게시글을 저장, 수정, 삭제하면, DB를 다시 읽지 않고 해시태그 목록에 반영한다")
+    @Test
+    void givenInitializedCatalog_whenIndexingAndRemovingArticles_thenUpdatesHashtagNames() {
+        // given
+        given(hashtagRepository.findAllHashtagNamesByArticleId()).willReturn(Map.of(1L, Set.of("java")));
+        sut.initialize();
+
+        // when & then
+        sut.index(createArticle(2L, "java", "spring"));
+        assertThat(sut.getHashtagNames()).hasValue(List.of("java", "spring"));
+
+        sut.index(createArticle(1L, "kotlin"));
+        assertThat(sut.getHashtagNames()).hasValue(List.of("java", "kotlin", "spring"));
+
+        sut.remove(2L);
+        assertThat(sut.getHashtagNames()).hasValue(List.of("kotlin"));
+    }
+
+
+    @DisplayName("준비되면, 접두어로 시작하는 해시태그를 많이 쓰인 순서로 자동완성하고, 게시글 변경을 바로 반영한다")
+    @Test
+    void givenInitializedCatalog_whenSuggestingAndIndexingArticles_thenReturnsSuggestionsByUsage() {
+        // given
+        given(hashtagRepository.findAllHashtagNamesByArticleId()).willReturn(Map.of(
+                1L, Set.of("spring", "springboot"),
+                2L, Set.of("spring", "java"),
+                3L, Set.of("springdata")
+        ));
+        assertThat(sut.suggest("sp", 10)).isEmpty();
+        sut.initialize();
+
+        // when & then
+        assertThat(sut.suggest("#Sp", 10)).hasValue(List.of("spring", "springboot", "springdata"));
+        assertThat(sut.suggest("spring", 2)).hasValue(List.of("spring", "springboot"));
+
+        sut.index(createArticle(4L, "springdata"));
+        sut.index(createArticle(5L, "springdata"));
+        assertThat(sut.suggest("spring", 2)).hasValue(List.of("springdata", "spring"));
+
+        sut.remove(1L);
+        assertThat(sut.suggest("spring", 10)).hasValue(List.of("springdata", "spring"));
+        assertThat(sut.suggest("k", 10)).hasValue(List.of());
+    }
+
+
+    private Article createArticle(Long id, String... hashtagNames) {
+        Article article = Article.of(UserAccount.of("sol", "password", null, null, null), "title", "content");
+        article.addHashtags(Arrays.stream(hashtagNames).map(Hashtag::of).toList());
+        ReflectionTestUtils.setField(article, "id", id);
+
+        return article;
+    }
+}
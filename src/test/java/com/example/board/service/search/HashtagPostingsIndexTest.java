@@ -0,0 +1,96 @@
+package com.example.board.service.search;
+
+import com.example.board.domain.Article;
+import com.example.board.domain.Hashtag;
+import com.example.board.domain.UserAccount;
+import com.example.board.dto.HashtagQuery;
+import com.example.board.repository.HashtagRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+@DisplayName("해시태그 검색 색인")
+@ExtendWith(MockitoExtension.class)
+class HashtagPostingsIndexTest {
+
+    @InjectMocks
+    private HashtagPostingsIndex sut;
+
+    @Mock
+    private HashtagRepository hashtagRepository;
+
+    @DisplayName("준비되기 전에는, 검색 결과가 빈 값이다")
+    @Test
+    void givenNotInitialized_whenSearching_thenReturnsEmpty() {
+        // given
+
+        // when & then
+        assertThat(sut.search(HashtagQuery.parse("java"))).isEmpty();
+    }
+
+    @DisplayName("해시태그 검색 조건으로 검색하면, AND/OR/NOT 조건에 맞는 게시글 id와 게시글 수를 반환한다")
+    @Test
+    void givenHashtagQueries_whenSearching_thenReturnsMatchingArticleIds() {
+        // given
+        given(hashtagRepository.findAllHashtagNamesByArticleId()).willReturn(Map.of(
+                1L, Set.of("java", "spring"),
+                2L, Set.of("spring"),
+                3L, Set.of("jpa", "spring", "java"),
+                4L, Set.of("kotlin")
+        ));
+        sut.initialize();
+
+        // when & then
+        assertThat(search("java kotlin")).containsExactly(1L, 3L, 4L);
+        assertThat(search("+spring +java")).containsExactly(1L, 3L);
+        assertThat(search("spring -jpa")).containsExactly(1L, 2L);
+        assertThat(search("+spring java -jpa")).containsExactly(1L);
+        assertThat(search("+spring +unknown")).isEmpty();
+        assertThat(search("-java")).isEmpty();  // 제외 조건만 있으면 아무 게시글도 찾지 않는다.
+        assertThat(sut.search(HashtagQuery.parse("#spring")).orElseThrow().count()).isEqualTo(3);
+    }
+
+    @DisplayName("게시글을 저장, 수정, 삭제하면, DB를 다시 읽지 않고 검색 결과에 반영한다")
+    @Test
+    void givenInitializedIndex_whenIndexingAndRemovingArticles_thenUpdatesSearchResults() {
+        // given
+        given(hashtagRepository.findAllHashtagNamesByArticleId()).willReturn(Map.of(1L, Set.of("java")));
+        sut.initialize();
+
+        // when & then
+        sut.index(createArticle(2L, "java", "spring"));
+        assertThat(search("java")).containsExactly(1L, 2L);
+
+        sut.index(createArticle(1L, "kotlin"));
+        assertThat(search("java")).containsExactly(2L);
+        assertThat(search("kotlin")).containsExactly(1L);
+
+        sut.remove(2L);
+        assertThat(search("java spring")).isEmpty();
+    }
+
+
+    private List<Long> search(String searchKeyword) {
+        return sut.search(HashtagQuery.parse(searchKeyword)).orElseThrow().toList();
+    }
+
+    private Article createArticle(Long id, String... hashtagNames) {
+        Article article = Article.of(UserAccount.of("sol", "password", null, null, null), "title", "content");
+        article.addHashtags(Arrays.stream(hashtagNames).map(Hashtag::of).toList());
+        ReflectionTestUtils.setField(article, "id", id);
+
+        return article;
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.board.service.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("해시태그 자동완성 트라이")
+class HashtagTrieTest {
+
+    private final HashtagTrie sut = new HashtagTrie(3);
+
+    @DisplayName("접두어로 찾으면, 그 접두어로 시작하는 해시태그를 가중치가 큰 순서(같으면 이름순)로 최대 K개 반환한다")
+    @Test
+    void givenWeightedHashtags_whenSuggesting_thenReturnsTopKByWeight() {
+        // given
+        sut.rebuild(Map.of("java", 5, "javascript", 9, "jpa", 5, "jackson", 1, "spring", 20));
+
+        // when & then
+        assertThat(sut.suggest("j", 10)).containsExactly("javascript", "java", "jpa");
+        assertThat(sut.suggest("JA", 10)).containsExactly("javascript", "java", "jackson");
+        assertThat(sut.suggest("j", 1)).containsExactly("javascript");
+        assertThat(sut.suggest("", 10)).containsExactly("spring", "javascript", "java");
+        assertThat(sut.suggest("kotlin", 10)).isEmpty();
+        assertThat(sut.size()).isEqualTo(5);
+    }
+
+    @DisplayName("가중치를 바꾸면, 트라이를 다시 만들지 않고 바뀐 해시태그의 경로에 있는 순위만 고친다")
+    @Test
+    void givenWeightChanges_whenPutting_thenUpdatesRankingIncrementally() {
+        // given
+        sut.rebuild(Map.of("java", 5, "javascript", 9, "jpa", 4, "jackson", 1));
+
+        // when & then
+        sut.put("jackson", 10);
+        assertThat(sut.suggest("j", 10)).containsExactly("jackson", "javascript", "java");
+
+        sut.put("javascript", 0);  // 가중치가 0이면 뺀다.
+        assertThat(sut.suggest("j", 10)).containsExactly("jackson", "java", "jpa");
+        assertThat(sut.suggest("javas", 10)).isEmpty();
+
+        sut.put("jackson", 2);
+        assertThat(sut.suggest("ja", 10)).containsExactly("java", "jackson");
+
+        sut.put("jdbc", 3);
+        assertThat(sut.suggest("j", 10)).containsExactly("java", "jpa", "jdbc");
+        assertThat(sut.size()).isEqualTo(4);
+    }
+
+    @DisplayName("하나씩 넣고 뺀 결과는, 같은 가중치로 한 번에 만든 트라이와 같다")
+    @Test
+    void givenManyIncrementalUpdates_whenComparingWithRebuild_thenReturnsSameSuggestions() {
+        // given
+        HashtagTrie rebuilt = new HashtagTrie(3);
+        Map<String, Integer> weights = new HashMap<>();
+        String[] names = {"a", "ab", "abc", "abd", "b", "ba", "bab", "Ab"};
+        for (int i = 0; i < 200; i++) {
+            String name = names[(i * 7) % names.length];
+            int weight = (i * 13) % 6;  // 0이면 빠진다.
+            sut.put(name, weight);
+            weights.put(name, weight);
+        }
+
+        // when
+        rebuilt.rebuild(weights);
+
+        // then
+        for (String prefix : new String[]{"", "a", "ab", "abc", "b", "ba", "c"}) {
+            assertThat(sut.suggest(prefix, 3)).as(prefix).isEqualTo(rebuilt.suggest(prefix, 3));
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.example.board.service.search;
+
+import com.example.board.config.SearchProperties;
+import com.example.board.domain.Article;
+import com.example.board.domain.UserAccount;
+import com.example.board.domain.constant.SearchType;
+import com.example.board.repository.ArticleRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+
+@DisplayName("검색 엔진 - Lucene")
+@ExtendWith(MockitoExtension.class)
+class LuceneArticleSearchEngineTest {
+
+    private LuceneArticleSearchEngine sut;
+
+    @Mock
+    private ArticleRepository articleRepository;
+
+    @TempDir
+    Path indexPath;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        sut = new LuceneArticleSearchEngine(
+                articleRepository,
+                new SearchProperties(SearchProperties.Engine.LUCENE, new SearchProperties.Lucene(indexPath.toString()))
+        );
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        sut.close();
+    }
+
+    @DisplayName("제목 검색어를 입력하면, 검색어를 모두 포함한 게시글을 관련도 순으로 반환한다")
+    @Test
+    void givenTitleKeyword_whenSearching_thenReturnsMatchingArticlesByRelevance() {
+        // given
+        List<Article> articles = List.of(
+                createArticle(1L, "spring boot", LocalDateTime.of(2023, 1, 1, 0, 0)),
+                createArticle(2L, "spring boot spring boot", LocalDateTime.of(2023, 1, 2, 0, 0)),
+                createArticle(3L, "spring data", LocalDateTime.of(2023, 1, 3, 0, 0))
+        );
+        articles.forEach(sut::index);
+        stubFindAllByIdInOrder(articles);
+
+        // when
+        Page<Article> result = sut.search(SearchType.TITLE, "Spring Boot", Pageable.ofSize(10));
+
+        // then
+        assertThat(result.getTotalElements()).isEqualTo(2);
+        assertThat(result.getContent()).extracting(Article::getId).containsExactly(2L, 1L);
+    }
+
+    @DisplayName("색인에서 제거한 게시글은, 검색 결과에 나오지 않는다")
+    @Test
+    void givenRemovedArticle_whenSearching_thenExcludesArticle() {
+        // given
+        List<Article> articles = List.of(
+                createArticle(1L, "lucene", LocalDateTime.of(2023, 1, 1, 0, 0)),
+                createArticle(2L, "lucene", LocalDateTime.of(2023, 1, 2, 0, 0))
+        );
+        articles.forEach(sut::index);
+        sut.remove(2L);
+        stubFindAllByIdInOrder(articles);
+
+        // when
+        Page<Article> result = sut.search(SearchType.TITLE, "lucene", Pageable.ofSize(10));
+
+        // then
+        assertThat(result.getContent()).extracting(Article::getId).containsExactly(1L);
+    }
+
+    @DisplayName("관련도가 같으면, 최신 게시글부터 페이지 단위로 반환한다")
+    @Test
+    void givenSameRelevance_whenSearchingSecondPage_thenReturnsOlderArticles() {
+        // given
+        List<Article> articles = List.of(
+                createArticle(1L, "paging", LocalDateTime.of(2023, 1, 1, 0, 0)),
+                createArticle(2L, "paging", LocalDateTime.of(2023, 1, 2, 0, 0)),
+                createArticle(3L, "paging", LocalDateTime.of(2023, 1, 3, 0, 0))
+        );
+        articles.forEach(sut::index);
+        stubFindAllByIdInOrder(articles);
+
+        // when
+        Page<Article> result = sut.search(SearchType.TITLE, "paging", Pageable.ofSize(2).withPage(1));
+
+        // then
+        assertThat(result.getTotalElements()).isEqualTo(3);
+        assertThat(result.getContent()).extracting(Article::getId).containsExactly(1L);
+    }
+
+
+    private void stubFindAllByIdInOrder(List<Article> articles) {
+        Map<Long, Article> articlesById = articles.stream().collect(Collectors.toMap(Article::getId, Function.identity()));
+        given(articleRepository.findAllByIdInOrder(anyList())).willAnswer(invocation -> {
+            List<Long> ids = invocation.getArgument(0);
+            return ids.stream().map(articlesById::get).filter(Objects::nonNull).toList();
+        });
+    }
+
+    private Article createArticle(Long id, String title, LocalDateTime createdAt) {
+        Article article = Article.of(
+                UserAccount.of("sol", "pw", "sol@mail.com", "Sol", null),
+                title,
+                "content"
+        );
+        ReflectionTestUtils.setField(article, "id", id);
+        ReflectionTestUtils.setField(article, "createdAt", createdAt);
+
+        return article;
+    }
+}
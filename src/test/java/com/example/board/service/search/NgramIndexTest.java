@@ -0,0 +1,77 @@
+package com.example.board.service.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("검색 색인 - n-gram")
+class NgramIndexTest {
+
+    private final NgramIndex<String> sut = new NgramIndex<>(3);
+
+    @DisplayName("검색어를 입력하면, 대소문자 구분 없이 검색어가 포함된 키를 반환한다")
+    @Test
+    void givenKeyword_whenSearching_thenReturnsKeysContainingKeyword() {
+        // given
+        sut.put("uno", "Uno Kim");
+        sut.put("mark", "Mark Knowles");
+        sut.put("susan", "Susan Kimble");
+
+        // when & then
+        assertThat(sut.search("kim", 10)).containsExactlyInAnyOrder("uno", "susan");
+        assertThat(sut.search("KNOW", 10)).containsExactly("mark");
+        assertThat(sut.search("kimx", 10)).isEmpty();
+    }
+
+    @DisplayName("n-gram은 모두 있지만 이어지지 않는 검색어는, 결과에 포함하지 않는다")
+    @Test
+    void givenKeywordWithScatteredGrams_whenSearching_thenExcludesFalsePositives() {
+        // given
+        sut.put("a", "abcd bcde");
+
+        // when & then
+        assertThat(sut.search("abcde", 10)).isEmpty();
+        assertThat(sut.search("bcde", 10)).containsExactly("a");
+    }
+
+    @DisplayName("n보다 짧은 검색어를 입력하면, 전체 값을 훑어서 검색어가 포함된 키를 반환한다")
+    @Test
+    void givenShortKeyword_whenSearching_thenScansAllValues() {
+        // given
+        sut.put("uno", "Uno");
+        sut.put("mark", "Mark");
+
+        // when & then
+        assertThat(sut.search("u", 10)).containsExactly("uno");
+        assertThat(sut.search("", 10)).hasSize(2);
+    }
+
+    @DisplayName("값을 바꾸거나 지우면, 이전 값으로는 검색되지 않는다")
+    @Test
+    void givenUpdatedAndRemovedValues_whenSearching_thenReflectsChanges() {
+        // given
+        sut.put("uno", "Uno");
+        sut.put("mark", "Mark");
+        sut.put("uno", "Solomon");
+        sut.remove("mark");
+
+        // when & then
+        assertThat(sut.search("uno", 10)).isEmpty();
+        assertThat(sut.search("mark", 10)).isEmpty();
+        assertThat(sut.search("solo", 10)).containsExactly("uno");
+        assertThat(sut.size()).isEqualTo(1);
+    }
+
+    @DisplayName("결과 수를 제한하면, 제한한 수만큼만 반환한다")
+    @Test
+    void givenLimit_whenSearching_thenReturnsAtMostLimit() {
+        // given
+        for (int i = 0; i < 10; i++) {
+            sut.put("user" + i, "nickname" + i);
+        }
+
+        // when & then
+        assertThat(sut.search("nick", 3)).hasSize(3);
+    }
+}
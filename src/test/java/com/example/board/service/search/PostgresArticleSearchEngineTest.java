@@ -0,0 +1,126 @@
+package com.example.board.service.search;
+
+import com.example.board.domain.Article;
+import com.example.board.domain.UserAccount;
+import com.example.board.domain.constant.SearchType;
+import com.example.board.repository.ArticleRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.persistence.EntityManager;
+import javax.persistence.Query;
+import java.math.BigInteger;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.RETURNS_SELF;
+import static org.mockito.Mockito.mock;
+
+/**
+ * tsvector 검색은 PostgreSQL에서만 실행되므로, 여기서는 인덱스를 타는 검색 쿼리를 만드는지와 페이지 처리를 확인한다.
+ * 실제 PostgreSQL에서의 검색 시간은 PostgresArticleSearchBenchmark(src/jmh)로 잰다.
+ */
+@DisplayName("검색 엔진 - PostgreSQL 전문 검색")
+@ExtendWith(MockitoExtension.class)
+class PostgresArticleSearchEngineTest {
+
+    @InjectMocks
+    private PostgresArticleSearchEngine sut;
+
+    @Mock
+    private EntityManager entityManager;
+    @Mock
+    private ArticleRepository articleRepository;
+
+    @DisplayName("애플리케이션이 뜨면, 제목과 본문의 tsvector 표현식 GIN 인덱스를 만든다")
+    @Test
+    void givenNothing_whenCreatingIndexes_thenCreatesGinExpressionIndexes() {
+        // given
+        Query query = mock(Query.class);
+        given(entityManager.createNativeQuery(anyString())).willReturn(query);
+
+        // when
+        sut.createIndexes();
+
+        // then
+        then(entityManager).should().createNativeQuery("create index if not exists article_title_fts_idx on article using gin (to_tsvector('simple', title))");
+        then(entityManager).should().createNativeQuery("create index if not exists article_content_fts_idx on article using gin (to_tsvector('simple', content))");
+    }
+
+    @DisplayName("본문 검색어를 입력하면, 인덱스와 같은 표현식으로 검색한 게시글을 관련도 순서 그대로 반환한다")
+    @Test
+    void givenContentKeyword_whenSearching_thenReturnsArticlesInRankOrder() {
+        // given
+        String match = "to_tsvector('simple', a.content) @@ plainto_tsquery('simple', :keyword)";
+        Query countQuery = mock(Query.class, RETURNS_SELF);
+        Query idQuery = mock(Query.class, RETURNS_SELF);
+        given(entityManager.createNativeQuery("select count(*) from article a where " + match)).willReturn(countQuery);
+        given(entityManager.createNativeQuery(startsWith("select a.id from article a where " + match + " order by ts_rank("))).willReturn(idQuery);
+        given(countQuery.getSingleResult()).willReturn(BigInteger.valueOf(12));
+        given(idQuery.getResultList()).willReturn(List.of(BigInteger.valueOf(7), BigInteger.valueOf(3)));
+        List<Article> articles = List.of(createArticle(7L), createArticle(3L));
+        given(articleRepository.findAllByIdInOrder(List.of(7L, 3L))).willReturn(articles);
+
+        // when
+        Page<Article> result = sut.search(SearchType.CONTENT, "spring boot", PageRequest.of(1, 10));
+
+        // then
+        assertThat(result.getContent()).isEqualTo(articles);
+        assertThat(result.getTotalElements()).isEqualTo(12);
+        then(countQuery).should().setParameter("keyword", "spring boot");
+        then(idQuery).should().setParameter("keyword", "spring boot");
+        then(idQuery).should().setFirstResult(10);
+        then(idQuery).should().setMaxResults(10);
+    }
+
+    @DisplayName("검색 결과가 요청한 페이지 앞에서 끝나면, 게시글을 조회하지 않고 빈 페이지를 반환한다")
+    @Test
+    void givenPageBeyondResults_whenSearching_thenReturnsEmptyPageWithoutLoadingArticles() {
+        // given
+        Query countQuery = mock(Query.class, RETURNS_SELF);
+        given(entityManager.createNativeQuery(startsWith("select count(*)"))).willReturn(countQuery);
+        given(countQuery.getSingleResult()).willReturn(3L);
+
+        // when
+        Page<Article> result = sut.search(SearchType.TITLE, "spring", PageRequest.of(1, 10));
+
+        // then
+        assertThat(result.getContent()).isEmpty();
+        assertThat(result.getTotalElements()).isEqualTo(3);
+        then(entityManager).shouldHaveNoMoreInteractions();
+        then(articleRepository).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("제목/본문이 아닌 검색 유형이면, 예외를 던진다")
+    @Test
+    void givenUnsupportedSearchType_whenSearching_thenThrowsException() {
+        // given
+
+        // when
+        Throwable t = catchThrowable(() -> sut.search(SearchType.NICKNAME, "sol", PageRequest.of(0, 10)));
+
+        // then
+        assertThat(t).isInstanceOf(IllegalArgumentException.class);
+        then(entityManager).shouldHaveNoInteractions();
+    }
+
+
+    private Article createArticle(Long id) {
+        Article article = Article.of(UserAccount.of("sol", "password", null, null, null), "title", "content");
+        ReflectionTestUtils.setField(article, "id", id);
+
+        return article;
+    }
+}
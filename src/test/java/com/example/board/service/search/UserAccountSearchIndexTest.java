@@ -0,0 +1,95 @@
+package com.example.board.service.search;
+
+import com.example.board.domain.UserAccount;
+import com.example.board.domain.constant.SearchType;
+import com.example.board.repository.UserAccountRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+/**
+ * 색인 변경이 트랜잭션 결과를 따르는지 확인한다. 트랜잭션은 H2 메모리 DB에서 실제로 열고 커밋/롤백한다.
+ */
+@DisplayName("검색 색인 - 사용자 ID, 닉네임")
+@ExtendWith(MockitoExtension.class)
+class UserAccountSearchIndexTest {
+
+    @InjectMocks
+    private UserAccountSearchIndex sut;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    @Mock
+    private UserAccountRepository userAccountRepository;
+
+    private final TransactionTemplate transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(
+            new DriverManagerDataSource("jdbc:h2:mem:user-account-search-index;DB_CLOSE_DELAY=-1", "sa", "")
+    ));
+
+    @BeforeEach
+    void setUp() {
+        given(userAccountRepository.findAll()).willReturn(List.of(UserAccount.of("uno", "pw", null, "Uno", null)));
+        sut.initialize();  // DB가 PostgreSQL이 아니므로 메모리 색인을 쓴다.
+    }
+
+    @DisplayName("트랜잭션 안에서 저장한 사용자는, 커밋된 뒤에 검색된다")
+    @Test
+    void givenUserSavedInTransaction_whenCommitted_thenIndexesAfterCommit() {
+        // given
+
+        // when
+        Optional<Set<String>> beforeCommit = transactionTemplate.execute(status -> {
+            sut.index(UserAccount.of("sol", "pw", null, "Sol", null));
+            return sut.findUserIds(SearchType.NICKNAME, "sol");
+        });
+        Optional<Set<String>> afterCommit = sut.findUserIds(SearchType.NICKNAME, "sol");
+
+        // then
+        assertThat(beforeCommit).hasValue(Set.of());
+        assertThat(afterCommit).hasValue(Set.of("sol"));
+    }
+
+    @DisplayName("트랜잭션이 롤백되면, 저장하거나 삭제한 사용자를 색인에 반영하지 않는다")
+    @Test
+    void givenTransactionRolledBack_whenIndexingAndRemoving_thenLeavesIndexUnchanged() {
+        // given
+
+        // when
+        transactionTemplate.executeWithoutResult(status -> {
+            sut.index(UserAccount.of("sol", "pw", null, "Sol", null));
+            sut.remove("uno");
+            status.setRollbackOnly();
+        });
+
+        // then
+        assertThat(sut.findUserIds(SearchType.ID, "sol")).hasValue(Set.of());
+        assertThat(sut.findUserIds(SearchType.ID, "uno")).hasValue(Set.of("uno"));
+    }
+
+    @DisplayName("트랜잭션 밖에서 삭제한 사용자는, 바로 검색되지 않는다")
+    @Test
+    void givenNoTransaction_whenRemoving_thenRemovesImmediately() {
+        // given
+
+        // when
+        sut.remove("uno");
+
+        // then
+        assertThat(sut.findUserIds(SearchType.ID, "uno")).hasValue(Set.of());
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.board.util;
+
+import com.example.board.controller.QueryBudgetInterceptor;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 컨트롤러 핸들러가 실행한 쿼리 수를 검사하는 MockMvc 검증 도구. QueryBudgetInterceptor가 요청 속성에 남긴 값을 읽으므로,
+ * DataSource와 인터셉터가 모두 올라오는 통합 테스트(@SpringBootTest + @AutoConfigureMockMvc)에서만 쓸 수 있다.
+ */
+public final class QueryBudgetMatchers {
+
+    private QueryBudgetMatchers() {}
+
+    /**
+     * 핸들러가 선언된 예산(@QueryBudget) 안에서 쿼리를 실행했는지 검사한다.
+     */
+    public static ResultMatcher withinQueryBudget() {
+        return result -> assertThat(getQueryCount(result))
+                .as("쿼리 수 (예산 %d회)", getQueryBudget(result))
+                .isLessThanOrEqualTo(getQueryBudget(result));
+    }
+
+    /**
+     * 핸들러가 실행한 쿼리 수가 최대 maxQueries회인지 검사한다. 예산보다 빡빡한 기준으로 개선한 결과를 지킬 때 쓴다.
+     */
+    public static ResultMatcher queryCountAtMost(int maxQueries) {
+        return result -> assertThat(getQueryCount(result))
+                .as("쿼리 수")
+                .isLessThanOrEqualTo(maxQueries);
+    }
+
+
+    private static int getQueryCount(MvcResult result) {
+        Object queryCount = result.getRequest().getAttribute(QueryBudgetInterceptor.QUERY_COUNT_ATTRIBUTE);
+        assertThat(queryCount).as("쿼리 수가 기록되지 않았습니다. 통합 테스트인지, board.query-budget.mode가 off가 아닌지 확인하세요.").isNotNull();
+
+        return (int) queryCount;
+    }
+
+    private static int getQueryBudget(MvcResult result) {
+        return (int) result.getRequest().getAttribute(QueryBudgetInterceptor.QUERY_BUDGET_ATTRIBUTE);
+    }
+}